@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.Definition;
+import org.eclipse.daanse.sql.jdbc.api.schema.DefinitionKey;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+
+/**
+ * Runs a definition read as one read per schema and object kind and hands the
+ * texts back under the caller's {@link DefinitionKey}s. Within a schema, rows
+ * are matched on name and qualifier, so a key built with or without a catalog
+ * finds the same object.
+ */
+final class DefinitionBatch {
+
+    /** Reads the definitions of the {@code names} objects of {@code kind} in one schema. */
+    @FunctionalInterface
+    interface SchemaRead {
+        Map<DefinitionKey, Definition> read(String catalog, String schema, DefinitionKey.Kind kind,
+                List<String> names) throws SQLException;
+    }
+
+    private record GroupKey(String catalog, String schema, DefinitionKey.Kind kind) {
+    }
+
+    private record ObjectKey(String name, String qualifier) {
+
+        static ObjectKey of(DefinitionKey key) {
+            return new ObjectKey(key.name(), key.qualifier());
+        }
+    }
+
+    private DefinitionBatch() {
+    }
+
+    /**
+     * @return every requested key, in request order, with its definition;
+     *         {@link Definition#NONE} for objects the read did not return
+     */
+    static Map<DefinitionKey, Definition> read(Collection<DefinitionKey> keys, SchemaRead read)
+            throws SQLException {
+        Map<GroupKey, List<DefinitionKey>> groups = new LinkedHashMap<>();
+        for (DefinitionKey key : keys) {
+            String schema = key.schema().map(SchemaReference::name).orElse(null);
+            String catalog = key.schema().flatMap(SchemaReference::catalog).map(CatalogReference::name)
+                    .orElse(null);
+            groups.computeIfAbsent(new GroupKey(catalog, schema, key.kind()), k -> new ArrayList<>()).add(key);
+        }
+        Map<DefinitionKey, Definition> result = new LinkedHashMap<>();
+        for (Map.Entry<GroupKey, List<DefinitionKey>> group : groups.entrySet()) {
+            List<String> names = group.getValue().stream().map(DefinitionKey::name).distinct().toList();
+            Map<ObjectKey, Definition> found = new HashMap<>();
+            read.read(group.getKey().catalog(), group.getKey().schema(), group.getKey().kind(), names)
+                    .forEach((key, definition) -> found.putIfAbsent(ObjectKey.of(key), definition));
+            for (DefinitionKey key : group.getValue()) {
+                result.put(key, found.getOrDefault(ObjectKey.of(key), Definition.NONE));
+            }
+        }
+        Map<DefinitionKey, Definition> ordered = new LinkedHashMap<>();
+        for (DefinitionKey key : keys) {
+            ordered.putIfAbsent(key, result.get(key));
+        }
+        return Collections.unmodifiableMap(ordered);
+    }
+
+    /** The definitions of {@code rows} whose name is one of {@code names}. */
+    static <T> Map<DefinitionKey, Definition> index(List<T> rows, List<String> names,
+            Function<T, DefinitionKey> keyOf, Function<T, Definition> definitionOf) {
+        Map<DefinitionKey, Definition> result = new LinkedHashMap<>();
+        for (T row : rows) {
+            DefinitionKey key = keyOf.apply(row);
+            if (names.contains(key.name())) {
+                result.putIfAbsent(key, definitionOf.apply(row));
+            }
+        }
+        return result;
+    }
+}
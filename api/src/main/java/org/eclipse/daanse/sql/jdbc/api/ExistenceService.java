@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * Existence checks of {@link MetaDataQueries} answered from a snapshot where
+ * possible. Objects found in the snapshot are answered without a database
+ * round trip; misses are confirmed against the database and the negative
+ * answer is remembered for a short time.
+ * <p>
+ * Code changing the schema reports it through {@link #tableCreated} and
+ * {@link #tableDropped} so that neither the snapshot nor a remembered miss
+ * outlives the change. A table reported without schema stands for the table
+ * of that name in whichever schema it was created in or dropped from.
+ */
+public interface ExistenceService {
+
+    /** @see MetaDataQueries#tableExists(Connection, MetadataProvider, TableReference) */
+    boolean tableExists(Connection connection, MetadataProvider provider, TableReference table) throws SQLException;
+
+    /**
+     * @see MetaDataQueries#tableExists(Connection, MetadataProvider, String,
+     *      String, String, String[])
+     */
+    boolean tableExists(Connection connection, MetadataProvider provider, String catalog, String schemaPattern,
+            String tableNamePattern, String[] types) throws SQLException;
+
+    /**
+     * @see MetaDataQueries#columnExists(Connection, MetadataProvider, String,
+     *      String, String, String)
+     */
+    boolean columnExists(Connection connection, MetadataProvider provider, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern) throws SQLException;
+
+    /** @see MetaDataQueries#columnExists(Connection, MetadataProvider, ColumnReference) */
+    boolean columnExists(Connection connection, MetadataProvider provider, ColumnReference column)
+            throws SQLException;
+
+    /** Reports that {@code table} was created, possibly replacing one of the same name. */
+    void tableCreated(TableReference table);
+
+    /** Reports that {@code table} was dropped. */
+    void tableDropped(TableReference table);
+
+    /** Forgets every remembered answer. */
+    void invalidate();
+}
@@ -12,11 +12,15 @@ package org.eclipse.daanse.sql.jdbc.api;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.TypeInfo;
 import org.eclipse.daanse.sql.jdbc.api.schema.BestRowIdentifier;
 import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
 import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
 import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
 import org.eclipse.daanse.sql.model.schema.ColumnReference;
@@ -31,6 +35,8 @@ import org.eclipse.daanse.sql.jdbc.api.schema.SuperType;
 import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
 import org.eclipse.daanse.sql.jdbc.api.schema.TablePrivilege;
 import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
 import org.eclipse.daanse.sql.jdbc.api.schema.VersionColumn;
 
@@ -251,6 +257,18 @@ public interface MetaDataQueries {
         return getImportedKeys(connection, provider, catalog, schema, table.name());
     }
 
+    /**
+     * Multi-table variant of
+     * {@link #getImportedKeys(Connection, MetadataProvider, TableReference)}:
+     * one read per schema instead of one per table.
+     *
+     * @return every table of {@code tables} with the foreign keys it imports,
+     *         in request order
+     * @throws SQLException on database access error
+     */
+    Map<TableReference, List<ImportedKey>> getImportedKeys(Connection connection, MetadataProvider provider,
+            Collection<TableReference> tables) throws SQLException;
+
     /**
      * @param connection the connection (not closed by this method)
      * @param provider   dialect-specific provider
@@ -271,6 +289,17 @@ public interface MetaDataQueries {
         return getExportedKeys(connection, provider, catalog, schema, table.name());
     }
 
+    /**
+     * Multi-table variant of
+     * {@link #getExportedKeys(Connection, MetadataProvider, TableReference)}.
+     *
+     * @return every table of {@code tables} with the foreign keys referencing
+     *         it, in request order
+     * @throws SQLException on database access error
+     */
+    Map<TableReference, List<ImportedKey>> getExportedKeys(Connection connection, MetadataProvider provider,
+            Collection<TableReference> tables) throws SQLException;
+
     /**
      * @param connection     the connection (not closed by this method)
      * @param provider       dialect-specific provider
@@ -421,6 +450,17 @@ public interface MetaDataQueries {
     List<ColumnPrivilege> getColumnPrivileges(Connection connection, MetadataProvider provider, TableReference table,
             String columnNamePattern) throws SQLException;
 
+    /**
+     * Multi-table variant of
+     * {@link #getColumnPrivileges(Connection, MetadataProvider, TableReference, String)}.
+     *
+     * @return every table of {@code tables} with its column-level privileges,
+     *         in request order
+     * @throws SQLException on database access error
+     */
+    Map<TableReference, List<ColumnPrivilege>> getColumnPrivileges(Connection connection, MetadataProvider provider,
+            Collection<TableReference> tables, String columnNamePattern) throws SQLException;
+
     // --- Type hierarchy ---
 
     /**
@@ -447,6 +487,46 @@ public interface MetaDataQueries {
     List<SuperTable> getSuperTables(Connection connection, MetadataProvider provider, String catalog,
             String schemaPattern, String tableNamePattern) throws SQLException;
 
+    // --- Per-table constraints, triggers and indexes ---
+
+    /**
+     * @param connection the connection (not closed by this method)
+     * @param provider   dialect-specific provider
+     * @param tables     the tables to read
+     * @return every table of {@code tables} with its index info, in request
+     *         order, read with one query per schema where the driver allows it
+     * @throws SQLException on database access error
+     */
+    Map<TableReference, List<IndexInfo>> getIndexInfo(Connection connection, MetadataProvider provider,
+            Collection<TableReference> tables) throws SQLException;
+
+    /**
+     * @return every table of {@code tables} with its triggers, in request order;
+     *         empty lists when the provider does not read triggers
+     */
+    default Map<TableReference, List<Trigger>> getTriggers(Connection connection, MetadataProvider provider,
+            Collection<TableReference> tables) throws SQLException {
+        return provider.getTriggers(connection, tables);
+    }
+
+    /**
+     * @return every table of {@code tables} with its check constraints, in
+     *         request order; empty lists when the provider does not read them
+     */
+    default Map<TableReference, List<CheckConstraint>> getCheckConstraints(Connection connection,
+            MetadataProvider provider, Collection<TableReference> tables) throws SQLException {
+        return provider.getCheckConstraints(connection, tables);
+    }
+
+    /**
+     * @return every table of {@code tables} with its unique constraints, in
+     *         request order; empty lists when the provider does not read them
+     */
+    default Map<TableReference, List<UniqueConstraint>> getUniqueConstraints(Connection connection,
+            MetadataProvider provider, Collection<TableReference> tables) throws SQLException {
+        return provider.getUniqueConstraints(connection, tables);
+    }
+
     // --- Partitions ---
 
     /**
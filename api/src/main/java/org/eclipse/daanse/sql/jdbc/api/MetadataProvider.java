@@ -15,9 +15,14 @@ package org.eclipse.daanse.sql.jdbc.api;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.TypeInfo;
 import org.eclipse.daanse.sql.jdbc.api.schema.BestRowIdentifier;
@@ -25,6 +30,8 @@ import org.eclipse.daanse.sql.model.schema.CatalogReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
 import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
 import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.Definition;
+import org.eclipse.daanse.sql.jdbc.api.schema.DefinitionKey;
 import org.eclipse.daanse.sql.jdbc.api.schema.Function;
 import org.eclipse.daanse.sql.jdbc.api.schema.FunctionColumn;
 import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
@@ -35,6 +42,7 @@ import org.eclipse.daanse.sql.jdbc.api.schema.Procedure;
 import org.eclipse.daanse.sql.jdbc.api.schema.ProcedureColumn;
 import org.eclipse.daanse.sql.jdbc.api.schema.PseudoColumn;
 import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
 import org.eclipse.daanse.sql.jdbc.api.schema.SuperTable;
 import org.eclipse.daanse.sql.jdbc.api.schema.SuperType;
@@ -56,6 +64,16 @@ public interface MetadataProvider {
     MetadataProvider EMPTY = new MetadataProvider() {
     };
 
+    /**
+     * @return the statement settings this provider was created with, see
+     *         {@link MetadataProviderFactory#createProvider(MetadataQueryOptions)};
+     *         snapshots read with different settings (a {@code maxRows} limit)
+     *         are not interchangeable
+     */
+    default MetadataQueryOptions queryOptions() {
+        return MetadataQueryOptions.DEFAULT;
+    }
+
     /**
      * @param catalog the catalog name, or null
      * @return the index info list, or Optional.empty() to fall back to standard
@@ -108,6 +126,20 @@ public interface MetadataProvider {
         return List.of();
     }
 
+    /**
+     * Variant of {@link #getAllTriggers(Connection, String, String)} that may
+     * leave {@link Trigger#body()} and {@link Trigger#fullDefinition()} empty
+     * when {@code definitions} is {@code false}; they are then read on demand
+     * through {@link #getDefinitions}. The default reads them anyway.
+     *
+     * @param catalog the catalog name, or null
+     * @throws SQLException on database access error
+     */
+    default List<Trigger> getAllTriggers(Connection connection, String catalog, String schema, boolean definitions)
+            throws SQLException {
+        return getAllTriggers(connection, catalog, schema);
+    }
+
     /**
      * @param catalog the catalog name, or null
      * @throws SQLException on database access error
@@ -210,6 +242,21 @@ public interface MetadataProvider {
         return List.of();
     }
 
+    /**
+     * Variant of {@link #getAllViewDefinitions(Connection, String, String)}
+     * that may leave {@link ViewDefinition#viewBody()} and
+     * {@link ViewDefinition#fullDefinition()} empty when {@code definitions} is
+     * {@code false}; they are then read on demand through
+     * {@link #getDefinitions}. The default reads them anyway.
+     *
+     * @param catalog the catalog name, or null
+     * @throws SQLException on database access error
+     */
+    default List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema,
+            boolean definitions) throws SQLException {
+        return getAllViewDefinitions(connection, catalog, schema);
+    }
+
     /**
      * @param catalog the catalog name, or null
      * @throws SQLException on database access error
@@ -219,6 +266,21 @@ public interface MetadataProvider {
         return List.of();
     }
 
+    /**
+     * Variant of {@link #getAllMaterializedViews(Connection, String, String)}
+     * that may leave {@link MaterializedView#viewBody()} and
+     * {@link MaterializedView#fullDefinition()} empty when {@code definitions} is
+     * {@code false}; they are then read on demand through
+     * {@link #getDefinitions}. The default reads them anyway.
+     *
+     * @param catalog the catalog name, or null
+     * @throws SQLException on database access error
+     */
+    default List<MaterializedView> getAllMaterializedViews(Connection connection, String catalog, String schema,
+            boolean definitions) throws SQLException {
+        return getAllMaterializedViews(connection, catalog, schema);
+    }
+
     /**
      * @param catalog the catalog name, or null
      * @throws SQLException on database access error
@@ -227,6 +289,21 @@ public interface MetadataProvider {
         return List.of();
     }
 
+    /**
+     * Variant of {@link #getAllProcedures(Connection, String, String)}
+     * that may leave {@link Procedure#body()} and
+     * {@link Procedure#fullDefinition()} empty when {@code definitions} is
+     * {@code false}; they are then read on demand through
+     * {@link #getDefinitions}. The default reads them anyway.
+     *
+     * @param catalog the catalog name, or null
+     * @throws SQLException on database access error
+     */
+    default List<Procedure> getAllProcedures(Connection connection, String catalog, String schema,
+            boolean definitions) throws SQLException {
+        return getAllProcedures(connection, catalog, schema);
+    }
+
     /**
      * @param catalog the catalog name, or null
      * @throws SQLException on database access error
@@ -235,6 +312,21 @@ public interface MetadataProvider {
         return List.of();
     }
 
+    /**
+     * Variant of {@link #getAllFunctions(Connection, String, String)}
+     * that may leave {@link Function#body()} and
+     * {@link Function#fullDefinition()} empty when {@code definitions} is
+     * {@code false}; they are then read on demand through
+     * {@link #getDefinitions}. The default reads them anyway.
+     *
+     * @param catalog the catalog name, or null
+     * @throws SQLException on database access error
+     */
+    default List<Function> getAllFunctions(Connection connection, String catalog, String schema,
+            boolean definitions) throws SQLException {
+        return getAllFunctions(connection, catalog, schema);
+    }
+
     /** Bulk alternative to {@link java.sql.DatabaseMetaData#getCatalogs()}. */
     default Optional<List<CatalogReference>> getAllCatalogs(Connection connection) throws SQLException {
         return Optional.empty();
@@ -271,6 +363,29 @@ public interface MetadataProvider {
         return Optional.empty();
     }
 
+    /**
+     * Row-callback variant of {@link #getAllColumnDefinitions}: hands each
+     * column to {@code callback} while the result set is open. The columns of
+     * one table must arrive together, in ordinal order.
+     *
+     * @return {@code false} when the provider has no bulk column read and the
+     *         caller should fall back to JDBC; nothing was passed on then
+     * @throws SQLException on database access error or when the callback throws
+     */
+    default boolean forEachColumnDefinition(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, RowCallback<ColumnDefinition> callback)
+            throws SQLException {
+        Optional<List<ColumnDefinition>> columns = getAllColumnDefinitions(connection, catalog, schemaPattern,
+                tableNamePattern, columnNamePattern);
+        if (columns.isEmpty()) {
+            return false;
+        }
+        for (ColumnDefinition column : columns.get()) {
+            callback.accept(column);
+        }
+        return true;
+    }
+
     /** Bulk alternative to {@link java.sql.DatabaseMetaData#getTypeInfo()}. */
     default Optional<List<TypeInfo>> getAllTypeInfo(Connection connection) throws SQLException {
         return Optional.empty();
@@ -391,4 +506,266 @@ public interface MetadataProvider {
         List<UserDefinedType> list = getAllUserDefinedTypes(connection, catalog, schemaPattern);
         return list.isEmpty() ? Optional.empty() : Optional.of(list);
     }
+
+    /**
+     * Triggers of {@code tableNames} in one schema, in one query where the
+     * engine allows it. The default filters {@link #getAllTriggers}.
+     *
+     * @param catalog    the catalog name, or null
+     * @param tableNames the table names, never empty
+     * @throws SQLException on database access error
+     */
+    default List<Trigger> getTriggersForTables(Connection connection, String catalog, String schema,
+            List<String> tableNames) throws SQLException {
+        return TableBatch.filter(getAllTriggers(connection, catalog, schema), tableNames, Trigger::table);
+    }
+
+    /**
+     * Multi-table variant of {@link #getTriggers(Connection, String, String, String)}:
+     * one {@link #getTriggersForTables} read per schema.
+     *
+     * @return every requested table with its triggers, in request order
+     * @throws SQLException on database access error
+     */
+    default Map<TableReference, List<Trigger>> getTriggers(Connection connection, Collection<TableReference> tables)
+            throws SQLException {
+        return TableBatch.readAll(tables,
+                (catalog, schema, names) -> Optional.of(getTriggersForTables(connection, catalog, schema, names)),
+                Trigger::table);
+    }
+
+    /**
+     * Definitions of the {@code names} objects of {@code kind} in one schema,
+     * in one query where the engine allows it. Trigger names are matched
+     * across tables. The default reads the schema with the matching
+     * {@code getAll*} method and keeps the named objects.
+     *
+     * @param catalog the catalog name, or null
+     * @param names   the object names, never empty
+     * @return the definitions found, keyed as {@link DefinitionKey#of} keys
+     *         the provider's own rows
+     * @throws SQLException on database access error
+     */
+    default Map<DefinitionKey, Definition> getDefinitionsForObjects(Connection connection, String catalog,
+            String schema, DefinitionKey.Kind kind, List<String> names) throws SQLException {
+        return switch (kind) {
+        case VIEW -> DefinitionBatch.index(getAllViewDefinitions(connection, catalog, schema), names,
+                DefinitionKey::of, Definition::of);
+        case MATERIALIZED_VIEW -> DefinitionBatch.index(getAllMaterializedViews(connection, catalog, schema),
+                names, DefinitionKey::of, Definition::of);
+        case PROCEDURE -> DefinitionBatch.index(getAllProcedures(connection, catalog, schema), names,
+                DefinitionKey::of, Definition::of);
+        case FUNCTION -> DefinitionBatch.index(getAllFunctions(connection, catalog, schema), names,
+                DefinitionKey::of, Definition::of);
+        case TRIGGER -> DefinitionBatch.index(getAllTriggers(connection, catalog, schema), names,
+                DefinitionKey::of, Definition::of);
+        };
+    }
+
+    /**
+     * Reads the source text of objects a snapshot holds without it (see
+     * {@link org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo.Section#DEFINITIONS}):
+     * one {@link #getDefinitionsForObjects} read per schema and kind.
+     *
+     * @return every requested key, in request order, with its definition;
+     *         {@link Definition#NONE} for objects that were not found
+     * @throws SQLException on database access error
+     */
+    default Map<DefinitionKey, Definition> getDefinitions(Connection connection, Collection<DefinitionKey> keys)
+            throws SQLException {
+        return DefinitionBatch.read(keys,
+                (catalog, schema, kind, names) -> getDefinitionsForObjects(connection, catalog, schema, kind, names));
+    }
+
+    /**
+     * Check constraints of {@code tableNames} in one schema, in one query
+     * where the engine allows it. The default filters
+     * {@link #getAllCheckConstraints}.
+     *
+     * @param catalog    the catalog name, or null
+     * @param tableNames the table names, never empty
+     * @throws SQLException on database access error
+     */
+    default List<CheckConstraint> getCheckConstraintsForTables(Connection connection, String catalog, String schema,
+            List<String> tableNames) throws SQLException {
+        return TableBatch.filter(getAllCheckConstraints(connection, catalog, schema), tableNames,
+                CheckConstraint::table);
+    }
+
+    /**
+     * Multi-table variant of
+     * {@link #getCheckConstraints(Connection, String, String, String)}.
+     *
+     * @return every requested table with its check constraints, in request order
+     * @throws SQLException on database access error
+     */
+    default Map<TableReference, List<CheckConstraint>> getCheckConstraints(Connection connection,
+            Collection<TableReference> tables) throws SQLException {
+        return TableBatch.readAll(tables, (catalog, schema, names) -> Optional
+                .of(getCheckConstraintsForTables(connection, catalog, schema, names)), CheckConstraint::table);
+    }
+
+    /**
+     * Unique constraints of {@code tableNames} in one schema, in one query
+     * where the engine allows it. The default filters
+     * {@link #getAllUniqueConstraints}.
+     *
+     * @param catalog    the catalog name, or null
+     * @param tableNames the table names, never empty
+     * @throws SQLException on database access error
+     */
+    default List<UniqueConstraint> getUniqueConstraintsForTables(Connection connection, String catalog,
+            String schema, List<String> tableNames) throws SQLException {
+        return TableBatch.filter(getAllUniqueConstraints(connection, catalog, schema), tableNames,
+                UniqueConstraint::table);
+    }
+
+    /**
+     * Multi-table variant of
+     * {@link #getUniqueConstraints(Connection, String, String, String)}.
+     *
+     * @return every requested table with its unique constraints, in request order
+     * @throws SQLException on database access error
+     */
+    default Map<TableReference, List<UniqueConstraint>> getUniqueConstraints(Connection connection,
+            Collection<TableReference> tables) throws SQLException {
+        return TableBatch.readAll(tables, (catalog, schema, names) -> Optional
+                .of(getUniqueConstraintsForTables(connection, catalog, schema, names)), UniqueConstraint::table);
+    }
+
+    /**
+     * Index info of {@code tableNames} in one schema, in one query where the
+     * engine allows it. The default filters {@link #getAllIndexInfo}.
+     *
+     * @param catalog    the catalog name, or null
+     * @param tableNames the table names, never empty
+     * @return the index info, or Optional.empty() to fall back to standard JDBC
+     * @throws SQLException on database access error
+     */
+    default Optional<List<IndexInfo>> getIndexInfoForTables(Connection connection, String catalog, String schema,
+            List<String> tableNames) throws SQLException {
+        return getAllIndexInfo(connection, catalog, schema)
+                .map(all -> TableBatch.filter(all, tableNames, IndexInfo::tableReference));
+    }
+
+    /**
+     * Multi-table variant of
+     * {@link #getIndexInfo(Connection, String, String, String)}: one
+     * {@link #getIndexInfoForTables} read per schema.
+     *
+     * @return every requested table with its index info, or Optional.empty()
+     *         to fall back to standard JDBC
+     * @throws SQLException on database access error
+     */
+    default Optional<Map<TableReference, List<IndexInfo>>> getIndexInfo(Connection connection,
+            Collection<TableReference> tables) throws SQLException {
+        return TableBatch.read(tables,
+                (catalog, schema, names) -> getIndexInfoForTables(connection, catalog, schema, names),
+                IndexInfo::tableReference);
+    }
+
+    /**
+     * Foreign keys declared by {@code tableNames} in one schema, in one query
+     * where the engine allows it. The default filters
+     * {@link #getAllImportedKeys}.
+     *
+     * @param catalog    the catalog name, or null
+     * @param tableNames the foreign key table names, never empty
+     * @return the keys, or Optional.empty() to fall back to standard JDBC
+     * @throws SQLException on database access error
+     */
+    default Optional<List<ImportedKey>> getImportedKeysForTables(Connection connection, String catalog,
+            String schema, List<String> tableNames) throws SQLException {
+        return getAllImportedKeys(connection, catalog, schema)
+                .map(all -> TableBatch.filter(all, tableNames, TableBatch::foreignKeyTable));
+    }
+
+    /**
+     * Multi-table variant of {@link #getAllImportedKeys}, grouped by the
+     * foreign key table.
+     *
+     * @return every requested table with the keys it imports, or
+     *         Optional.empty() to fall back to standard JDBC
+     * @throws SQLException on database access error
+     */
+    default Optional<Map<TableReference, List<ImportedKey>>> getImportedKeys(Connection connection,
+            Collection<TableReference> tables) throws SQLException {
+        return TableBatch.read(tables,
+                (catalog, schema, names) -> getImportedKeysForTables(connection, catalog, schema, names),
+                TableBatch::foreignKeyTable);
+    }
+
+    /**
+     * Foreign keys referencing {@code tableNames} in one schema, in one query
+     * where the engine allows it. The default filters
+     * {@link #getAllExportedKeys}.
+     *
+     * @param catalog    the catalog name, or null
+     * @param tableNames the primary key table names, never empty
+     * @return the keys, or Optional.empty() to fall back to standard JDBC
+     * @throws SQLException on database access error
+     */
+    default Optional<List<ImportedKey>> getExportedKeysForTables(Connection connection, String catalog,
+            String schema, List<String> tableNames) throws SQLException {
+        return getAllExportedKeys(connection, catalog, schema)
+                .map(all -> TableBatch.filter(all, tableNames, TableBatch::primaryKeyTable));
+    }
+
+    /**
+     * Multi-table variant of
+     * {@link #getExportedKeys(Connection, String, String, String)}, grouped
+     * by the primary key table.
+     *
+     * @return every requested table with the keys referencing it, or
+     *         Optional.empty() to fall back to standard JDBC
+     * @throws SQLException on database access error
+     */
+    default Optional<Map<TableReference, List<ImportedKey>>> getExportedKeys(Connection connection,
+            Collection<TableReference> tables) throws SQLException {
+        return TableBatch.read(tables,
+                (catalog, schema, names) -> getExportedKeysForTables(connection, catalog, schema, names),
+                TableBatch::primaryKeyTable);
+    }
+
+    /**
+     * Multi-table variant of
+     * {@link #getColumnPrivileges(Connection, String, String, String, String)}.
+     * Engines have no schema-wide column privilege read, so the default asks
+     * per table.
+     *
+     * @return every requested table with its column privileges, or
+     *         Optional.empty() to fall back to standard JDBC
+     * @throws SQLException on database access error
+     */
+    default Optional<Map<TableReference, List<ColumnPrivilege>>> getColumnPrivileges(Connection connection,
+            Collection<TableReference> tables, String columnNamePattern) throws SQLException {
+        Map<TableReference, List<ColumnPrivilege>> result = new LinkedHashMap<>();
+        for (TableReference table : tables) {
+            String schema = table.schema().map(SchemaReference::name).orElse(null);
+            String catalog = table.schema().flatMap(SchemaReference::catalog).map(CatalogReference::name)
+                    .orElse(null);
+            Optional<List<ColumnPrivilege>> privileges = getColumnPrivileges(connection, catalog, schema,
+                    table.name(), columnNamePattern);
+            if (privileges.isEmpty()) {
+                return Optional.empty();
+            }
+            result.put(table, privileges.get());
+        }
+        return Optional.of(Collections.unmodifiableMap(result));
+    }
+
+    /**
+     * Reads the DDL fingerprint of {@code schema} in one query, so a snapshot
+     * can be refreshed by re-reading only the tables whose stamp moved.
+     *
+     * @param catalog the catalog name, or null
+     * @param schema  the schema name, or null for the connection's schema
+     * @return the marker, or Optional.empty() when the engine cannot report
+     *         changes and the snapshot has to be rebuilt
+     * @throws SQLException on database access error
+     */
+    default Optional<ChangeMarker> getChangeMarker(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.empty();
+    }
 }
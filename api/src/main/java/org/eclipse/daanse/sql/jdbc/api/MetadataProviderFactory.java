@@ -30,4 +30,12 @@ public interface MetadataProviderFactory {
     boolean supports(String databaseProductName);
 
     MetadataProvider createProvider();
+
+    /**
+     * A provider whose catalog queries use {@code options}. Factories whose
+     * provider runs no SQL of its own may ignore them.
+     */
+    default MetadataProvider createProvider(MetadataQueryOptions options) {
+        return createProvider();
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api;
+
+/**
+ * Statement settings a {@link MetadataProvider} applies to its catalog
+ * queries, see {@link MetadataProviderFactory#createProvider(MetadataQueryOptions)}.
+ * <p>
+ * A value of {@code 0} leaves the driver default in place. Drivers with a
+ * small default fetch size (Oracle fetches 10 rows) benefit from a larger one;
+ * drivers that buffer the whole result set (PostgreSQL) only stream with a
+ * fetch size when the connection is not in auto-commit mode.
+ *
+ * @param fetchSize           rows per round trip, see
+ *                            {@link java.sql.Statement#setFetchSize(int)}
+ * @param queryTimeoutSeconds seconds a catalog query may run, see
+ *                            {@link java.sql.Statement#setQueryTimeout(int)}
+ * @param maxRows             upper bound of rows per query, see
+ *                            {@link java.sql.Statement#setMaxRows(int)}
+ * @param readOnly            mark an auto-commit connection read-only, see
+ *                            {@link java.sql.Connection#setReadOnly(boolean)},
+ *                            while the provider's statements are open on it;
+ *                            the previous flag is restored afterwards
+ * @param reuseStatements     keep the statements of the per-table reads
+ *                            ({@code getTriggers}, {@code getCheckConstraints},
+ *                            ...) prepared for the next call on the same
+ *                            connection until the connection is closed or
+ *                            no longer referenced
+ */
+public record MetadataQueryOptions(int fetchSize, int queryTimeoutSeconds, int maxRows, boolean readOnly,
+        boolean reuseStatements) {
+
+    /** Driver defaults, no statement reuse: the behaviour without options. */
+    public static final MetadataQueryOptions DEFAULT = new MetadataQueryOptions(0, 0, 0, false, false);
+
+    public MetadataQueryOptions {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("fetchSize must be >= 0: " + fetchSize);
+        }
+        if (queryTimeoutSeconds < 0) {
+            throw new IllegalArgumentException("queryTimeoutSeconds must be >= 0: " + queryTimeoutSeconds);
+        }
+        if (maxRows < 0) {
+            throw new IllegalArgumentException("maxRows must be >= 0: " + maxRows);
+        }
+    }
+
+    public MetadataQueryOptions withFetchSize(int fetchSize) {
+        return new MetadataQueryOptions(fetchSize, queryTimeoutSeconds, maxRows, readOnly, reuseStatements);
+    }
+
+    public MetadataQueryOptions withQueryTimeoutSeconds(int queryTimeoutSeconds) {
+        return new MetadataQueryOptions(fetchSize, queryTimeoutSeconds, maxRows, readOnly, reuseStatements);
+    }
+
+    public MetadataQueryOptions withMaxRows(int maxRows) {
+        return new MetadataQueryOptions(fetchSize, queryTimeoutSeconds, maxRows, readOnly, reuseStatements);
+    }
+
+    public MetadataQueryOptions withReadOnly(boolean readOnly) {
+        return new MetadataQueryOptions(fetchSize, queryTimeoutSeconds, maxRows, readOnly, reuseStatements);
+    }
+
+    public MetadataQueryOptions withReuseStatements(boolean reuseStatements) {
+        return new MetadataQueryOptions(fetchSize, queryTimeoutSeconds, maxRows, readOnly, reuseStatements);
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api;
+
+import java.sql.SQLException;
+
+/**
+ * Receives catalog rows one at a time while the underlying result set is still
+ * open, so a caller can process a bulk read without collecting it into a list.
+ *
+ * @param <T> the row type
+ */
+@FunctionalInterface
+public interface RowCallback<T> {
+
+    /**
+     * @param row the row just read
+     * @throws SQLException to abort the read; it is rethrown to the caller
+     */
+    void accept(T row) throws SQLException;
+}
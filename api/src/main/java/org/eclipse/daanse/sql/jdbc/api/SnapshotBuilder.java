@@ -60,4 +60,56 @@ public interface SnapshotBuilder {
     default MetaInfo createMetaInfo(Connection connection, MetadataProvider metadataProvider) throws SQLException {
         return createMetaInfo(connection);
     }
+
+    /**
+     * @param dataSource pooled or unpooled source
+     * @param options    catalog/schema/table scope of the snapshot; default
+     *                   implementation ignores it and delegates to
+     *                   {@link #createMetaInfo(DataSource)}
+     * @return MetaInfo snapshot restricted to {@code options}
+     * @throws SQLException on database access error
+     */
+    default MetaInfo createMetaInfo(DataSource dataSource, SnapshotOptions options) throws SQLException {
+        return createMetaInfo(dataSource);
+    }
+
+    /**
+     * @param connection caller-managed connection (not closed by this method)
+     * @param options    catalog/schema/table scope of the snapshot; default
+     *                   implementation ignores it and delegates to
+     *                   {@link #createMetaInfo(Connection)}
+     * @return MetaInfo snapshot restricted to {@code options}
+     * @throws SQLException on database access error
+     */
+    default MetaInfo createMetaInfo(Connection connection, SnapshotOptions options) throws SQLException {
+        return createMetaInfo(connection);
+    }
+
+    /**
+     * @param dataSource       pooled or unpooled source
+     * @param metadataProvider dialect-specific override
+     * @param options          catalog/schema/table scope of the snapshot; default
+     *                         implementation ignores it and delegates to
+     *                         {@link #createMetaInfo(DataSource, MetadataProvider)}
+     * @return MetaInfo snapshot restricted to {@code options}
+     * @throws SQLException on database access error
+     */
+    default MetaInfo createMetaInfo(DataSource dataSource, MetadataProvider metadataProvider,
+            SnapshotOptions options) throws SQLException {
+        return createMetaInfo(dataSource, metadataProvider);
+    }
+
+    /**
+     * @param connection       caller-managed connection (not closed by this method)
+     * @param metadataProvider dialect-specific override
+     * @param options          catalog/schema/table scope of the snapshot; default
+     *                         implementation ignores it and delegates to
+     *                         {@link #createMetaInfo(Connection, MetadataProvider)}
+     * @return MetaInfo snapshot restricted to {@code options}
+     * @throws SQLException on database access error
+     */
+    default MetaInfo createMetaInfo(Connection connection, MetadataProvider metadataProvider,
+            SnapshotOptions options) throws SQLException {
+        return createMetaInfo(connection, metadataProvider);
+    }
 }
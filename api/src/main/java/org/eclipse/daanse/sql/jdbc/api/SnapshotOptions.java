@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo.Section;
+
+/**
+ * Narrows a {@link SnapshotBuilder} snapshot to part of the database.
+ * <p>
+ * Catalog and schema entries are exact names in the database's stored case.
+ * Table entries are JDBC search patterns ({@code %} matches any sequence,
+ * {@code _} a single character). Empty include lists mean "everything";
+ * exclusions win over inclusions.
+ * <p>
+ * Included catalogs, schemas and table patterns are passed to the
+ * {@link MetadataProvider} bulk reads and to {@code DatabaseMetaData} so the
+ * database does the narrowing; exclusions are applied to the read rows.
+ * <p>
+ * Sections outside {@code sections} are not queried and come back as empty
+ * lists. Materialized views are only split out of {@link StructureInfo#tables()}
+ * when {@link Section#MATERIALIZED_VIEWS} is selected. Without
+ * {@link Section#DEFINITIONS}, views, materialized views, routines and
+ * triggers are read without their source text.
+ *
+ * @param includeCatalogs catalogs to read; empty reads every catalog
+ * @param excludeCatalogs catalogs to drop
+ * @param includeSchemas  schemas to read; empty reads every schema
+ * @param excludeSchemas  schemas to drop
+ * @param includeTables   table-name patterns to read; empty reads every table
+ * @param excludeTables   table-name patterns to drop
+ * @param sections        sections to load; {@code null} loads all of them
+ */
+public record SnapshotOptions(List<String> includeCatalogs, List<String> excludeCatalogs,
+        List<String> includeSchemas, List<String> excludeSchemas, List<String> includeTables,
+        List<String> excludeTables, Set<Section> sections) {
+
+    /** Snapshot of the whole database, as produced without options. */
+    public static final SnapshotOptions ALL = new SnapshotOptions(List.of(), List.of(), List.of(), List.of(),
+            List.of(), List.of(), EnumSet.allOf(Section.class));
+
+    public SnapshotOptions {
+        includeCatalogs = includeCatalogs == null ? List.of() : List.copyOf(includeCatalogs);
+        excludeCatalogs = excludeCatalogs == null ? List.of() : List.copyOf(excludeCatalogs);
+        includeSchemas = includeSchemas == null ? List.of() : List.copyOf(includeSchemas);
+        excludeSchemas = excludeSchemas == null ? List.of() : List.copyOf(excludeSchemas);
+        includeTables = includeTables == null ? List.of() : List.copyOf(includeTables);
+        excludeTables = excludeTables == null ? List.of() : List.copyOf(excludeTables);
+        EnumSet<Section> selected = EnumSet.allOf(Section.class);
+        if (sections != null) {
+            selected = EnumSet.noneOf(Section.class);
+            selected.addAll(sections);
+        }
+        sections = Collections.unmodifiableSet(selected);
+    }
+
+    public SnapshotOptions withIncludedCatalogs(String... catalogs) {
+        return new SnapshotOptions(List.of(catalogs), excludeCatalogs, includeSchemas, excludeSchemas,
+                includeTables, excludeTables, sections);
+    }
+
+    public SnapshotOptions withExcludedCatalogs(String... catalogs) {
+        return new SnapshotOptions(includeCatalogs, List.of(catalogs), includeSchemas, excludeSchemas,
+                includeTables, excludeTables, sections);
+    }
+
+    public SnapshotOptions withIncludedSchemas(String... schemas) {
+        return new SnapshotOptions(includeCatalogs, excludeCatalogs, List.of(schemas), excludeSchemas,
+                includeTables, excludeTables, sections);
+    }
+
+    public SnapshotOptions withExcludedSchemas(String... schemas) {
+        return new SnapshotOptions(includeCatalogs, excludeCatalogs, includeSchemas, List.of(schemas),
+                includeTables, excludeTables, sections);
+    }
+
+    public SnapshotOptions withIncludedTables(String... tablePatterns) {
+        return new SnapshotOptions(includeCatalogs, excludeCatalogs, includeSchemas, excludeSchemas,
+                List.of(tablePatterns), excludeTables, sections);
+    }
+
+    public SnapshotOptions withExcludedTables(String... tablePatterns) {
+        return new SnapshotOptions(includeCatalogs, excludeCatalogs, includeSchemas, excludeSchemas,
+                includeTables, List.of(tablePatterns), sections);
+    }
+
+    public SnapshotOptions withSections(Section... sections) {
+        return new SnapshotOptions(includeCatalogs, excludeCatalogs, includeSchemas, excludeSchemas,
+                includeTables, excludeTables, Set.copyOf(Arrays.asList(sections)));
+    }
+
+    /** Same options without {@link Section#DEFINITIONS}: object bodies are left to be read on demand. */
+    public SnapshotOptions withoutDefinitions() {
+        EnumSet<Section> without = EnumSet.noneOf(Section.class);
+        without.addAll(sections);
+        without.remove(Section.DEFINITIONS);
+        return new SnapshotOptions(includeCatalogs, excludeCatalogs, includeSchemas, excludeSchemas,
+                includeTables, excludeTables, without);
+    }
+
+    /** @return {@code true} when {@code section} is loaded */
+    public boolean includes(Section section) {
+        return sections.contains(section);
+    }
+
+    /** @return {@code true} when no catalog, schema or table is filtered out */
+    public boolean isUnrestricted() {
+        return includeCatalogs.isEmpty() && excludeCatalogs.isEmpty() && includeSchemas.isEmpty()
+                && excludeSchemas.isEmpty() && includeTables.isEmpty() && excludeTables.isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api;
+
+import java.sql.SQLException;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.Function;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.MaterializedView;
+import org.eclipse.daanse.sql.jdbc.api.schema.Partition;
+import org.eclipse.daanse.sql.jdbc.api.schema.Procedure;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+
+/**
+ * Callbacks of a streamed snapshot, see {@link StreamingSnapshotBuilder}.
+ * <p>
+ * Catalogs and schemas come first. Each schema's tables then follow one at a
+ * time: {@link #visitTable}, the table's columns, primary key, imported keys,
+ * indexes, triggers and constraints, and {@link #endTable}. The schema-level
+ * objects (sequences, views, types, routines) of a schema follow its tables.
+ * Every method is a no-op by default; sections outside the
+ * {@link SnapshotOptions} are never visited.
+ */
+public interface SnapshotVisitor {
+
+    default void visitCatalog(CatalogReference catalog) throws SQLException {
+    }
+
+    default void visitSchema(SchemaReference schema) throws SQLException {
+    }
+
+    /**
+     * @return {@code false} to skip the table's rows and its {@link #endTable}
+     */
+    default boolean visitTable(TableDefinition table) throws SQLException {
+        return true;
+    }
+
+    default void visitColumn(ColumnDefinition column) throws SQLException {
+    }
+
+    default void visitPrimaryKey(PrimaryKey primaryKey) throws SQLException {
+    }
+
+    default void visitImportedKey(ImportedKey importedKey) throws SQLException {
+    }
+
+    default void visitIndexInfo(IndexInfo indexInfo) throws SQLException {
+    }
+
+    default void visitTrigger(Trigger trigger) throws SQLException {
+    }
+
+    default void visitCheckConstraint(CheckConstraint checkConstraint) throws SQLException {
+    }
+
+    default void visitUniqueConstraint(UniqueConstraint uniqueConstraint) throws SQLException {
+    }
+
+    default void visitPartition(Partition partition) throws SQLException {
+    }
+
+    default void endTable(TableDefinition table) throws SQLException {
+    }
+
+    default void visitSequence(Sequence sequence) throws SQLException {
+    }
+
+    default void visitViewDefinition(ViewDefinition viewDefinition) throws SQLException {
+    }
+
+    default void visitMaterializedView(MaterializedView materializedView) throws SQLException {
+    }
+
+    default void visitUserDefinedType(UserDefinedType userDefinedType) throws SQLException {
+    }
+
+    default void visitProcedure(Procedure procedure) throws SQLException {
+    }
+
+    default void visitFunction(Function function) throws SQLException {
+    }
+}
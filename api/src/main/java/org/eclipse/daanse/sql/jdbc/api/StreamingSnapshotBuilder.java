@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Flow;
+
+import javax.sql.DataSource;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.TableSnapshot;
+
+/**
+ * Streams a snapshot instead of building a {@link MetaInfo}: rows are handed
+ * on as they come off the result sets, grouped per table, so the consumer
+ * decides what to keep. Only one schema's keys, indexes and constraints and
+ * one table's columns are held at a time.
+ */
+public interface StreamingSnapshotBuilder {
+
+    /**
+     * Walks the snapshot on the calling thread.
+     *
+     * @param connection       caller-managed connection (not closed by this method)
+     * @param metadataProvider dialect-specific bulk reads; {@link MetadataProvider#EMPTY}
+     *                         for plain JDBC
+     * @param options          scope and sections, or null for everything
+     * @param visitor          receives the objects in the order described on
+     *                         {@link SnapshotVisitor}
+     * @throws SQLException on database access error or when the visitor throws
+     */
+    void visitSnapshot(Connection connection, MetadataProvider metadataProvider, SnapshotOptions options,
+            SnapshotVisitor visitor) throws SQLException;
+
+    /**
+     * Publishes one {@link TableSnapshot} per table. Each subscription borrows
+     * its own connection and reads on a virtual thread that waits whenever
+     * the subscriber's demand is used up; cancelling stops the read and
+     * releases the connection. Failures are signalled through
+     * {@link Flow.Subscriber#onError}.
+     *
+     * @param dataSource       source of the connection
+     * @param metadataProvider dialect-specific bulk reads
+     * @param options          scope and sections, or null for everything
+     * @return a cold publisher; every subscription reads the catalog anew
+     */
+    Flow.Publisher<TableSnapshot> publishSnapshot(DataSource dataSource, MetadataProvider metadataProvider,
+            SnapshotOptions options);
+}
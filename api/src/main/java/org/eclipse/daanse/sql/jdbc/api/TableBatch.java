@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * Runs a multi-table read as one read per schema and hands the rows back
+ * grouped by the caller's {@link TableReference}s. Rows are matched on schema
+ * (or catalog, for engines without schemas) and table name; a requested table
+ * without a schema matches on its name alone.
+ */
+final class TableBatch {
+
+    /** Reads the rows of {@code tableNames} in one schema. */
+    @FunctionalInterface
+    interface SchemaRead<T> {
+        Optional<List<T>> read(String catalog, String schema, List<String> tableNames) throws SQLException;
+    }
+
+    private record SchemaKey(String catalog, String schema) {
+    }
+
+    private record TableKey(String schema, String name) {
+
+        static TableKey of(TableReference table) {
+            Optional<SchemaReference> schema = table.schema();
+            if (schema.isEmpty()) {
+                return new TableKey("", table.name());
+            }
+            String name = schema.get().name();
+            if (name == null || name.isEmpty()) {
+                name = schema.get().catalog().map(CatalogReference::name).orElse("");
+            }
+            return new TableKey(name, table.name());
+        }
+    }
+
+    private TableBatch() {
+    }
+
+    /**
+     * @return every requested table, in request order, with its rows; or
+     *         {@link Optional#empty()} when {@code read} had no answer for a
+     *         schema
+     */
+    static <T> Optional<Map<TableReference, List<T>>> read(Collection<TableReference> tables, SchemaRead<T> read,
+            Function<T, TableReference> tableOf) throws SQLException {
+        Map<SchemaKey, List<String>> bySchema = new LinkedHashMap<>();
+        for (TableReference table : tables) {
+            String schema = table.schema().map(SchemaReference::name).orElse(null);
+            String catalog = table.schema().flatMap(SchemaReference::catalog).map(CatalogReference::name)
+                    .orElse(null);
+            List<String> names = bySchema.computeIfAbsent(new SchemaKey(catalog, schema), k -> new ArrayList<>());
+            if (!names.contains(table.name())) {
+                names.add(table.name());
+            }
+        }
+        List<T> rows = new ArrayList<>();
+        for (Map.Entry<SchemaKey, List<String>> entry : bySchema.entrySet()) {
+            Optional<List<T>> schemaRows = read.read(entry.getKey().catalog(), entry.getKey().schema(),
+                    List.copyOf(entry.getValue()));
+            if (schemaRows.isEmpty()) {
+                return Optional.empty();
+            }
+            rows.addAll(schemaRows.get());
+        }
+        return Optional.of(group(tables, rows, tableOf));
+    }
+
+    /** Same as {@link #read} for reads that always have an answer. */
+    static <T> Map<TableReference, List<T>> readAll(Collection<TableReference> tables, SchemaRead<T> read,
+            Function<T, TableReference> tableOf) throws SQLException {
+        return read(tables, read, tableOf).orElseThrow();
+    }
+
+    /** The rows of {@code rows} whose table is one of {@code tableNames}. */
+    static <T> List<T> filter(List<T> rows, List<String> tableNames, Function<T, TableReference> tableOf) {
+        List<T> result = new ArrayList<>();
+        for (T row : rows) {
+            TableReference table = tableOf.apply(row);
+            if (table != null && tableNames.contains(table.name())) {
+                result.add(row);
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    /** The foreign key side of {@code key}, for {@code tableOf}. */
+    static TableReference foreignKeyTable(ImportedKey key) {
+        return key.foreignKeyColumn().table().orElse(null);
+    }
+
+    /** The primary key side of {@code key}, for {@code tableOf}. */
+    static TableReference primaryKeyTable(ImportedKey key) {
+        return key.primaryKeyColumn().table().orElse(null);
+    }
+
+    private static <T> Map<TableReference, List<T>> group(Collection<TableReference> tables, List<T> rows,
+            Function<T, TableReference> tableOf) {
+        Map<TableReference, List<T>> grouped = new LinkedHashMap<>();
+        Map<TableKey, TableReference> byKey = new HashMap<>();
+        Map<String, TableReference> byName = new HashMap<>();
+        for (TableReference table : tables) {
+            grouped.put(table, new ArrayList<>());
+            byKey.putIfAbsent(TableKey.of(table), table);
+            if (table.schema().isEmpty()) {
+                byName.putIfAbsent(table.name(), table);
+            }
+        }
+        for (T row : rows) {
+            TableReference rowTable = tableOf.apply(row);
+            if (rowTable == null) {
+                continue;
+            }
+            TableReference requested = byKey.get(TableKey.of(rowTable));
+            if (requested == null) {
+                requested = byName.get(rowTable.name());
+            }
+            if (requested != null) {
+                grouped.get(requested).add(row);
+            }
+        }
+        Map<TableReference, List<T>> result = new LinkedHashMap<>();
+        grouped.forEach((table, tableRows) -> result.put(table, List.copyOf(tableRows)));
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api.meta;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * Engine-reported DDL fingerprint of one or more schemas, read in a single
+ * catalog query. Comparing the marker taken with a snapshot against a fresh
+ * one tells which tables changed, appeared or vanished, so only those need to
+ * be re-read. Stamps are opaque; only equality is meaningful.
+ */
+public interface ChangeMarker {
+
+    /** @return the schemas covered; tables of other schemas are never treated as removed */
+    List<SchemaReference> schemas();
+
+    /** @return one stamp per table, view or materialized view, changing with its definition */
+    Map<TableReference, String> tableStamps();
+
+    /**
+     * @return one stamp per covered schema over its schema-level objects:
+     *         sequences, routines, types and triggers
+     */
+    Map<SchemaReference, String> objectStamps();
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api.meta;
+
+import java.util.List;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+
+/**
+ * Name search over the tables and columns of one {@link MetaInfo} snapshot,
+ * built once instead of scanning {@link StructureInfo#tables()} and
+ * {@link StructureInfo#columns()} per search.
+ * <p>
+ * Patterns follow {@code DatabaseMetaData}: {@code %} matches any run of
+ * characters, {@code _} any single character and {@code \} escapes the next
+ * character; a {@code null} pattern matches everything and an empty schema
+ * pattern matches objects without schema. Patterns and names are compared
+ * after the index's case folding. Hits come in folded name order and are
+ * empty, never null, when nothing matches.
+ */
+public interface NameSearchIndex {
+
+    /**
+     * @param schemaPattern    schema name pattern or {@code null}
+     * @param tableNamePattern table name pattern or {@code null}
+     * @param limit            maximum number of hits
+     * @return tables, views and materialized views whose names match
+     */
+    List<TableDefinition> tables(String schemaPattern, String tableNamePattern, int limit);
+
+    /**
+     * @param schemaPattern     schema name pattern or {@code null}
+     * @param tableNamePattern  table name pattern or {@code null}
+     * @param columnNamePattern column name pattern or {@code null}
+     * @param limit             maximum number of hits
+     * @return columns whose names match
+     */
+    List<ColumnDefinition> columns(String schemaPattern, String tableNamePattern, String columnNamePattern,
+            int limit);
+
+    /** @return up to {@code limit} tables whose name starts with {@code prefix}, taken literally */
+    default List<TableDefinition> tablesStartingWith(String prefix, int limit) {
+        return tables(null, escape(prefix) + "%", limit);
+    }
+
+    /** @return up to {@code limit} columns whose name starts with {@code prefix}, taken literally */
+    default List<ColumnDefinition> columnsStartingWith(String prefix, int limit) {
+        return columns(null, null, escape(prefix) + "%", limit);
+    }
+
+    /** @return {@code name} with {@code %}, {@code _} and {@code \} escaped */
+    static String escape(String name) {
+        StringBuilder escaped = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api.meta;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Partition;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+
+/**
+ * Hash-based lookups by table over one {@link MetaInfo} snapshot, built once
+ * instead of scanning the flat {@link StructureInfo} lists per table.
+ * <p>
+ * A table is matched by schema and name; its catalog only has to agree when
+ * both sides carry one, because provider reads usually report tables without
+ * the catalog that {@code DatabaseMetaData} adds. Names are compared after the
+ * index's case folding. Lists keep the snapshot's order and are empty, never
+ * null, for unknown tables.
+ */
+public interface StructureIndex {
+
+    /**
+     * @param catalog the catalog name, or null for any
+     * @param schema  the schema name, or null for tables without schema
+     * @param name    the table name
+     * @return the table, view or materialized view entry of {@link StructureInfo#tables()}
+     */
+    Optional<TableDefinition> table(String catalog, String schema, String name);
+
+    Optional<TableDefinition> table(TableReference table);
+
+    /** @return the columns of {@code table} in snapshot (ordinal) order */
+    List<ColumnDefinition> columns(TableReference table);
+
+    Optional<PrimaryKey> primaryKey(TableReference table);
+
+    /** @return the foreign key columns declared on {@code table} */
+    List<ImportedKey> importedKeys(TableReference table);
+
+    /** @return the foreign key columns of other tables referencing {@code table} */
+    List<ImportedKey> exportedKeys(TableReference table);
+
+    List<IndexInfo> indexInfos(TableReference table);
+
+    List<Trigger> triggers(TableReference table);
+
+    List<Partition> partitions(TableReference table);
+
+    List<CheckConstraint> checkConstraints(TableReference table);
+
+    List<UniqueConstraint> uniqueConstraints(TableReference table);
+}
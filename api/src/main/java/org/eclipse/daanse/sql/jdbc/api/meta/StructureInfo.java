@@ -32,6 +32,21 @@ import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
 import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
 
 public interface StructureInfo {
+
+    /**
+     * The independently loadable parts of a snapshot, one per list accessor.
+     * {@link #INDEX_INFOS} stands for {@link MetaInfo#indexInfos()}.
+     * {@link #DEFINITIONS} is the source text of views, materialized views,
+     * procedures, functions and triggers; without it those sections hold the
+     * object identities with empty bodies, to be read on demand through
+     * {@link org.eclipse.daanse.sql.jdbc.api.MetadataProvider#getDefinitions}.
+     */
+    enum Section {
+        CATALOGS, SCHEMAS, TABLES, COLUMNS, IMPORTED_KEYS, PRIMARY_KEYS, INDEX_INFOS, TRIGGERS, SEQUENCES,
+        CHECK_CONSTRAINTS, UNIQUE_CONSTRAINTS, USER_DEFINED_TYPES, VIEW_DEFINITIONS, PROCEDURES, FUNCTIONS,
+        MATERIALIZED_VIEWS, PARTITIONS, DEFINITIONS
+    }
+
     List<CatalogReference> catalogs();
 
     List<SchemaReference> schemas();
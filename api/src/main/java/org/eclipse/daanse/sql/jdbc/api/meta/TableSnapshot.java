@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api.meta;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Partition;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+
+/** One table of a streamed snapshot together with everything keyed by it. */
+public interface TableSnapshot {
+
+    TableDefinition table();
+
+    List<ColumnDefinition> columns();
+
+    Optional<PrimaryKey> primaryKey();
+
+    List<ImportedKey> importedKeys();
+
+    List<IndexInfo> indexInfos();
+
+    List<Trigger> triggers();
+
+    List<CheckConstraint> checkConstraints();
+
+    List<UniqueConstraint> uniqueConstraints();
+
+    List<Partition> partitions();
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api.schema;
+
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.model.schema.Trigger;
+
+/**
+ * Source text of a view, materialized view, routine or trigger, as read on
+ * demand when the snapshot holds the object identity only.
+ *
+ * @param body           the view query or routine/trigger body, or empty
+ * @param fullDefinition the full CREATE statement, or empty
+ */
+public record Definition(Optional<String> body, Optional<String> fullDefinition) {
+
+    /** No source text available. */
+    public static final Definition NONE = new Definition(Optional.empty(), Optional.empty());
+
+    public Definition {
+        body = body == null ? Optional.empty() : body;
+        fullDefinition = fullDefinition == null ? Optional.empty() : fullDefinition;
+    }
+
+    public static Definition of(ViewDefinition view) {
+        return new Definition(view.viewBody(), view.fullDefinition());
+    }
+
+    public static Definition of(MaterializedView view) {
+        return new Definition(view.viewBody(), view.fullDefinition());
+    }
+
+    public static Definition of(Procedure procedure) {
+        return new Definition(procedure.body(), procedure.fullDefinition());
+    }
+
+    public static Definition of(Function function) {
+        return new Definition(function.body(), function.fullDefinition());
+    }
+
+    public static Definition of(Trigger trigger) {
+        return new Definition(trigger.body(), trigger.fullDefinition());
+    }
+
+    /** @return {@code true} when neither body nor full definition is present */
+    public boolean isEmpty() {
+        return body.isEmpty() && fullDefinition.isEmpty();
+    }
+}
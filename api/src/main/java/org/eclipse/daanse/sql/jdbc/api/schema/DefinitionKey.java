@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api.schema;
+
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+
+/**
+ * Identifies an object whose {@link Definition} can be read on demand.
+ *
+ * @param kind      the object kind
+ * @param schema    the schema of the object, or of the trigger's table
+ * @param name      the object name
+ * @param qualifier what tells same-named objects apart: the specific name of
+ *                  a routine, the table name of a trigger; {@code null} for
+ *                  views
+ */
+public record DefinitionKey(Kind kind, Optional<SchemaReference> schema, String name, String qualifier) {
+
+    public enum Kind {
+        VIEW, MATERIALIZED_VIEW, PROCEDURE, FUNCTION, TRIGGER
+    }
+
+    public DefinitionKey {
+        schema = schema == null ? Optional.empty() : schema;
+    }
+
+    public static DefinitionKey of(ViewDefinition view) {
+        return new DefinitionKey(Kind.VIEW, view.view().schema(), view.view().name(), null);
+    }
+
+    public static DefinitionKey of(MaterializedView view) {
+        return new DefinitionKey(Kind.MATERIALIZED_VIEW, view.view().schema(), view.view().name(), null);
+    }
+
+    public static DefinitionKey of(Procedure procedure) {
+        ProcedureReference reference = procedure.reference();
+        return new DefinitionKey(Kind.PROCEDURE, reference.schema(), reference.name(), reference.specificName());
+    }
+
+    public static DefinitionKey of(Function function) {
+        FunctionReference reference = function.reference();
+        return new DefinitionKey(Kind.FUNCTION, reference.schema(), reference.name(), reference.specificName());
+    }
+
+    public static DefinitionKey of(Trigger trigger) {
+        return new DefinitionKey(Kind.TRIGGER, trigger.table().schema(), trigger.name(), trigger.table().name());
+    }
+}
@@ -9,67 +9,677 @@
  */
 package org.eclipse.daanse.sql.jdbc.impl;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.sql.DataSource;
 
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
 import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.record.io.MetaInfoCodec.StoredSnapshot;
+import org.eclipse.daanse.sql.jdbc.record.meta.ColumnarIndexInfos;
+import org.eclipse.daanse.sql.jdbc.record.meta.ColumnarStructureInfo;
+import org.eclipse.daanse.sql.jdbc.record.meta.MetaInfoRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * {@link DatabaseServiceImpl} keeping snapshots per source, provider class,
+ * provider {@link MetadataQueryOptions} and {@link SnapshotOptions}.
+ * <p>
+ * A source is either a {@link DataSource}, held weakly and compared by
+ * identity, or a caller-chosen key for snapshots read through a
+ * {@link Connection}. Providers are told apart by class and query options, so
+ * every instance of one dialect provider created with the same options shares
+ * the cached snapshots. At most one load per entry
+ * runs at a time; callers needing a snapshot while it runs wait for its result
+ * instead of reading the catalog themselves. With refresh-ahead an expired
+ * snapshot keeps being returned while a single background load replaces it.
+ * <p>
+ * With a maximum weight, the cache estimates each snapshot's retained size
+ * from its row counts and, once the total exceeds the maximum, evicts the
+ * least recently used snapshots. {@link #stats()} reports hits, misses and
+ * evictions for sizing it. Compact snapshots keep their columns and index
+ * items in columnar form ({@link ColumnarStructureInfo},
+ * {@link ColumnarIndexInfos}), which retains a fraction of the heap at the
+ * cost of building each column row on access.
+ */
 public final class CachingDatabaseService extends DatabaseServiceImpl {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingDatabaseService.class);
+
+    /** Variant of the plain JDBC snapshot, read without provider or options. */
+    private static final Variant PLAIN = new Variant(null, null, null);
+
     private final Duration ttl;
-    private final Map<DataSource, Entry> cache = java.util.Collections.synchronizedMap(new WeakHashMap<>());
+    private final MetadataProvider changeMarkers;
+    private final boolean refreshAhead;
+    private final long maximumWeight;
+    private final boolean compactSnapshots;
+    private final ConcurrentHashMap<Object, Map<Variant, Slot>> cache = new ConcurrentHashMap<>();
+    private final ReferenceQueue<DataSource> collected = new ReferenceQueue<>();
+
+    /** Guards the weights of all slots, {@link #totalWeight} and slot removal. */
+    private final ReentrantLock weightLock = new ReentrantLock();
+    private volatile long totalWeight;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Counters since construction.
+     *
+     * @param hitCount      lookups answered from the cache, including expired
+     *                      snapshots served during refresh-ahead
+     * @param missCount     lookups that waited for a load
+     * @param evictionCount snapshots dropped for weight or expiry; explicit
+     *                      invalidation is not counted
+     * @param entryCount    snapshots currently cached
+     * @param totalWeight   estimated bytes retained by them
+     */
+    public record Stats(long hitCount, long missCount, long evictionCount, long entryCount, long totalWeight) {
+
+        /** @return hits per lookup, or 1 before the first lookup */
+        public double hitRate() {
+            long lookups = hitCount + missCount;
+            return lookups == 0 ? 1.0 : (double) hitCount / lookups;
+        }
+    }
 
-    private record Entry(MetaInfo info, Instant expiresAt) {}
+    /** {@code marker} is the change marker read just before {@code info}, or null. */
+    private record Entry(MetaInfo info, Instant expiresAt, ChangeMarker marker) {}
+
+    /**
+     * Provider class, its query options and the snapshot options a snapshot was
+     * read with; all null for {@link #PLAIN}.
+     */
+    private record Variant(Class<?> provider, MetadataQueryOptions queryOptions, SnapshotOptions options) {
+
+        static Variant of(MetadataProvider provider, SnapshotOptions options) {
+            Objects.requireNonNull(provider, "metadataProvider");
+            return new Variant(provider.getClass(), provider.queryOptions(),
+                    options == null ? SnapshotOptions.ALL : options);
+        }
+    }
+
+    /**
+     * What to read on a miss: a plain snapshot when {@code provider} is null,
+     * through the caller's {@code connection} when given, else through
+     * {@code dataSource}.
+     */
+    private record Request(DataSource dataSource, Connection connection, MetadataProvider provider,
+            SnapshotOptions options) {}
+
+    /** Cache state of one variant: the current snapshot and the load replacing it. */
+    private static final class Slot {
+        final Object source;
+        final Variant variant;
+        volatile Entry entry;
+        volatile long lastAccess;
+        final AtomicReference<CompletableFuture<MetaInfo>> loading = new AtomicReference<>();
+        // guarded by weightLock
+        long weight;
+        boolean removed;
+
+        Slot(Object source, Variant variant) {
+            this.source = source;
+            this.variant = variant;
+        }
+    }
+
+    /** Weak, identity-compared reference to a source. */
+    private static final class SourceKey extends WeakReference<DataSource> {
+
+        private final int hash;
+
+        SourceKey(DataSource dataSource, ReferenceQueue<DataSource> queue) {
+            super(dataSource, queue);
+            this.hash = System.identityHashCode(dataSource);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            return o instanceof SourceKey other && hash == other.hash && refersTo(other.get())
+                    && !refersTo(null);
+        }
+    }
 
     /**
      * @param ttl how long each snapshot stays valid; entries past their
      *            expiry are recomputed on next access
      */
     public CachingDatabaseService(Duration ttl) {
+        this(ttl, 1);
+    }
+
+    /**
+     * @param ttl                 how long each snapshot stays valid
+     * @param snapshotParallelism connection cap for loading a snapshot in
+     *                            parallel sections, see
+     *                            {@link DatabaseServiceImpl#DatabaseServiceImpl(int)}
+     */
+    public CachingDatabaseService(Duration ttl, int snapshotParallelism) {
+        this(ttl, snapshotParallelism, null);
+    }
+
+    /**
+     * @param ttl                 how long each snapshot stays valid; an expired
+     *                            snapshot is checked against the engine's change
+     *                            marker and only re-read where it changed
+     * @param snapshotParallelism connection cap for loading a snapshot in
+     *                            parallel sections
+     * @param changeMarkers       provider reporting the engine's change markers
+     *                            for requests made without a provider, see
+     *                            {@link MetadataProvider#getChangeMarker}; null
+     *                            rebuilds such snapshots from scratch
+     */
+    public CachingDatabaseService(Duration ttl, int snapshotParallelism, MetadataProvider changeMarkers) {
+        this(ttl, snapshotParallelism, changeMarkers, false);
+    }
+
+    /**
+     * @param ttl                 how long each snapshot stays valid
+     * @param snapshotParallelism connection cap for loading a snapshot in
+     *                            parallel sections
+     * @param changeMarkers       provider reporting the engine's change markers,
+     *                            or null
+     * @param refreshAhead        true to keep returning an expired snapshot
+     *                            while it is reloaded in the background; false
+     *                            to make callers wait for the reload
+     */
+    public CachingDatabaseService(Duration ttl, int snapshotParallelism, MetadataProvider changeMarkers,
+            boolean refreshAhead) {
+        this(ttl, snapshotParallelism, changeMarkers, refreshAhead, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param ttl                 how long each snapshot stays valid
+     * @param snapshotParallelism connection cap for loading a snapshot in
+     *                            parallel sections
+     * @param changeMarkers       provider reporting the engine's change markers,
+     *                            or null
+     * @param refreshAhead        true to keep returning an expired snapshot
+     *                            while it is reloaded in the background
+     * @param maximumWeight       upper bound of the estimated bytes retained by
+     *                            all cached snapshots; {@link Long#MAX_VALUE}
+     *                            for no bound
+     */
+    public CachingDatabaseService(Duration ttl, int snapshotParallelism, MetadataProvider changeMarkers,
+            boolean refreshAhead, long maximumWeight) {
+        this(ttl, snapshotParallelism, changeMarkers, refreshAhead, maximumWeight, false);
+    }
+
+    /**
+     * @param ttl                 how long each snapshot stays valid
+     * @param snapshotParallelism connection cap for loading a snapshot in
+     *                            parallel sections
+     * @param changeMarkers       provider reporting the engine's change markers,
+     *                            or null
+     * @param refreshAhead        true to keep returning an expired snapshot
+     *                            while it is reloaded in the background
+     * @param maximumWeight       upper bound of the estimated bytes retained by
+     *                            all cached snapshots; {@link Long#MAX_VALUE}
+     *                            for no bound
+     * @param compactSnapshots    true to cache snapshots with columnar columns
+     *                            and index items
+     */
+    public CachingDatabaseService(Duration ttl, int snapshotParallelism, MetadataProvider changeMarkers,
+            boolean refreshAhead, long maximumWeight, boolean compactSnapshots) {
+        super(snapshotParallelism);
+        this.changeMarkers = changeMarkers;
+        this.refreshAhead = refreshAhead;
         this.ttl = Objects.requireNonNull(ttl, "ttl");
         if (ttl.isNegative() || ttl.isZero()) {
             throw new IllegalArgumentException("ttl must be > 0: " + ttl);
         }
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("maximumWeight must be > 0: " + maximumWeight);
+        }
+        this.maximumWeight = maximumWeight;
+        this.compactSnapshots = compactSnapshots;
     }
 
     @Override
     public MetaInfo createMetaInfo(DataSource dataSource) throws SQLException {
-        Entry e = cache.get(dataSource);
-        Instant now = Instant.now();
-        if (e != null && now.isBefore(e.expiresAt)) {
-            return e.info;
+        return cached(sourceKey(dataSource), PLAIN, new Request(dataSource, null, null, null));
+    }
+
+    @Override
+    public MetaInfo createMetaInfo(DataSource dataSource, MetadataProvider metadataProvider) throws SQLException {
+        return createMetaInfo(dataSource, metadataProvider, SnapshotOptions.ALL);
+    }
+
+    @Override
+    public MetaInfo createMetaInfo(DataSource dataSource, SnapshotOptions options) throws SQLException {
+        return createMetaInfo(dataSource, MetadataProvider.EMPTY, options);
+    }
+
+    @Override
+    public MetaInfo createMetaInfo(DataSource dataSource, MetadataProvider metadataProvider,
+            SnapshotOptions options) throws SQLException {
+        return cached(sourceKey(dataSource), Variant.of(metadataProvider, options),
+                new Request(dataSource, null, metadataProvider, options));
+    }
+
+    // createMetaInfo(Connection, ...): inherited unchanged — connections from
+    // a pool aren't stable cache keys; callers that know which database a
+    // connection belongs to use the keyed overload below.
+
+    /**
+     * Cached snapshot for a connection the caller can name. On a miss the
+     * snapshot is read through {@code connection}, which is not closed.
+     *
+     * @param sourceKey        stable name of the database {@code connection}
+     *                         belongs to, e.g. its pool name
+     * @param connection       caller-managed connection
+     * @param metadataProvider dialect-specific provider
+     * @param options          scope of the snapshot; null for all
+     * @return MetaInfo snapshot
+     * @throws SQLException on database access error
+     */
+    public MetaInfo createMetaInfo(String sourceKey, Connection connection, MetadataProvider metadataProvider,
+            SnapshotOptions options) throws SQLException {
+        return cached(Objects.requireNonNull(sourceKey, "sourceKey"), Variant.of(metadataProvider, options),
+                new Request(null, connection, metadataProvider, options));
+    }
+
+    private MetaInfo cached(Object source, Variant variant, Request request) throws SQLException {
+        Slot slot = slot(source, variant);
+        Entry e = slot.entry;
+        if (e != null) {
+            if (Instant.now().isBefore(e.expiresAt)) {
+                slot.lastAccess = System.nanoTime();
+                hits.increment();
+                return e.info;
+            }
+            if (refreshAhead && request.connection() == null) {
+                // A caller's connection must not outlive its call, so keyed
+                // connection snapshots are always reloaded in the foreground.
+                load(request, slot, true);
+                slot.lastAccess = System.nanoTime();
+                hits.increment();
+                return e.info;
+            }
+        }
+        misses.increment();
+        return await(load(request, slot, false));
+    }
+
+    /**
+     * Brings the snapshot of {@code dataSource} up to date now, regardless of
+     * its expiry. With a change-marker provider an unchanged database costs one
+     * marker read per schema, and a changed one re-reads only the changed
+     * tables and schema objects; otherwise the snapshot is rebuilt. If a load
+     * for {@code dataSource} is already running, its result is returned.
+     *
+     * @return the current snapshot
+     * @throws SQLException on database access error
+     */
+    public MetaInfo refresh(DataSource dataSource) throws SQLException {
+        return await(load(new Request(dataSource, null, null, null), slot(sourceKey(dataSource), PLAIN), false));
+    }
+
+    /**
+     * {@link #refresh(DataSource)} for the snapshot of
+     * {@link #createMetaInfo(DataSource, MetadataProvider, SnapshotOptions)}.
+     */
+    public MetaInfo refresh(DataSource dataSource, MetadataProvider metadataProvider, SnapshotOptions options)
+            throws SQLException {
+        return await(load(new Request(dataSource, null, metadataProvider, options),
+                slot(sourceKey(dataSource), Variant.of(metadataProvider, options)), false));
+    }
+
+    /**
+     * Starts a load of {@code slot} unless one is running, and returns the
+     * running one. A background load runs on its own virtual thread; otherwise
+     * the calling thread runs it.
+     */
+    private CompletableFuture<MetaInfo> load(Request request, Slot slot, boolean background) {
+        CompletableFuture<MetaInfo> mine = new CompletableFuture<>();
+        CompletableFuture<MetaInfo> running = slot.loading.compareAndExchange(null, mine);
+        if (running != null) {
+            return running;
+        }
+        Runnable task = () -> {
+            try {
+                mine.complete(reload(request, slot));
+            } catch (Throwable t) {
+                if (background) {
+                    LOGGER.warn("Background snapshot refresh failed, keeping the previous one", t);
+                }
+                mine.completeExceptionally(t);
+            } finally {
+                slot.loading.compareAndSet(mine, null);
+            }
+        };
+        if (background) {
+            Thread.ofVirtual().name("snapshot-refresh").start(task);
+        } else {
+            task.run();
+        }
+        return mine;
+    }
+
+    private MetaInfo reload(Request request, Slot slot) throws SQLException {
+        Entry e = slot.entry;
+        ChangeMarker marker = null;
+        MetadataProvider markers = request.provider() != null ? request.provider() : changeMarkers;
+        if (markers != null) {
+            Connection connection = request.connection() != null ? request.connection()
+                    : request.dataSource().getConnection();
+            try {
+                try {
+                    marker = readChangeMarker(connection, markers, request.options()).orElse(null);
+                } catch (SQLException ex) {
+                    LOGGER.warn("Reading the change marker failed, reading a full snapshot", ex);
+                }
+                if (e != null && e.marker != null && marker != null) {
+                    // Plain snapshots are refreshed through the empty provider,
+                    // which reads the same rows.
+                    MetadataProvider provider = request.provider() == null ? MetadataProvider.EMPTY
+                            : request.provider();
+                    MetaInfo info = retained(refreshMetaInfo(connection, provider, request.options(), e.info,
+                            e.marker, marker));
+                    store(slot, new Entry(info, Instant.now().plus(ttl), marker));
+                    return info;
+                }
+            } finally {
+                if (request.connection() == null) {
+                    connection.close();
+                }
+            }
         }
-        MetaInfo info = super.createMetaInfo(dataSource);
-        cache.put(dataSource, new Entry(info, now.plus(ttl)));
+        // The marker is read before the snapshot, so changes made while the
+        // snapshot is read show up on the next refresh.
+        MetaInfo info = retained(read(request));
+        store(slot, new Entry(info, Instant.now().plus(ttl), marker));
         return info;
     }
 
-    // createMetaInfo(Connection): inherited unchanged — connections from a
-    // pool aren't stable cache keys.
+    /** {@code info} in the form the cache keeps it in. */
+    private MetaInfo retained(MetaInfo info) {
+        if (!compactSnapshots) {
+            return info;
+        }
+        return new MetaInfoRecord(info.databaseInfo(), ColumnarStructureInfo.of(info.structureInfo()),
+                info.identifierInfo(), info.typeInfos(), ColumnarIndexInfos.of(info.indexInfos()));
+    }
+
+    /** Sets the snapshot of {@code slot} and evicts down to the maximum weight. */
+    private void store(Slot slot, Entry entry) {
+        long weight = MetaInfoWeigher.weigh(entry.info());
+        weightLock.lock();
+        try {
+            slot.entry = entry;
+            slot.lastAccess = System.nanoTime();
+            if (slot.removed) {
+                return;
+            }
+            totalWeight += weight - slot.weight;
+            slot.weight = weight;
+            if (totalWeight > maximumWeight) {
+                evictLeastRecentlyUsed(slot);
+            }
+        } finally {
+            weightLock.unlock();
+        }
+    }
 
-    // createMetaInfo(DataSource, MetadataProvider) and
-    // createMetaInfo(Connection, MetadataProvider): inherited unchanged —
-    // provider-customized snapshots bypass the cache because the same
-    // DataSource can yield different MetaInfo depending on the provider.
+    /**
+     * Evicts snapshots in order of last access until the total weight is within
+     * bounds. {@code keep}, the snapshot just stored, goes last, only when it
+     * alone exceeds the maximum.
+     */
+    private void evictLeastRecentlyUsed(Slot keep) {
+        List<Slot> candidates = new ArrayList<>();
+        for (Map<Variant, Slot> variants : cache.values()) {
+            for (Slot slot : variants.values()) {
+                if (slot != keep && !slot.removed && slot.entry != null) {
+                    candidates.add(slot);
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingLong(slot -> slot.lastAccess));
+        for (int i = 0; i < candidates.size() && totalWeight > maximumWeight; i++) {
+            discard(candidates.get(i), true);
+        }
+        if (totalWeight > maximumWeight) {
+            discard(keep, true);
+        }
+    }
+
+    /** Removes {@code slot} from the cache and its weight from the total. */
+    private void discard(Slot slot, boolean evicted) {
+        weightLock.lock();
+        try {
+            if (slot.removed) {
+                return;
+            }
+            slot.removed = true;
+            totalWeight -= slot.weight;
+            slot.weight = 0;
+            Map<Variant, Slot> variants = cache.get(slot.source);
+            if (variants != null) {
+                variants.remove(slot.variant, slot);
+            }
+            if (evicted && slot.entry != null) {
+                evictions.increment();
+            }
+        } finally {
+            weightLock.unlock();
+        }
+    }
+
+    private MetaInfo read(Request request) throws SQLException {
+        if (request.provider() == null) {
+            return super.createMetaInfo(request.dataSource());
+        }
+        if (request.connection() != null) {
+            return super.createMetaInfo(request.connection(), request.provider(), request.options());
+        }
+        return super.createMetaInfo(request.dataSource(), request.provider(), request.options());
+    }
+
+    private static MetaInfo await(CompletableFuture<MetaInfo> load) throws SQLException {
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("interrupted while waiting for a snapshot load", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sql) {
+                throw sql;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new SQLException(cause);
+        }
+    }
+
+    /**
+     * Seeds the cache for {@code dataSource} from the snapshot last saved under
+     * {@code key}, then revalidates it on a virtual thread and saves the result
+     * back. Until revalidation finishes callers get the stored snapshot; with a
+     * change-marker provider revalidation only re-reads what changed since it
+     * was saved. Without a stored snapshot this is a background cold read.
+     *
+     * @return completes with the revalidated snapshot once it has been saved
+     * @throws IOException if the stored snapshot exists but cannot be read
+     */
+    public CompletableFuture<MetaInfo> warmStart(DataSource dataSource, FileSnapshotStore store, String key)
+            throws IOException {
+        return warmStart(new Request(dataSource, null, null, null), PLAIN, store, key);
+    }
+
+    /**
+     * {@link #warmStart(DataSource, FileSnapshotStore, String)} for the snapshot
+     * of {@link #createMetaInfo(DataSource, MetadataProvider, SnapshotOptions)}.
+     */
+    public CompletableFuture<MetaInfo> warmStart(DataSource dataSource, MetadataProvider metadataProvider,
+            SnapshotOptions options, FileSnapshotStore store, String key) throws IOException {
+        return warmStart(new Request(dataSource, null, metadataProvider, options),
+                Variant.of(metadataProvider, options), store, key);
+    }
+
+    private CompletableFuture<MetaInfo> warmStart(Request request, Variant variant, FileSnapshotStore store,
+            String key) throws IOException {
+        Optional<StoredSnapshot> stored = store.load(key);
+        Slot slot = slot(sourceKey(request.dataSource()), variant);
+        stored.ifPresent(s -> store(slot, new Entry(retained(s.metaInfo()), Instant.now().plus(ttl),
+                s.changeMarker().orElse(null))));
+        return load(request, slot, true).thenApply(info -> {
+            try {
+                save(slot, store, key);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return info;
+        });
+    }
+
+    /**
+     * Saves the cached plain snapshot of {@code dataSource}, with its change
+     * marker, under {@code key}. Does nothing if nothing is cached.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void persist(DataSource dataSource, FileSnapshotStore store, String key) throws IOException {
+        save(existingSlot(dataSource, PLAIN), store, key);
+    }
+
+    /**
+     * {@link #persist(DataSource, FileSnapshotStore, String)} for the snapshot
+     * of {@link #createMetaInfo(DataSource, MetadataProvider, SnapshotOptions)}.
+     */
+    public void persist(DataSource dataSource, MetadataProvider metadataProvider, SnapshotOptions options,
+            FileSnapshotStore store, String key) throws IOException {
+        save(existingSlot(dataSource, Variant.of(metadataProvider, options)), store, key);
+    }
+
+    private static void save(Slot slot, FileSnapshotStore store, String key) throws IOException {
+        Entry e = slot == null ? null : slot.entry;
+        if (e != null) {
+            store.save(key, e.info, e.marker);
+        }
+    }
 
     /** Force-evict all cached snapshots. */
     public void invalidateAll() {
-        cache.clear();
+        for (Object source : cache.keySet()) {
+            discardAll(cache.remove(source));
+        }
     }
 
-    /** Force-evict the snapshot for {@code dataSource} if cached. */
+    /** Force-evict every snapshot cached for {@code dataSource}. */
     public void invalidate(DataSource dataSource) {
-        cache.remove(dataSource);
+        discardAll(cache.remove(new SourceKey(dataSource, null)));
+    }
+
+    /** Force-evict every snapshot cached under {@code sourceKey}. */
+    public void invalidate(String sourceKey) {
+        discardAll(cache.remove(sourceKey));
+    }
+
+    private void discardAll(Map<Variant, Slot> variants) {
+        if (variants != null) {
+            variants.values().forEach(slot -> discard(slot, false));
+        }
+    }
+
+    /**
+     * Drops snapshots past their expiry that no load is replacing, and sources
+     * left without snapshots. Expired snapshots are otherwise kept until their
+     * next access, when they are reloaded.
+     */
+    public void evictExpired() {
+        expungeCollected();
+        Instant now = Instant.now();
+        for (Map<Variant, Slot> variants : cache.values()) {
+            for (Slot slot : variants.values()) {
+                Entry e = slot.entry;
+                if (slot.loading.get() == null && (e == null || !now.isBefore(e.expiresAt))) {
+                    discard(slot, e != null);
+                }
+            }
+        }
+        cache.values().removeIf(Map::isEmpty);
     }
 
     /** Best-effort entry count for diagnostics. May undercount under concurrent eviction. */
     public int approximateSize() {
-        return cache.size();
+        expungeCollected();
+        int size = 0;
+        for (Map<Variant, Slot> variants : cache.values()) {
+            for (Slot slot : variants.values()) {
+                if (slot.entry != null) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+
+    /** @return a snapshot of the counters and the current weight */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), approximateSize(), totalWeight);
+    }
+
+    private Object sourceKey(DataSource dataSource) {
+        return new SourceKey(Objects.requireNonNull(dataSource, "dataSource"), collected);
+    }
+
+    private Slot slot(Object source, Variant variant) {
+        expungeCollected();
+        Map<Variant, Slot> variants = cache.get(source);
+        if (variants == null) {
+            variants = cache.computeIfAbsent(source, k -> new ConcurrentHashMap<>());
+        }
+        return variants.computeIfAbsent(variant, v -> new Slot(source, v));
+    }
+
+    private Slot existingSlot(DataSource dataSource, Variant variant) {
+        Map<Variant, Slot> variants = cache.get(new SourceKey(dataSource, null));
+        return variants == null ? null : variants.get(variant);
+    }
+
+    private void expungeCollected() {
+        for (Reference<? extends DataSource> ref; (ref = collected.poll()) != null;) {
+            discardAll(cache.remove(ref));
+        }
     }
 }
@@ -20,15 +20,30 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javax.sql.DataSource;
 
 import org.eclipse.daanse.sql.jdbc.api.DatabaseService;
+import org.eclipse.daanse.sql.jdbc.api.RowCallback;
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.SnapshotVisitor;
+import org.eclipse.daanse.sql.jdbc.api.StreamingSnapshotBuilder;
 import org.eclipse.daanse.sql.jdbc.api.schema.BestRowIdentifier;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
@@ -44,12 +59,15 @@ import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedTypeReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.VersionColumn;
 import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
 import org.eclipse.daanse.sql.jdbc.api.meta.DatabaseInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IdentifierInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo.Section;
+import org.eclipse.daanse.sql.jdbc.api.meta.TableSnapshot;
 import org.eclipse.daanse.sql.jdbc.api.meta.TypeInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.TypeInfo.Nullable;
 import org.eclipse.daanse.sql.jdbc.api.meta.TypeInfo.Searchable;
@@ -70,9 +88,11 @@ import org.eclipse.daanse.sql.model.schema.SchemaReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
 import org.eclipse.daanse.sql.jdbc.api.schema.TableMetaData;
 import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.jdbc.record.meta.ChangeMarkerRecord;
 import org.eclipse.daanse.sql.jdbc.record.meta.DatabaseInfoRecord;
 import org.eclipse.daanse.sql.jdbc.record.meta.IdentifierInfoRecord;
 import org.eclipse.daanse.sql.jdbc.record.meta.MetaInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.ReferenceInterner;
 import org.eclipse.daanse.sql.jdbc.record.meta.StructureInfoRecord;
 import org.eclipse.daanse.sql.jdbc.record.meta.TypeInfoRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.BestRowIdentifierRecord;
@@ -100,8 +120,8 @@ import org.osgi.service.component.annotations.ServiceScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-@Component(service = DatabaseService.class, scope = ServiceScope.SINGLETON)
-public class DatabaseServiceImpl implements DatabaseService {
+@Component(service = { DatabaseService.class, StreamingSnapshotBuilder.class }, scope = ServiceScope.SINGLETON)
+public class DatabaseServiceImpl implements DatabaseService, StreamingSnapshotBuilder {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseServiceImpl.class);
 
@@ -116,13 +136,56 @@ public class DatabaseServiceImpl implements DatabaseService {
     private static final int INDEX_PAGES = 12;
     private static final int INDEX_FILTER_CONDITION = 13;
 
+    /** Sections keyed by table, re-read for tables whose stamp moved. */
+    private static final Set<Section> TABLE_SECTIONS = EnumSet.of(Section.TABLES, Section.COLUMNS,
+            Section.IMPORTED_KEYS, Section.PRIMARY_KEYS, Section.INDEX_INFOS, Section.TRIGGERS,
+            Section.CHECK_CONSTRAINTS, Section.UNIQUE_CONSTRAINTS, Section.VIEW_DEFINITIONS,
+            Section.MATERIALIZED_VIEWS, Section.PARTITIONS);
+
+    /** Sections keyed by schema, re-read for schemas whose object stamp moved. */
+    private static final Set<Section> OBJECT_SECTIONS = EnumSet.of(Section.TRIGGERS, Section.SEQUENCES,
+            Section.USER_DEFINED_TYPES, Section.PROCEDURES, Section.FUNCTIONS);
+
     private static final int[] RESULT_SET_TYPE_VALUES = { ResultSet.TYPE_FORWARD_ONLY,
             ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.TYPE_SCROLL_SENSITIVE };
 
     private static final int[] CONCURRENCY_VALUES = { ResultSet.CONCUR_READ_ONLY, ResultSet.CONCUR_UPDATABLE };
 
+    /**
+     * Upper bound on the pooled connections one {@link DataSource} snapshot may
+     * hold at the same time; {@code 1} reads every section on a single
+     * connection.
+     */
+    private final int snapshotParallelism;
+
+    public DatabaseServiceImpl() {
+        this(1);
+    }
+
+    /**
+     * @param snapshotParallelism maximum number of connections the
+     *                            {@link DataSource} overloads borrow concurrently
+     *                            to read independent sections (tables, columns,
+     *                            indexes, keys, triggers, ...) in parallel on
+     *                            virtual threads; {@code 1} keeps the sequential
+     *                            single-connection read
+     */
+    public DatabaseServiceImpl(int snapshotParallelism) {
+        if (snapshotParallelism < 1) {
+            throw new IllegalArgumentException("snapshotParallelism must be >= 1: " + snapshotParallelism);
+        }
+        this.snapshotParallelism = snapshotParallelism;
+    }
+
     @Override
     public MetaInfo createMetaInfo(DataSource dataSource) throws SQLException {
+        if (snapshotParallelism > 1) {
+            // The empty provider yields exactly the plain JDBC snapshot, but
+            // through the sectioned reader.
+            try (SectionLoader loader = SectionLoader.parallel(dataSource, snapshotParallelism)) {
+                return readMetaInfoWithProvider(loader, MetadataProvider.EMPTY, SnapshotScope.ALL);
+            }
+        }
         try (Connection connection = dataSource.getConnection()) {
             return createMetaInfo(connection);
         }
@@ -142,6 +205,11 @@ public class DatabaseServiceImpl implements DatabaseService {
      */
     @Override
     public MetaInfo createMetaInfo(DataSource dataSource, MetadataProvider metadataProvider) throws SQLException {
+        if (snapshotParallelism > 1) {
+            try (SectionLoader loader = SectionLoader.parallel(dataSource, snapshotParallelism)) {
+                return readMetaInfoWithProvider(loader, metadataProvider, SnapshotScope.ALL);
+            }
+        }
         try (Connection connection = dataSource.getConnection()) {
             return createMetaInfo(connection, metadataProvider);
         }
@@ -159,77 +227,499 @@ public class DatabaseServiceImpl implements DatabaseService {
         return readMetaInfoWithProvider(connection, databaseMetaData, metadataProvider);
     }
 
-    protected MetaInfo readMetaInfoWithProvider(Connection connection, DatabaseMetaData databaseMetaData,
-            MetadataProvider provider) throws SQLException {
+    @Override
+    public MetaInfo createMetaInfo(DataSource dataSource, SnapshotOptions options) throws SQLException {
+        return createMetaInfo(dataSource, MetadataProvider.EMPTY, options);
+    }
 
-        // Standard metadata (always via JDBC)
-        DatabaseInfo databaseInfo = readDatabaseInfo(databaseMetaData);
-        IdentifierInfo identifierInfo = readIdentifierInfo(databaseMetaData);
-        List<TypeInfo> typeInfos = getTypeInfo(databaseMetaData);
+    @Override
+    public MetaInfo createMetaInfo(Connection connection, SnapshotOptions options) throws SQLException {
+        return createMetaInfo(connection, MetadataProvider.EMPTY, options);
+    }
 
-        // Tables, columns, catalogs, schemas (always via JDBC as the base)
-        List<CatalogReference> catalogs = getCatalogs(databaseMetaData);
-        List<SchemaReference> schemas = getSchemas(databaseMetaData);
-        List<TableDefinition> tables = getTableDefinitions(databaseMetaData);
-        // BULK: Columns — dialect-optimized when supported (Oracle's ALL_TAB_COLS
-        // avoids the COLUMN_DEF LONG quirk that breaks DatabaseMetaData.getColumns).
-        List<ColumnDefinition> columns;
-        Optional<List<ColumnDefinition>> providerColumns =
-                provider.getAllColumnDefinitions(connection, null, null, null, null);
-        if (providerColumns.isPresent()) {
-            columns = providerColumns.get();
-        } else {
-            columns = getColumnDefinitions(databaseMetaData);
+    @Override
+    public MetaInfo createMetaInfo(DataSource dataSource, MetadataProvider metadataProvider, SnapshotOptions options)
+            throws SQLException {
+        if (snapshotParallelism > 1) {
+            try (SectionLoader loader = SectionLoader.parallel(dataSource, snapshotParallelism)) {
+                return readMetaInfoWithProvider(loader, metadataProvider, SnapshotScope.of(options));
+            }
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            return createMetaInfo(connection, metadataProvider, options);
         }
+    }
 
-        // BULK: Indexes — dialect-optimized or fallback to per-table JDBC
-        List<IndexInfo> indexInfos;
-        Optional<List<IndexInfo>> providerIndexes = provider.getAllIndexInfo(connection, null, null);
-        if (providerIndexes.isPresent()) {
-            indexInfos = providerIndexes.get();
-        } else {
-            indexInfos = getIndexInfo(databaseMetaData);
+    @Override
+    public MetaInfo createMetaInfo(Connection connection, MetadataProvider metadataProvider, SnapshotOptions options)
+            throws SQLException {
+        try (SectionLoader loader = SectionLoader.sequential(connection)) {
+            return readMetaInfoWithProvider(loader, metadataProvider, SnapshotScope.of(options));
         }
+    }
 
-        // BULK: PrimaryKeys — dialect-optimized or fallback to per-table JDBC
-        List<PrimaryKey> primaryKeys;
-        Optional<List<PrimaryKey>> providerPKs = provider.getAllPrimaryKeys(connection, null, null);
-        if (providerPKs.isPresent()) {
-            primaryKeys = providerPKs.get();
-        } else {
-            primaryKeys = new ArrayList<>();
-            for (TableDefinition tableDefinition : tables) {
-                PrimaryKey pk = getPrimaryKey(databaseMetaData, tableDefinition.table());
-                if (pk != null) {
-                    primaryKeys.add(pk);
+    @Override
+    public void visitSnapshot(Connection connection, MetadataProvider metadataProvider, SnapshotOptions options,
+            SnapshotVisitor visitor) throws SQLException {
+        SnapshotScope scope = SnapshotScope.of(options);
+        DatabaseMetaData databaseMetaData = connection.getMetaData();
+        if (scope.reads(Section.CATALOGS)) {
+            for (CatalogReference catalog : getCatalogs(databaseMetaData)) {
+                if (scope.acceptsCatalog(catalog.name())) {
+                    visitor.visitCatalog(catalog);
                 }
             }
         }
+        List<SchemaReference> schemas = scope.filterBySchema(getSchemas(databaseMetaData), Optional::of);
+        if (scope.reads(Section.SCHEMAS)) {
+            for (SchemaReference schema : schemas) {
+                visitor.visitSchema(schema);
+            }
+        }
+        for (SnapshotScope.Scope pair : schemaScopes(scope, () -> schemas)) {
+            new SchemaWalk(connection, metadataProvider, scope, pair, visitor).run();
+        }
+    }
 
-        // BULK: ImportedKeys — dialect-optimized or fallback to per-table JDBC
-        List<ImportedKey> importedKeys;
-        Optional<List<ImportedKey>> providerFKs = provider.getAllImportedKeys(connection, null, null);
-        if (providerFKs.isPresent()) {
-            importedKeys = providerFKs.get();
-        } else {
-            importedKeys = new ArrayList<>();
-            for (TableDefinition tableDefinition : tables) {
-                importedKeys.addAll(getImportedKeys(databaseMetaData, tableDefinition.table()));
+    @Override
+    public Flow.Publisher<TableSnapshot> publishSnapshot(DataSource dataSource, MetadataProvider metadataProvider,
+            SnapshotOptions options) {
+        return new SnapshotPublisher(this, dataSource, metadataProvider, options);
+    }
+
+    /**
+     * Streams one schema of {@link #visitSnapshot}. The schema's keys, indexes
+     * and constraints are read in bulk up front (through the JDBC fan-out when
+     * the provider has no bulk read); its columns are then streamed and each
+     * table is closed as soon as the column rows move on to the next one.
+     */
+    private final class SchemaWalk implements RowCallback<ColumnDefinition> {
+
+        private final Connection connection;
+        private final DatabaseMetaData databaseMetaData;
+        private final MetadataProvider provider;
+        private final SnapshotScope scope;
+        private final SnapshotScope.Scope pair;
+        private final SnapshotVisitor visitor;
+        /** Tables of the schema not yet visited, in table-read order. */
+        private final Map<TableKey, TableDefinition> pending = new LinkedHashMap<>();
+
+        /** Per-table rows of the bulk reads, all read before the column stream opens. */
+        private Map<TableKey, List<PrimaryKey>> primaryKeys = Map.of();
+        private Map<TableKey, List<ImportedKey>> importedKeys = Map.of();
+        private Map<TableKey, List<IndexInfo>> indexInfos = Map.of();
+        private Map<TableKey, List<Trigger>> triggers = Map.of();
+        private Map<TableKey, List<CheckConstraint>> checkConstraints = Map.of();
+        private Map<TableKey, List<UniqueConstraint>> uniqueConstraints = Map.of();
+        private Map<TableKey, List<org.eclipse.daanse.sql.jdbc.api.schema.Partition>> partitions = Map.of();
+
+        private TableKey currentKey;
+        private TableDefinition currentTable;
+
+        SchemaWalk(Connection connection, MetadataProvider provider, SnapshotScope scope, SnapshotScope.Scope pair,
+                SnapshotVisitor visitor) throws SQLException {
+            this.connection = connection;
+            this.databaseMetaData = connection.getMetaData();
+            this.provider = provider;
+            this.scope = scope;
+            this.pair = pair;
+            this.visitor = visitor;
+        }
+
+        void run() throws SQLException {
+            if (readsTableSections()) {
+                readTables();
+                readBulkSections();
+                if (scope.reads(Section.COLUMNS)) {
+                    boolean streamed = false;
+                    for (String tablePattern : scope.tablePatterns()) {
+                        streamed = provider.forEachColumnDefinition(connection, pair.catalog(), pair.schema(),
+                                tablePattern, null, this);
+                        if (!streamed) {
+                            break;
+                        }
+                    }
+                    if (!streamed) {
+                        for (String tablePattern : scope.tablePatterns()) {
+                            forEachColumnDefinition(databaseMetaData, pair.catalog(), pair.schema(), tablePattern,
+                                    null, this);
+                        }
+                    }
+                }
+                closeCurrentTable();
+                // Tables without (selected) columns.
+                for (TableDefinition table : List.copyOf(pending.values())) {
+                    if (openTable(table)) {
+                        closeCurrentTable();
+                    }
+                }
+                pending.clear();
+            }
+            visitSchemaObjects();
+        }
+
+        @Override
+        public void accept(ColumnDefinition column) throws SQLException {
+            TableKey key = TableKey.of(column.column().table().orElse(null));
+            if (key == null) {
+                return;
+            }
+            if (!key.equals(currentKey)) {
+                closeCurrentTable();
+                currentKey = key;
+                TableDefinition table = pending.remove(key);
+                if (table == null || !visitor.visitTable(table)) {
+                    // Out of scope, already visited, or skipped by the visitor.
+                    return;
+                }
+                currentTable = table;
+            }
+            if (currentTable != null) {
+                visitor.visitColumn(column);
+            }
+        }
+
+        private boolean readsTableSections() {
+            for (Section section : TABLE_SECTIONS) {
+                if (scope.reads(section)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void readTables() throws SQLException {
+            for (String tablePattern : scope.tablePatterns()) {
+                for (TableDefinition table : readTableDefinitions(connection, provider, pair.catalog(),
+                        pair.schema(), tablePattern)) {
+                    TableKey key = TableKey.of(table.table());
+                    // Schema names are patterns too; keep only the exact schema.
+                    boolean inSchema = pair.schema() == null || pair.schema().equals(key.schema());
+                    if (inSchema && scope.acceptsTable(table.table())) {
+                        pending.putIfAbsent(key, table);
+                    }
+                }
+            }
+        }
+
+        private void readBulkSections() throws SQLException {
+            String catalog = pair.catalog();
+            String schema = pair.schema();
+            // Without a provider bulk read the JDBC fallback fans out over the
+            // pending tables now: nothing may query this connection once the
+            // column stream is open.
+            List<TableReference> tables = pending.values().stream().map(TableDefinition::table).toList();
+            if (scope.reads(Section.PRIMARY_KEYS)) {
+                List<PrimaryKey> rows = provider.getAllPrimaryKeys(connection, catalog, schema).orElse(null);
+                if (rows == null) {
+                    rows = fanOut(databaseMetaData, tables, TableFanOut.Read.PRIMARY_KEYS,
+                            DatabaseServiceImpl.this::readPrimaryKeys);
+                }
+                primaryKeys = byTable(rows, PrimaryKey::table);
+            }
+            if (scope.reads(Section.IMPORTED_KEYS)) {
+                List<ImportedKey> rows = provider.getAllImportedKeys(connection, catalog, schema).orElse(null);
+                if (rows == null) {
+                    rows = fanOut(databaseMetaData, tables, TableFanOut.Read.IMPORTED_KEYS,
+                            DatabaseServiceImpl.this::readImportedKeys);
+                }
+                importedKeys = byTable(rows, fk -> fk.foreignKeyColumn().table().orElse(null));
+            }
+            if (scope.reads(Section.INDEX_INFOS)) {
+                List<IndexInfo> rows = provider.getAllIndexInfo(connection, catalog, schema).orElse(null);
+                if (rows == null) {
+                    rows = getIndexInfo(databaseMetaData, tables);
+                }
+                indexInfos = byTable(rows, IndexInfo::tableReference);
+            }
+            if (scope.reads(Section.TRIGGERS)) {
+                boolean definitions = scope.reads(Section.DEFINITIONS);
+                triggers = byTable(identities(provider.getAllTriggers(connection, catalog, schema, definitions),
+                        definitions, DefinitionLoader::identity), Trigger::table);
+            }
+            if (scope.reads(Section.CHECK_CONSTRAINTS)) {
+                checkConstraints = byTable(provider.getAllCheckConstraints(connection, catalog, schema),
+                        CheckConstraint::table);
+            }
+            if (scope.reads(Section.UNIQUE_CONSTRAINTS)) {
+                uniqueConstraints = byTable(provider.getAllUniqueConstraints(connection, catalog, schema),
+                        UniqueConstraint::table);
+            }
+            if (scope.reads(Section.PARTITIONS)) {
+                partitions = byTable(provider.getAllPartitions(connection, catalog, schema),
+                        org.eclipse.daanse.sql.jdbc.api.schema.Partition::table);
+            }
+        }
+
+        private boolean openTable(TableDefinition table) throws SQLException {
+            currentKey = TableKey.of(table.table());
+            currentTable = visitor.visitTable(table) ? table : null;
+            return currentTable != null;
+        }
+
+        private void closeCurrentTable() throws SQLException {
+            TableDefinition table = currentTable;
+            TableKey key = currentKey;
+            currentTable = null;
+            currentKey = null;
+            if (table == null) {
+                return;
+            }
+            for (PrimaryKey pk : primaryKeys.getOrDefault(key, List.of())) {
+                visitor.visitPrimaryKey(pk);
+            }
+            for (ImportedKey fk : importedKeys.getOrDefault(key, List.of())) {
+                visitor.visitImportedKey(fk);
+            }
+            for (IndexInfo indexInfo : indexInfos.getOrDefault(key, List.of())) {
+                visitor.visitIndexInfo(indexInfo);
+            }
+            for (Trigger trigger : triggers.getOrDefault(key, List.of())) {
+                visitor.visitTrigger(trigger);
+            }
+            for (CheckConstraint checkConstraint : checkConstraints.getOrDefault(key, List.of())) {
+                visitor.visitCheckConstraint(checkConstraint);
+            }
+            for (UniqueConstraint uniqueConstraint : uniqueConstraints.getOrDefault(key, List.of())) {
+                visitor.visitUniqueConstraint(uniqueConstraint);
+            }
+            for (org.eclipse.daanse.sql.jdbc.api.schema.Partition partition : partitions.getOrDefault(key,
+                    List.of())) {
+                visitor.visitPartition(partition);
+            }
+            visitor.endTable(table);
+        }
+
+        private void visitSchemaObjects() throws SQLException {
+            String catalog = pair.catalog();
+            String schema = pair.schema();
+            boolean definitions = scope.reads(Section.DEFINITIONS);
+            if (scope.reads(Section.SEQUENCES)) {
+                for (Sequence sequence : scope.filterBySchema(provider.getAllSequences(connection, catalog, schema),
+                        Sequence::schema)) {
+                    visitor.visitSequence(sequence);
+                }
+            }
+            if (scope.reads(Section.VIEW_DEFINITIONS)) {
+                for (ViewDefinition view : scope.filterByTable(
+                        provider.getAllViewDefinitions(connection, catalog, schema, definitions),
+                        ViewDefinition::view)) {
+                    visitor.visitViewDefinition(definitions ? view : DefinitionLoader.identity(view));
+                }
+            }
+            if (scope.reads(Section.MATERIALIZED_VIEWS)) {
+                for (MaterializedView view : scope.filterByTable(
+                        provider.getAllMaterializedViews(connection, catalog, schema, definitions),
+                        MaterializedView::view)) {
+                    visitor.visitMaterializedView(definitions ? view : DefinitionLoader.identity(view));
+                }
+            }
+            if (scope.reads(Section.USER_DEFINED_TYPES)) {
+                for (UserDefinedType type : scope.filterBySchema(
+                        provider.getAllUserDefinedTypes(connection, catalog, schema), UserDefinedType::schema)) {
+                    visitor.visitUserDefinedType(type);
+                }
             }
+            if (scope.reads(Section.PROCEDURES)) {
+                for (Procedure procedure : scope.filterBySchema(
+                        provider.getAllProcedures(connection, catalog, schema, definitions),
+                        p -> p.reference().schema())) {
+                    visitor.visitProcedure(definitions ? procedure : DefinitionLoader.identity(procedure));
+                }
+            }
+            if (scope.reads(Section.FUNCTIONS)) {
+                for (Function function : scope.filterBySchema(
+                        provider.getAllFunctions(connection, catalog, schema, definitions),
+                        f -> f.reference().schema())) {
+                    visitor.visitFunction(definitions ? function : DefinitionLoader.identity(function));
+                }
+            }
+        }
+
+        private <T> Map<TableKey, List<T>> byTable(List<T> rows,
+                java.util.function.Function<T, TableReference> tableOf) {
+            Map<TableKey, List<T>> grouped = new HashMap<>();
+            for (T row : rows) {
+                TableKey key = TableKey.of(tableOf.apply(row));
+                if (key != null && pending.containsKey(key)) {
+                    grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+                }
+            }
+            return grouped;
         }
+    }
+
+    protected MetaInfo readMetaInfoWithProvider(Connection connection, DatabaseMetaData databaseMetaData,
+            MetadataProvider provider) throws SQLException {
+        try (SectionLoader loader = SectionLoader.sequential(connection)) {
+            return readMetaInfoWithProvider(loader, provider, SnapshotScope.ALL);
+        }
+    }
+
+    private MetaInfo readMetaInfoWithProvider(SectionLoader loader, MetadataProvider provider, SnapshotScope scope)
+            throws SQLException {
+
+        // Standard metadata (always via JDBC)
+        SectionLoader.Section<DatabaseInfo> databaseInfoSection =
+                loader.submit(c -> readDatabaseInfo(c.getMetaData()));
+        SectionLoader.Section<IdentifierInfo> identifierInfoSection =
+                loader.submit(c -> readIdentifierInfo(c.getMetaData()));
+        SectionLoader.Section<List<TypeInfo>> typeInfoSection = loader.submit(c -> getTypeInfo(c.getMetaData()));
+
+        StructureRead structure = readStructure(loader, provider, scope);
+        return new MetaInfoRecord(databaseInfoSection.get(), structure.structureInfo(), identifierInfoSection.get(),
+                typeInfoSection.get(), structure.indexInfos());
+    }
+
+    /** The scoped part of a snapshot: everything except database, identifier and type info. */
+    private record StructureRead(StructureInfo structureInfo, List<IndexInfo> indexInfos) {}
+
+    private StructureRead readStructure(SectionLoader loader, MetadataProvider provider, SnapshotScope scope)
+            throws SQLException {
+        ReferenceInterner interner = new ReferenceInterner();
+        // Tables, columns, catalogs, schemas. Tables and columns come from the
+        // provider's bulk reads where it has them, otherwise from JDBC. The
+        // scope's catalogs, schemas and table patterns are pushed into every
+        // read; exclusions are dropped from the returned rows. Sections the
+        // scope does not select are not read at all.
+        SectionLoader.Section<List<CatalogReference>> catalogSection = submitIf(loader,
+                scope.reads(Section.CATALOGS), c -> {
+                    List<CatalogReference> catalogs = getCatalogs(c.getMetaData());
+                    return scope.isUnrestricted() ? catalogs
+                            : catalogs.stream().filter(cat -> scope.acceptsCatalog(cat.name())).toList();
+                });
+        SectionLoader.Section<List<SchemaReference>> schemaSection = submitIf(loader, scope.reads(Section.SCHEMAS),
+                c -> scope.filterBySchema(getSchemas(c.getMetaData()), Optional::of));
+        SectionLoader.SectionTask<List<TableDefinition>> tableRead = c -> scope.filterByTable(
+                readInScope(scope, true, (cat, sch, tbl) -> readTableDefinitions(c, provider, cat, sch, tbl)),
+                TableDefinition::table);
+        SectionLoader.Section<List<TableDefinition>> tableSection = submitIf(loader, scope.reads(Section.TABLES),
+                tableRead);
+        // BULK: Columns — dialect-optimized when supported (Oracle's ALL_TAB_COLS
+        // avoids the COLUMN_DEF LONG quirk that breaks DatabaseMetaData.getColumns).
+        SectionLoader.Section<List<ColumnDefinition>> columnSection = submitIf(loader, scope.reads(Section.COLUMNS),
+                c -> {
+                    Optional<List<ColumnDefinition>> providerColumns = readOptionalInScope(scope, true,
+                            (cat, sch, tbl) -> provider.getAllColumnDefinitions(c, cat, sch, tbl, null));
+                    List<ColumnDefinition> columns;
+                    if (providerColumns.isPresent()) {
+                        columns = providerColumns.get();
+                    } else {
+                        DatabaseMetaData databaseMetaData = c.getMetaData();
+                        columns = readInScope(scope, true,
+                                (cat, sch, tbl) -> getColumnDefinitions(databaseMetaData, cat, sch, tbl, null));
+                    }
+                    // the widest section: interned as soon as it is read, so
+                    // the reader's own copies are not held while the rest
+                    // loads. This task is the only one to use the interner
+                    // before the sections are joined, so it needs no lock.
+                    return interner.columnDefinitions(scope.filterByTable(columns,
+                            cd -> cd.column().table().orElse(null)));
+                });
+
+        // BULK: Indexes / PrimaryKeys / ImportedKeys — dialect-optimized; the
+        // per-table JDBC fallback needs the table list and is scheduled once
+        // that is loaded. An unselected section counts as answered (empty).
+        Optional<List<IndexInfo>> skippedIndexes = Optional.of(List.of());
+        SectionLoader.Section<Optional<List<IndexInfo>>> providerIndexSection = scope.reads(Section.INDEX_INFOS)
+                ? loader.submit(c -> readOptionalInScope(scope, false,
+                        (cat, sch, tbl) -> provider.getAllIndexInfo(c, cat, sch)))
+                : () -> skippedIndexes;
+        Optional<List<PrimaryKey>> skippedPKs = Optional.of(List.of());
+        SectionLoader.Section<Optional<List<PrimaryKey>>> providerPKSection = scope.reads(Section.PRIMARY_KEYS)
+                ? loader.submit(c -> readOptionalInScope(scope, false,
+                        (cat, sch, tbl) -> provider.getAllPrimaryKeys(c, cat, sch)))
+                : () -> skippedPKs;
+        Optional<List<ImportedKey>> skippedFKs = Optional.of(List.of());
+        SectionLoader.Section<Optional<List<ImportedKey>>> providerFKSection = scope.reads(Section.IMPORTED_KEYS)
+                ? loader.submit(c -> readOptionalInScope(scope, false,
+                        (cat, sch, tbl) -> provider.getAllImportedKeys(c, cat, sch)))
+                : () -> skippedFKs;
 
         // NEW metadata — only via dialect, no JDBC fallback needed
-        List<Trigger> triggers = provider.getAllTriggers(connection, null, null);
-        List<Sequence> sequences = provider.getAllSequences(connection, null, null);
-        List<CheckConstraint> checkConstraints = provider.getAllCheckConstraints(connection, null, null);
-        List<UniqueConstraint> uniqueConstraints = provider.getAllUniqueConstraints(connection, null, null);
-        List<UserDefinedType> userDefinedTypes = provider.getAllUserDefinedTypes(connection, null, null);
-        List<ViewDefinition> viewDefinitions = provider.getAllViewDefinitions(connection, null, null);
-        List<Procedure> procedures = provider.getAllProcedures(connection, null, null);
-        List<Function> functions = provider.getAllFunctions(connection, null, null);
-        List<MaterializedView> materializedViews = provider.getAllMaterializedViews(connection, null, null);
-        List<org.eclipse.daanse.sql.jdbc.api.schema.Partition> partitions =
-                provider.getAllPartitions(connection, null, null);
+        boolean definitions = scope.reads(Section.DEFINITIONS);
+        SectionLoader.Section<List<Trigger>> triggerSection = submitIf(loader, scope.reads(Section.TRIGGERS),
+                c -> identities(scope.filterByTable(
+                        readInScope(scope, false,
+                                (cat, sch, tbl) -> provider.getAllTriggers(c, cat, sch, definitions)),
+                        Trigger::table), definitions, DefinitionLoader::identity));
+        SectionLoader.Section<List<Sequence>> sequenceSection = submitIf(loader, scope.reads(Section.SEQUENCES),
+                c -> scope.filterBySchema(
+                        readInScope(scope, false, (cat, sch, tbl) -> provider.getAllSequences(c, cat, sch)),
+                        Sequence::schema));
+        SectionLoader.Section<List<CheckConstraint>> checkConstraintSection = submitIf(loader,
+                scope.reads(Section.CHECK_CONSTRAINTS), c -> scope.filterByTable(
+                        readInScope(scope, false, (cat, sch, tbl) -> provider.getAllCheckConstraints(c, cat, sch)),
+                        CheckConstraint::table));
+        SectionLoader.Section<List<UniqueConstraint>> uniqueConstraintSection = submitIf(loader,
+                scope.reads(Section.UNIQUE_CONSTRAINTS), c -> scope.filterByTable(
+                        readInScope(scope, false, (cat, sch, tbl) -> provider.getAllUniqueConstraints(c, cat, sch)),
+                        UniqueConstraint::table));
+        SectionLoader.Section<List<UserDefinedType>> userDefinedTypeSection = submitIf(loader,
+                scope.reads(Section.USER_DEFINED_TYPES), c -> scope.filterBySchema(
+                        readInScope(scope, false, (cat, sch, tbl) -> provider.getAllUserDefinedTypes(c, cat, sch)),
+                        UserDefinedType::schema));
+        SectionLoader.Section<List<ViewDefinition>> viewDefinitionSection = submitIf(loader,
+                scope.reads(Section.VIEW_DEFINITIONS), c -> identities(scope.filterByTable(
+                        readInScope(scope, false,
+                                (cat, sch, tbl) -> provider.getAllViewDefinitions(c, cat, sch, definitions)),
+                        ViewDefinition::view), definitions, DefinitionLoader::identity));
+        SectionLoader.Section<List<Procedure>> procedureSection = submitIf(loader, scope.reads(Section.PROCEDURES),
+                c -> identities(scope.filterBySchema(
+                        readInScope(scope, false,
+                                (cat, sch, tbl) -> provider.getAllProcedures(c, cat, sch, definitions)),
+                        p -> p.reference().schema()), definitions, DefinitionLoader::identity));
+        SectionLoader.Section<List<Function>> functionSection = submitIf(loader, scope.reads(Section.FUNCTIONS),
+                c -> identities(scope.filterBySchema(
+                        readInScope(scope, false,
+                                (cat, sch, tbl) -> provider.getAllFunctions(c, cat, sch, definitions)),
+                        f -> f.reference().schema()), definitions, DefinitionLoader::identity));
+        SectionLoader.Section<List<MaterializedView>> materializedViewSection = submitIf(loader,
+                scope.reads(Section.MATERIALIZED_VIEWS), c -> identities(scope.filterByTable(
+                        readInScope(scope, false,
+                                (cat, sch, tbl) -> provider.getAllMaterializedViews(c, cat, sch, definitions)),
+                        MaterializedView::view), definitions, DefinitionLoader::identity));
+        SectionLoader.Section<List<org.eclipse.daanse.sql.jdbc.api.schema.Partition>> partitionSection = submitIf(
+                loader, scope.reads(Section.PARTITIONS), c -> scope.filterByTable(
+                        readInScope(scope, false, (cat, sch, tbl) -> provider.getAllPartitions(c, cat, sch)),
+                        org.eclipse.daanse.sql.jdbc.api.schema.Partition::table));
+
+        Optional<List<IndexInfo>> providerIndexes = providerIndexSection.get();
+        Optional<List<PrimaryKey>> providerPKs = providerPKSection.get();
+        Optional<List<ImportedKey>> providerFKs = providerFKSection.get();
+
+        // The JDBC fallbacks walk the table list even when TABLES itself is not selected.
+        boolean fallbackNeedsTables = providerIndexes.isEmpty() || providerPKs.isEmpty() || providerFKs.isEmpty();
+        List<TableDefinition> readTables = scope.reads(Section.TABLES) || !fallbackNeedsTables ? tableSection.get()
+                : loader.submit(tableRead).get();
+
+        // The fallbacks fan out over the table list already read: one call per
+        // schema where the driver allows it, otherwise per table in batches.
+        List<TableReference> fallbackTables = fallbackNeedsTables
+                ? readTables.stream().map(TableDefinition::table).toList()
+                : List.of();
+        Set<TableFanOut.Read> schemaWide = fallbackNeedsTables
+                ? loader.submit(c -> TableFanOut.schemaWideReads(c.getMetaData())).get()
+                : Set.of();
+
+        SectionLoader.Section<List<IndexInfo>> indexSection = providerIndexes.isPresent()
+                ? () -> scope.filterByTable(providerIndexes.get(), IndexInfo::tableReference)
+                : TableFanOut.read(loader, fallbackTables, schemaWide.contains(TableFanOut.Read.INDEX_INFO),
+                        this::readIndexInfo);
+
+        SectionLoader.Section<List<PrimaryKey>> primaryKeySection = providerPKs.isPresent()
+                ? () -> scope.filterByTable(providerPKs.get(), PrimaryKey::table)
+                : TableFanOut.read(loader, fallbackTables, schemaWide.contains(TableFanOut.Read.PRIMARY_KEYS),
+                        this::readPrimaryKeys);
+
+        SectionLoader.Section<List<ImportedKey>> importedKeySection = providerFKs.isPresent()
+                ? () -> scope.filterByTable(providerFKs.get(), fk -> fk.foreignKeyColumn().table().orElse(null))
+                : TableFanOut.read(loader, fallbackTables, schemaWide.contains(TableFanOut.Read.IMPORTED_KEYS),
+                        this::readImportedKeys);
+
+        List<TableDefinition> tables = scope.reads(Section.TABLES) ? readTables : List.of();
+        List<ViewDefinition> viewDefinitions = viewDefinitionSection.get();
+        List<MaterializedView> materializedViews = materializedViewSection.get();
 
         // Deduplicate materialized views out of tables() and viewDefinitions(): Oracle's
         // JDBC driver reports MVs as TABLE_TYPE='TABLE', PostgreSQL's as
@@ -256,10 +746,327 @@ public class DatabaseServiceImpl implements DatabaseService {
             viewDefinitions = filteredViews;
         }
 
-        StructureInfo structureInfo = new StructureInfoRecord(catalogs, schemas, tables, columns,
-                importedKeys, primaryKeys, triggers, sequences, checkConstraints, uniqueConstraints,
-                userDefinedTypes, viewDefinitions, procedures, functions, materializedViews, partitions);
-        return new MetaInfoRecord(databaseInfo, structureInfo, identifierInfo, typeInfos, indexInfos);
+        // Every reader maps its rows to fresh references; share one instance per
+        // catalog, schema, table and column, and one per distinct column metadata.
+        StructureInfo structureInfo = interner.structure(new StructureInfoRecord(catalogSection.get(),
+                schemaSection.get(), tables, columnSection.get(), importedKeySection.get(), primaryKeySection.get(),
+                triggerSection.get(), sequenceSection.get(), checkConstraintSection.get(),
+                uniqueConstraintSection.get(), userDefinedTypeSection.get(), viewDefinitions, procedureSection.get(),
+                functionSection.get(), materializedViews, partitionSection.get()));
+        return new StructureRead(structureInfo, interner.indexInfos(indexSection.get()));
+    }
+
+    /** Submits {@code task} when its section is selected, otherwise yields an empty list. */
+    private static <T> SectionLoader.Section<List<T>> submitIf(SectionLoader loader, boolean selected,
+            SectionLoader.SectionTask<List<T>> task) throws SQLException {
+        return selected ? loader.submit(task) : List::of;
+    }
+
+    /** One catalog read for a single (catalog, schema, table pattern) slice of a scope. */
+    @FunctionalInterface
+    private interface ScopedRead<R> {
+        R read(String catalog, String schemaPattern, String tableNamePattern) throws SQLException;
+    }
+
+    /**
+     * Runs {@code read} once per pushed-down (catalog, schema) pair of the scope,
+     * and per table pattern too when {@code withTablePatterns} is set. Rows that
+     * overlapping patterns return twice are kept once.
+     */
+    private static <T> List<T> readInScope(SnapshotScope scope, boolean withTablePatterns,
+            ScopedRead<List<T>> read) throws SQLException {
+        return readOptionalInScope(scope, withTablePatterns,
+                (cat, sch, tbl) -> Optional.of(read.read(cat, sch, tbl))).orElseThrow();
+    }
+
+    /**
+     * Like {@link #readInScope}, for provider reads that answer
+     * {@link Optional#empty()} when the caller should fall back to JDBC.
+     */
+    private static <T> Optional<List<T>> readOptionalInScope(SnapshotScope scope, boolean withTablePatterns,
+            ScopedRead<Optional<List<T>>> read) throws SQLException {
+        if (scope.isUnrestricted()) {
+            return read.read(null, null, null);
+        }
+        List<String> tablePatterns = withTablePatterns ? scope.tablePatterns() : Collections.singletonList(null);
+        Set<T> rows = new LinkedHashSet<>();
+        for (SnapshotScope.Scope s : scope.scopes()) {
+            for (String tablePattern : tablePatterns) {
+                Optional<List<T>> part = read.read(s.catalog(), s.schema(), tablePattern);
+                if (part.isEmpty()) {
+                    return Optional.empty();
+                }
+                rows.addAll(part.get());
+            }
+        }
+        return Optional.of(List.copyOf(rows));
+    }
+
+    /**
+     * Reads the provider's {@link ChangeMarker} for every schema a snapshot with
+     * {@code options} covers. Without included schemas the database's schemas
+     * are enumerated, so the marker spans the same tables as the snapshot.
+     *
+     * @param connection the connection (not closed by this method)
+     * @param provider   the dialect-specific metadata provider reporting the stamps
+     * @param options    the scope of the snapshot the marker belongs to, or null
+     * @return the combined marker, or Optional.empty() when the provider cannot
+     *         report changes for one of the schemas
+     * @throws SQLException on database access error
+     */
+    public Optional<ChangeMarker> readChangeMarker(Connection connection, MetadataProvider provider,
+            SnapshotOptions options) throws SQLException {
+        SnapshotScope scope = SnapshotScope.of(options);
+        List<SnapshotScope.Scope> pairs = schemaScopes(scope,
+                () -> scope.filterBySchema(getSchemas(connection.getMetaData()), Optional::of));
+
+        Set<SchemaReference> schemas = new LinkedHashSet<>();
+        Map<TableReference, String> tableStamps = new LinkedHashMap<>();
+        Map<SchemaReference, String> objectStamps = new LinkedHashMap<>();
+        for (SnapshotScope.Scope pair : pairs) {
+            Optional<ChangeMarker> marker = provider.getChangeMarker(connection, pair.catalog(), pair.schema());
+            if (marker.isEmpty()) {
+                return Optional.empty();
+            }
+            schemas.addAll(marker.get().schemas());
+            marker.get().tableStamps().forEach((table, stamp) -> {
+                if (scope.acceptsTable(table)) {
+                    tableStamps.put(table, stamp);
+                }
+            });
+            objectStamps.putAll(marker.get().objectStamps());
+        }
+        return Optional.of(new ChangeMarkerRecord(List.copyOf(schemas), tableStamps, objectStamps));
+    }
+
+    /**
+     * One (catalog, schema) pair per schema the scope covers. Provider reads
+     * take a null schema as the connection's current one, so without included
+     * schemas every schema the database reports is named explicitly.
+     */
+    private static List<SnapshotScope.Scope> schemaScopes(SnapshotScope scope,
+            SectionLoader.Section<List<SchemaReference>> schemas) throws SQLException {
+        if (scope.hasIncludedSchemas()) {
+            return scope.scopes();
+        }
+        List<SnapshotScope.Scope> pairs = new ArrayList<>();
+        for (SchemaReference schema : schemas.get()) {
+            pairs.add(new SnapshotScope.Scope(schema.catalog().map(CatalogReference::name).orElse(null),
+                    schema.name()));
+        }
+        if (pairs.isEmpty()) {
+            // Engines without schemas (MySQL): the connection's database.
+            pairs.add(new SnapshotScope.Scope(null, null));
+        }
+        return pairs;
+    }
+
+    /**
+     * Brings {@code previous} up to date by re-reading only what moved between
+     * the two markers: tables whose stamp changed, appeared or vanished, and
+     * the schema-level objects (sequences, routines, types, triggers) of
+     * schemas whose object stamp changed. Rows of untouched tables are carried
+     * over from {@code previous}; database, identifier and type info are kept.
+     *
+     * @param connection     the connection (not closed by this method)
+     * @param provider       the provider {@code previous} was read with
+     * @param options        the options {@code previous} was read with, or null
+     * @param previous       the snapshot to refresh
+     * @param previousMarker the marker read together with {@code previous}
+     * @param currentMarker  a marker read now, see {@link #readChangeMarker}
+     * @return {@code previous} itself when the markers are equal, otherwise the
+     *         refreshed snapshot
+     * @throws SQLException on database access error
+     */
+    public MetaInfo refreshMetaInfo(Connection connection, MetadataProvider provider, SnapshotOptions options,
+            MetaInfo previous, ChangeMarker previousMarker, ChangeMarker currentMarker) throws SQLException {
+        if (previousMarker.equals(currentMarker)) {
+            return previous;
+        }
+        SnapshotOptions base = options == null ? SnapshotOptions.ALL : options;
+
+        Map<TableKey, String> stampsBefore = stampsByKey(previousMarker);
+        Map<TableKey, String> stampsAfter = stampsByKey(currentMarker);
+        Set<TableKey> replacedTables = new LinkedHashSet<>();
+        Map<String, List<String>> changedTablesBySchema = new LinkedHashMap<>();
+        Set<TableKey> allTables = new LinkedHashSet<>(stampsBefore.keySet());
+        allTables.addAll(stampsAfter.keySet());
+        for (TableKey key : allTables) {
+            if (!Objects.equals(stampsBefore.get(key), stampsAfter.get(key))) {
+                replacedTables.add(key);
+                changedTablesBySchema.computeIfAbsent(key.schema(), k -> new ArrayList<>()).add(key.name());
+            }
+        }
+        Map<String, String> objectsBefore = objectStampsBySchema(previousMarker);
+        Map<String, String> objectsAfter = objectStampsBySchema(currentMarker);
+        Set<String> replacedSchemas = new LinkedHashSet<>(objectsBefore.keySet());
+        replacedSchemas.addAll(objectsAfter.keySet());
+        replacedSchemas.removeIf(schema -> Objects.equals(objectsBefore.get(schema), objectsAfter.get(schema)));
+
+        List<StructureRead> tableParts = new ArrayList<>();
+        List<StructureRead> objectParts = new ArrayList<>();
+        StructureRead schemaPart;
+        try (SectionLoader loader = SectionLoader.sequential(connection)) {
+            for (Map.Entry<String, List<String>> changed : changedTablesBySchema.entrySet()) {
+                SnapshotOptions tableOptions = new SnapshotOptions(base.includeCatalogs(), base.excludeCatalogs(),
+                        List.of(changed.getKey()), base.excludeSchemas(), changed.getValue(), base.excludeTables(),
+                        selected(base, TABLE_SECTIONS));
+                tableParts.add(readStructure(loader, provider, SnapshotScope.of(tableOptions)));
+            }
+            for (String schema : replacedSchemas) {
+                SnapshotOptions objectOptions = new SnapshotOptions(base.includeCatalogs(), base.excludeCatalogs(),
+                        List.of(schema), base.excludeSchemas(), base.includeTables(), base.excludeTables(),
+                        selected(base, OBJECT_SECTIONS));
+                objectParts.add(readStructure(loader, provider, SnapshotScope.of(objectOptions)));
+            }
+            schemaPart = readStructure(loader, provider,
+                    SnapshotScope.of(new SnapshotOptions(base.includeCatalogs(), base.excludeCatalogs(),
+                            base.includeSchemas(), base.excludeSchemas(), base.includeTables(), base.excludeTables(),
+                            selected(base, EnumSet.of(Section.CATALOGS, Section.SCHEMAS)))));
+        }
+        List<StructureRead> allParts = new ArrayList<>(tableParts);
+        allParts.addAll(objectParts);
+
+        StructureInfo p = previous.structureInfo();
+        StructureInfo merged = new StructureInfoRecord(
+                schemaPart.structureInfo().catalogs(),
+                schemaPart.structureInfo().schemas(),
+                replaceByTable(p.tables(), replacedTables, tableParts, StructureInfo::tables, TableDefinition::table),
+                replaceByTable(p.columns(), replacedTables, tableParts, StructureInfo::columns,
+                        cd -> cd.column().table().orElse(null)),
+                replaceByTable(p.importedKeys(), replacedTables, tableParts, StructureInfo::importedKeys,
+                        fk -> fk.foreignKeyColumn().table().orElse(null)),
+                replaceByTable(p.primaryKeys(), replacedTables, tableParts, StructureInfo::primaryKeys,
+                        PrimaryKey::table),
+                replaceRows(p.triggers(), t -> replacedTables.contains(TableKey.of(t.table()))
+                        || replacedSchemas.contains(TableKey.schemaName(t.table().schema())), allParts,
+                        part -> part.structureInfo().triggers()),
+                replaceBySchema(p.sequences(), replacedSchemas, objectParts, StructureInfo::sequences,
+                        Sequence::schema),
+                replaceByTable(p.checkConstraints(), replacedTables, tableParts, StructureInfo::checkConstraints,
+                        CheckConstraint::table),
+                replaceByTable(p.uniqueConstraints(), replacedTables, tableParts, StructureInfo::uniqueConstraints,
+                        UniqueConstraint::table),
+                replaceBySchema(p.userDefinedTypes(), replacedSchemas, objectParts, StructureInfo::userDefinedTypes,
+                        UserDefinedType::schema),
+                replaceByTable(p.viewDefinitions(), replacedTables, tableParts, StructureInfo::viewDefinitions,
+                        ViewDefinition::view),
+                replaceBySchema(p.procedures(), replacedSchemas, objectParts, StructureInfo::procedures,
+                        proc -> proc.reference().schema()),
+                replaceBySchema(p.functions(), replacedSchemas, objectParts, StructureInfo::functions,
+                        fn -> fn.reference().schema()),
+                replaceByTable(p.materializedViews(), replacedTables, tableParts, StructureInfo::materializedViews,
+                        MaterializedView::view),
+                replaceByTable(p.partitions(), replacedTables, tableParts, StructureInfo::partitions,
+                        org.eclipse.daanse.sql.jdbc.api.schema.Partition::table));
+        // each part was interned on its own; share one instance across them
+        // and the rows kept from the previous snapshot
+        ReferenceInterner interner = new ReferenceInterner();
+        StructureInfo structureInfo = interner.structure(merged);
+        List<IndexInfo> indexInfos = interner.indexInfos(replaceRows(previous.indexInfos(),
+                ii -> replacedTables.contains(TableKey.of(ii.tableReference())), tableParts,
+                part -> part.indexInfos()));
+        return new MetaInfoRecord(previous.databaseInfo(), structureInfo, previous.identifierInfo(),
+                previous.typeInfos(), indexInfos);
+    }
+
+    /** {@code rows} as read, or their identities when definitions are not loaded. */
+    private static <T> List<T> identities(List<T> rows, boolean definitions, UnaryOperator<T> identity) {
+        return definitions ? rows : rows.stream().map(identity).toList();
+    }
+
+    private static Set<Section> selected(SnapshotOptions options, Set<Section> sections) {
+        EnumSet<Section> selected = EnumSet.copyOf(sections);
+        selected.retainAll(options.sections());
+        // DEFINITIONS changes how the other sections are read, not what.
+        if (options.includes(Section.DEFINITIONS)) {
+            selected.add(Section.DEFINITIONS);
+        }
+        return selected;
+    }
+
+    /**
+     * Schema and table name of a table. The catalog is left out because
+     * providers report schemas without one while JDBC reports it; engines that
+     * only have catalogs (MySQL) use the catalog as schema.
+     */
+    record TableKey(String schema, String name) {
+
+        static TableKey of(TableReference table) {
+            return table == null ? null : new TableKey(schemaName(table.schema()), table.name());
+        }
+
+        /** Key of a JDBC result row from its catalog, schema and table columns. */
+        static TableKey of(String catalog, String schema, String name) {
+            if (schema != null && !schema.isEmpty()) {
+                return new TableKey(schema, name);
+            }
+            return new TableKey(catalog == null ? "" : catalog, name);
+        }
+
+        static String schemaName(Optional<SchemaReference> schema) {
+            if (schema.isEmpty()) {
+                return "";
+            }
+            String name = schema.get().name();
+            if (name != null && !name.isEmpty()) {
+                return name;
+            }
+            return schema.get().catalog().map(CatalogReference::name).orElse("");
+        }
+    }
+
+    private static Map<TableKey, String> stampsByKey(ChangeMarker marker) {
+        Map<TableKey, String> stamps = new HashMap<>();
+        marker.tableStamps().forEach((table, stamp) -> stamps.merge(TableKey.of(table), stamp, (a, b) -> a + "|" + b));
+        return stamps;
+    }
+
+    private static Map<String, String> objectStampsBySchema(ChangeMarker marker) {
+        Map<String, String> stamps = new HashMap<>();
+        marker.objectStamps().forEach(
+                (schema, stamp) -> stamps.merge(TableKey.schemaName(Optional.of(schema)), stamp, (a, b) -> a + "|" + b));
+        return stamps;
+    }
+
+    private static <T> List<T> replaceByTable(List<T> previous, Set<TableKey> replaced, List<StructureRead> parts,
+            java.util.function.Function<StructureInfo, List<T>> section,
+            java.util.function.Function<T, TableReference> tableOf) {
+        return replaceRows(previous, row -> replaced.contains(TableKey.of(tableOf.apply(row))), parts,
+                part -> section.apply(part.structureInfo()));
+    }
+
+    private static <T> List<T> replaceBySchema(List<T> previous, Set<String> replaced, List<StructureRead> parts,
+            java.util.function.Function<StructureInfo, List<T>> section,
+            java.util.function.Function<T, Optional<SchemaReference>> schemaOf) {
+        return replaceRows(previous, row -> replaced.contains(TableKey.schemaName(schemaOf.apply(row))), parts,
+                part -> section.apply(part.structureInfo()));
+    }
+
+    /**
+     * Drops the {@code replaced} rows of {@code previous} and adds the
+     * {@code replaced} rows of the re-read parts. Rows a part read beyond that
+     * (LIKE wildcards in exact names, schema-wide provider reads) are ignored.
+     */
+    private static <T> List<T> replaceRows(List<T> previous, Predicate<T> replaced, List<StructureRead> parts,
+            java.util.function.Function<StructureRead, List<T>> section) {
+        if (parts.isEmpty() && previous.stream().noneMatch(replaced)) {
+            return previous;
+        }
+        Set<T> rows = new LinkedHashSet<>();
+        for (T row : previous) {
+            if (!replaced.test(row)) {
+                rows.add(row);
+            }
+        }
+        for (StructureRead part : parts) {
+            for (T row : section.apply(part)) {
+                if (replaced.test(row)) {
+                    rows.add(row);
+                }
+            }
+        }
+        return new ArrayList<>(rows);
     }
 
     private static String tableKey(TableReference table) {
@@ -272,57 +1079,130 @@ public class DatabaseServiceImpl implements DatabaseService {
         DatabaseInfo databaseInfo = readDatabaseInfo(databaseMetaData);
         IdentifierInfo identifierInfo = readIdentifierInfo(databaseMetaData);
         List<TypeInfo> typeInfos = getTypeInfo(databaseMetaData);
-        StructureInfo structureInfo = getStructureInfo(databaseMetaData);
-        List<IndexInfo> indexInfos = getIndexInfo(databaseMetaData);
+        ReferenceInterner interner = new ReferenceInterner();
+        StructureInfo structureInfo = interner.structure(getStructureInfo(databaseMetaData));
+        List<IndexInfo> indexInfos = interner.indexInfos(getIndexInfo(databaseMetaData,
+                structureInfo.tables().stream().map(TableDefinition::table).toList()));
         return new MetaInfoRecord(databaseInfo, structureInfo, identifierInfo, typeInfos, indexInfos);
     }
 
     public List<IndexInfo> getIndexInfo(DatabaseMetaData databaseMetaData) throws SQLException {
-        List<TableDefinition> tables = getTableDefinitions(databaseMetaData);
-        List<IndexInfo> indexInfos = new ArrayList<>();
-        for (TableDefinition tableDefinition : tables) {
-            String catalog = null;
-            String schema = null;
-            TableReference table = tableDefinition.table();
-            List<IndexInfoItem> indexInfoItems = new ArrayList<>();
-            Optional<SchemaReference> oSchema = table.schema();
-            if (oSchema.isPresent()) {
-                SchemaReference sr = oSchema.get();
-                schema = oSchema.get().name();
-                if (sr.catalog().isPresent()) {
-                    catalog = sr.catalog().get().name();
+        return getIndexInfo(databaseMetaData,
+                getTableDefinitions(databaseMetaData).stream().map(TableDefinition::table).toList());
+    }
+
+    private List<IndexInfo> getIndexInfo(DatabaseMetaData databaseMetaData, List<TableReference> tables)
+            throws SQLException {
+        return fanOut(databaseMetaData, tables, TableFanOut.Read.INDEX_INFO, this::readIndexInfo);
+    }
+
+    /**
+     * Index info of {@code table}, or of every table of the schema when it is
+     * null, as one record per requested table. A failing per-table read is
+     * logged and yields no records; a failing schema-wide read is rethrown so
+     * the fan-out retries it table by table.
+     */
+    private List<IndexInfo> readIndexInfo(DatabaseMetaData databaseMetaData, String catalog, String schema,
+            String table, Map<TableKey, TableReference> tables) throws SQLException {
+        Map<TableReference, List<IndexInfoItem>> itemsByTable = new LinkedHashMap<>();
+        for (TableReference tableReference : tables.values()) {
+            itemsByTable.put(tableReference, new ArrayList<>());
+        }
+        LOGGER.debug("Reading index info for table: {}.{}.{}", catalog, schema, table);
+        try (ResultSet resultSet = databaseMetaData.getIndexInfo(catalog, schema, table, false, true)) {
+            while (resultSet.next()) {
+                TableReference tableReference = requestedTable(tables, table, resultSet);
+                if (tableReference == null) {
+                    continue;
                 }
+                boolean nonUnique = resultSet.getBoolean(INDEX_NON_UNIQUE);
+                Optional<String> indexName = Optional.ofNullable(resultSet.getString(INDEX_NAME));
+                int type = resultSet.getInt(INDEX_TYPE);
+                int ordinalPosition = resultSet.getInt(INDEX_ORDINAL_POSITION);
+                String columnNameStr = resultSet.getString(INDEX_COLUMN_NAME);
+                Optional<ColumnReference> colRef = Optional.ofNullable(columnNameStr)
+                        .map(cn -> new ColumnReference(Optional.of(tableReference), cn));
+                String ascOrDesc = resultSet.getString(INDEX_ASC_OR_DESC);
+                Optional<Boolean> ascending = ascOrDesc == null ? Optional.empty() :
+                        Optional.of("A".equalsIgnoreCase(ascOrDesc));
+                long cardinality = resultSet.getLong(INDEX_CARDINALITY);
+                long pages = resultSet.getLong(INDEX_PAGES);
+                Optional<String> filterCondition = Optional.ofNullable(resultSet.getString(INDEX_FILTER_CONDITION));
+
+                IndexInfoItem.IndexType indexType = IndexInfoItem.IndexType.of(type);
+                itemsByTable.get(tableReference).add(new IndexInfoItemRecord(indexName, indexType, colRef,
+                        ordinalPosition, ascending, cardinality, pages, filterCondition, !nonUnique));
             }
-            LOGGER.debug("Reading index info for table: {}.{}.{}", catalog, schema, table.name());
-            try (ResultSet resultSet = databaseMetaData.getIndexInfo(catalog, schema, table.name(), false, true)) {
-                while (resultSet.next()) {
-                    boolean nonUnique = resultSet.getBoolean(INDEX_NON_UNIQUE);
-                    Optional<String> indexName = Optional.ofNullable(resultSet.getString(INDEX_NAME));
-                    int type = resultSet.getInt(INDEX_TYPE);
-                    int ordinalPosition = resultSet.getInt(INDEX_ORDINAL_POSITION);
-                    String columnNameStr = resultSet.getString(INDEX_COLUMN_NAME);
-                    Optional<ColumnReference> colRef = Optional.ofNullable(columnNameStr)
-                            .map(cn -> new ColumnReference(Optional.of(table), cn));
-                    String ascOrDesc = resultSet.getString(INDEX_ASC_OR_DESC);
-                    Optional<Boolean> ascending = ascOrDesc == null ? Optional.empty() :
-                            Optional.of("A".equalsIgnoreCase(ascOrDesc));
-                    long cardinality = resultSet.getLong(INDEX_CARDINALITY);
-                    long pages = resultSet.getLong(INDEX_PAGES);
-                    Optional<String> filterCondition = Optional.ofNullable(resultSet.getString(INDEX_FILTER_CONDITION));
-
-                    IndexInfoItem.IndexType indexType = IndexInfoItem.IndexType.of(type);
-                    indexInfoItems.add(new IndexInfoItemRecord(indexName, indexType, colRef, ordinalPosition,
-                            ascending, cardinality, pages, filterCondition, !nonUnique));
-                }
-            } catch (SQLException e) {
-                LOGGER.warn("Error reading index info for table: {}.{}.{} - {}", catalog, schema, table.name(),
-                        e.getMessage());
+        } catch (SQLException e) {
+            if (table == null) {
+                throw e;
+            }
+            LOGGER.warn("Error reading index info for table: {}.{}.{} - {}", catalog, schema, table,
+                    e.getMessage());
+            return List.of();
+        }
+        List<IndexInfo> indexInfos = new ArrayList<>(itemsByTable.size());
+        itemsByTable.forEach((tableReference, items) -> indexInfos.add(new IndexInfoRecord(tableReference, items)));
+        return indexInfos;
+    }
+
+    /**
+     * The requested table a key or index row belongs to: for a per-table call
+     * always that table, for a schema-wide call the one with the row's schema
+     * and name, or null when the row is for a table nobody asked for.
+     */
+    private static TableReference requestedTable(Map<TableKey, TableReference> tables, String table,
+            ResultSet resultSet) throws SQLException {
+        if (table != null) {
+            return tables.values().iterator().next();
+        }
+        return tables.get(TableKey.of(resultSet.getString("TABLE_CAT"), resultSet.getString("TABLE_SCHEM"),
+                resultSet.getString("TABLE_NAME")));
+    }
 
-                continue;
+    /**
+     * Primary keys of {@code table}, or of every table of the schema when it
+     * is null, restricted to the requested tables.
+     */
+    private List<PrimaryKey> readPrimaryKeys(DatabaseMetaData databaseMetaData, String catalog, String schema,
+            String table, Map<TableKey, TableReference> tables) throws SQLException {
+        if (table != null) {
+            PrimaryKey pk = getPrimaryKey(databaseMetaData, tables.values().iterator().next());
+            return pk == null ? List.of() : List.of(pk);
+        }
+        Map<TableReference, java.util.TreeMap<Integer, ColumnReference>> columnsByTable = new LinkedHashMap<>();
+        Map<TableReference, String> pkNames = new HashMap<>();
+        try (ResultSet rs = databaseMetaData.getPrimaryKeys(catalog, schema, null)) {
+            while (rs.next()) {
+                TableReference tableReference = requestedTable(tables, null, rs);
+                if (tableReference == null) {
+                    continue;
+                }
+                ColumnReference colRef = new ColumnReference(Optional.of(tableReference), rs.getString("COLUMN_NAME"));
+                columnsByTable.computeIfAbsent(tableReference, t -> new java.util.TreeMap<>())
+                        .put(rs.getInt("KEY_SEQ"), colRef);
+                pkNames.put(tableReference, rs.getString("PK_NAME"));
             }
-            indexInfos.add(new IndexInfoRecord(table, indexInfoItems));
         }
-        return List.copyOf(indexInfos);
+        List<PrimaryKey> primaryKeys = new ArrayList<>(columnsByTable.size());
+        columnsByTable.forEach((tableReference, columns) -> primaryKeys.add(new PrimaryKeyRecord(tableReference,
+                List.copyOf(columns.values()), Optional.ofNullable(pkNames.get(tableReference)))));
+        return primaryKeys;
+    }
+
+    /**
+     * Imported keys of {@code table}, or of every table of the schema when it
+     * is null, restricted to keys whose foreign key table was requested.
+     */
+    private List<ImportedKey> readImportedKeys(DatabaseMetaData databaseMetaData, String catalog, String schema,
+            String table, Map<TableKey, TableReference> tables) throws SQLException {
+        List<ImportedKey> importedKeys = getImportedKeys(databaseMetaData, catalog, schema, table);
+        if (table != null) {
+            return importedKeys;
+        }
+        return importedKeys.stream()
+                .filter(fk -> tables.containsKey(TableKey.of(fk.foreignKeyColumn().table().orElse(null))))
+                .toList();
     }
 
     protected StructureInfo getStructureInfo(DatabaseMetaData databaseMetaData) throws SQLException {
@@ -331,17 +1211,11 @@ public class DatabaseServiceImpl implements DatabaseService {
         List<TableDefinition> tables = getTableDefinitions(databaseMetaData);
         List<ColumnDefinition> columns = getColumnDefinitions(databaseMetaData);
 
-        List<ImportedKey> importedKeys = new ArrayList<ImportedKey>();
-        List<PrimaryKey> primaryKeys = new ArrayList<PrimaryKey>();
-        for (TableDefinition tableDefinition : tables) {
-            List<ImportedKey> iks = getImportedKeys(databaseMetaData, tableDefinition.table());
-            importedKeys.addAll(iks);
-
-            PrimaryKey pk = getPrimaryKey(databaseMetaData, tableDefinition.table());
-            if (pk != null) {
-                primaryKeys.add(pk);
-            }
-        }
+        List<TableReference> tableReferences = tables.stream().map(TableDefinition::table).toList();
+        List<ImportedKey> importedKeys = fanOut(databaseMetaData, tableReferences, TableFanOut.Read.IMPORTED_KEYS,
+                this::readImportedKeys);
+        List<PrimaryKey> primaryKeys = fanOut(databaseMetaData, tableReferences, TableFanOut.Read.PRIMARY_KEYS,
+                this::readPrimaryKeys);
 
         StructureInfo structureInfo = new StructureInfoRecord(catalogs, schemas, tables, columns, importedKeys, primaryKeys,
                 List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(),
@@ -494,6 +1368,15 @@ public class DatabaseServiceImpl implements DatabaseService {
         return List.copyOf(tabeDefinitions);
     }
 
+    /** The provider's bulk table read, or JDBC {@code getTables} when it has none. */
+    private List<TableDefinition> readTableDefinitions(Connection connection, MetadataProvider provider,
+            String catalog, String schemaPattern, String tableNamePattern) throws SQLException {
+        Optional<List<TableDefinition>> tables = provider.getAllTableDefinitions(connection, catalog, schemaPattern,
+                tableNamePattern, null);
+        return tables.isPresent() ? tables.get()
+                : getTableDefinitions(connection.getMetaData(), catalog, schemaPattern, tableNamePattern, null);
+    }
+
     private Optional<String> getColumnValue(ResultSet rs, Set<String> columnNames, String columnName)
             throws SQLException {
         if (!columnNames.contains(columnName)) {
@@ -647,7 +1530,15 @@ public class DatabaseServiceImpl implements DatabaseService {
     private List<ColumnDefinition> getColumnDefinitions(DatabaseMetaData databaseMetaData, String catalog,
             String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
         List<ColumnDefinition> columnDefinitions = new ArrayList<>();
+        forEachColumnDefinition(databaseMetaData, catalog, schemaPattern, tableNamePattern, columnNamePattern,
+                columnDefinitions::add);
+        return List.copyOf(columnDefinitions);
+    }
 
+    /** Row-callback form of the {@code getColumns} read; rows arrive in the JDBC order. */
+    private void forEachColumnDefinition(DatabaseMetaData databaseMetaData, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, RowCallback<ColumnDefinition> callback)
+            throws SQLException {
         try (ResultSet rs = databaseMetaData.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern);) {
             while (rs.next()) {
 
@@ -728,10 +1619,9 @@ public class DatabaseServiceImpl implements DatabaseService {
                         jdbcType, typeName, oColumnSize, oDecimalDigits, oNumPrecRadix, nullability,
                         oCharOctetLength, remarks, columnDefault, autoIncrement, generatedColumn));
 
-                columnDefinitions.add(columnDefinition);
+                callback.accept(columnDefinition);
             }
         }
-        return List.copyOf(columnDefinitions);
     }
 
     private boolean columnExists(DatabaseMetaData databaseMetaData, ColumnReference column) throws SQLException {
@@ -754,16 +1644,6 @@ public class DatabaseServiceImpl implements DatabaseService {
         }
     }
 
-    private List<ImportedKey> getImportedKeys(DatabaseMetaData databaseMetaData, TableReference table)
-            throws SQLException {
-
-        Optional<SchemaReference> oSchema = table.schema();
-        String schema = oSchema.map(SchemaReference::name).orElse(null);
-        Optional<CatalogReference> oCatalog = oSchema.flatMap(SchemaReference::catalog);
-        String catalog = oCatalog.map(CatalogReference::name).orElse(null);
-        return getImportedKeys(databaseMetaData, catalog, schema, table.name());
-    }
-
     private List<ImportedKey> getImportedKeys(DatabaseMetaData databaseMetaData, String catalog, String schema,
             String tableName) throws SQLException {
         List<ImportedKey> importedKeys = new ArrayList<>();
@@ -1487,6 +2367,17 @@ public class DatabaseServiceImpl implements DatabaseService {
         return getImportedKeys(connection.getMetaData(), catalog, schema, tableName);
     }
 
+    @Override
+    public Map<TableReference, List<ImportedKey>> getImportedKeys(Connection connection, MetadataProvider provider,
+            Collection<TableReference> tables) throws SQLException {
+        Optional<Map<TableReference, List<ImportedKey>>> batched = provider.getImportedKeys(connection, tables);
+        if (batched.isPresent()) {
+            return batched.get();
+        }
+        return groupByTable(tables, fanOut(connection, tables, TableFanOut.Read.IMPORTED_KEYS, this::readImportedKeys),
+                fk -> fk.foreignKeyColumn().table().orElse(null));
+    }
+
     @Override
     public List<ImportedKey> getExportedKeys(Connection connection, MetadataProvider provider, String catalog,
             String schema, String tableName) throws SQLException {
@@ -1509,6 +2400,32 @@ public class DatabaseServiceImpl implements DatabaseService {
         return getExportedKeys(connection.getMetaData(), catalog, schema, tableName);
     }
 
+    @Override
+    public Map<TableReference, List<ImportedKey>> getExportedKeys(Connection connection, MetadataProvider provider,
+            Collection<TableReference> tables) throws SQLException {
+        Optional<Map<TableReference, List<ImportedKey>>> batched = provider.getExportedKeys(connection, tables);
+        if (batched.isPresent()) {
+            return batched.get();
+        }
+        DatabaseMetaData databaseMetaData = connection.getMetaData();
+        Map<TableReference, List<ImportedKey>> result = new LinkedHashMap<>();
+        for (TableReference table : tables) {
+            result.put(table, getExportedKeys(databaseMetaData, table));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public Map<TableReference, List<IndexInfo>> getIndexInfo(Connection connection, MetadataProvider provider,
+            Collection<TableReference> tables) throws SQLException {
+        Optional<Map<TableReference, List<IndexInfo>>> batched = provider.getIndexInfo(connection, tables);
+        if (batched.isPresent()) {
+            return batched.get();
+        }
+        return groupByTable(tables, fanOut(connection, tables, TableFanOut.Read.INDEX_INFO, this::readIndexInfo),
+                IndexInfo::tableReference);
+    }
+
     @Override
     public List<ImportedKey> getCrossReference(Connection connection, MetadataProvider provider, String parentCatalog,
             String parentSchema, String parentTable, String foreignCatalog, String foreignSchema, String foreignTable)
@@ -1593,6 +2510,23 @@ public class DatabaseServiceImpl implements DatabaseService {
                 .orElseGet(() -> invokeJdbc(() -> getColumnPrivileges(connection.getMetaData(), table, columnNamePattern)));
     }
 
+    @Override
+    public Map<TableReference, List<ColumnPrivilege>> getColumnPrivileges(Connection connection,
+            MetadataProvider provider, Collection<TableReference> tables, String columnNamePattern)
+            throws SQLException {
+        Optional<Map<TableReference, List<ColumnPrivilege>>> batched = provider.getColumnPrivileges(connection,
+                tables, columnNamePattern);
+        if (batched.isPresent()) {
+            return batched.get();
+        }
+        DatabaseMetaData databaseMetaData = connection.getMetaData();
+        Map<TableReference, List<ColumnPrivilege>> result = new LinkedHashMap<>();
+        for (TableReference table : tables) {
+            result.put(table, getColumnPrivileges(databaseMetaData, table, columnNamePattern));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
     @Override
     public List<SuperType> getSuperTypes(Connection connection, MetadataProvider provider, String catalog,
             String schemaPattern, String typeNamePattern) throws SQLException {
@@ -1609,6 +2543,47 @@ public class DatabaseServiceImpl implements DatabaseService {
                         catalog, schemaPattern, tableNamePattern)));
     }
 
+    /** Runs a per-table JDBC read for {@code tables} on {@code connection}. */
+    private <T> List<T> fanOut(Connection connection, Collection<TableReference> tables, TableFanOut.Read kind,
+            TableFanOut.TableRead<T> read) throws SQLException {
+        return fanOut(connection.getMetaData(), tables, kind, read);
+    }
+
+    /**
+     * Runs a per-table JDBC read for {@code tables} on the connection of
+     * {@code databaseMetaData}; without tables nothing is read.
+     */
+    private <T> List<T> fanOut(DatabaseMetaData databaseMetaData, Collection<TableReference> tables,
+            TableFanOut.Read kind, TableFanOut.TableRead<T> read) throws SQLException {
+        if (tables.isEmpty()) {
+            return List.of();
+        }
+        boolean schemaWide = TableFanOut.schemaWideReads(databaseMetaData).contains(kind);
+        try (SectionLoader loader = SectionLoader.sequential(databaseMetaData.getConnection())) {
+            return TableFanOut.read(loader, List.copyOf(tables), schemaWide, read).get();
+        }
+    }
+
+    /**
+     * Every table of {@code tables}, in order, with the rows that belong to it
+     * by {@link TableKey}.
+     */
+    private static <T> Map<TableReference, List<T>> groupByTable(Collection<TableReference> tables, List<T> rows,
+            java.util.function.Function<T, TableReference> tableOf) {
+        Map<TableKey, List<T>> byKey = new HashMap<>();
+        for (T row : rows) {
+            TableKey key = TableKey.of(tableOf.apply(row));
+            if (key != null) {
+                byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+            }
+        }
+        Map<TableReference, List<T>> result = new LinkedHashMap<>();
+        for (TableReference table : tables) {
+            result.put(table, List.copyOf(byKey.getOrDefault(TableKey.of(table), List.of())));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
     private static <T> T invokeJdbc(SqlSupplier<T> supplier) {
         try {
             return supplier.get();
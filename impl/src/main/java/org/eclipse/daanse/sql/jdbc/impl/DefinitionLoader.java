@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo.Section;
+import org.eclipse.daanse.sql.jdbc.api.schema.Definition;
+import org.eclipse.daanse.sql.jdbc.api.schema.DefinitionKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Function;
+import org.eclipse.daanse.sql.jdbc.api.schema.MaterializedView;
+import org.eclipse.daanse.sql.jdbc.api.schema.Procedure;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.schema.FunctionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.MaterializedViewRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ProcedureRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+
+/**
+ * Lazy handle on the source text of the views, materialized views, routines
+ * and triggers of a snapshot read without {@link Section#DEFINITIONS}.
+ * <p>
+ * {@link #get} reads a definition on first access; {@link #getAll} reads the
+ * ones of a set not read yet in a single
+ * {@link MetadataProvider#getDefinitions} call. Read definitions are kept
+ * until {@link #invalidate()}, objects the database did not return as
+ * {@link Definition#NONE}. Safe for concurrent use; two callers asking for
+ * the same missing key at once may both read it.
+ */
+public final class DefinitionLoader {
+
+    private final DataSource dataSource;
+    private final MetadataProvider provider;
+    private final Map<DefinitionKey, Definition> definitions = new ConcurrentHashMap<>();
+
+    public DefinitionLoader(DataSource dataSource, MetadataProvider provider) {
+        this.dataSource = dataSource;
+        this.provider = provider;
+    }
+
+    /**
+     * @return the definition of {@code key}, {@link Definition#NONE} when the
+     *         database has none
+     * @throws SQLException on database access error
+     */
+    public Definition get(DefinitionKey key) throws SQLException {
+        Definition definition = definitions.get(key);
+        return definition != null ? definition : getAll(List.of(key)).get(key);
+    }
+
+    /**
+     * @return every key, in the given order, with its definition
+     * @throws SQLException on database access error
+     */
+    public Map<DefinitionKey, Definition> getAll(Collection<DefinitionKey> keys) throws SQLException {
+        List<DefinitionKey> missing = keys.stream().filter(key -> !definitions.containsKey(key)).distinct().toList();
+        if (!missing.isEmpty()) {
+            Map<DefinitionKey, Definition> read;
+            try (Connection connection = dataSource.getConnection()) {
+                read = provider.getDefinitions(connection, missing);
+            }
+            for (DefinitionKey key : missing) {
+                definitions.put(key, read.getOrDefault(key, Definition.NONE));
+            }
+        }
+        Map<DefinitionKey, Definition> result = new LinkedHashMap<>();
+        for (DefinitionKey key : keys) {
+            result.put(key, definitions.getOrDefault(key, Definition.NONE));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /** Forgets every definition read so far, e.g. after the snapshot was refreshed. */
+    public void invalidate() {
+        definitions.clear();
+    }
+
+    /** @return number of definitions held */
+    public int size() {
+        return definitions.size();
+    }
+
+    static ViewDefinition identity(ViewDefinition view) {
+        return view.viewBody().isEmpty() && view.fullDefinition().isEmpty() ? view
+                : new ViewDefinitionRecord(view.view(), Optional.empty(), Optional.empty());
+    }
+
+    static MaterializedView identity(MaterializedView view) {
+        return view.viewBody().isEmpty() && view.fullDefinition().isEmpty() ? view
+                : new MaterializedViewRecord(view.view(), Optional.empty(), Optional.empty(), view.refreshMode(),
+                        view.lastRefresh());
+    }
+
+    static Procedure identity(Procedure procedure) {
+        return procedure.body().isEmpty() && procedure.fullDefinition().isEmpty() ? procedure
+                : new ProcedureRecord(procedure.reference(), procedure.procedureType(), procedure.remarks(),
+                        procedure.columns(), Optional.empty(), Optional.empty(), procedure.lastModified());
+    }
+
+    static Function identity(Function function) {
+        return function.body().isEmpty() && function.fullDefinition().isEmpty() ? function
+                : new FunctionRecord(function.reference(), function.functionType(), function.remarks(),
+                        function.columns(), Optional.empty(), Optional.empty(), function.lastModified());
+    }
+
+    static Trigger identity(Trigger trigger) {
+        return trigger.body().isEmpty() && trigger.fullDefinition().isEmpty() ? trigger
+                : new TriggerRecord(trigger.reference(), trigger.timing(), trigger.event(), Optional.empty(),
+                        Optional.empty(), trigger.orientation());
+    }
+}
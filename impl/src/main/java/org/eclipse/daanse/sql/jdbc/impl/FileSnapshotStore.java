@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.record.io.MetaInfoCodec;
+import org.eclipse.daanse.sql.jdbc.record.io.MetaInfoCodec.StoredSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps one {@link MetaInfoCodec} file per key in a directory. Files are
+ * replaced atomically, so a reader sees either the previous or the new
+ * snapshot, and are memory-mapped for loading.
+ */
+public final class FileSnapshotStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSnapshotStore.class);
+    private static final Pattern KEY = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final String SUFFIX = ".snapshot";
+
+    private final Path directory;
+
+    /**
+     * @param directory where snapshot files live; created on first save
+     */
+    public FileSnapshotStore(Path directory) {
+        this.directory = Objects.requireNonNull(directory, "directory");
+    }
+
+    /**
+     * @param key          stable name of the database, e.g. its pool name;
+     *                     letters, digits, {@code .}, {@code _} and {@code -}
+     * @param metaInfo     the snapshot to persist
+     * @param changeMarker the marker read just before {@code metaInfo}, or null
+     * @throws IOException if the file cannot be written
+     */
+    public void save(String key, MetaInfo metaInfo, ChangeMarker changeMarker) throws IOException {
+        Path target = file(key);
+        ByteBuffer encoded = MetaInfoCodec.encode(metaInfo, changeMarker);
+        Files.createDirectories(directory);
+        Path tmp = Files.createTempFile(directory, key, ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                while (encoded.hasRemaining()) {
+                    channel.write(encoded);
+                }
+                channel.force(false);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * @param key name the snapshot was saved under
+     * @return the stored snapshot, or empty if there is none or it was written
+     *         by an incompatible format version
+     * @throws IOException if the file exists but cannot be read
+     */
+    public Optional<StoredSnapshot> load(String key) throws IOException {
+        Path file = file(key);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(MetaInfoCodec.decode(mapped));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Ignoring unreadable snapshot {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /** Removes the snapshot saved under {@code key}, if any. */
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(file(key));
+    }
+
+    private Path file(String key) {
+        if (key == null || !KEY.matcher(key).matches()) {
+            throw new IllegalArgumentException("invalid snapshot key: " + key);
+        }
+        return directory.resolve(key + SUFFIX);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.Function;
+import org.eclipse.daanse.sql.jdbc.api.schema.MaterializedView;
+import org.eclipse.daanse.sql.jdbc.api.schema.Procedure;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.meta.ColumnarIndexInfos;
+import org.eclipse.daanse.sql.jdbc.record.meta.ColumnarStructureInfo;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+
+/**
+ * Rough retained-heap estimate of a snapshot, in bytes: a fixed cost per row
+ * of each section plus the length of definition texts, which are the only
+ * fields whose size is not bounded by identifier lengths. Meant for relative
+ * weighting between snapshots, not exact accounting.
+ */
+final class MetaInfoWeigher {
+
+    // Per-row costs: the record, its Optionals and references, and typical
+    // identifier strings, estimated for 64-bit JVMs with compressed oops.
+    private static final long SNAPSHOT = 2_048;
+    private static final long CATALOG = 64;
+    private static final long SCHEMA = 96;
+    private static final long TABLE = 320;
+    private static final long COLUMN = 360;
+    private static final long COLUMN_REFERENCE = 48;
+    private static final long IMPORTED_KEY = 280;
+    private static final long PRIMARY_KEY = 160;
+    private static final long TRIGGER = 240;
+    private static final long SEQUENCE = 240;
+    private static final long CONSTRAINT = 160;
+    private static final long USER_DEFINED_TYPE = 200;
+    private static final long VIEW = 200;
+    private static final long ROUTINE = 320;
+    private static final long ROUTINE_COLUMN = 200;
+    private static final long PARTITION = 320;
+    private static final long TYPE_INFO = 200;
+    private static final long INDEX = 96;
+    private static final long INDEX_ITEM = 160;
+    // Columnar forms: the array slots of one row plus its share of the
+    // dictionaries, mostly the column name.
+    private static final long COMPACT_COLUMN = 112;
+    private static final long COMPACT_INDEX_ITEM = 48;
+
+    private MetaInfoWeigher() {
+    }
+
+    static long weigh(MetaInfo info) {
+        StructureInfo s = info.structureInfo();
+        long weight = SNAPSHOT + info.typeInfos().size() * TYPE_INFO;
+        weight += s.catalogs().size() * CATALOG + s.schemas().size() * SCHEMA;
+        weight += s.tables().size() * TABLE
+                + s.columns().size() * (s instanceof ColumnarStructureInfo ? COMPACT_COLUMN : COLUMN);
+        weight += s.importedKeys().size() * IMPORTED_KEY + s.sequences().size() * SEQUENCE;
+        weight += s.userDefinedTypes().size() * USER_DEFINED_TYPE + s.partitions().size() * PARTITION;
+        for (PrimaryKey pk : s.primaryKeys()) {
+            weight += PRIMARY_KEY + pk.columns().size() * COLUMN_REFERENCE;
+        }
+        for (Trigger t : s.triggers()) {
+            weight += TRIGGER + text(t.body()) + text(t.fullDefinition());
+        }
+        weight += s.checkConstraints().stream().mapToLong(c -> CONSTRAINT + text(c.checkClause())).sum();
+        weight += s.uniqueConstraints().stream()
+                .mapToLong(u -> CONSTRAINT + u.columns().size() * COLUMN_REFERENCE).sum();
+        for (ViewDefinition v : s.viewDefinitions()) {
+            weight += VIEW + text(v.viewBody()) + text(v.fullDefinition());
+        }
+        for (MaterializedView m : s.materializedViews()) {
+            weight += VIEW + text(m.viewBody()) + text(m.fullDefinition());
+        }
+        for (Procedure p : s.procedures()) {
+            weight += ROUTINE + p.columns().size() * ROUTINE_COLUMN + text(p.body()) + text(p.fullDefinition());
+        }
+        for (Function f : s.functions()) {
+            weight += ROUTINE + f.columns().size() * ROUTINE_COLUMN + text(f.body()) + text(f.fullDefinition());
+        }
+        if (info.indexInfos() instanceof ColumnarIndexInfos columnar) {
+            return weight + columnar.size() * INDEX + columnar.itemCount() * COMPACT_INDEX_ITEM;
+        }
+        for (IndexInfo index : info.indexInfos()) {
+            weight += INDEX + index.indexInfoItems().size() * INDEX_ITEM;
+        }
+        return weight;
+    }
+
+    private static long text(Optional<String> text) {
+        return text.map(MetaInfoWeigher::text).orElse(0L);
+    }
+
+    private static long text(String text) {
+        // Latin-1 compact strings: header plus one byte per character.
+        return text == null ? 0 : 40 + text.length();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.NameSearchIndex;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * {@link NameSearchIndex} over the lists of one snapshot, kept as two arrays
+ * sorted by folded name. A search binary-searches the literal prefix of the
+ * name pattern and tests the pattern only on the names sharing it, stopping
+ * at {@code limit} hits; a pattern starting with a wildcard walks the whole
+ * array.
+ */
+public final class NameSearchIndexImpl implements NameSearchIndex {
+
+    /** Folded name, schema and, for columns, table name of one row. */
+    private record Entry<T>(String name, String schema, String table, T row) {}
+
+    private final UnaryOperator<String> fold;
+    private final List<Entry<TableDefinition>> tables;
+    private final List<Entry<ColumnDefinition>> columns;
+
+    private NameSearchIndexImpl(MetaInfo metaInfo, UnaryOperator<String> fold) {
+        this.fold = fold;
+        StructureInfo structure = metaInfo.structureInfo();
+        this.tables = sorted(structure.tables(), TableDefinition::table, td -> td.table().name(), false);
+        this.columns = sorted(structure.columns(), cd -> cd.column().table().orElse(null),
+                cd -> cd.column().name(), true);
+    }
+
+    /** Indexes {@code metaInfo} comparing names exactly as stored. */
+    public static NameSearchIndex of(MetaInfo metaInfo) {
+        return of(metaInfo, UnaryOperator.identity());
+    }
+
+    /**
+     * @param metaInfo the snapshot to index
+     * @param fold     applied to names and patterns, e.g. the
+     *                 {@code IdentifierCaseFolding#fold} of the dialect
+     */
+    public static NameSearchIndex of(MetaInfo metaInfo, UnaryOperator<String> fold) {
+        return new NameSearchIndexImpl(Objects.requireNonNull(metaInfo, "metaInfo"),
+                Objects.requireNonNull(fold, "fold"));
+    }
+
+    @Override
+    public List<TableDefinition> tables(String schemaPattern, String tableNamePattern, int limit) {
+        return search(tables, pattern(schemaPattern), null, pattern(tableNamePattern), limit);
+    }
+
+    @Override
+    public List<ColumnDefinition> columns(String schemaPattern, String tableNamePattern, String columnNamePattern,
+            int limit) {
+        return search(columns, pattern(schemaPattern), pattern(tableNamePattern), pattern(columnNamePattern), limit);
+    }
+
+    private <T> List<Entry<T>> sorted(List<T> rows, Function<T, TableReference> tableOf, Function<T, String> nameOf,
+            boolean withTable) {
+        List<Entry<T>> entries = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            TableReference table = tableOf.apply(row);
+            String schema = table == null ? null : table.schema().map(SchemaReference::name).orElse(null);
+            entries.add(new Entry<>(fold.apply(nameOf.apply(row)), schema == null ? null : fold.apply(schema),
+                    withTable && table != null ? fold.apply(table.name()) : null, row));
+        }
+        entries.sort(Comparator.comparing(Entry::name));
+        return entries;
+    }
+
+    private static <T> List<T> search(List<Entry<T>> entries, Pattern schema, Pattern table, Pattern name,
+            int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        String prefix = name == null ? "" : name.prefix;
+        List<T> hits = new ArrayList<>(Math.min(limit, 16));
+        for (int i = lowerBound(entries, prefix); i < entries.size() && hits.size() < limit; i++) {
+            Entry<T> entry = entries.get(i);
+            if (!entry.name().startsWith(prefix) || name != null && name.exact && !entry.name().equals(prefix)) {
+                break;
+            }
+            if ((name == null || name.matches(entry.name())) && matchesSchema(schema, entry.schema())
+                    && (table == null || entry.table() != null && table.matches(entry.table()))) {
+                hits.add(entry.row());
+            }
+        }
+        return Collections.unmodifiableList(hits);
+    }
+
+    /** @return the first position whose name is not less than {@code prefix} */
+    private static int lowerBound(List<? extends Entry<?>> entries, String prefix) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries.get(mid).name().compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean matchesSchema(Pattern pattern, String schema) {
+        if (pattern == null) {
+            return true;
+        }
+        if (pattern.chars.length == 0) {
+            return schema == null;
+        }
+        return schema != null && pattern.matches(schema);
+    }
+
+    private Pattern pattern(String pattern) {
+        return pattern == null ? null : new Pattern(fold.apply(pattern));
+    }
+
+    /** A parsed {@code DatabaseMetaData} search pattern. */
+    private static final class Pattern {
+
+        private final char[] chars;
+        /** Whether {@code chars[i]} is an unescaped {@code %} or {@code _}. */
+        private final boolean[] wild;
+        /** The characters before the first wildcard. */
+        private final String prefix;
+        private final boolean exact;
+
+        Pattern(String pattern) {
+            StringBuilder literal = new StringBuilder(pattern.length());
+            boolean[] wildcards = new boolean[pattern.length()];
+            int firstWild = -1;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '\\' && i + 1 < pattern.length()) {
+                    literal.append(pattern.charAt(++i));
+                } else {
+                    if ((c == '%' || c == '_') && firstWild < 0) {
+                        firstWild = literal.length();
+                    }
+                    wildcards[literal.length()] = c == '%' || c == '_';
+                    literal.append(c);
+                }
+            }
+            this.chars = literal.toString().toCharArray();
+            this.wild = wildcards;
+            this.exact = firstWild < 0;
+            this.prefix = exact ? literal.toString() : literal.substring(0, firstWild);
+        }
+
+        boolean matches(String value) {
+            if (exact) {
+                return value.equals(prefix);
+            }
+            int p = 0;
+            int v = 0;
+            int star = -1;
+            int resume = 0;
+            while (v < value.length()) {
+                if (p < chars.length && !isAnyRun(p) && (wild[p] || chars[p] == value.charAt(v))) {
+                    p++;
+                    v++;
+                } else if (p < chars.length && isAnyRun(p)) {
+                    star = p++;
+                    resume = v;
+                } else if (star >= 0) {
+                    p = star + 1;
+                    v = ++resume;
+                } else {
+                    return false;
+                }
+            }
+            while (p < chars.length && isAnyRun(p)) {
+                p++;
+            }
+            return p == chars.length;
+        }
+
+        private boolean isAnyRun(int p) {
+            return wild[p] && chars[p] == '%';
+        }
+    }
+}
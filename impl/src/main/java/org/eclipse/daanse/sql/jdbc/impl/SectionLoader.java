@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import javax.sql.DataSource;
+
+/**
+ * Runs the independent catalog reads ("sections") of one snapshot. The
+ * sequential loader runs each section inline on the caller's connection; the
+ * parallel loader runs sections on virtual threads, each on its own connection
+ * borrowed from a {@link DataSource}, with at most {@code parallelism}
+ * connections held at any time.
+ */
+abstract class SectionLoader implements AutoCloseable {
+
+    /** One catalog read against a connection owned by the loader. */
+    @FunctionalInterface
+    interface SectionTask<T> {
+        T load(Connection connection) throws SQLException;
+    }
+
+    /** Handle on a submitted section; {@link #get()} blocks until it is loaded. */
+    @FunctionalInterface
+    interface Section<T> {
+        T get() throws SQLException;
+    }
+
+    /**
+     * @param connection caller-managed connection (not closed by the loader)
+     */
+    static SectionLoader sequential(Connection connection) {
+        return new Sequential(connection);
+    }
+
+    /**
+     * @param dataSource  source of the connections, one per running section
+     * @param parallelism maximum number of connections borrowed at the same time
+     */
+    static SectionLoader parallel(DataSource dataSource, int parallelism) {
+        return new Parallel(dataSource, parallelism);
+    }
+
+    /**
+     * Schedules {@code task}. The sequential loader runs it immediately, so a
+     * failure surfaces here; the parallel loader surfaces it on
+     * {@link Section#get()}.
+     */
+    abstract <T> Section<T> submit(SectionTask<T> task) throws SQLException;
+
+    /** Number of sections that can run at the same time. */
+    abstract int parallelism();
+
+    @Override
+    public abstract void close();
+
+    private static final class Sequential extends SectionLoader {
+
+        private final Connection connection;
+
+        Sequential(Connection connection) {
+            this.connection = Objects.requireNonNull(connection, "connection");
+        }
+
+        @Override
+        <T> Section<T> submit(SectionTask<T> task) throws SQLException {
+            T value = task.load(connection);
+            return () -> value;
+        }
+
+        @Override
+        int parallelism() {
+            return 1;
+        }
+
+        @Override
+        public void close() {
+            // connection belongs to the caller
+        }
+    }
+
+    private static final class Parallel extends SectionLoader {
+
+        private final DataSource dataSource;
+        private final int parallelism;
+        private final Semaphore permits;
+        private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        Parallel(DataSource dataSource, int parallelism) {
+            this.dataSource = Objects.requireNonNull(dataSource, "dataSource");
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be >= 1: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            this.permits = new Semaphore(parallelism);
+        }
+
+        @Override
+        int parallelism() {
+            return parallelism;
+        }
+
+        @Override
+        <T> Section<T> submit(SectionTask<T> task) {
+            Future<T> future = executor.submit(() -> {
+                permits.acquire();
+                try (Connection connection = dataSource.getConnection()) {
+                    return task.load(connection);
+                } finally {
+                    permits.release();
+                }
+            });
+            return () -> await(future);
+        }
+
+        private static <T> T await(Future<T> future) throws SQLException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while loading snapshot section", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new SQLException("Snapshot section failed", cause);
+            }
+        }
+
+        @Override
+        public void close() {
+            // All sections were awaited on the success path; on failure this
+            // interrupts the sections still queued or running so their
+            // connections go back to the pool.
+            executor.shutdownNow();
+        }
+    }
+}
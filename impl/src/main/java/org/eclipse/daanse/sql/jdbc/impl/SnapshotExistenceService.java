@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import javax.sql.DataSource;
+
+import org.eclipse.daanse.sql.jdbc.api.ExistenceService;
+import org.eclipse.daanse.sql.jdbc.api.MetaDataQueries;
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * {@link ExistenceService} over the tables and columns of the current
+ * snapshot of a {@link SnapshotSource}.
+ * <p>
+ * Tables and columns are hashed by folded name; a lookup is one probe plus a
+ * catalog, schema and type check over the few entries sharing the name. A
+ * name pattern found literally in the snapshot matches, so {@code _} and
+ * {@code %} only cost a database check when the snapshot has no such name.
+ * Misses are asked of the fallback {@link MetaDataQueries}: found objects are
+ * remembered until the snapshot changes, denied ones for the negative TTL.
+ * <p>
+ * The snapshot is re-read from the source on every call and the index rebuilt
+ * when a different instance comes back, which forgets every remembered answer.
+ * {@link #tableCreated} and {@link #tableDropped} mask the snapshot's entries
+ * of the table, and its columns, until then; a table reported without schema
+ * masks the entries of that name in every schema.
+ */
+public final class SnapshotExistenceService implements ExistenceService {
+
+    /** Supplies the current snapshot; a new instance means it was refreshed. */
+    @FunctionalInterface
+    public interface SnapshotSource {
+        MetaInfo current() throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface Check {
+        boolean exists() throws SQLException;
+    }
+
+    /** Folded table name and, for columns, folded column name. */
+    private record Name(String table, String column) {}
+
+    /** Folded catalog, schema and, for tables, type of one snapshot entry. */
+    private record Entry(String catalog, String schema, String type) {}
+
+    /** Folded schema and table name of a table created or dropped since the snapshot. */
+    private record Table(String schema, String name) {}
+
+    /** One check as asked, keying the remembered database answers. */
+    private record Probe(String catalog, String schema, String table, String column, List<String> types) {}
+
+    private record Index(MetaInfo snapshot, Map<Name, List<Entry>> entries) {}
+
+    private final SnapshotSource snapshots;
+    private final MetaDataQueries fallback;
+    private final long negativeTtlNanos;
+    private final UnaryOperator<String> fold;
+
+    private volatile Index index;
+    /** {@code TRUE} for tables created, {@code FALSE} for tables dropped since the snapshot. */
+    private final Map<Table, Boolean> changed = new ConcurrentHashMap<>();
+    private final Set<Probe> confirmed = ConcurrentHashMap.newKeySet();
+    /** Denied checks with the {@link System#nanoTime()} they expire at. */
+    private final Map<Probe, Long> denied = new ConcurrentHashMap<>();
+
+    /** Compares names exactly as stored, like {@code DatabaseMetaData} does. */
+    public SnapshotExistenceService(SnapshotSource snapshots, MetaDataQueries fallback, Duration negativeTtl) {
+        this(snapshots, fallback, negativeTtl, UnaryOperator.identity());
+    }
+
+    /**
+     * @param snapshots   source of the current snapshot
+     * @param fallback    asked for everything the snapshot does not contain
+     * @param negativeTtl how long a denied check is answered without asking
+     *                    {@code fallback} again
+     * @param fold        applied to catalog, schema, table and column names on
+     *                    both sides of a lookup, e.g.
+     *                    {@link StructureIndexImpl#UPPER_CASE}
+     */
+    public SnapshotExistenceService(SnapshotSource snapshots, MetaDataQueries fallback, Duration negativeTtl,
+            UnaryOperator<String> fold) {
+        this.snapshots = Objects.requireNonNull(snapshots, "snapshots");
+        this.fallback = Objects.requireNonNull(fallback, "fallback");
+        this.negativeTtlNanos = Objects.requireNonNull(negativeTtl, "negativeTtl").toNanos();
+        this.fold = Objects.requireNonNull(fold, "fold");
+    }
+
+    /**
+     * Answers from the snapshot {@code service} caches for {@code dataSource},
+     * so a refresh of that snapshot is picked up on the next check.
+     */
+    public static SnapshotExistenceService of(CachingDatabaseService service, DataSource dataSource,
+            Duration negativeTtl) {
+        return new SnapshotExistenceService(() -> service.createMetaInfo(dataSource), service, negativeTtl);
+    }
+
+    @Override
+    public boolean tableExists(Connection connection, MetadataProvider provider, TableReference table)
+            throws SQLException {
+        return tableExists(connection, provider, catalogOf(table), schemaOf(table), table.name(), null);
+    }
+
+    @Override
+    public boolean tableExists(Connection connection, MetadataProvider provider, String catalog, String schemaPattern,
+            String tableNamePattern, String[] types) throws SQLException {
+        if (found(catalog, schemaPattern, tableNamePattern, null, types)) {
+            return true;
+        }
+        return confirm(new Probe(catalog, schemaPattern, tableNamePattern, null, typesOf(types)),
+                () -> fallback.tableExists(connection, provider, catalog, schemaPattern, tableNamePattern, types));
+    }
+
+    @Override
+    public boolean columnExists(Connection connection, MetadataProvider provider, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern) throws SQLException {
+        if (columnNamePattern != null && found(catalog, schemaPattern, tableNamePattern, columnNamePattern, null)) {
+            return true;
+        }
+        return confirm(new Probe(catalog, schemaPattern, tableNamePattern, columnNamePattern, null),
+                () -> fallback.columnExists(connection, provider, catalog, schemaPattern, tableNamePattern,
+                        columnNamePattern));
+    }
+
+    @Override
+    public boolean columnExists(Connection connection, MetadataProvider provider, ColumnReference column)
+            throws SQLException {
+        TableReference table = column.table().orElse(null);
+        return columnExists(connection, provider, table == null ? null : catalogOf(table),
+                table == null ? null : schemaOf(table), table == null ? null : table.name(), column.name());
+    }
+
+    @Override
+    public void tableCreated(TableReference table) {
+        changed(table, Boolean.TRUE);
+    }
+
+    @Override
+    public void tableDropped(TableReference table) {
+        changed(table, Boolean.FALSE);
+    }
+
+    @Override
+    public void invalidate() {
+        changed.clear();
+        forget();
+    }
+
+    private void changed(TableReference table, Boolean created) {
+        changed.put(new Table(foldOrNull(schemaOf(table)), fold.apply(table.name())), created);
+        forget();
+    }
+
+    private void forget() {
+        confirmed.clear();
+        denied.clear();
+    }
+
+    private boolean found(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern,
+            String[] types) throws SQLException {
+        Index current = current();
+        if (tableNamePattern == null) {
+            return false;
+        }
+        String table = fold.apply(tableNamePattern);
+        String schema = schemaPattern == null || schemaPattern.isEmpty() ? null : fold.apply(schemaPattern);
+        if (columnNamePattern == null && types == null && changed.get(new Table(schema, table)) == Boolean.TRUE) {
+            return true;
+        }
+        List<Entry> entries = current.entries()
+                .get(new Name(table, columnNamePattern == null ? null : fold.apply(columnNamePattern)));
+        if (entries == null) {
+            return false;
+        }
+        String foldedCatalog = catalog == null || catalog.isEmpty() ? null : fold.apply(catalog);
+        for (Entry entry : entries) {
+            if ((catalog == null || entry.catalog() == null || Objects.equals(foldedCatalog, entry.catalog()))
+                    && (schemaPattern == null || Objects.equals(schema, entry.schema()))
+                    && (types == null || Arrays.asList(types).contains(entry.type()))
+                    && !changed.containsKey(new Table(entry.schema(), table))
+                    && !changed.containsKey(new Table(null, table))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean confirm(Probe probe, Check check) throws SQLException {
+        if (confirmed.contains(probe)) {
+            return true;
+        }
+        Long expiresAt = denied.get(probe);
+        if (expiresAt != null) {
+            if (System.nanoTime() - expiresAt < 0) {
+                return false;
+            }
+            denied.remove(probe, expiresAt);
+        }
+        if (check.exists()) {
+            confirmed.add(probe);
+            return true;
+        }
+        denied.put(probe, System.nanoTime() + negativeTtlNanos);
+        return false;
+    }
+
+    private Index current() throws SQLException {
+        MetaInfo snapshot = snapshots.current();
+        Index current = index;
+        if (current == null || current.snapshot() != snapshot) {
+            synchronized (this) {
+                current = index;
+                if (current == null || current.snapshot() != snapshot) {
+                    // changes reported before the first check still apply to
+                    // the first snapshot; a refreshed one already has them
+                    if (current != null) {
+                        changed.clear();
+                    }
+                    forget();
+                    index = new Index(snapshot, entries(snapshot));
+                    current = index;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Map<Name, List<Entry>> entries(MetaInfo snapshot) {
+        StructureInfo structure = snapshot.structureInfo();
+        Map<Name, List<Entry>> entries = new HashMap<>();
+        for (TableDefinition table : structure.tables()) {
+            add(entries, table.table(), null);
+        }
+        for (ColumnDefinition column : structure.columns()) {
+            column.column().table().ifPresent(table -> add(entries, table, column.column().name()));
+        }
+        return entries;
+    }
+
+    private void add(Map<Name, List<Entry>> entries, TableReference table, String column) {
+        entries.computeIfAbsent(new Name(fold.apply(table.name()), column == null ? null : fold.apply(column)),
+                k -> new ArrayList<>(1))
+                .add(new Entry(foldOrNull(catalogOf(table)), foldOrNull(schemaOf(table)),
+                        column == null ? table.type() : null));
+    }
+
+    private String foldOrNull(String name) {
+        return name == null ? null : fold.apply(name);
+    }
+
+    private static List<String> typesOf(String[] types) {
+        return types == null ? null : Arrays.asList(types.clone());
+    }
+
+    private static String schemaOf(TableReference table) {
+        return table.schema().map(SchemaReference::name).orElse(null);
+    }
+
+    private static String catalogOf(TableReference table) {
+        return table.schema().flatMap(SchemaReference::catalog).map(CatalogReference::name).orElse(null);
+    }
+}
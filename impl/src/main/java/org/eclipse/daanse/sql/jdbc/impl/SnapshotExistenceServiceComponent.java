@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.eclipse.daanse.sql.jdbc.api.ExistenceService;
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Registers a {@link SnapshotExistenceService} per configuration of
+ * {@link #PID}, answering from a snapshot of the referenced
+ * {@link DataSource} that a {@link CachingDatabaseService} keeps for
+ * {@link Config#snapshotTtlSeconds()}. With several data sources the
+ * configuration selects one through {@code dataSource.target}. Consumers such
+ * as the CSV importer bind it as an optional reference.
+ */
+@Component(service = ExistenceService.class, configurationPid = SnapshotExistenceServiceComponent.PID,
+        configurationPolicy = ConfigurationPolicy.REQUIRE)
+public class SnapshotExistenceServiceComponent implements ExistenceService {
+
+    public static final String PID = "org.eclipse.daanse.sql.jdbc.impl.SnapshotExistenceService";
+
+    /** Configuration of {@link #PID}. */
+    public @interface Config {
+
+        /** Seconds a snapshot is served before it is read again. */
+        long snapshotTtlSeconds() default 300;
+
+        /** Seconds a denied check is answered without asking the database. */
+        long negativeTtlSeconds() default 30;
+    }
+
+    private final SnapshotExistenceService delegate;
+
+    @Activate
+    public SnapshotExistenceServiceComponent(@Reference(name = "dataSource") DataSource dataSource, Config config) {
+        this.delegate = SnapshotExistenceService.of(
+                new CachingDatabaseService(Duration.ofSeconds(config.snapshotTtlSeconds())), dataSource,
+                Duration.ofSeconds(config.negativeTtlSeconds()));
+    }
+
+    @Override
+    public boolean tableExists(Connection connection, MetadataProvider provider, TableReference table)
+            throws SQLException {
+        return delegate.tableExists(connection, provider, table);
+    }
+
+    @Override
+    public boolean tableExists(Connection connection, MetadataProvider provider, String catalog, String schemaPattern,
+            String tableNamePattern, String[] types) throws SQLException {
+        return delegate.tableExists(connection, provider, catalog, schemaPattern, tableNamePattern, types);
+    }
+
+    @Override
+    public boolean columnExists(Connection connection, MetadataProvider provider, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern) throws SQLException {
+        return delegate.columnExists(connection, provider, catalog, schemaPattern, tableNamePattern,
+                columnNamePattern);
+    }
+
+    @Override
+    public boolean columnExists(Connection connection, MetadataProvider provider, ColumnReference column)
+            throws SQLException {
+        return delegate.columnExists(connection, provider, column);
+    }
+
+    @Override
+    public void tableCreated(TableReference table) {
+        delegate.tableCreated(table);
+    }
+
+    @Override
+    public void tableDropped(TableReference table) {
+        delegate.tableDropped(table);
+    }
+
+    @Override
+    public void invalidate() {
+        delegate.invalidate();
+    }
+}
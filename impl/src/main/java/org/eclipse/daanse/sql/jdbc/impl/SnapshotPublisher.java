@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.SnapshotVisitor;
+import org.eclipse.daanse.sql.jdbc.api.StreamingSnapshotBuilder;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.TableSnapshot;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Partition;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.record.meta.TableSnapshotRecord;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+
+/**
+ * Cold {@link Flow.Publisher} over {@link StreamingSnapshotBuilder#visitSnapshot}.
+ * Every subscription reads on its own virtual thread and connection; the
+ * reading thread parks before each {@code onNext} until the subscriber has
+ * requested more, so at most one table is buffered.
+ */
+final class SnapshotPublisher implements Flow.Publisher<TableSnapshot> {
+
+    private final StreamingSnapshotBuilder builder;
+    private final DataSource dataSource;
+    private final MetadataProvider provider;
+    private final SnapshotOptions options;
+
+    SnapshotPublisher(StreamingSnapshotBuilder builder, DataSource dataSource, MetadataProvider provider,
+            SnapshotOptions options) {
+        this.builder = builder;
+        this.dataSource = dataSource;
+        this.provider = provider;
+        this.options = options;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super TableSnapshot> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        TableSubscription subscription = new TableSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        Thread.ofVirtual().name("snapshot-publisher").start(subscription::run);
+    }
+
+    private final class TableSubscription implements Flow.Subscription, SnapshotVisitor {
+
+        private final Flow.Subscriber<? super TableSnapshot> subscriber;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition demandChanged = lock.newCondition();
+        private long demand;
+        private boolean cancelled;
+        private volatile IllegalArgumentException invalidRequest;
+
+        private List<ColumnDefinition> columns;
+        private PrimaryKey primaryKey;
+        private List<ImportedKey> importedKeys;
+        private List<IndexInfo> indexInfos;
+        private List<Trigger> triggers;
+        private List<CheckConstraint> checkConstraints;
+        private List<UniqueConstraint> uniqueConstraints;
+        private List<Partition> partitions;
+
+        TableSubscription(Flow.Subscriber<? super TableSnapshot> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (n <= 0) {
+                    // Reactive Streams rule 3.9: signal onError and stop.
+                    invalidRequest = new IllegalArgumentException("non-positive request: " + n);
+                    cancelled = true;
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+                demandChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                demandChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void run() {
+            try (Connection connection = dataSource.getConnection()) {
+                builder.visitSnapshot(connection, provider, options, this);
+            } catch (CancellationException e) {
+                // cancelled or invalid request; handled below
+            } catch (Throwable t) {
+                if (!isCancelled()) {
+                    subscriber.onError(t);
+                }
+                return;
+            }
+            if (invalidRequest != null) {
+                subscriber.onError(invalidRequest);
+            } else if (!isCancelled()) {
+                subscriber.onComplete();
+            }
+        }
+
+        @Override
+        public boolean visitTable(TableDefinition table) {
+            if (isCancelled()) {
+                throw new CancellationException();
+            }
+            columns = new ArrayList<>();
+            primaryKey = null;
+            importedKeys = new ArrayList<>();
+            indexInfos = new ArrayList<>();
+            triggers = new ArrayList<>();
+            checkConstraints = new ArrayList<>();
+            uniqueConstraints = new ArrayList<>();
+            partitions = new ArrayList<>();
+            return true;
+        }
+
+        @Override
+        public void visitColumn(ColumnDefinition column) {
+            columns.add(column);
+        }
+
+        @Override
+        public void visitPrimaryKey(PrimaryKey primaryKey) {
+            this.primaryKey = primaryKey;
+        }
+
+        @Override
+        public void visitImportedKey(ImportedKey importedKey) {
+            importedKeys.add(importedKey);
+        }
+
+        @Override
+        public void visitIndexInfo(IndexInfo indexInfo) {
+            indexInfos.add(indexInfo);
+        }
+
+        @Override
+        public void visitTrigger(Trigger trigger) {
+            triggers.add(trigger);
+        }
+
+        @Override
+        public void visitCheckConstraint(CheckConstraint checkConstraint) {
+            checkConstraints.add(checkConstraint);
+        }
+
+        @Override
+        public void visitUniqueConstraint(UniqueConstraint uniqueConstraint) {
+            uniqueConstraints.add(uniqueConstraint);
+        }
+
+        @Override
+        public void visitPartition(Partition partition) {
+            partitions.add(partition);
+        }
+
+        @Override
+        public void endTable(TableDefinition table) {
+            TableSnapshot snapshot = new TableSnapshotRecord(table, List.copyOf(columns),
+                    Optional.ofNullable(primaryKey), List.copyOf(importedKeys), List.copyOf(indexInfos),
+                    List.copyOf(triggers), List.copyOf(checkConstraints), List.copyOf(uniqueConstraints),
+                    List.copyOf(partitions));
+            awaitDemand();
+            subscriber.onNext(snapshot);
+        }
+
+        private void awaitDemand() {
+            lock.lock();
+            try {
+                while (demand == 0 && !cancelled) {
+                    demandChanged.await();
+                }
+                if (cancelled) {
+                    throw new CancellationException();
+                }
+                demand--;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isCancelled() {
+            lock.lock();
+            try {
+                return cancelled;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
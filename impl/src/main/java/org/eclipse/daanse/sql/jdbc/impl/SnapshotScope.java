@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo.Section;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * Translates {@link SnapshotOptions} into the (catalog, schema) pairs and
+ * table-name patterns handed to the database, and into the row filter applied
+ * afterwards for exclusions and for provider reads that take no table pattern.
+ * Also answers which {@link Section}s the snapshot loads.
+ */
+final class SnapshotScope {
+
+    /** One pushed-down (catalog, schema) pair; {@code null} means unrestricted. */
+    record Scope(String catalog, String schema) {}
+
+    static final SnapshotScope ALL = new SnapshotScope(SnapshotOptions.ALL);
+
+    private final SnapshotOptions options;
+    private final List<Scope> scopes;
+    private final List<String> tablePatterns;
+    private final List<Pattern> includeTables;
+    private final List<Pattern> excludeTables;
+
+    private SnapshotScope(SnapshotOptions options) {
+        this.options = options;
+        List<String> catalogs = options.includeCatalogs().isEmpty() ? nullList() : options.includeCatalogs();
+        List<String> schemas = options.includeSchemas().isEmpty() ? nullList() : options.includeSchemas();
+        List<Scope> pairs = new ArrayList<>(catalogs.size() * schemas.size());
+        for (String catalog : catalogs) {
+            for (String schema : schemas) {
+                pairs.add(new Scope(catalog, schema));
+            }
+        }
+        this.scopes = List.copyOf(pairs);
+        this.tablePatterns = options.includeTables().isEmpty() ? nullList() : options.includeTables();
+        this.includeTables = compile(options.includeTables());
+        this.excludeTables = compile(options.excludeTables());
+    }
+
+    static SnapshotScope of(SnapshotOptions options) {
+        return options == null || options.equals(SnapshotOptions.ALL) ? ALL : new SnapshotScope(options);
+    }
+
+    /** @return pairs to read; a single {@code (null, null)} when unscoped */
+    List<Scope> scopes() {
+        return scopes;
+    }
+
+    /** @return table-name patterns to read; a single {@code null} when unscoped */
+    List<String> tablePatterns() {
+        return tablePatterns;
+    }
+
+    boolean hasIncludedSchemas() {
+        return !options.includeSchemas().isEmpty();
+    }
+
+    boolean isUnrestricted() {
+        return options.isUnrestricted();
+    }
+
+    boolean reads(Section section) {
+        return options.includes(section);
+    }
+
+    boolean acceptsCatalog(String catalog) {
+        if (catalog == null) {
+            return true;
+        }
+        return (options.includeCatalogs().isEmpty() || options.includeCatalogs().contains(catalog))
+                && !options.excludeCatalogs().contains(catalog);
+    }
+
+    boolean acceptsSchema(Optional<SchemaReference> schema) {
+        if (schema.isEmpty()) {
+            return true;
+        }
+        SchemaReference s = schema.get();
+        return acceptsCatalog(s.catalog().map(CatalogReference::name).orElse(null))
+                && (options.includeSchemas().isEmpty() || options.includeSchemas().contains(s.name()))
+                && !options.excludeSchemas().contains(s.name());
+    }
+
+    boolean acceptsTable(TableReference table) {
+        if (table == null) {
+            return true;
+        }
+        if (!acceptsSchema(table.schema())) {
+            return false;
+        }
+        String name = table.name();
+        return (includeTables.isEmpty() || matchesAny(includeTables, name)) && !matchesAny(excludeTables, name);
+    }
+
+    /** Keeps the rows whose owning table is in scope. */
+    <T> List<T> filterByTable(List<T> rows, Function<T, TableReference> tableOf) {
+        if (isUnrestricted()) {
+            return rows;
+        }
+        List<T> kept = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            if (acceptsTable(tableOf.apply(row))) {
+                kept.add(row);
+            }
+        }
+        return kept;
+    }
+
+    /** Keeps the rows whose owning schema is in scope. */
+    <T> List<T> filterBySchema(List<T> rows, Function<T, Optional<SchemaReference>> schemaOf) {
+        if (isUnrestricted()) {
+            return rows;
+        }
+        List<T> kept = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            if (acceptsSchema(schemaOf.apply(row))) {
+                kept.add(row);
+            }
+        }
+        return kept;
+    }
+
+    private static boolean matchesAny(List<Pattern> patterns, String name) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(name).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Pattern> compile(List<String> likePatterns) {
+        List<Pattern> compiled = new ArrayList<>(likePatterns.size());
+        for (String like : likePatterns) {
+            compiled.add(Pattern.compile(likeToRegex(like), Pattern.DOTALL));
+        }
+        return List.copyOf(compiled);
+    }
+
+    private static String likeToRegex(String like) {
+        StringBuilder regex = new StringBuilder(like.length() + 8);
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < like.length(); i++) {
+            char ch = like.charAt(i);
+            if (ch == '%' || ch == '_') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(ch == '%' ? ".*" : ".");
+            } else {
+                literal.append(ch);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return regex.toString();
+    }
+
+    private static List<String> nullList() {
+        return Collections.singletonList(null);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureIndex;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Partition;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+
+/**
+ * {@link StructureIndex} over the lists of one snapshot. Building it is one
+ * pass per list; every lookup is a hash probe plus a catalog check over the
+ * few rows sharing the table's schema and name.
+ */
+public final class StructureIndexImpl implements StructureIndex {
+
+    /** Folding for engines that compare unquoted identifiers case-insensitively. */
+    public static final UnaryOperator<String> UPPER_CASE = s -> s.toUpperCase(Locale.ROOT);
+
+    /** Rows of one section, grouped by folded (schema, name). */
+    private record Rows<T>(Map<Key, List<Entry<T>>> byTable) {}
+
+    /** Folded schema and table name; the catalog is checked per row. */
+    private record Key(String schema, String name) {}
+
+    private record Entry<T>(String catalog, T row) {}
+
+    private final UnaryOperator<String> fold;
+    private final Rows<TableDefinition> tables;
+    private final Rows<ColumnDefinition> columns;
+    private final Rows<PrimaryKey> primaryKeys;
+    private final Rows<ImportedKey> importedKeys;
+    private final Rows<ImportedKey> exportedKeys;
+    private final Rows<IndexInfo> indexInfos;
+    private final Rows<Trigger> triggers;
+    private final Rows<Partition> partitions;
+    private final Rows<CheckConstraint> checkConstraints;
+    private final Rows<UniqueConstraint> uniqueConstraints;
+
+    private StructureIndexImpl(MetaInfo metaInfo, UnaryOperator<String> fold) {
+        this.fold = fold;
+        StructureInfo structure = metaInfo.structureInfo();
+        this.tables = group(structure.tables(), TableDefinition::table);
+        this.columns = group(structure.columns(), cd -> cd.column().table().orElse(null));
+        this.primaryKeys = group(structure.primaryKeys(), PrimaryKey::table);
+        this.importedKeys = group(structure.importedKeys(), fk -> fk.foreignKeyColumn().table().orElse(null));
+        this.exportedKeys = group(structure.importedKeys(), fk -> fk.primaryKeyColumn().table().orElse(null));
+        this.indexInfos = group(metaInfo.indexInfos(), IndexInfo::tableReference);
+        this.triggers = group(structure.triggers(), Trigger::table);
+        this.partitions = group(structure.partitions(), Partition::table);
+        this.checkConstraints = group(structure.checkConstraints(), CheckConstraint::table);
+        this.uniqueConstraints = group(structure.uniqueConstraints(), UniqueConstraint::table);
+    }
+
+    /** Indexes {@code metaInfo} comparing names exactly as stored. */
+    public static StructureIndex of(MetaInfo metaInfo) {
+        return of(metaInfo, UnaryOperator.identity());
+    }
+
+    /**
+     * @param metaInfo the snapshot to index
+     * @param fold     applied to catalog, schema and table names on both sides
+     *                 of a lookup, e.g. {@link #UPPER_CASE}
+     */
+    public static StructureIndex of(MetaInfo metaInfo, UnaryOperator<String> fold) {
+        return new StructureIndexImpl(Objects.requireNonNull(metaInfo, "metaInfo"),
+                Objects.requireNonNull(fold, "fold"));
+    }
+
+    @Override
+    public Optional<TableDefinition> table(String catalog, String schema, String name) {
+        List<TableDefinition> found = lookup(tables, catalog, schema, name);
+        return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    }
+
+    @Override
+    public Optional<TableDefinition> table(TableReference table) {
+        return table(catalogOf(table), schemaOf(table), table.name());
+    }
+
+    @Override
+    public List<ColumnDefinition> columns(TableReference table) {
+        return lookup(columns, table);
+    }
+
+    @Override
+    public Optional<PrimaryKey> primaryKey(TableReference table) {
+        List<PrimaryKey> found = lookup(primaryKeys, table);
+        return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    }
+
+    @Override
+    public List<ImportedKey> importedKeys(TableReference table) {
+        return lookup(importedKeys, table);
+    }
+
+    @Override
+    public List<ImportedKey> exportedKeys(TableReference table) {
+        return lookup(exportedKeys, table);
+    }
+
+    @Override
+    public List<IndexInfo> indexInfos(TableReference table) {
+        return lookup(indexInfos, table);
+    }
+
+    @Override
+    public List<Trigger> triggers(TableReference table) {
+        return lookup(triggers, table);
+    }
+
+    @Override
+    public List<Partition> partitions(TableReference table) {
+        return lookup(partitions, table);
+    }
+
+    @Override
+    public List<CheckConstraint> checkConstraints(TableReference table) {
+        return lookup(checkConstraints, table);
+    }
+
+    @Override
+    public List<UniqueConstraint> uniqueConstraints(TableReference table) {
+        return lookup(uniqueConstraints, table);
+    }
+
+    private <T> Rows<T> group(List<T> rows, Function<T, TableReference> tableOf) {
+        Map<Key, List<Entry<T>>> byTable = new HashMap<>();
+        for (T row : rows) {
+            TableReference table = tableOf.apply(row);
+            if (table == null) {
+                continue;
+            }
+            byTable.computeIfAbsent(key(schemaOf(table), table.name()), k -> new ArrayList<>(2))
+                    .add(new Entry<>(foldOrNull(catalogOf(table)), row));
+        }
+        return new Rows<>(byTable);
+    }
+
+    private <T> List<T> lookup(Rows<T> rows, TableReference table) {
+        return lookup(rows, catalogOf(table), schemaOf(table), table.name());
+    }
+
+    private <T> List<T> lookup(Rows<T> rows, String catalog, String schema, String name) {
+        List<Entry<T>> entries = rows.byTable().get(key(schema, name));
+        if (entries == null) {
+            return List.of();
+        }
+        String foldedCatalog = foldOrNull(catalog);
+        List<T> found = new ArrayList<>(entries.size());
+        for (Entry<T> entry : entries) {
+            if (foldedCatalog == null || entry.catalog() == null || foldedCatalog.equals(entry.catalog())) {
+                found.add(entry.row());
+            }
+        }
+        return found;
+    }
+
+    private Key key(String schema, String name) {
+        return new Key(foldOrNull(schema), fold.apply(name));
+    }
+
+    private String foldOrNull(String name) {
+        return name == null ? null : fold.apply(name);
+    }
+
+    private static String schemaOf(TableReference table) {
+        return table.schema().map(SchemaReference::name).orElse(null);
+    }
+
+    private static String catalogOf(TableReference table) {
+        return table.schema().flatMap(SchemaReference::catalog).map(CatalogReference::name).orElse(null);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.daanse.sql.jdbc.impl.DatabaseServiceImpl.TableKey;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JDBC fallback for the catalog reads that {@link DatabaseMetaData} only
+ * offers per table (primary keys, imported keys, index info). It works on a
+ * table list the snapshot already holds: drivers known to accept a null table
+ * name get one call per schema, all others get their tables split into one
+ * batch per connection the {@link SectionLoader} may hold.
+ */
+final class TableFanOut {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TableFanOut.class);
+
+    /** The per-table reads of {@link DatabaseMetaData}. */
+    enum Read {
+        PRIMARY_KEYS, IMPORTED_KEYS, INDEX_INFO
+    }
+
+    /**
+     * Reads that answer for a whole schema when the table name is null, by
+     * {@link DatabaseMetaData#getDatabaseProductName()}. H2 2.x, Derby and
+     * MySQL reject a null table; pgjdbc honours it for keys only and returns
+     * nothing from getIndexInfo.
+     */
+    private static final Map<String, Set<Read>> SCHEMA_WIDE = Map.of(
+            "HSQL Database Engine", EnumSet.allOf(Read.class),
+            "PostgreSQL", EnumSet.of(Read.PRIMARY_KEYS, Read.IMPORTED_KEYS));
+
+    /** One {@link DatabaseMetaData} read, for one table or a whole schema. */
+    @FunctionalInterface
+    interface TableRead<T> {
+
+        /**
+         * @param table  the table name, or null for every table of the schema
+         * @param tables the tables the caller asked for; rows of other tables
+         *               are dropped and row references resolve to these
+         */
+        List<T> read(DatabaseMetaData databaseMetaData, String catalog, String schema, String table,
+                Map<TableKey, TableReference> tables) throws SQLException;
+    }
+
+    private TableFanOut() {
+    }
+
+    /** The reads the connected driver can answer with one call per schema. */
+    static Set<Read> schemaWideReads(DatabaseMetaData databaseMetaData) {
+        try {
+            Set<Read> reads = SCHEMA_WIDE.get(databaseMetaData.getDatabaseProductName());
+            return reads == null ? Set.of() : reads;
+        } catch (SQLException e) {
+            LOGGER.debug("Cannot read product name, reading per table: {}", e.getMessage());
+            return Set.of();
+        }
+    }
+
+    /**
+     * Schedules {@code read} for {@code tables} on {@code loader}.
+     *
+     * @param schemaWide whether the driver accepts a null table name for
+     *                   {@code read}, see {@link #schemaWideReads}
+     * @return the rows, grouped per schema or batch in table-list order
+     */
+    static <T> SectionLoader.Section<List<T>> read(SectionLoader loader, List<TableReference> tables,
+            boolean schemaWide, TableRead<T> read) throws SQLException {
+        if (tables.isEmpty()) {
+            return List::of;
+        }
+        List<SectionLoader.Section<List<T>>> parts = new ArrayList<>();
+        if (schemaWide) {
+            Map<List<String>, Map<TableKey, TableReference>> bySchema = new LinkedHashMap<>();
+            for (TableReference table : tables) {
+                bySchema.computeIfAbsent(Arrays.asList(catalogName(table), schemaName(table)),
+                        k -> new LinkedHashMap<>()).put(TableKey.of(table), table);
+            }
+            for (Map.Entry<List<String>, Map<TableKey, TableReference>> group : bySchema.entrySet()) {
+                String catalog = group.getKey().get(0);
+                String schema = group.getKey().get(1);
+                parts.add(loader.submit(c -> {
+                    DatabaseMetaData databaseMetaData = c.getMetaData();
+                    try {
+                        return read.read(databaseMetaData, catalog, schema, null, group.getValue());
+                    } catch (SQLException e) {
+                        LOGGER.debug("Schema-wide read of {}.{} failed, reading per table: {}", catalog, schema,
+                                e.getMessage());
+                        return perTable(databaseMetaData, List.copyOf(group.getValue().values()), read);
+                    }
+                }));
+            }
+        } else {
+            int batches = Math.min(loader.parallelism(), tables.size());
+            int batchSize = (tables.size() + batches - 1) / batches;
+            for (int from = 0; from < tables.size(); from += batchSize) {
+                List<TableReference> batch = tables.subList(from, Math.min(from + batchSize, tables.size()));
+                parts.add(loader.submit(c -> perTable(c.getMetaData(), batch, read)));
+            }
+        }
+        return () -> {
+            List<T> rows = new ArrayList<>();
+            for (SectionLoader.Section<List<T>> part : parts) {
+                rows.addAll(part.get());
+            }
+            return List.copyOf(rows);
+        };
+    }
+
+    private static <T> List<T> perTable(DatabaseMetaData databaseMetaData, List<TableReference> tables,
+            TableRead<T> read) throws SQLException {
+        List<T> rows = new ArrayList<>();
+        for (TableReference table : tables) {
+            rows.addAll(read.read(databaseMetaData, catalogName(table), schemaName(table), table.name(),
+                    Collections.singletonMap(TableKey.of(table), table)));
+        }
+        return rows;
+    }
+
+    private static String catalogName(TableReference table) {
+        return table.schema().flatMap(SchemaReference::catalog).map(CatalogReference::name).orElse(null);
+    }
+
+    private static String schemaName(TableReference table) {
+        return table.schema().map(SchemaReference::name).orElse(null);
+    }
+}
@@ -12,14 +12,30 @@ package org.eclipse.daanse.sql.jdbc.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.Statement;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.sql.DataSource;
 
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
 import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.record.meta.ColumnarIndexInfos;
+import org.eclipse.daanse.sql.jdbc.record.meta.ColumnarStructureInfo;
 import org.h2.jdbcx.JdbcDataSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -108,6 +124,208 @@ class CachingDatabaseServiceTest {
                 .isZero();
     }
 
+    @Test
+    void provider_snapshots_are_cached_per_provider_class_and_options() throws Exception {
+        dataSource = freshH2();
+        CachingDatabaseService svc = new CachingDatabaseService(Duration.ofMinutes(1));
+        SnapshotOptions publicOnly = SnapshotOptions.ALL.withIncludedSchemas("PUBLIC");
+
+        MetaInfo provided = svc.createMetaInfo(dataSource, new H2MetadataProvider());
+        assertThat(svc.createMetaInfo(dataSource, new H2MetadataProvider()))
+                .as("another instance of the same provider class hits").isSameAs(provided);
+        assertThat(svc.createMetaInfo(dataSource, new H2MetadataProvider(), SnapshotOptions.ALL))
+                .isSameAs(provided);
+
+        MetaInfo scoped = svc.createMetaInfo(dataSource, new H2MetadataProvider(), publicOnly);
+        MetaInfo plain = svc.createMetaInfo(dataSource);
+        assertThat(scoped).isNotSameAs(provided);
+        assertThat(plain).isNotSameAs(provided).isNotSameAs(scoped);
+        assertThat(svc.createMetaInfo(dataSource, new H2MetadataProvider(), publicOnly)).isSameAs(scoped);
+        assertThat(svc.approximateSize()).isEqualTo(3);
+
+        MetaInfo limited = svc.createMetaInfo(dataSource,
+                new H2MetadataProvider(MetadataQueryOptions.DEFAULT.withMaxRows(1)));
+        assertThat(limited).as("other query options read their own snapshot").isNotSameAs(provided);
+        assertThat(svc.createMetaInfo(dataSource, new H2MetadataProvider(MetadataQueryOptions.DEFAULT.withMaxRows(1))))
+                .isSameAs(limited);
+        assertThat(svc.approximateSize()).isEqualTo(4);
+
+        svc.invalidate(dataSource);
+        assertThat(svc.approximateSize()).as("all variants of the source are evicted").isZero();
+    }
+
+    @Test
+    void keyed_connection_snapshots_are_cached_across_connections() throws Exception {
+        dataSource = freshH2();
+        CachingDatabaseService svc = new CachingDatabaseService(Duration.ofMinutes(1));
+
+        MetaInfo first;
+        try (Connection c = dataSource.getConnection()) {
+            first = svc.createMetaInfo("pool-a", c, new H2MetadataProvider(), null);
+        }
+        try (Connection c = dataSource.getConnection()) {
+            assertThat(svc.createMetaInfo("pool-a", c, new H2MetadataProvider(), SnapshotOptions.ALL))
+                    .isSameAs(first);
+            assertThat(svc.createMetaInfo("pool-b", c, new H2MetadataProvider(), null)).isNotSameAs(first);
+        }
+
+        svc.invalidate("pool-a");
+        assertThat(svc.approximateSize()).isEqualTo(1);
+    }
+
+    @Test
+    void evict_expired_drops_stale_entries() throws Exception {
+        dataSource = freshH2();
+        CachingDatabaseService svc = new CachingDatabaseService(Duration.ofMillis(50));
+
+        svc.createMetaInfo(dataSource);
+        svc.createMetaInfo(dataSource, new H2MetadataProvider());
+        Thread.sleep(120);
+        svc.evictExpired();
+
+        assertThat(svc.approximateSize()).isZero();
+    }
+
+    @Test
+    void least_recently_used_snapshot_is_evicted_over_maximum_weight() throws Exception {
+        DataSource a = freshH2();
+        DataSource b = freshH2();
+        DataSource c = freshH2();
+        long weight = MetaInfoWeigher.weigh(new DatabaseServiceImpl().createMetaInfo(a));
+        CachingDatabaseService svc = new CachingDatabaseService(Duration.ofMinutes(1), 1, null, false,
+                weight * 5 / 2);
+
+        MetaInfo first = svc.createMetaInfo(a);
+        svc.createMetaInfo(b);
+        assertThat(svc.createMetaInfo(a)).isSameAs(first);
+        svc.createMetaInfo(c);
+
+        CachingDatabaseService.Stats stats = svc.stats();
+        assertThat(stats.entryCount()).isEqualTo(2);
+        assertThat(stats.evictionCount()).isEqualTo(1);
+        assertThat(stats.totalWeight()).isLessThanOrEqualTo(weight * 5 / 2).isPositive();
+        assertThat(svc.createMetaInfo(a)).as("recently used, kept").isSameAs(first);
+        assertThat(svc.stats().hitCount()).isEqualTo(2);
+        assertThat(svc.stats().missCount()).isEqualTo(3);
+
+        svc.createMetaInfo(b);
+        assertThat(svc.stats().missCount()).as("b was the one evicted").isEqualTo(4);
+        assertThat(svc.stats().evictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void snapshot_heavier_than_maximum_is_returned_but_not_kept() throws Exception {
+        dataSource = freshH2();
+        CachingDatabaseService svc = new CachingDatabaseService(Duration.ofMinutes(1), 1, null, false, 1);
+
+        assertThat(svc.createMetaInfo(dataSource)).isNotNull();
+
+        assertThat(svc.stats().entryCount()).isZero();
+        assertThat(svc.stats().totalWeight()).isZero();
+        assertThatThrownBy(() -> new CachingDatabaseService(Duration.ofMinutes(1), 1, null, false, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void compact_snapshots_keep_the_rows_and_weigh_less() throws Exception {
+        dataSource = freshH2();
+        try (Statement s = h2KeepAlive.createStatement()) {
+            s.execute("CREATE TABLE ITEM (ID INT PRIMARY KEY, NAME VARCHAR(40) DEFAULT 'n/a', PRICE DECIMAL(8,2))");
+            s.execute("CREATE INDEX IDX_ITEM_NAME ON ITEM(NAME)");
+        }
+        CachingDatabaseService plain = new CachingDatabaseService(Duration.ofMinutes(1));
+        CachingDatabaseService compact = new CachingDatabaseService(Duration.ofMinutes(1), 1, null, false,
+                Long.MAX_VALUE, true);
+
+        MetaInfo expected = plain.createMetaInfo(dataSource, new H2MetadataProvider());
+        MetaInfo cached = compact.createMetaInfo(dataSource, new H2MetadataProvider());
+
+        assertThat(cached.structureInfo()).isInstanceOf(ColumnarStructureInfo.class);
+        assertThat(cached.structureInfo().columns()).isEqualTo(expected.structureInfo().columns());
+        assertThat(cached.indexInfos()).isInstanceOf(ColumnarIndexInfos.class).isEqualTo(expected.indexInfos());
+        assertThat(compact.createMetaInfo(dataSource, new H2MetadataProvider())).isSameAs(cached);
+        assertThat(compact.stats().totalWeight()).isLessThan(plain.stats().totalWeight());
+    }
+
+    @Test
+    void invalidation_releases_weight() throws Exception {
+        dataSource = freshH2();
+        CachingDatabaseService svc = new CachingDatabaseService(Duration.ofMinutes(1));
+
+        svc.createMetaInfo(dataSource);
+        svc.createMetaInfo(dataSource, new H2MetadataProvider());
+        assertThat(svc.stats().totalWeight()).isPositive();
+
+        svc.invalidateAll();
+        assertThat(svc.stats().totalWeight()).isZero();
+        assertThat(svc.stats().evictionCount()).isZero();
+    }
+
+    @Test
+    void concurrent_callers_share_one_load() throws Exception {
+        dataSource = freshH2();
+        AtomicReference<CountDownLatch> gate = new AtomicReference<>(new CountDownLatch(1));
+        AtomicInteger connections = new AtomicInteger();
+        DataSource gated = gated(dataSource, gate, connections);
+        CachingDatabaseService svc = new CachingDatabaseService(Duration.ofMinutes(1));
+
+        List<Future<MetaInfo>> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 16; i++) {
+                results.add(callers.submit(() -> svc.createMetaInfo(gated)));
+            }
+            Thread.sleep(100);
+            gate.get().countDown();
+        }
+
+        MetaInfo first = results.get(0).get();
+        for (Future<MetaInfo> result : results) {
+            assertThat(result.get()).isSameAs(first);
+        }
+        assertThat(connections).as("one snapshot read for all callers").hasValue(1);
+    }
+
+    @Test
+    void refresh_ahead_serves_the_expired_snapshot_while_reloading() throws Exception {
+        dataSource = freshH2();
+        AtomicReference<CountDownLatch> gate = new AtomicReference<>(new CountDownLatch(0));
+        AtomicInteger connections = new AtomicInteger();
+        DataSource gated = gated(dataSource, gate, connections);
+        CachingDatabaseService svc = new CachingDatabaseService(Duration.ofMillis(50), 1, null, true);
+
+        MetaInfo first = svc.createMetaInfo(gated);
+        Thread.sleep(120);
+        gate.set(new CountDownLatch(1));
+
+        assertThat(svc.createMetaInfo(gated)).as("expired, but served while reloading").isSameAs(first);
+        assertThat(svc.createMetaInfo(gated)).isSameAs(first);
+        gate.get().countDown();
+
+        MetaInfo reloaded = first;
+        for (int i = 0; i < 100 && reloaded == first; i++) {
+            Thread.sleep(20);
+            reloaded = svc.createMetaInfo(gated);
+        }
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(connections).as("one background reload").hasValue(2);
+    }
+
+    private static DataSource gated(DataSource target, AtomicReference<CountDownLatch> gate,
+            AtomicInteger connections) {
+        return (DataSource) Proxy.newProxyInstance(CachingDatabaseServiceTest.class.getClassLoader(),
+                new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("getConnection")) {
+                        connections.incrementAndGet();
+                        gate.get().await();
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
     @Test
     void rejects_zero_or_negative_ttl() {
         assertThatThrownBy(() -> new CachingDatabaseService(Duration.ZERO))
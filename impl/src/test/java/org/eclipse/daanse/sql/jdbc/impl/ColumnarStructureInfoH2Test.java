@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.record.io.MetaInfoCodec;
+import org.eclipse.daanse.sql.jdbc.record.meta.ColumnarIndexInfos;
+import org.eclipse.daanse.sql.jdbc.record.meta.ColumnarStructureInfo;
+import org.eclipse.daanse.sql.jdbc.record.meta.MetaInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.StructureInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ColumnarStructureInfoH2Test {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:columnar_" + UUID.randomUUID().toString().replace("-", ""), "sa", "");
+        try (Statement s = connection.createStatement()) {
+            s.execute("CREATE SCHEMA SALES");
+            s.execute("CREATE TABLE SALES.CUSTOMER (ID INT PRIMARY KEY, NAME VARCHAR(50) NOT NULL, "
+                    + "COUNTRY CHAR(2) DEFAULT 'DE', BALANCE DECIMAL(12,2))");
+            s.execute("COMMENT ON COLUMN SALES.CUSTOMER.NAME IS 'display name'");
+            s.execute("CREATE TABLE SALES.ORDERS (ID BIGINT AUTO_INCREMENT PRIMARY KEY, CUSTOMER_ID INT, "
+                    + "PLACED TIMESTAMP, FOREIGN KEY (CUSTOMER_ID) REFERENCES SALES.CUSTOMER(ID))");
+            s.execute("CREATE INDEX IDX_ORDERS_PLACED ON SALES.ORDERS(PLACED DESC, CUSTOMER_ID)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void columnar_snapshot_reads_back_the_same_rows() throws Exception {
+        MetaInfo info = new DatabaseServiceImpl().createMetaInfo(connection, new H2MetadataProvider(),
+                SnapshotOptions.ALL.withIncludedSchemas("SALES"));
+        StructureInfo structure = info.structureInfo();
+
+        ColumnarStructureInfo columnar = ColumnarStructureInfo.of(structure);
+
+        assertThat(columnar.columns()).hasSize(7).isEqualTo(structure.columns());
+        assertThat(columnar.tables()).isEqualTo(structure.tables());
+        assertThat(columnar.primaryKeys()).isEqualTo(structure.primaryKeys());
+        assertThat(columnar.importedKeys()).isEqualTo(structure.importedKeys());
+        assertThat(ColumnarStructureInfo.of(columnar)).isSameAs(columnar);
+        assertThat(ColumnarStructureInfo.of(structure)).isEqualTo(columnar).hasSameHashCodeAs(columnar);
+
+        ColumnarIndexInfos indexInfos = ColumnarIndexInfos.of(info.indexInfos());
+        assertThat(indexInfos).isEqualTo(info.indexInfos());
+        assertThat(indexInfos.itemCount())
+                .isEqualTo(info.indexInfos().stream().mapToInt(ii -> ii.indexInfoItems().size()).sum());
+
+        MetaInfo compact = new MetaInfoRecord(info.databaseInfo(), columnar, info.identifierInfo(),
+                info.typeInfos(), indexInfos);
+        assertThat(MetaInfoCodec.decode(MetaInfoCodec.encode(compact, null)).metaInfo()).isEqualTo(info);
+    }
+
+    @Test
+    void empty_and_null_fields_survive_packing() {
+        TableReference table = new TableReference("T");
+        ColumnDefinition sparse = new ColumnDefinitionRecord(new ColumnReference(Optional.of(table), "A"),
+                new ColumnMetaDataRecord(JDBCType.OTHER, null, OptionalInt.empty(), OptionalInt.of(0),
+                        OptionalInt.empty(), ColumnMetaData.Nullability.UNKNOWN, OptionalInt.empty(),
+                        Optional.empty(), Optional.of(""), ColumnMetaData.AutoIncrement.UNKNOWN,
+                        ColumnMetaData.GeneratedColumn.UNKNOWN));
+        ColumnDefinition detached = new ColumnDefinitionRecord(new ColumnReference(Optional.empty(), "B"),
+                new ColumnMetaDataRecord(JDBCType.INTEGER, "INTEGER", OptionalInt.of(-1), OptionalInt.empty(),
+                        OptionalInt.of(10), ColumnMetaData.Nullability.NO_NULLS, OptionalInt.empty(),
+                        Optional.of("remark"), Optional.empty(), ColumnMetaData.AutoIncrement.YES,
+                        ColumnMetaData.GeneratedColumn.NO));
+        StructureInfo structure = new StructureInfoRecord(List.of(), List.of(), List.of(),
+                List.of(sparse, detached), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(),
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+
+        List<ColumnDefinition> columns = ColumnarStructureInfo.of(structure).columns();
+
+        assertThat(columns).containsExactly(sparse, detached);
+        assertThatThrownBy(() -> columns.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+
+        IndexInfo index = new IndexInfoRecord(table, List.of(
+                new IndexInfoItemRecord(Optional.empty(), IndexInfoItem.IndexType.TABLE_INDEX_STATISTIC,
+                        Optional.empty(), 0, Optional.empty(), 12, 3, Optional.empty(), false),
+                new IndexInfoItemRecord(Optional.of("IDX"), IndexInfoItem.IndexType.TABLE_INDEX_OTHER,
+                        Optional.of(new ColumnReference(Optional.of(table), "A")), 1, Optional.of(false), -1, -1,
+                        Optional.of("A > 0"), true)));
+        assertThat(ColumnarIndexInfos.of(List.of(index, new IndexInfoRecord(table, List.of()))))
+                .containsExactly(index, new IndexInfoRecord(table, List.of()));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DatabaseServiceBatchedQueriesH2Test {
+
+    private static final Optional<SchemaReference> PUBLIC = Optional
+            .of(new SchemaReference(Optional.empty(), "PUBLIC"));
+
+    private final DatabaseServiceImpl service = new DatabaseServiceImpl();
+    private Connection connection;
+
+    private final TableReference customer = new TableReference(PUBLIC, "CUSTOMER");
+    private final TableReference orders = new TableReference(PUBLIC, "ORDERS");
+    private final TableReference audit = new TableReference(PUBLIC, "AUDIT");
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:batched_" + UUID.randomUUID().toString().replace("-", ""), "sa", "");
+        try (Statement s = connection.createStatement()) {
+            s.execute("CREATE TABLE CUSTOMER (ID INT PRIMARY KEY, EMAIL VARCHAR(50), "
+                    + "CONSTRAINT UQ_CUSTOMER_EMAIL UNIQUE (EMAIL), CONSTRAINT CK_CUSTOMER_ID CHECK (ID > 0))");
+            s.execute("CREATE TABLE ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT, "
+                    + "CONSTRAINT FK_ORDERS_CUSTOMER FOREIGN KEY (CUSTOMER_ID) REFERENCES CUSTOMER(ID))");
+            s.execute("CREATE INDEX IDX_ORDERS_CUSTOMER ON ORDERS(CUSTOMER_ID)");
+            s.execute("CREATE TABLE AUDIT (ID INT)");
+            s.execute("CREATE TABLE UNRELATED (ID INT, CONSTRAINT CK_UNRELATED CHECK (ID > 0))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void provider_reads_are_grouped_by_requested_table() throws Exception {
+        List<TableReference> tables = List.of(customer, orders, audit);
+        H2MetadataProvider provider = new H2MetadataProvider();
+
+        Map<TableReference, List<CheckConstraint>> checks = service.getCheckConstraints(connection, provider, tables);
+        Map<TableReference, List<UniqueConstraint>> uniques = service.getUniqueConstraints(connection, provider,
+                tables);
+
+        assertThat(checks).containsOnlyKeys(tables);
+        assertThat(checks.get(customer)).extracting(CheckConstraint::name).containsExactly("CK_CUSTOMER_ID");
+        assertThat(checks.get(orders)).isEmpty();
+        assertThat(uniques.get(customer)).extracting(UniqueConstraint::name).containsExactly("UQ_CUSTOMER_EMAIL");
+        assertThat(service.getTriggers(connection, provider, tables).values()).allMatch(List::isEmpty);
+    }
+
+    @Test
+    void batched_reads_match_per_table_reads() throws Exception {
+        List<TableReference> tables = List.of(customer, orders, audit);
+        H2MetadataProvider provider = new H2MetadataProvider();
+
+        Map<TableReference, List<ImportedKey>> imported = service.getImportedKeys(connection, provider, tables);
+        Map<TableReference, List<ImportedKey>> exported = service.getExportedKeys(connection, provider, tables);
+
+        for (TableReference table : tables) {
+            assertThat(imported.get(table))
+                    .containsExactlyInAnyOrderElementsOf(service.getImportedKeys(connection, provider, table));
+            assertThat(exported.get(table))
+                    .containsExactlyInAnyOrderElementsOf(service.getExportedKeys(connection, provider, table));
+        }
+        assertThat(imported.get(orders)).hasSize(1);
+        assertThat(exported.get(customer)).hasSize(1);
+    }
+
+    @Test
+    void jdbc_fallback_groups_index_info_and_keys_by_table() throws Exception {
+        List<TableReference> tables = List.of(customer, orders, audit);
+
+        Map<TableReference, List<IndexInfo>> indexes = service.getIndexInfo(connection, MetadataProvider.EMPTY,
+                tables);
+        Map<TableReference, List<ImportedKey>> imported = service.getImportedKeys(connection,
+                MetadataProvider.EMPTY, tables);
+
+        assertThat(indexes).containsOnlyKeys(tables);
+        assertThat(indexes.get(orders)).singleElement().satisfies(info -> assertThat(info.indexInfoItems())
+                .anyMatch(item -> item.indexName().filter(n -> n.equals("IDX_ORDERS_CUSTOMER")).isPresent()));
+        assertThat(imported.get(orders)).extracting(ImportedKey::name).containsExactly("FK_ORDERS_CUSTOMER");
+        assertThat(imported.get(customer)).isEmpty();
+        assertThat(imported.get(audit)).isEmpty();
+    }
+}
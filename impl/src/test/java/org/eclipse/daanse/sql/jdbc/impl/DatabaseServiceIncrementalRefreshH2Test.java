@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DatabaseServiceIncrementalRefreshH2Test {
+
+    private static final SnapshotOptions SALES = SnapshotOptions.ALL.withIncludedSchemas("SALES", "HR");
+
+    private Connection connection;
+    private final DatabaseServiceImpl service = new DatabaseServiceImpl();
+    private final MetadataProvider provider = new H2MetadataProvider();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:refresh_" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1",
+                "sa", "");
+        execute("CREATE SCHEMA SALES", "CREATE SCHEMA HR",
+                "CREATE TABLE SALES.CUSTOMER (ID INT PRIMARY KEY, NAME VARCHAR(50))",
+                "CREATE TABLE SALES.ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT, "
+                        + "FOREIGN KEY (CUSTOMER_ID) REFERENCES SALES.CUSTOMER(ID))",
+                "CREATE TABLE HR.EMPLOYEE (ID INT PRIMARY KEY)", "CREATE SEQUENCE SALES.ORDER_SEQ");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        execute("DROP ALL OBJECTS");
+        connection.close();
+    }
+
+    @Test
+    void unchanged_marker_returns_the_previous_snapshot() throws Exception {
+        ChangeMarker marker = service.readChangeMarker(connection, provider, SALES).orElseThrow();
+        MetaInfo previous = service.createMetaInfo(connection, provider, SALES);
+        execute("INSERT INTO SALES.CUSTOMER VALUES (1, 'a')");
+
+        ChangeMarker current = service.readChangeMarker(connection, provider, SALES).orElseThrow();
+        MetaInfo refreshed = service.refreshMetaInfo(connection, provider, SALES, previous, marker, current);
+
+        assertThat(current).isEqualTo(marker);
+        assertThat(refreshed).isSameAs(previous);
+    }
+
+    @Test
+    void altered_added_and_dropped_tables_match_a_full_snapshot() throws Exception {
+        ChangeMarker marker = service.readChangeMarker(connection, provider, SALES).orElseThrow();
+        MetaInfo previous = service.createMetaInfo(connection, provider, SALES);
+
+        execute("ALTER TABLE SALES.CUSTOMER ADD COLUMN EMAIL VARCHAR(100)",
+                "CREATE INDEX IDX_CUSTOMER_EMAIL ON SALES.CUSTOMER(EMAIL)",
+                "CREATE TABLE HR.DEPARTMENT (ID INT PRIMARY KEY, TITLE VARCHAR(20) UNIQUE)",
+                "DROP TABLE SALES.ORDERS", "CREATE SEQUENCE HR.DEPARTMENT_SEQ");
+
+        ChangeMarker current = service.readChangeMarker(connection, provider, SALES).orElseThrow();
+        MetaInfo refreshed = service.refreshMetaInfo(connection, provider, SALES, previous, marker, current);
+        MetaInfo full = service.createMetaInfo(connection, provider, SALES);
+
+        assertSameStructure(refreshed, full);
+        assertThat(refreshed.structureInfo().tables()).extracting(td -> td.table().name())
+                .containsExactlyInAnyOrder("CUSTOMER", "EMPLOYEE", "DEPARTMENT");
+        assertThat(refreshed.structureInfo().sequences()).extracting(seq -> seq.name())
+                .containsExactlyInAnyOrder("ORDER_SEQ", "DEPARTMENT_SEQ");
+    }
+
+    @Test
+    void only_changed_tables_are_re_read() throws Exception {
+        List<String> columnReads = new ArrayList<>();
+        MetadataProvider recording = new H2MetadataProvider() {
+            @Override
+            public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection c, String catalog,
+                    String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+                columnReads.add(schemaPattern + "." + tableNamePattern);
+                return super.getAllColumnDefinitions(c, catalog, schemaPattern, tableNamePattern, columnNamePattern);
+            }
+        };
+        ChangeMarker marker = service.readChangeMarker(connection, recording, SALES).orElseThrow();
+        MetaInfo previous = service.createMetaInfo(connection, recording, SALES);
+        columnReads.clear();
+
+        execute("ALTER TABLE HR.EMPLOYEE ADD COLUMN NAME VARCHAR(20)");
+        ChangeMarker current = service.readChangeMarker(connection, recording, SALES).orElseThrow();
+        MetaInfo refreshed = service.refreshMetaInfo(connection, recording, SALES, previous, marker, current);
+
+        assertThat(columnReads).containsExactly("HR.EMPLOYEE");
+        assertThat(refreshed.structureInfo().columns()).extracting(c -> c.column().name()).contains("NAME");
+        assertSameStructure(refreshed, service.createMetaInfo(connection, recording, SALES));
+    }
+
+    @Test
+    void caching_service_refreshes_incrementally_after_expiry() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(connection.getMetaData().getURL());
+        dataSource.setUser("sa");
+        CachingDatabaseService cache = new CachingDatabaseService(Duration.ofMinutes(1), 1, provider);
+
+        MetaInfo first = cache.createMetaInfo(dataSource);
+        assertThat(cache.refresh(dataSource)).as("no DDL since the snapshot").isSameAs(first);
+
+        execute("CREATE TABLE SALES.INVOICE (ID INT PRIMARY KEY)");
+        MetaInfo refreshed = cache.refresh(dataSource);
+
+        assertThat(refreshed).isNotSameAs(first);
+        assertThat(cache.createMetaInfo(dataSource)).isSameAs(refreshed);
+        assertSameStructure(refreshed, plainSnapshot(dataSource));
+    }
+
+    @Test
+    void failing_change_marker_falls_back_to_a_full_read() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(connection.getMetaData().getURL());
+        dataSource.setUser("sa");
+        MetadataProvider failing = new H2MetadataProvider() {
+            @Override
+            public Optional<ChangeMarker> getChangeMarker(Connection c, String catalog, String schema)
+                    throws SQLException {
+                throw new SQLException("marker query failed");
+            }
+        };
+        CachingDatabaseService cache = new CachingDatabaseService(Duration.ofMinutes(1), 1, null);
+
+        MetaInfo first = cache.createMetaInfo(dataSource, failing, SALES);
+        execute("CREATE TABLE SALES.INVOICE (ID INT PRIMARY KEY)");
+        MetaInfo refreshed = cache.refresh(dataSource, failing, SALES);
+
+        assertThat(refreshed).isNotSameAs(first);
+        assertThat(refreshed.structureInfo().tables()).extracting(t -> t.table().name()).contains("INVOICE");
+    }
+
+    private static MetaInfo plainSnapshot(DataSource dataSource) throws SQLException {
+        return new DatabaseServiceImpl().createMetaInfo(dataSource);
+    }
+
+    private static void assertSameStructure(MetaInfo actual, MetaInfo expected) {
+        StructureInfo a = actual.structureInfo();
+        StructureInfo e = expected.structureInfo();
+        assertThat(a.catalogs()).containsExactlyInAnyOrderElementsOf(e.catalogs());
+        assertThat(a.schemas()).containsExactlyInAnyOrderElementsOf(e.schemas());
+        assertThat(a.tables()).containsExactlyInAnyOrderElementsOf(e.tables());
+        assertThat(a.columns()).containsExactlyInAnyOrderElementsOf(e.columns());
+        assertThat(a.primaryKeys()).containsExactlyInAnyOrderElementsOf(e.primaryKeys());
+        assertThat(a.importedKeys()).containsExactlyInAnyOrderElementsOf(e.importedKeys());
+        assertThat(a.triggers()).containsExactlyInAnyOrderElementsOf(e.triggers());
+        assertThat(a.sequences()).containsExactlyInAnyOrderElementsOf(e.sequences());
+        assertThat(a.uniqueConstraints()).containsExactlyInAnyOrderElementsOf(e.uniqueConstraints());
+        assertThat(a.checkConstraints()).containsExactlyInAnyOrderElementsOf(e.checkConstraints());
+        assertThat(a.viewDefinitions()).containsExactlyInAnyOrderElementsOf(e.viewDefinitions());
+        assertThat(actual.indexInfos()).containsExactlyInAnyOrderElementsOf(expected.indexInfos());
+    }
+
+    private void execute(String... statements) throws SQLException {
+        try (Statement s = connection.createStatement()) {
+            for (String sql : statements) {
+                s.execute(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DatabaseServiceParallelSnapshotH2Test {
+
+    private Connection h2KeepAlive;
+    private CountingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String url = "jdbc:h2:mem:parallel_" + UUID.randomUUID().toString().replace("-", "")
+                + ";DB_CLOSE_DELAY=-1";
+        h2KeepAlive = DriverManager.getConnection(url, "sa", "");
+        try (Statement s = h2KeepAlive.createStatement()) {
+            s.execute("CREATE TABLE CUSTOMER (ID INT PRIMARY KEY, NAME VARCHAR(50) NOT NULL)");
+            s.execute("CREATE TABLE ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT, "
+                    + "CONSTRAINT FK_ORDERS_CUSTOMER FOREIGN KEY (CUSTOMER_ID) REFERENCES CUSTOMER(ID))");
+            s.execute("CREATE INDEX IDX_ORDERS_CUSTOMER ON ORDERS(CUSTOMER_ID)");
+            s.execute("CREATE SEQUENCE ORDER_SEQ");
+            s.execute("CREATE VIEW V_CUSTOMER AS SELECT ID, NAME FROM CUSTOMER");
+        }
+        JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL(url);
+        ds.setUser("sa");
+        ds.setPassword("");
+        dataSource = new CountingDataSource(ds);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (h2KeepAlive != null && !h2KeepAlive.isClosed()) h2KeepAlive.close();
+    }
+
+    @Test
+    void parallel_snapshot_with_provider_equals_sequential_snapshot() throws Exception {
+        MetaInfo sequential = new DatabaseServiceImpl().createMetaInfo(dataSource, new H2MetadataProvider());
+        MetaInfo parallel = new DatabaseServiceImpl(4).createMetaInfo(dataSource, new H2MetadataProvider());
+
+        assertStructureEquals(parallel.structureInfo(), sequential.structureInfo());
+        assertThat(parallel.indexInfos()).containsExactlyInAnyOrderElementsOf(sequential.indexInfos());
+        assertThat(parallel.typeInfos()).isEqualTo(sequential.typeInfos());
+        assertThat(parallel.databaseInfo()).isEqualTo(sequential.databaseInfo());
+        assertThat(parallel.structureInfo().sequences()).isNotEmpty();
+    }
+
+    @Test
+    void parallel_snapshot_without_provider_matches_plain_jdbc_snapshot() throws Exception {
+        MetaInfo sequential = new DatabaseServiceImpl().createMetaInfo(dataSource);
+        MetaInfo parallel = new DatabaseServiceImpl(3).createMetaInfo(dataSource);
+
+        assertStructureEquals(parallel.structureInfo(), sequential.structureInfo());
+        assertThat(parallel.structureInfo().primaryKeys()).isNotEmpty();
+        assertThat(parallel.structureInfo().importedKeys()).isNotEmpty();
+    }
+
+    @Test
+    void jdbc_fallback_fans_out_per_table_reads_within_the_cap() throws Exception {
+        try (Statement s = h2KeepAlive.createStatement()) {
+            for (int i = 0; i < 20; i++) {
+                s.execute("CREATE TABLE T" + i + " (ID INT PRIMARY KEY, CUSTOMER_ID INT REFERENCES CUSTOMER(ID))");
+            }
+        }
+        MetaInfo sequential = new DatabaseServiceImpl().createMetaInfo(dataSource);
+        dataSource.maxOpen.set(0);
+        MetaInfo parallel = new DatabaseServiceImpl(3).createMetaInfo(dataSource);
+
+        assertStructureEquals(parallel.structureInfo(), sequential.structureInfo());
+        assertThat(parallel.indexInfos()).containsExactlyInAnyOrderElementsOf(sequential.indexInfos());
+        assertThat(parallel.structureInfo().primaryKeys()).hasSizeGreaterThanOrEqualTo(22);
+        assertThat(parallel.structureInfo().importedKeys()).hasSizeGreaterThanOrEqualTo(21);
+        assertThat(dataSource.maxOpen.get()).isBetween(1, 3);
+        assertThat(dataSource.open.get()).isZero();
+    }
+
+    @Test
+    void parallel_snapshot_never_holds_more_connections_than_the_cap() throws Exception {
+        new DatabaseServiceImpl(2).createMetaInfo(dataSource, new H2MetadataProvider());
+
+        assertThat(dataSource.maxOpen.get()).isBetween(1, 2);
+        assertThat(dataSource.open.get()).as("every borrowed connection is returned").isZero();
+    }
+
+    @Test
+    void sequential_snapshot_borrows_a_single_connection() throws Exception {
+        new DatabaseServiceImpl().createMetaInfo(dataSource, new H2MetadataProvider());
+
+        assertThat(dataSource.borrowed.get()).isEqualTo(1);
+    }
+
+    @Test
+    void section_failure_surfaces_as_sql_exception_and_releases_connections() {
+        H2MetadataProvider failing = new H2MetadataProvider() {
+            @Override
+            public java.util.List<org.eclipse.daanse.sql.jdbc.api.schema.Sequence> getAllSequences(
+                    Connection connection, String catalog, String schema) throws SQLException {
+                throw new SQLException("boom");
+            }
+        };
+
+        assertThatThrownBy(() -> new DatabaseServiceImpl(4).createMetaInfo(dataSource, failing))
+                .isInstanceOf(SQLException.class).hasMessage("boom");
+    }
+
+    @Test
+    void parallelism_below_one_is_rejected() {
+        assertThatThrownBy(() -> new DatabaseServiceImpl(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertStructureEquals(StructureInfo actual, StructureInfo expected) {
+        assertThat(actual.catalogs()).containsExactlyInAnyOrderElementsOf(expected.catalogs());
+        assertThat(actual.schemas()).containsExactlyInAnyOrderElementsOf(expected.schemas());
+        assertThat(actual.tables()).containsExactlyInAnyOrderElementsOf(expected.tables());
+        assertThat(actual.columns()).containsExactlyInAnyOrderElementsOf(expected.columns());
+        assertThat(actual.primaryKeys()).containsExactlyInAnyOrderElementsOf(expected.primaryKeys());
+        assertThat(actual.importedKeys()).containsExactlyInAnyOrderElementsOf(expected.importedKeys());
+        assertThat(actual.sequences()).containsExactlyInAnyOrderElementsOf(expected.sequences());
+        assertThat(actual.viewDefinitions()).containsExactlyInAnyOrderElementsOf(expected.viewDefinitions());
+        assertThat(actual.checkConstraints()).containsExactlyInAnyOrderElementsOf(expected.checkConstraints());
+        assertThat(actual.uniqueConstraints()).containsExactlyInAnyOrderElementsOf(expected.uniqueConstraints());
+    }
+
+    /** Tracks how many connections are borrowed concurrently. */
+    private static final class CountingDataSource implements DataSource {
+
+        private final DataSource delegate;
+        final AtomicInteger open = new AtomicInteger();
+        final AtomicInteger maxOpen = new AtomicInteger();
+        final AtomicInteger borrowed = new AtomicInteger();
+
+        CountingDataSource(DataSource delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(delegate.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return track(delegate.getConnection(username, password));
+        }
+
+        private Connection track(Connection connection) {
+            borrowed.incrementAndGet();
+            maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+            return (Connection) java.lang.reflect.Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                        if ("close".equals(method.getName())) {
+                            open.decrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (java.lang.reflect.InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+
+        @Override
+        public PrintWriter getLogWriter() throws SQLException {
+            return delegate.getLogWriter();
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) throws SQLException {
+            delegate.setLogWriter(out);
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) throws SQLException {
+            delegate.setLoginTimeout(seconds);
+        }
+
+        @Override
+        public int getLoginTimeout() throws SQLException {
+            return delegate.getLoginTimeout();
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            return delegate.unwrap(iface);
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) throws SQLException {
+            return delegate.isWrapperFor(iface);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo.Section;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DatabaseServiceSnapshotOptionsH2Test {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:options_" + UUID.randomUUID().toString().replace("-", ""), "sa", "");
+        try (Statement s = connection.createStatement()) {
+            s.execute("CREATE SCHEMA SALES");
+            s.execute("CREATE SCHEMA HR");
+            s.execute("CREATE TABLE SALES.CUSTOMER (ID INT PRIMARY KEY, NAME VARCHAR(50))");
+            s.execute("CREATE TABLE SALES.ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT, "
+                    + "FOREIGN KEY (CUSTOMER_ID) REFERENCES SALES.CUSTOMER(ID))");
+            s.execute("CREATE TABLE SALES.TMP_IMPORT (ID INT PRIMARY KEY)");
+            s.execute("CREATE TABLE HR.EMPLOYEE (ID INT PRIMARY KEY)");
+            s.execute("CREATE SEQUENCE SALES.ORDER_SEQ");
+            s.execute("CREATE SEQUENCE HR.EMPLOYEE_SEQ");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void included_schema_limits_every_section() throws Exception {
+        MetaInfo info = new DatabaseServiceImpl().createMetaInfo(connection, new H2MetadataProvider(),
+                SnapshotOptions.ALL.withIncludedSchemas("SALES"));
+
+        assertThat(tableNames(info)).containsExactlyInAnyOrder("CUSTOMER", "ORDERS", "TMP_IMPORT");
+        assertThat(info.structureInfo().schemas()).extracting(SchemaReference::name).containsExactly("SALES");
+        assertThat(info.structureInfo().columns()).allSatisfy(
+                c -> assertThat(c.column().table().flatMap(t -> t.schema()).map(SchemaReference::name))
+                        .contains("SALES"));
+        assertThat(info.structureInfo().primaryKeys()).extracting(pk -> pk.table().name())
+                .containsExactlyInAnyOrder("CUSTOMER", "ORDERS", "TMP_IMPORT");
+        assertThat(info.structureInfo().importedKeys()).hasSize(1);
+        assertThat(info.structureInfo().sequences()).extracting(seq -> seq.name()).containsExactly("ORDER_SEQ");
+    }
+
+    @Test
+    void table_patterns_and_exclusions_apply_to_the_jdbc_fallback() throws Exception {
+        MetaInfo info = new DatabaseServiceImpl().createMetaInfo(connection,
+                SnapshotOptions.ALL.withIncludedSchemas("SALES", "HR").withExcludedTables("TMP%"));
+
+        assertThat(tableNames(info)).containsExactlyInAnyOrder("CUSTOMER", "ORDERS", "EMPLOYEE");
+        assertThat(info.structureInfo().primaryKeys()).extracting(PrimaryKey::table)
+                .extracting(t -> t.name()).doesNotContain("TMP_IMPORT");
+        assertThat(info.indexInfos()).extracting(ii -> ii.tableReference().name()).doesNotContain("TMP_IMPORT");
+    }
+
+    @Test
+    void excluded_schema_is_dropped_and_included_table_pattern_is_pushed_down() throws Exception {
+        MetaInfo info = new DatabaseServiceImpl().createMetaInfo(connection, new H2MetadataProvider(),
+                SnapshotOptions.ALL.withExcludedSchemas("HR", "PUBLIC", "INFORMATION_SCHEMA")
+                        .withIncludedTables("C%", "CUST%"));
+
+        assertThat(tableNames(info)).containsExactly("CUSTOMER");
+        assertThat(info.structureInfo().columns()).extracting(c -> c.column().name())
+                .containsExactlyInAnyOrder("ID", "NAME");
+    }
+
+    @Test
+    void provider_bulk_reads_receive_the_included_schemas() throws Exception {
+        List<String> requestedSchemas = new ArrayList<>();
+        H2MetadataProvider recording = new H2MetadataProvider() {
+            @Override
+            public Optional<List<PrimaryKey>> getAllPrimaryKeys(Connection c, String catalog, String schema)
+                    throws SQLException {
+                requestedSchemas.add(schema);
+                return super.getAllPrimaryKeys(c, catalog, schema);
+            }
+        };
+
+        new DatabaseServiceImpl().createMetaInfo(connection, recording,
+                SnapshotOptions.ALL.withIncludedSchemas("SALES", "HR"));
+
+        assertThat(requestedSchemas).containsExactly("SALES", "HR");
+    }
+
+    @Test
+    void unselected_sections_are_not_queried_and_come_back_empty() throws Exception {
+        List<String> calls = new ArrayList<>();
+        H2MetadataProvider recording = new H2MetadataProvider() {
+            @Override
+            public List<Sequence> getAllSequences(Connection c, String catalog, String schema) throws SQLException {
+                calls.add("sequences");
+                return super.getAllSequences(c, catalog, schema);
+            }
+
+            @Override
+            public List<ViewDefinition> getAllViewDefinitions(Connection c, String catalog, String schema)
+                    throws SQLException {
+                calls.add("views");
+                return super.getAllViewDefinitions(c, catalog, schema);
+            }
+        };
+
+        MetaInfo info = new DatabaseServiceImpl().createMetaInfo(connection, recording,
+                SnapshotOptions.ALL.withIncludedSchemas("SALES").withSections(Section.TABLES, Section.COLUMNS,
+                        Section.PRIMARY_KEYS, Section.IMPORTED_KEYS));
+
+        assertThat(calls).isEmpty();
+        assertThat(tableNames(info)).hasSize(3);
+        assertThat(info.structureInfo().primaryKeys()).hasSize(3);
+        assertThat(info.structureInfo().sequences()).isEmpty();
+        assertThat(info.structureInfo().schemas()).isEmpty();
+        assertThat(info.indexInfos()).isEmpty();
+    }
+
+    @Test
+    void jdbc_key_fallback_works_without_the_tables_section() throws Exception {
+        MetaInfo info = new DatabaseServiceImpl().createMetaInfo(connection,
+                SnapshotOptions.ALL.withIncludedSchemas("SALES").withSections(Section.PRIMARY_KEYS));
+
+        assertThat(info.structureInfo().tables()).isEmpty();
+        assertThat(info.structureInfo().columns()).isEmpty();
+        assertThat(info.structureInfo().primaryKeys()).extracting(pk -> pk.table().name())
+                .containsExactlyInAnyOrder("CUSTOMER", "ORDERS", "TMP_IMPORT");
+        assertThat(info.structureInfo().importedKeys()).isEmpty();
+    }
+
+    @Test
+    void repeated_sections_are_selected_once() {
+        SnapshotOptions options = SnapshotOptions.ALL.withSections(Section.TABLES, Section.COLUMNS, Section.TABLES);
+
+        assertThat(options.sections()).containsExactlyInAnyOrder(Section.TABLES, Section.COLUMNS);
+    }
+
+    @Test
+    void unrestricted_options_match_the_plain_snapshot() throws Exception {
+        MetaInfo plain = new DatabaseServiceImpl().createMetaInfo(connection, new H2MetadataProvider());
+        MetaInfo options = new DatabaseServiceImpl().createMetaInfo(connection, new H2MetadataProvider(),
+                SnapshotOptions.ALL);
+
+        assertThat(options.structureInfo()).isEqualTo(plain.structureInfo());
+    }
+
+    private static List<String> tableNames(MetaInfo info) {
+        return info.structureInfo().tables().stream().map(TableDefinition::table).map(t -> t.name()).toList();
+    }
+}
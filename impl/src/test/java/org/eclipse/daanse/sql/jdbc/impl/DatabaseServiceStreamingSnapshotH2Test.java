@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.SnapshotVisitor;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.TableSnapshot;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DatabaseServiceStreamingSnapshotH2Test {
+
+    private static final SnapshotOptions SALES = SnapshotOptions.ALL.withIncludedSchemas("SALES");
+
+    private Connection connection;
+    private JdbcDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String url = "jdbc:h2:mem:stream_" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1";
+        connection = DriverManager.getConnection(url, "sa", "");
+        dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+        try (Statement s = connection.createStatement()) {
+            s.execute("CREATE SCHEMA SALES");
+            s.execute("CREATE TABLE SALES.CUSTOMER (ID INT PRIMARY KEY, NAME VARCHAR(50))");
+            s.execute("CREATE TABLE SALES.ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT, "
+                    + "FOREIGN KEY (CUSTOMER_ID) REFERENCES SALES.CUSTOMER(ID))");
+            s.execute("CREATE TABLE SALES.ORDER_LINE (ORDER_ID INT, LINE INT, PRIMARY KEY (ORDER_ID, LINE))");
+            s.execute("CREATE SEQUENCE SALES.ORDER_SEQ");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try (Statement s = connection.createStatement()) {
+            s.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void visitor_sees_the_same_rows_as_the_snapshot_grouped_per_table() throws Exception {
+        for (MetadataProvider provider : List.of(MetadataProvider.EMPTY, new H2MetadataProvider())) {
+            Recorder recorder = new Recorder();
+            new DatabaseServiceImpl().visitSnapshot(connection, provider, SALES, recorder);
+            MetaInfo snapshot = new DatabaseServiceImpl().createMetaInfo(connection, provider, SALES);
+
+            assertThat(recorder.tables).containsExactlyInAnyOrderElementsOf(snapshot.structureInfo().tables());
+            assertThat(recorder.columns).containsExactlyInAnyOrderElementsOf(snapshot.structureInfo().columns());
+            assertThat(recorder.primaryKeys)
+                    .containsExactlyInAnyOrderElementsOf(snapshot.structureInfo().primaryKeys());
+            assertThat(recorder.importedKeys)
+                    .containsExactlyInAnyOrderElementsOf(snapshot.structureInfo().importedKeys());
+            assertThat(recorder.misplacedRows).as("rows outside their table's visitTable/endTable").isZero();
+        }
+    }
+
+    @Test
+    void schema_objects_follow_the_tables() throws Exception {
+        List<String> events = new ArrayList<>();
+        new DatabaseServiceImpl().visitSnapshot(connection, new H2MetadataProvider(), SALES, new SnapshotVisitor() {
+            @Override
+            public void endTable(TableDefinition table) {
+                events.add("table");
+            }
+
+            @Override
+            public void visitSequence(Sequence sequence) {
+                events.add("sequence:" + sequence.name());
+            }
+        });
+
+        assertThat(events).containsExactly("table", "table", "table", "sequence:ORDER_SEQ");
+    }
+
+    @Test
+    void skipped_table_gets_no_rows() throws Exception {
+        Recorder recorder = new Recorder() {
+            @Override
+            public boolean visitTable(TableDefinition table) {
+                return !"ORDERS".equals(table.table().name()) && super.visitTable(table);
+            }
+        };
+        new DatabaseServiceImpl().visitSnapshot(connection, MetadataProvider.EMPTY, SALES, recorder);
+
+        assertThat(recorder.tables).extracting(t -> t.table().name()).containsExactlyInAnyOrder("CUSTOMER",
+                "ORDER_LINE");
+        assertThat(recorder.columns).noneMatch(c -> "ORDERS".equals(c.column().table().get().name()));
+        assertThat(recorder.importedKeys).isEmpty();
+    }
+
+    @Test
+    void publisher_emits_only_what_was_requested() throws Exception {
+        BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+        Flow.Subscription[] subscription = new Flow.Subscription[1];
+        new DatabaseServiceImpl().publishSnapshot(dataSource, new H2MetadataProvider(), SALES)
+                .subscribe(new Flow.Subscriber<>() {
+                    @Override
+                    public void onSubscribe(Flow.Subscription s) {
+                        subscription[0] = s;
+                    }
+
+                    @Override
+                    public void onNext(TableSnapshot item) {
+                        signals.add(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        signals.add(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        signals.add("complete");
+                    }
+                });
+
+        subscription[0].request(1);
+        Object first = signals.poll(5, TimeUnit.SECONDS);
+        assertThat(first).isInstanceOf(TableSnapshot.class);
+        assertThat(signals.poll(200, TimeUnit.MILLISECONDS)).as("no demand left").isNull();
+
+        subscription[0].request(Long.MAX_VALUE);
+        List<Object> rest = new ArrayList<>();
+        for (Object signal = signals.poll(5, TimeUnit.SECONDS); signal != null; signal = signals.poll(5,
+                TimeUnit.SECONDS)) {
+            rest.add(signal);
+            if ("complete".equals(signal)) {
+                break;
+            }
+        }
+        assertThat(rest).hasSize(3).last().isEqualTo("complete");
+
+        List<TableSnapshot> tables = new ArrayList<>();
+        tables.add((TableSnapshot) first);
+        rest.stream().filter(TableSnapshot.class::isInstance).map(TableSnapshot.class::cast).forEach(tables::add);
+        TableSnapshot orders = tables.stream().filter(t -> "ORDERS".equals(t.table().table().name())).findFirst()
+                .orElseThrow();
+        assertThat(orders.columns()).extracting(c -> c.column().name()).containsExactly("ID", "CUSTOMER_ID");
+        assertThat(orders.primaryKey()).isPresent();
+        assertThat(orders.importedKeys()).hasSize(1);
+    }
+
+    @Test
+    void cancelled_publisher_stops_without_completing() throws Exception {
+        CountDownLatch first = new CountDownLatch(1);
+        List<Object> signals = new ArrayList<>();
+        new DatabaseServiceImpl().publishSnapshot(dataSource, MetadataProvider.EMPTY, SALES)
+                .subscribe(new Flow.Subscriber<>() {
+                    private Flow.Subscription subscription;
+
+                    @Override
+                    public void onSubscribe(Flow.Subscription s) {
+                        subscription = s;
+                        s.request(1);
+                    }
+
+                    @Override
+                    public void onNext(TableSnapshot item) {
+                        signals.add(item);
+                        subscription.cancel();
+                        first.countDown();
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        signals.add(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        signals.add("complete");
+                    }
+                });
+
+        assertThat(first.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+        assertThat(signals).hasSize(1);
+    }
+
+    private static class Recorder implements SnapshotVisitor {
+        final List<TableDefinition> tables = new ArrayList<>();
+        final List<ColumnDefinition> columns = new ArrayList<>();
+        final List<PrimaryKey> primaryKeys = new ArrayList<>();
+        final List<ImportedKey> importedKeys = new ArrayList<>();
+        int misplacedRows;
+        private TableDefinition open;
+
+        @Override
+        public boolean visitTable(TableDefinition table) {
+            open = table;
+            tables.add(table);
+            return true;
+        }
+
+        @Override
+        public void visitColumn(ColumnDefinition column) {
+            check(column.column().table().get().name());
+            columns.add(column);
+        }
+
+        @Override
+        public void visitPrimaryKey(PrimaryKey primaryKey) {
+            check(primaryKey.table().name());
+            primaryKeys.add(primaryKey);
+        }
+
+        @Override
+        public void visitImportedKey(ImportedKey importedKey) {
+            check(importedKey.foreignKeyColumn().table().get().name());
+            importedKeys.add(importedKey);
+        }
+
+        @Override
+        public void endTable(TableDefinition table) {
+            open = null;
+        }
+
+        private void check(String tableName) {
+            if (open == null || !open.table().name().equals(tableName)) {
+                misplacedRows++;
+            }
+        }
+    }
+}
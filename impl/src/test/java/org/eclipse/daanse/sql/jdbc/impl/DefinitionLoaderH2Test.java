@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.Definition;
+import org.eclipse.daanse.sql.jdbc.api.schema.DefinitionKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Function;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DefinitionLoaderH2Test {
+
+    private static final SnapshotOptions SALES = SnapshotOptions.ALL.withIncludedSchemas("SALES");
+
+    private Connection connection;
+    private JdbcDataSource dataSource;
+    private final CountingProvider provider = new CountingProvider();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String url = "jdbc:h2:mem:definitions_" + UUID.randomUUID().toString().replace("-", "")
+                + ";DB_CLOSE_DELAY=-1";
+        connection = DriverManager.getConnection(url, "sa", "");
+        dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+        try (Statement s = connection.createStatement()) {
+            s.execute("CREATE SCHEMA SALES");
+            s.execute("CREATE TABLE SALES.CUSTOMER (ID INT PRIMARY KEY, NAME VARCHAR(50), BALANCE INT)");
+            s.execute("CREATE VIEW SALES.RICH AS SELECT ID, NAME FROM SALES.CUSTOMER WHERE BALANCE > 1000");
+            s.execute("CREATE VIEW SALES.NAMES AS SELECT NAME FROM SALES.CUSTOMER");
+            s.execute("CREATE TRIGGER SALES.TRG_CUSTOMER BEFORE INSERT ON SALES.CUSTOMER FOR EACH ROW CALL \""
+                    + CoreTestAuditTrigger.class.getName() + "\"");
+            s.execute("CREATE ALIAS SALES.DOUBLED AS $$ int doubled(int value) { return value * 2; } $$");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try (Statement s = connection.createStatement()) {
+            s.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void snapshot_without_definitions_keeps_the_identities() throws Exception {
+        StructureInfo full = new DatabaseServiceImpl().createMetaInfo(connection, provider, SALES).structureInfo();
+        StructureInfo lazy = new DatabaseServiceImpl()
+                .createMetaInfo(connection, provider, SALES.withoutDefinitions()).structureInfo();
+
+        assertThat(full.viewDefinitions()).hasSize(2).allMatch(v -> v.viewBody().isPresent());
+        assertThat(lazy.viewDefinitions()).map(ViewDefinition::view)
+                .containsExactlyElementsOf(full.viewDefinitions().stream().map(ViewDefinition::view).toList());
+        assertThat(lazy.viewDefinitions()).allMatch(v -> Definition.of(v).isEmpty());
+
+        assertThat(full.triggers()).hasSize(1).allMatch(t -> t.body().isPresent());
+        assertThat(lazy.triggers()).map(Trigger::reference).containsExactly(full.triggers().get(0).reference());
+        assertThat(lazy.triggers().get(0).timing()).isEqualTo(full.triggers().get(0).timing());
+        assertThat(lazy.triggers()).allMatch(t -> Definition.of(t).isEmpty());
+
+        assertThat(full.functions()).anyMatch(f -> f.body().isPresent());
+        assertThat(lazy.functions()).map(Function::reference)
+                .containsExactlyElementsOf(full.functions().stream().map(Function::reference).toList());
+        assertThat(lazy.functions()).allMatch(f -> Definition.of(f).isEmpty());
+
+        assertThat(lazy.tables()).isEqualTo(full.tables());
+        assertThat(lazy.columns()).isEqualTo(full.columns());
+    }
+
+    @Test
+    void loader_reads_the_bodies_on_demand() throws Exception {
+        StructureInfo full = new DatabaseServiceImpl().createMetaInfo(connection, provider, SALES).structureInfo();
+        StructureInfo lazy = new DatabaseServiceImpl()
+                .createMetaInfo(connection, provider, SALES.withoutDefinitions()).structureInfo();
+        Map<DefinitionKey, Definition> expected = new LinkedHashMap<>();
+        full.viewDefinitions().forEach(v -> expected.put(DefinitionKey.of(v), Definition.of(v)));
+        full.triggers().forEach(t -> expected.put(DefinitionKey.of(t), Definition.of(t)));
+        full.functions().forEach(f -> expected.put(DefinitionKey.of(f), Definition.of(f)));
+        List<DefinitionKey> keys = new ArrayList<>();
+        lazy.viewDefinitions().forEach(v -> keys.add(DefinitionKey.of(v)));
+        lazy.triggers().forEach(t -> keys.add(DefinitionKey.of(t)));
+        lazy.functions().forEach(f -> keys.add(DefinitionKey.of(f)));
+
+        DefinitionLoader loader = new DefinitionLoader(dataSource, provider);
+        provider.definitionReads = 0;
+
+        DefinitionKey rich = DefinitionKey.of(lazy.viewDefinitions().stream()
+                .filter(v -> v.view().name().equals("RICH")).findFirst().orElseThrow());
+        assertThat(loader.get(rich).body()).hasValueSatisfying(body -> assertThat(body).contains("1000"));
+        assertThat(loader.get(rich)).isEqualTo(expected.get(rich));
+        assertThat(provider.definitionReads).isEqualTo(1);
+        assertThat(provider.requested).containsExactly(rich);
+
+        assertThat(loader.getAll(keys)).containsExactlyEntriesOf(expected);
+        assertThat(provider.definitionReads).isEqualTo(2);
+        assertThat(provider.requested).hasSize(keys.size() - 1).doesNotContain(rich);
+
+        assertThat(loader.getAll(keys)).containsExactlyEntriesOf(expected);
+        assertThat(provider.definitionReads).isEqualTo(2);
+
+        loader.invalidate();
+        assertThat(loader.size()).isZero();
+        assertThat(loader.get(rich)).isEqualTo(expected.get(rich));
+        assertThat(provider.definitionReads).isEqualTo(3);
+    }
+
+    @Test
+    void missing_objects_read_as_none() throws Exception {
+        DefinitionLoader loader = new DefinitionLoader(dataSource, provider);
+        DefinitionKey gone = new DefinitionKey(DefinitionKey.Kind.VIEW,
+                Optional.of(new SchemaReference(Optional.empty(), "SALES")), "GONE", null);
+
+        assertThat(loader.get(gone)).isEqualTo(Definition.NONE);
+        assertThat(loader.get(gone)).isEqualTo(Definition.NONE);
+        assertThat(provider.definitionReads).isEqualTo(1);
+    }
+
+    /** H2 provider counting the batched definition reads. */
+    private static final class CountingProvider extends H2MetadataProvider {
+
+        private int definitionReads;
+        private List<DefinitionKey> requested = List.of();
+
+        @Override
+        public Map<DefinitionKey, Definition> getDefinitions(Connection connection, Collection<DefinitionKey> keys)
+                throws SQLException {
+            definitionReads++;
+            requested = List.copyOf(keys);
+            return super.getDefinitions(connection, keys);
+        }
+    }
+}
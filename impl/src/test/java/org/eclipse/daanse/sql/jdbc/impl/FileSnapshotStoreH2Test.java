@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.record.io.MetaInfoCodec;
+import org.eclipse.daanse.sql.jdbc.record.io.MetaInfoCodec.StoredSnapshot;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSnapshotStoreH2Test {
+
+    private static final SnapshotOptions SALES = SnapshotOptions.ALL.withIncludedSchemas("SALES");
+
+    @TempDir
+    Path directory;
+
+    private Connection connection;
+    private final DatabaseServiceImpl service = new DatabaseServiceImpl();
+    private final MetadataProvider provider = new H2MetadataProvider();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:store_" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1",
+                "sa", "");
+        execute("CREATE SCHEMA SALES",
+                "CREATE TABLE SALES.CUSTOMER (ID INT PRIMARY KEY, NAME VARCHAR(50) NOT NULL UNIQUE, "
+                        + "AGE INT DEFAULT 18 CHECK (AGE >= 0))",
+                "CREATE TABLE SALES.ORDERS (ID BIGINT AUTO_INCREMENT PRIMARY KEY, CUSTOMER_ID INT, "
+                        + "AMOUNT DECIMAL(10,2), FOREIGN KEY (CUSTOMER_ID) REFERENCES SALES.CUSTOMER(ID) "
+                        + "ON DELETE CASCADE)",
+                "CREATE INDEX IDX_ORDERS_AMOUNT ON SALES.ORDERS(AMOUNT DESC)",
+                "CREATE VIEW SALES.BIG_ORDERS AS SELECT * FROM SALES.ORDERS WHERE AMOUNT > 100",
+                "CREATE SEQUENCE SALES.INVOICE_SEQ START WITH 10 INCREMENT BY 5",
+                "CREATE TRIGGER SALES.TRG_CUSTOMER BEFORE INSERT ON SALES.CUSTOMER FOR EACH ROW CALL \""
+                        + CoreTestAuditTrigger.class.getName() + "\"");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        execute("DROP ALL OBJECTS");
+        connection.close();
+    }
+
+    @Test
+    void codec_round_trips_a_full_snapshot_and_marker() throws Exception {
+        ChangeMarker marker = service.readChangeMarker(connection, provider, SALES).orElseThrow();
+        MetaInfo original = service.createMetaInfo(connection, provider, SALES);
+
+        StoredSnapshot decoded = MetaInfoCodec.decode(MetaInfoCodec.encode(original, marker));
+
+        assertThat(original.structureInfo().triggers()).isNotEmpty();
+        assertThat(original.structureInfo().sequences()).isNotEmpty();
+        assertThat(decoded.metaInfo()).isEqualTo(original);
+        assertThat(decoded.changeMarker()).contains(marker);
+    }
+
+    @Test
+    void decoded_rows_share_references_and_strings() throws Exception {
+        MetaInfo original = service.createMetaInfo(connection, provider, SALES);
+
+        MetaInfo decoded = MetaInfoCodec.decode(MetaInfoCodec.encode(original, null)).metaInfo();
+
+        ColumnDefinition[] orders = decoded.structureInfo().columns().stream()
+                .filter(c -> c.column().table().orElseThrow().name().equals("ORDERS"))
+                .toArray(ColumnDefinition[]::new);
+        assertThat(orders).hasSize(3);
+        assertThat(orders[1].column().table().get()).isSameAs(orders[0].column().table().get());
+        ColumnDefinition customerId = decoded.structureInfo().columns().stream()
+                .filter(c -> c.column().table().orElseThrow().name().equals("CUSTOMER"))
+                .filter(c -> c.column().name().equals("ID")).findFirst().orElseThrow();
+        assertThat(orders[1].columnMetaData().typeName()).isEqualTo("INTEGER")
+                .isSameAs(customerId.columnMetaData().typeName());
+    }
+
+    @Test
+    void other_versions_and_truncated_files_are_rejected() throws Exception {
+        MetaInfo original = service.createMetaInfo(connection, provider, SALES);
+        ByteBuffer encoded = MetaInfoCodec.encode(original, null);
+
+        ByteBuffer newer = ByteBuffer.allocate(encoded.remaining()).put(encoded.duplicate()).flip();
+        newer.putInt(4, MetaInfoCodec.VERSION + 1);
+        assertThatThrownBy(() -> MetaInfoCodec.decode(newer)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("version");
+
+        ByteBuffer truncated = encoded.duplicate().limit(encoded.limit() - 10).slice();
+        assertThatThrownBy(() -> MetaInfoCodec.decode(truncated)).isInstanceOf(IllegalArgumentException.class);
+
+        FileSnapshotStore store = new FileSnapshotStore(directory);
+        Files.write(directory.resolve("db.snapshot"), newer.array());
+        assertThat(store.load("db")).isEmpty();
+    }
+
+    @Test
+    void store_saves_and_maps_snapshots_per_key() throws Exception {
+        FileSnapshotStore store = new FileSnapshotStore(directory.resolve("nested"));
+        MetaInfo original = service.createMetaInfo(connection, provider, SALES);
+
+        assertThat(store.load("db")).isEmpty();
+        store.save("db", original, null);
+        store.save("db", original, null);
+
+        assertThat(store.load("db")).hasValueSatisfying(s -> {
+            assertThat(s.metaInfo()).isEqualTo(original);
+            assertThat(s.changeMarker()).isEmpty();
+        });
+        assertThat(store.load("other")).isEmpty();
+        assertThatThrownBy(() -> store.load("../db")).isInstanceOf(IllegalArgumentException.class);
+
+        store.delete("db");
+        assertThat(store.load("db")).isEmpty();
+    }
+
+    @Test
+    void warm_start_serves_the_stored_snapshot_and_revalidates_in_background() throws Exception {
+        FileSnapshotStore store = new FileSnapshotStore(directory);
+        JdbcDataSource plain = dataSource();
+        CachingDatabaseService first = new CachingDatabaseService(Duration.ofMinutes(5), 1, provider);
+        MetaInfo stored = first.createMetaInfo(plain);
+        first.persist(plain, store, "db");
+
+        execute("CREATE TABLE SALES.INVOICE (ID INT PRIMARY KEY)");
+
+        CountDownLatch open = new CountDownLatch(1);
+        DataSource gated = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("getConnection")) {
+                        open.await();
+                    }
+                    try {
+                        return method.invoke(plain, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        CachingDatabaseService restarted = new CachingDatabaseService(Duration.ofMinutes(5), 1, provider);
+
+        CompletableFuture<MetaInfo> revalidated = restarted.warmStart(gated, store, "db");
+        assertThat(restarted.createMetaInfo(gated)).as("served without touching the database")
+                .isEqualTo(stored);
+        assertThat(revalidated).isNotDone();
+
+        open.countDown();
+        MetaInfo fresh = revalidated.get(30, TimeUnit.SECONDS);
+
+        assertThat(fresh.structureInfo().tables()).extracting(td -> td.table().name()).contains("INVOICE");
+        assertThat(restarted.createMetaInfo(gated)).isSameAs(fresh);
+        assertThat(store.load("db").orElseThrow().metaInfo()).isEqualTo(fresh);
+    }
+
+    private JdbcDataSource dataSource() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(connection.getMetaData().getURL());
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+
+    private void execute(String... statements) throws SQLException {
+        try (Statement s = connection.createStatement()) {
+            for (String sql : statements) {
+                s.execute(sql);
+            }
+        }
+    }
+}
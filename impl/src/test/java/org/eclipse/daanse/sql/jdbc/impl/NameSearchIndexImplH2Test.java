@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.UUID;
+
+import org.eclipse.daanse.sql.dialect.api.IdentifierCaseFolding;
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.NameSearchIndex;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NameSearchIndexImplH2Test {
+
+    private Connection connection;
+    private MetaInfo metaInfo;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:search_" + UUID.randomUUID().toString().replace("-", ""), "sa", "");
+        try (Statement s = connection.createStatement()) {
+            s.execute("CREATE SCHEMA SALES");
+            s.execute("CREATE TABLE SALES.CUSTOMER (ID INT PRIMARY KEY, FULL_NAME VARCHAR(50))");
+            s.execute("CREATE TABLE SALES.CUSTOMERS_OLD (ID INT, FULLXNAME VARCHAR(50))");
+            s.execute("CREATE TABLE SALES.ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT)");
+            s.execute("CREATE VIEW SALES.CUSTOMER_NAMES AS SELECT FULL_NAME FROM SALES.CUSTOMER");
+            s.execute("CREATE TABLE PUBLIC.CUSTOMER (ID INT)");
+        }
+        metaInfo = new DatabaseServiceImpl().createMetaInfo(connection, new H2MetadataProvider(),
+                SnapshotOptions.ALL.withIncludedSchemas("SALES", "PUBLIC"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void tables_are_found_by_prefix_and_pattern() {
+        NameSearchIndex index = NameSearchIndexImpl.of(metaInfo);
+
+        assertThat(index.tablesStartingWith("CUST", 10)).extracting(t -> t.table().name())
+                .containsExactly("CUSTOMER", "CUSTOMER", "CUSTOMERS_OLD", "CUSTOMER_NAMES");
+        assertThat(index.tables("SALES", "CUSTOMER", 10)).extracting(t -> t.table().name())
+                .containsExactly("CUSTOMER");
+        assertThat(index.tables("SAL%", "%S", 10)).extracting(t -> t.table().name())
+                .containsExactly("CUSTOMER_NAMES", "ORDERS");
+        assertThat(index.tables(null, "CUSTOMER_%", 10)).extracting(t -> t.table().name())
+                .containsExactly("CUSTOMERS_OLD", "CUSTOMER_NAMES");
+        assertThat(index.tables(null, "CUSTOMER\\_%", 10)).extracting(t -> t.table().name())
+                .containsExactly("CUSTOMER_NAMES");
+        assertThat(index.tablesStartingWith("CUST", 2)).hasSize(2);
+        assertThat(index.tablesStartingWith("NOPE", 10)).isEmpty();
+    }
+
+    @Test
+    void columns_are_found_by_table_and_name() {
+        NameSearchIndex index = NameSearchIndexImpl.of(metaInfo);
+
+        assertThat(index.columns(null, null, "FULL\\_NAME", 10)).extracting(c -> c.column().table().get().name())
+                .containsExactlyInAnyOrder("CUSTOMER", "CUSTOMER_NAMES");
+        assertThat(index.columns("SALES", "CUSTOMER%", "FULL_NAME", 10)).hasSize(3);
+        assertThat(index.columns("SALES", "CUSTOMER%", "FULL\\_NAME", 10)).hasSize(2);
+        assertThat(index.columns("PUBLIC", null, "ID", 10)).extracting(c -> c.column().table().get().name())
+                .containsExactly("CUSTOMER");
+        assertThat(index.columnsStartingWith("CUSTOMER_", 10)).extracting(c -> c.column().name())
+                .containsExactly("CUSTOMER_ID");
+    }
+
+    @Test
+    void case_folding_applies_to_patterns() {
+        NameSearchIndex exact = NameSearchIndexImpl.of(metaInfo);
+        NameSearchIndex folded = NameSearchIndexImpl.of(metaInfo, IdentifierCaseFolding.UPPER::fold);
+
+        assertThat(exact.tables("sales", "cust%", 10)).isEmpty();
+        assertThat(folded.tables("sales", "cust%", 10)).extracting(t -> t.table().name())
+                .containsExactly("CUSTOMER", "CUSTOMERS_OLD", "CUSTOMER_NAMES");
+        assertThat(folded.columns(null, "orders", "customer_id", 10)).hasSize(1);
+    }
+}
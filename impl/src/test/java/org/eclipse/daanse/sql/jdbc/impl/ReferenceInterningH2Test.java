@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.record.io.MetaInfoCodec;
+import org.eclipse.daanse.sql.jdbc.record.meta.ReferenceInterner;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReferenceInterningH2Test {
+
+    private static final SnapshotOptions SALES = SnapshotOptions.ALL.withIncludedSchemas("SALES");
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:interning_" + UUID.randomUUID().toString().replace("-", ""), "sa", "");
+        try (Statement s = connection.createStatement()) {
+            s.execute("CREATE SCHEMA SALES");
+            s.execute("CREATE TABLE SALES.CUSTOMER (ID INT PRIMARY KEY, NAME VARCHAR(50), CITY VARCHAR(50))");
+            s.execute("CREATE TABLE SALES.ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT, NOTE VARCHAR(50), "
+                    + "FOREIGN KEY (CUSTOMER_ID) REFERENCES SALES.CUSTOMER(ID))");
+            s.execute("CREATE INDEX IDX_ORDERS_NOTE ON SALES.ORDERS(NOTE)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void snapshot_rows_share_canonical_references() throws Exception {
+        MetaInfo info = new DatabaseServiceImpl().createMetaInfo(connection, new H2MetadataProvider(), SALES);
+        assertShared(info);
+    }
+
+    @Test
+    void jdbc_fallback_rows_share_canonical_references() throws Exception {
+        MetaInfo info = new DatabaseServiceImpl().createMetaInfo(connection, SALES);
+        assertShared(info);
+    }
+
+    @Test
+    void refreshed_snapshot_shares_references_across_kept_and_reread_rows() throws Exception {
+        DatabaseServiceImpl service = new DatabaseServiceImpl();
+        H2MetadataProvider provider = new H2MetadataProvider();
+        ChangeMarker marker = service.readChangeMarker(connection, provider, SALES).orElseThrow();
+        MetaInfo previous = service.createMetaInfo(connection, provider, SALES);
+        try (Statement s = connection.createStatement()) {
+            s.execute("ALTER TABLE SALES.ORDERS ADD COLUMN AMOUNT INT");
+        }
+
+        ChangeMarker current = service.readChangeMarker(connection, provider, SALES).orElseThrow();
+        MetaInfo refreshed = service.refreshMetaInfo(connection, provider, SALES, previous, marker, current);
+
+        assertThat(column(refreshed.structureInfo().columns(), "ORDERS", "AMOUNT")).isNotNull();
+        assertShared(refreshed);
+    }
+
+    @Test
+    void decoded_snapshot_shares_column_metadata() throws Exception {
+        MetaInfo original = new DatabaseServiceImpl().createMetaInfo(connection, new H2MetadataProvider(), SALES);
+
+        MetaInfo decoded = MetaInfoCodec.decode(MetaInfoCodec.encode(original, null)).metaInfo();
+
+        assertThat(decoded).isEqualTo(original);
+        assertShared(decoded);
+    }
+
+    @Test
+    void interner_pools_equal_values() {
+        ReferenceInterner interner = new ReferenceInterner();
+        ColumnReference first = new ColumnReference(Optional.of(new TableReference(
+                Optional.of(new SchemaReference(Optional.of(new CatalogReference("DB")), "S")), "T")), "A");
+        ColumnReference second = new ColumnReference(Optional.of(new TableReference(
+                Optional.of(new SchemaReference(Optional.of(new CatalogReference("DB")), "S")), "T")), "B");
+
+        ColumnReference a = interner.column(first);
+        ColumnReference b = interner.column(second);
+        assertThat(a).isEqualTo(first);
+        assertThat(a.table()).isSameAs(b.table());
+        assertThat(interner.table(second.table().orElseThrow())).isSameAs(a.table().orElseThrow());
+        assertThat(interner.schema(new SchemaReference(Optional.of(new CatalogReference("DB")), "S")))
+                .isSameAs(a.table().orElseThrow().schema().orElseThrow());
+        assertThat(interner.catalog(new CatalogReference("DB")))
+                .isSameAs(a.table().orElseThrow().schema().orElseThrow().catalog().orElseThrow());
+
+        ColumnMetaData varchar = interner.columnMetaData(varchar(50));
+        assertThat(interner.columnMetaData(varchar(50))).isSameAs(varchar);
+        assertThat(interner.columnMetaData(varchar(80))).isNotSameAs(varchar);
+        assertThat(interner.column(null)).isNull();
+    }
+
+    private static void assertShared(MetaInfo info) {
+        StructureInfo structure = info.structureInfo();
+        List<TableReference> tables = new ArrayList<>();
+        List<ColumnReference> columns = new ArrayList<>();
+        structure.tables().forEach(t -> tables.add(t.table()));
+        structure.columns().forEach(c -> columns.add(c.column()));
+        structure.primaryKeys().forEach(pk -> {
+            tables.add(pk.table());
+            columns.addAll(pk.columns());
+        });
+        structure.importedKeys().forEach(fk -> {
+            columns.add(fk.primaryKeyColumn());
+            columns.add(fk.foreignKeyColumn());
+        });
+        info.indexInfos().forEach(ii -> {
+            tables.add(ii.tableReference());
+            ii.indexInfoItems().forEach(item -> item.column().ifPresent(columns::add));
+        });
+        columns.forEach(c -> c.table().ifPresent(tables::add));
+        List<SchemaReference> schemas = tables.stream().flatMap(t -> t.schema().stream()).toList();
+
+        assertThat(columns).hasSizeGreaterThan(structure.columns().size());
+        assertCanonical(tables);
+        assertCanonical(columns);
+        assertCanonical(schemas);
+        assertCanonical(structure.columns().stream().map(ColumnDefinition::columnMetaData).toList());
+
+        ColumnDefinition customerName = column(structure.columns(), "CUSTOMER", "NAME");
+        assertThat(column(structure.columns(), "CUSTOMER", "CITY").column().table())
+                .isSameAs(customerName.column().table());
+        assertThat(column(structure.columns(), "ORDERS", "NOTE").columnMetaData())
+                .isSameAs(customerName.columnMetaData());
+    }
+
+    /** Equal values are one instance: as many identities as distinct values. */
+    private static void assertCanonical(List<?> values) {
+        Set<Object> identities = Collections.newSetFromMap(new IdentityHashMap<>());
+        identities.addAll(values);
+        assertThat(identities).hasSize(new HashSet<>(values).size());
+    }
+
+    private static ColumnDefinition column(List<ColumnDefinition> columns, String table, String name) {
+        return columns.stream()
+                .filter(c -> c.column().table().orElseThrow().name().equals(table) && c.column().name().equals(name))
+                .findFirst().orElseThrow();
+    }
+
+    private static ColumnMetaDataRecord varchar(int size) {
+        return new ColumnMetaDataRecord(JDBCType.VARCHAR, "CHARACTER VARYING", OptionalInt.of(size),
+                OptionalInt.empty(), OptionalInt.empty(), ColumnMetaData.Nullability.NULLABLE, OptionalInt.of(size),
+                Optional.empty(), Optional.empty(), ColumnMetaData.AutoIncrement.NO, ColumnMetaData.GeneratedColumn.NO);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SnapshotExistenceServiceH2Test {
+
+    private static final SnapshotOptions SALES = SnapshotOptions.ALL.withIncludedSchemas("SALES");
+    private static final Optional<SchemaReference> SCHEMA = Optional.of(new SchemaReference(Optional.empty(), "SALES"));
+    private static final TableReference CUSTOMER = new TableReference(SCHEMA, "CUSTOMER", "TABLE");
+    private static final TableReference ORDERS = new TableReference(SCHEMA, "ORDERS", "TABLE");
+
+    private Connection connection;
+    private final MetadataProvider provider = new H2MetadataProvider();
+    private final CountingQueries queries = new CountingQueries();
+    private final AtomicReference<MetaInfo> snapshot = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:existence_" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1",
+                "sa", "");
+        try (Statement s = connection.createStatement()) {
+            s.execute("CREATE SCHEMA SALES");
+            s.execute("CREATE TABLE SALES.CUSTOMER (ID INT PRIMARY KEY, FULL_NAME VARCHAR(50))");
+        }
+        refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try (Statement s = connection.createStatement()) {
+            s.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void snapshot_hits_do_not_reach_the_database() throws Exception {
+        SnapshotExistenceService existence = existence(Duration.ofMinutes(1));
+
+        assertThat(existence.tableExists(connection, provider, CUSTOMER)).isTrue();
+        assertThat(existence.tableExists(connection, provider, null, "SALES", "CUSTOMER",
+                new String[] { "BASE TABLE" })).isTrue();
+        assertThat(existence.tableExists(connection, provider, null, null, "CUSTOMER", null)).isTrue();
+        assertThat(existence.columnExists(connection, provider, new ColumnReference(Optional.of(CUSTOMER), "ID")))
+                .isTrue();
+        assertThat(existence.columnExists(connection, provider, null, "SALES", "CUSTOMER", "FULL_NAME")).isTrue();
+        assertThat(queries.checks).isZero();
+    }
+
+    @Test
+    void misses_are_denied_for_the_negative_ttl() throws Exception {
+        SnapshotExistenceService existence = existence(Duration.ofMillis(50));
+
+        assertThat(existence.tableExists(connection, provider, ORDERS)).isFalse();
+        assertThat(existence.tableExists(connection, provider, ORDERS)).isFalse();
+        assertThat(existence.columnExists(connection, provider, null, "SALES", "CUSTOMER", "EMAIL")).isFalse();
+        assertThat(existence.columnExists(connection, provider, null, "SALES", "CUSTOMER", "EMAIL")).isFalse();
+        assertThat(queries.checks).isEqualTo(2);
+
+        Thread.sleep(120);
+        assertThat(existence.tableExists(connection, provider, ORDERS)).isFalse();
+        assertThat(queries.checks).isEqualTo(3);
+    }
+
+    @Test
+    void objects_missing_from_the_snapshot_are_confirmed_once() throws Exception {
+        SnapshotExistenceService existence = existence(Duration.ofMinutes(1));
+        try (Statement s = connection.createStatement()) {
+            s.execute("CREATE TABLE SALES.ORDERS (ID INT)");
+        }
+
+        assertThat(existence.tableExists(connection, provider, ORDERS)).isTrue();
+        assertThat(existence.tableExists(connection, provider, ORDERS)).isTrue();
+        assertThat(existence.tableExists(connection, provider, null, "SALES", "CUST%", null)).isTrue();
+        assertThat(queries.checks).isEqualTo(2);
+    }
+
+    @Test
+    void refreshed_snapshot_drops_the_negative_cache() throws Exception {
+        SnapshotExistenceService existence = existence(Duration.ofMinutes(1));
+        assertThat(existence.tableExists(connection, provider, ORDERS)).isFalse();
+
+        try (Statement s = connection.createStatement()) {
+            s.execute("CREATE TABLE SALES.ORDERS (ID INT)");
+        }
+        assertThat(existence.tableExists(connection, provider, ORDERS)).isFalse();
+
+        refresh();
+        assertThat(existence.tableExists(connection, provider, ORDERS)).isTrue();
+        assertThat(queries.checks).isEqualTo(1);
+    }
+
+    @Test
+    void reported_drops_and_creates_override_the_snapshot() throws Exception {
+        SnapshotExistenceService existence = existence(Duration.ofMinutes(1));
+        assertThat(existence.tableExists(connection, provider, ORDERS)).isFalse();
+
+        try (Statement s = connection.createStatement()) {
+            s.execute("DROP TABLE SALES.CUSTOMER");
+            s.execute("CREATE TABLE SALES.ORDERS (ID INT, AMOUNT INT)");
+        }
+        existence.tableDropped(CUSTOMER);
+        existence.tableCreated(ORDERS);
+        queries.checks = 0;
+
+        assertThat(existence.tableExists(connection, provider, CUSTOMER)).isFalse();
+        assertThat(existence.columnExists(connection, provider, new ColumnReference(Optional.of(CUSTOMER), "ID")))
+                .isFalse();
+        assertThat(existence.tableExists(connection, provider, ORDERS)).isTrue();
+        assertThat(existence.columnExists(connection, provider, new ColumnReference(Optional.of(ORDERS), "AMOUNT")))
+                .isTrue();
+        assertThat(queries.checks).isEqualTo(3);
+    }
+
+    @Test
+    void changes_reported_without_schema_apply_to_every_schema() throws Exception {
+        SnapshotExistenceService existence = existence(Duration.ofMinutes(1));
+        TableReference customer = new TableReference(Optional.empty(), "CUSTOMER", "TABLE");
+        TableReference orders = new TableReference(Optional.empty(), "ORDERS", "TABLE");
+
+        // as the CSV importer reports tables of files at its root
+        try (Statement s = connection.createStatement()) {
+            s.execute("DROP TABLE SALES.CUSTOMER");
+            s.execute("CREATE TABLE SALES.ORDERS (ID INT)");
+        }
+        existence.tableDropped(customer);
+        existence.tableCreated(orders);
+        queries.checks = 0;
+
+        assertThat(existence.tableExists(connection, provider, CUSTOMER)).isFalse();
+        assertThat(existence.tableExists(connection, provider, customer)).isFalse();
+        assertThat(queries.checks).isEqualTo(2);
+        assertThat(existence.tableExists(connection, provider, orders)).isTrue();
+        assertThat(queries.checks).isEqualTo(2);
+        assertThat(existence.tableExists(connection, provider, ORDERS)).isTrue();
+    }
+
+    private SnapshotExistenceService existence(Duration negativeTtl) {
+        return new SnapshotExistenceService(snapshot::get, queries, negativeTtl);
+    }
+
+    private void refresh() throws SQLException {
+        snapshot.set(new DatabaseServiceImpl().createMetaInfo(connection, provider, SALES));
+    }
+
+    /** Counts the existence checks that reach the database. */
+    private static final class CountingQueries extends DatabaseServiceImpl {
+
+        private int checks;
+
+        @Override
+        public boolean tableExists(Connection connection, MetadataProvider provider, String catalog,
+                String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+            checks++;
+            return super.tableExists(connection, provider, catalog, schemaPattern, tableNamePattern, types);
+        }
+
+        @Override
+        public boolean columnExists(Connection connection, MetadataProvider provider, String catalog,
+                String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+            checks++;
+            return super.columnExists(connection, provider, catalog, schemaPattern, tableNamePattern,
+                    columnNamePattern);
+        }
+    }
+}
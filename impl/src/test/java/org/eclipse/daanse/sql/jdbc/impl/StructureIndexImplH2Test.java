@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.daanse.sql.jdbc.api.SnapshotOptions;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureIndex;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StructureIndexImplH2Test {
+
+    private Connection connection;
+    private MetaInfo metaInfo;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:index_" + UUID.randomUUID().toString().replace("-", ""), "sa", "");
+        try (Statement s = connection.createStatement()) {
+            s.execute("CREATE SCHEMA SALES");
+            s.execute("CREATE TABLE SALES.CUSTOMER (ID INT PRIMARY KEY, NAME VARCHAR(50) UNIQUE, "
+                    + "AGE INT CHECK (AGE >= 0))");
+            s.execute("CREATE TABLE SALES.ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT, "
+                    + "FOREIGN KEY (CUSTOMER_ID) REFERENCES SALES.CUSTOMER(ID))");
+            s.execute("CREATE INDEX IDX_ORDERS_CUSTOMER ON SALES.ORDERS(CUSTOMER_ID)");
+            s.execute("CREATE TABLE PUBLIC.CUSTOMER (ID INT)");
+        }
+        metaInfo = new DatabaseServiceImpl().createMetaInfo(connection, new H2MetadataProvider(),
+                SnapshotOptions.ALL.withIncludedSchemas("SALES", "PUBLIC"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void columns_and_keys_are_found_by_table() {
+        StructureIndex index = StructureIndexImpl.of(metaInfo);
+        TableReference customer = index.table(null, "SALES", "CUSTOMER").orElseThrow().table();
+        TableReference orders = index.table(null, "SALES", "ORDERS").orElseThrow().table();
+
+        assertThat(index.columns(customer)).extracting(c -> c.column().name()).containsExactly("ID", "NAME", "AGE");
+        assertThat(index.primaryKey(customer)).isPresent();
+        assertThat(index.uniqueConstraints(customer)).hasSize(1);
+        assertThat(index.checkConstraints(customer)).isNotEmpty();
+        assertThat(index.importedKeys(orders)).extracting(fk -> fk.foreignKeyColumn().name())
+                .containsExactly("CUSTOMER_ID");
+        assertThat(index.exportedKeys(customer)).extracting(fk -> fk.foreignKeyColumn().table().get().name())
+                .containsExactly("ORDERS");
+        assertThat(index.exportedKeys(orders)).isEmpty();
+        assertThat(index.indexInfos(orders)).isNotEmpty();
+    }
+
+    @Test
+    void same_name_in_other_schema_is_kept_apart() {
+        StructureIndex index = StructureIndexImpl.of(metaInfo);
+        TableReference publicCustomer = index.table(null, "PUBLIC", "CUSTOMER").orElseThrow().table();
+
+        assertThat(index.columns(publicCustomer)).extracting(c -> c.column().name()).containsExactly("ID");
+        assertThat(index.primaryKey(publicCustomer)).isEmpty();
+    }
+
+    @Test
+    void catalog_less_reference_matches_catalog_qualified_rows() {
+        StructureIndex index = StructureIndexImpl.of(metaInfo);
+        TableReference bare = new TableReference(Optional.of(new SchemaReference(Optional.empty(), "SALES")),
+                "ORDERS", TableReference.TYPE_TABLE);
+
+        assertThat(index.table(bare)).isPresent();
+        assertThat(index.columns(bare)).hasSize(2);
+        assertThat(index.table("OTHER_CATALOG", "SALES", "ORDERS")).isEmpty();
+    }
+
+    @Test
+    void case_folding_applies_to_lookups() {
+        assertThat(StructureIndexImpl.of(metaInfo).table(null, "sales", "customer")).isEmpty();
+
+        StructureIndex folded = StructureIndexImpl.of(metaInfo, StructureIndexImpl.UPPER_CASE);
+        TableReference lower = new TableReference(Optional.of(new SchemaReference(Optional.empty(), "sales")),
+                "customer", TableReference.TYPE_TABLE);
+
+        assertThat(folded.table(lower)).isPresent();
+        assertThat(folded.columns(lower)).hasSize(3);
+    }
+}
@@ -37,6 +37,7 @@ import org.eclipse.daanse.io.fs.watcher.api.EventKind;
 import org.eclipse.daanse.io.fs.watcher.api.FileSystemWatcherListener;
 import org.eclipse.daanse.io.fs.watcher.api.propertytypes.FileSystemWatcherListenerProperties;
 import org.eclipse.daanse.sql.jdbc.api.DatabaseService;
+import org.eclipse.daanse.sql.jdbc.api.ExistenceService;
 import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
 import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
 import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
@@ -54,6 +55,8 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.osgi.service.component.annotations.ServiceScope;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
@@ -84,6 +87,8 @@ public class CsvDataImporter implements FileSystemWatcherListener {
 
     private DialectFactory dialectFactory;
 
+    private volatile ExistenceService existenceService;
+
     @Reference(name = "dataSource")
     public void setDataSource(DataSource dataSource) {
         this.dataSource = dataSource;
@@ -117,6 +122,22 @@ public class CsvDataImporter implements FileSystemWatcherListener {
         }
     }
 
+    /**
+     * Told about the tables this importer drops and creates. Registered by
+     * {@code SnapshotExistenceServiceComponent} of the jdbc impl bundle once
+     * its configuration exists; without one the importer runs unchanged.
+     */
+    @Reference(name = "existenceService", cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setExistenceService(ExistenceService existenceService) {
+        this.existenceService = existenceService;
+    }
+
+    public void unsetExistenceService(ExistenceService existenceService) {
+        if (this.existenceService == existenceService) {
+            this.existenceService = null;
+        }
+    }
+
     private CsvDataImporterConfig config;
     private Dialect dialect;
 
@@ -226,6 +247,7 @@ public class CsvDataImporter implements FileSystemWatcherListener {
             try (Statement stmnt = connection.createStatement()) {
                 stmnt.execute(sqlDropTable);
             }
+            tableDropped(table);
 
         } catch (SQLException e) {
             throw new CsvDataImporterException("Exception while drop Table", e);
@@ -242,12 +264,27 @@ public class CsvDataImporter implements FileSystemWatcherListener {
 
             stmt.execute(sql);
             connection.commit();
+            tableCreated(table.table());
         } catch (SQLException e) {
             throw new CsvDataImporterException("Exception wile create table", e);
         }
 
     }
 
+    private void tableCreated(TableReference table) {
+        ExistenceService existence = existenceService;
+        if (existence != null) {
+            existence.tableCreated(table);
+        }
+    }
+
+    private void tableDropped(TableReference table) {
+        ExistenceService existence = existenceService;
+        if (existence != null) {
+            existence.tableDropped(table);
+        }
+    }
+
     private Optional<SchemaReference> getSchemaFromPath(Path path) {
         Path parent = path.getParent();
         if (basePath.equals(parent)) {
@@ -434,6 +471,7 @@ public class CsvDataImporter implements FileSystemWatcherListener {
             try (Statement stmnt = connection.createStatement()) {
                 stmnt.execute(sql);
             }
+            tableDropped(targetTable);
         } catch (SQLException e) {
             throw new CsvDataImporterException(EXCEPTION_DATABASE_CONNECTION_ERROR, e);
 
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
+import org.eclipse.daanse.sql.jdbc.record.meta.ChangeMarkerRecord;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * Builds a {@link ChangeMarker} from one engine-specific catalog query whose
+ * markers all take the schema name and which yields
+ * {@code TABLE_NAME, TABLE_TYPE, STAMP} rows. Rows without a table name carry
+ * the stamp of the schema-level objects.
+ */
+final class ChangeMarkers {
+
+    /** Stamps longer than this are reduced to hash and length to keep markers small. */
+    private static final int MAX_STAMP_LENGTH = 64;
+
+    private ChangeMarkers() {
+    }
+
+    /**
+     * @param schemaParameters the number of markers in {@code sql}, each bound
+     *                         to {@code schemaName}
+     */
+    static ChangeMarker read(MetadataStatements statements, Connection connection, String schemaName, String sql,
+            int schemaParameters) throws SQLException {
+        SchemaReference schemaRef = new SchemaReference(Optional.empty(), schemaName);
+        Optional<SchemaReference> oSchema = Optional.of(schemaRef);
+        Map<TableReference, String> stamps = new LinkedHashMap<>();
+        StringBuilder objectStamp = new StringBuilder();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            for (int i = 1; i <= schemaParameters; i++) {
+                ps.setString(i, schemaName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableName = rs.getString("TABLE_NAME");
+                    String stamp = compact(rs.getString("STAMP"));
+                    if (tableName == null) {
+                        objectStamp.append(stamp).append('|');
+                        continue;
+                    }
+                    String tableType = rs.getString("TABLE_TYPE");
+                    TableReference tableRef = new TableReference(oSchema, tableName,
+                            tableType == null ? TableReference.TYPE_TABLE : tableType);
+                    stamps.merge(tableRef, stamp, (a, b) -> a + "|" + b);
+                }
+            }
+        }
+        return new ChangeMarkerRecord(List.of(schemaRef), stamps, Map.of(schemaRef, objectStamp.toString()));
+    }
+
+    private static String compact(String stamp) {
+        if (stamp == null) {
+            return "";
+        }
+        if (stamp.length() <= MAX_STAMP_LENGTH) {
+            return stamp;
+        }
+        return Integer.toHexString(stamp.hashCode()) + "#" + stamp.length();
+    }
+}
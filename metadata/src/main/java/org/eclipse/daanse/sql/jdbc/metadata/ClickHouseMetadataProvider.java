@@ -0,0 +1,529 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.RowCallback;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.Partition;
+import org.eclipse.daanse.sql.jdbc.api.schema.PartitionMethod;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PartitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * The ClickHouse {@code system} tables reader: {@code system.tables},
+ * {@code system.columns}, {@code system.parts} and
+ * {@code system.data_skipping_indices}, one query per object kind. A
+ * ClickHouse database is a schema; schema-scoped reads without one use
+ * {@code currentDatabase()}.
+ * <p>
+ * ClickHouse keys are expressions. The primary key and sorting key surface as
+ * the {@code PRIMARY} and {@code SORTING KEY} index entries, one item per
+ * expression; only expressions that are plain column names carry a column.
+ */
+public class ClickHouseMetadataProvider implements MetadataProvider {
+
+    static final String PRIMARY_INDEX = "PRIMARY";
+    static final String SORTING_KEY_INDEX = "SORTING KEY";
+
+    private final MetadataStatements statements;
+
+    public ClickHouseMetadataProvider() {
+        this(MetadataQueryOptions.DEFAULT);
+    }
+
+    public ClickHouseMetadataProvider(MetadataQueryOptions options) {
+        this.statements = new MetadataStatements(options);
+    }
+
+
+    @Override
+    public MetadataQueryOptions queryOptions() {
+        return statements.options();
+    }
+
+
+    @Override
+    public Optional<List<TableDefinition>> getAllTableDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT database, name, comment,
+                        multiIf(is_temporary, 'LOCAL TEMPORARY',
+                                database IN ('system', 'INFORMATION_SCHEMA', 'information_schema'), 'SYSTEM TABLE',
+                                engine = 'View', 'VIEW',
+                                engine = 'MaterializedView', 'MATERIALIZED VIEW',
+                                engine = 'Dictionary', 'DICTIONARY',
+                                'TABLE') AS table_type
+                FROM system.tables
+                WHERE 1 = 1
+                """);
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND database LIKE ?\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND name LIKE ?\n");
+        }
+        sql.append("ORDER BY table_type, database, name");
+
+        List<String> typeFilter = types == null ? null : Arrays.asList(types);
+        List<TableDefinition> result = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableType = rs.getString("table_type");
+                    if (typeFilter != null && !typeFilter.contains(tableType)) {
+                        continue;
+                    }
+                    TableReference tableRef = new TableReference(schemaOf(rs.getString("database")),
+                            rs.getString("name"), tableType);
+                    String comment = rs.getString("comment");
+                    result.add(new TableDefinitionRecord(tableRef,
+                            new TableMetaDataRecord(Optional.ofNullable(comment).filter(c -> !c.isEmpty()),
+                                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                                    Optional.empty())));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
+    @Override
+    public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        List<ColumnDefinition> out = new ArrayList<>();
+        forEachColumnDefinition(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern, out::add);
+        return Optional.of(List.copyOf(out));
+    }
+
+
+    @Override
+    public boolean forEachColumnDefinition(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, RowCallback<ColumnDefinition> callback)
+            throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT database, table, name, type, default_kind, default_expression, comment,
+                        character_octet_length, numeric_precision, numeric_precision_radix, numeric_scale,
+                        datetime_precision
+                FROM system.columns
+                WHERE 1 = 1
+                """);
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND database LIKE ?\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND table LIKE ?\n");
+        }
+        boolean hasColumnFilter = columnNamePattern != null && !columnNamePattern.isBlank()
+                && !"%".equals(columnNamePattern);
+        if (hasColumnFilter) {
+            sql.append("  AND name LIKE ?\n");
+        }
+        sql.append("ORDER BY database, table, position");
+
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            if (hasColumnFilter) {
+                ps.setString(idx++, columnNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                String currentSchema = null;
+                String currentTable = null;
+                TableReference tableRef = null;
+                while (rs.next()) {
+                    String schemaName = rs.getString("database");
+                    String tableName = rs.getString("table");
+                    if (!schemaName.equals(currentSchema) || !tableName.equals(currentTable)) {
+                        currentSchema = schemaName;
+                        currentTable = tableName;
+                        tableRef = new TableReference(schemaOf(schemaName), tableName);
+                    }
+                    callback.accept(new ColumnDefinitionRecord(
+                            new ColumnReference(Optional.of(tableRef), rs.getString("name")),
+                            readClickHouseColumnMetaData(rs)));
+                }
+            }
+        }
+        return true;
+    }
+
+
+    private static ColumnMetaData readClickHouseColumnMetaData(ResultSet rs) throws SQLException {
+        String type = rs.getString("type");
+        // LowCardinality and Nullable only wrap the stored type
+        String baseType = unwrap(type, "LowCardinality(");
+        boolean nullable = baseType.startsWith("Nullable(");
+        baseType = unwrap(baseType, "Nullable(");
+
+        OptionalInt size = optionalInt(rs, "numeric_precision");
+        OptionalInt charOctetLength = optionalInt(rs, "character_octet_length");
+        if (size.isEmpty()) {
+            size = charOctetLength;
+        }
+        OptionalInt digits = optionalInt(rs, "numeric_scale");
+        if (digits.isEmpty()) {
+            digits = optionalInt(rs, "datetime_precision");
+        }
+
+        // DEFAULT and EPHEMERAL are defaults; MATERIALIZED and ALIAS are computed
+        String defaultKind = rs.getString("default_kind");
+        String defaultExpression = rs.getString("default_expression");
+        boolean generated = "MATERIALIZED".equals(defaultKind) || "ALIAS".equals(defaultKind);
+        return new ColumnMetaDataRecord(mapClickHouseType(baseType), type, size, digits,
+                optionalInt(rs, "numeric_precision_radix"),
+                nullable ? ColumnMetaData.Nullability.NULLABLE : ColumnMetaData.Nullability.NO_NULLS, charOctetLength,
+                Optional.ofNullable(rs.getString("comment")).filter(c -> !c.isEmpty()),
+                Optional.ofNullable(defaultExpression).filter(d -> !d.isEmpty()), ColumnMetaData.AutoIncrement.NO,
+                generated ? ColumnMetaData.GeneratedColumn.YES : ColumnMetaData.GeneratedColumn.NO);
+    }
+
+
+    @Override
+    public Optional<List<PrimaryKey>> getAllPrimaryKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // The primary key is an expression list; only plain columns are key
+        // columns, so a key such as (id, toDate(ts)) yields just id.
+        String sql = """
+                SELECT database, name, primary_key
+                FROM system.tables
+                WHERE database = COALESCE(?, currentDatabase()) AND primary_key != ''
+                ORDER BY name
+                """;
+        List<PrimaryKey> result = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schema);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference tableRef = new TableReference(schemaOf(rs.getString("database")),
+                            rs.getString("name"));
+                    List<ColumnReference> columns = new ArrayList<>();
+                    for (String expression : splitExpressions(rs.getString("primary_key"))) {
+                        columnName(expression)
+                                .ifPresent(cn -> columns.add(new ColumnReference(Optional.of(tableRef), cn)));
+                    }
+                    if (!columns.isEmpty()) {
+                        result.add(new PrimaryKeyRecord(tableRef, List.copyOf(columns), Optional.empty()));
+                    }
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
+    @Override
+    public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readIndexInfo(connection, schema, null));
+    }
+
+
+    @Override
+    public Optional<List<IndexInfo>> getIndexInfo(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        return Optional.of(readIndexInfo(connection, schema, tableName));
+    }
+
+
+    private List<IndexInfo> readIndexInfo(Connection connection, String schema, String tableName)
+            throws SQLException {
+        // One row per table key (kind 'p' primary, 's' sorting) and per data
+        // skipping index (kind 'i'); the sorting key is listed only where it
+        // extends the primary key. Rows are stored in sorting-key order, so the
+        // sparse primary index is the clustered one.
+        StringBuilder sql = new StringBuilder("""
+                SELECT database, table, kind, index_name, expr, granularity
+                FROM (
+                    SELECT database, name AS table, 'p' AS kind, '' AS index_name, primary_key AS expr,
+                            0 AS granularity
+                    FROM system.tables
+                    WHERE primary_key != ''
+                    UNION ALL
+                    SELECT database, name, 's', '', sorting_key, 0
+                    FROM system.tables
+                    WHERE sorting_key != '' AND sorting_key != primary_key
+                    UNION ALL
+                    SELECT database, table, 'i', name, expr, granularity
+                    FROM system.data_skipping_indices
+                )
+                WHERE database = COALESCE(?, currentDatabase())
+                """);
+        if (tableName != null) {
+            sql.append("  AND table = ?\n");
+        }
+        sql.append("ORDER BY table, kind, index_name");
+
+        Map<String, TableReference> tableRefs = new LinkedHashMap<>();
+        Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, schema);
+            if (tableName != null) {
+                ps.setString(2, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("table");
+                    Optional<SchemaReference> oSchema = schemaOf(rs.getString("database"));
+                    TableReference tableRef = tableRefs.computeIfAbsent(table, k -> new TableReference(oSchema, k));
+                    String kind = rs.getString("kind");
+                    String indexName = switch (kind) {
+                    case "p" -> PRIMARY_INDEX;
+                    case "s" -> SORTING_KEY_INDEX;
+                    default -> rs.getString("index_name");
+                    };
+                    IndexInfoItem.IndexType indexType = "i".equals(kind) ? IndexInfoItem.IndexType.TABLE_INDEX_OTHER
+                            : IndexInfoItem.IndexType.TABLE_INDEX_CLUSTERED;
+                    long granularity = rs.getLong("granularity");
+                    int ordinal = 0;
+                    for (String expression : splitExpressions(rs.getString("expr"))) {
+                        boolean descending = expression.regionMatches(true,
+                                Math.max(0, expression.length() - 5), " DESC", 0, 5);
+                        String keyExpression = descending ? expression.substring(0, expression.length() - 5).strip()
+                                : expression;
+                        Optional<ColumnReference> colRef = columnName(keyExpression)
+                                .map(cn -> new ColumnReference(Optional.of(tableRef), cn));
+                        tableIndexes.computeIfAbsent(table, k -> new ArrayList<>())
+                                .add(new IndexInfoItemRecord(Optional.of(indexName), indexType, colRef, ++ordinal,
+                                        Optional.of(!descending), 0L, granularity, Optional.empty(), false));
+                    }
+                }
+            }
+        }
+        List<IndexInfo> result = new ArrayList<>();
+        for (Map.Entry<String, List<IndexInfoItem>> entry : tableIndexes.entrySet()) {
+            result.add(new IndexInfoRecord(tableRefs.get(entry.getKey()), List.copyOf(entry.getValue())));
+        }
+        return List.copyOf(result);
+    }
+
+
+    @Override
+    public List<Partition> getAllPartitions(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // system.parts has one row per data part; a partition is the active
+        // parts sharing a partition_id. Each partition holds one value of the
+        // partition key expression, which makes it a LIST partition.
+        String sql = """
+                SELECT p.database, p.table, p.partition_id, any(p.partition) AS partition_value,
+                        sum(p.rows) AS row_count, any(t.partition_key) AS partition_key
+                FROM system.parts p
+                JOIN system.tables t ON t.database = p.database AND t.name = p.table
+                WHERE p.active AND p.database = COALESCE(?, currentDatabase()) AND t.partition_key != ''
+                GROUP BY p.database, p.table, p.partition_id
+                ORDER BY p.table, p.partition_id
+                """;
+        List<Partition> partitions = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schema);
+            try (ResultSet rs = ps.executeQuery()) {
+                String currentTable = null;
+                int ordinal = 0;
+                while (rs.next()) {
+                    String tableName = rs.getString("table");
+                    ordinal = tableName.equals(currentTable) ? ordinal + 1 : 1;
+                    currentTable = tableName;
+                    TableReference tableRef = new TableReference(schemaOf(rs.getString("database")), tableName);
+                    partitions.add(new PartitionRecord(rs.getString("partition_id"), tableRef, Optional.of(ordinal),
+                            PartitionMethod.LIST, Optional.ofNullable(rs.getString("partition_key")),
+                            Optional.ofNullable(rs.getString("partition_value")), Optional.of(rs.getLong("row_count")),
+                            Optional.empty(), Optional.empty(), Optional.empty()));
+                }
+            }
+        }
+        return List.copyOf(partitions);
+    }
+
+
+    @Override
+    public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT database, name, as_select, create_table_query
+                FROM system.tables
+                WHERE engine = 'View' AND database = COALESCE(?, currentDatabase())
+                ORDER BY name
+                """;
+        List<ViewDefinition> views = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schema);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference viewRef = new TableReference(schemaOf(rs.getString("database")),
+                            rs.getString("name"), "VIEW");
+                    views.add(new ViewDefinitionRecord(viewRef, Optional.ofNullable(rs.getString("as_select")),
+                            Optional.ofNullable(rs.getString("create_table_query"))));
+                }
+            }
+        }
+        return List.copyOf(views);
+    }
+
+
+    private static Optional<SchemaReference> schemaOf(String database) {
+        return Optional.of(new SchemaReference(Optional.empty(), database));
+    }
+
+
+    private static OptionalInt optionalInt(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? OptionalInt.empty() : OptionalInt.of(value);
+    }
+
+
+    private static String unwrap(String type, String wrapper) {
+        if (type.startsWith(wrapper) && type.endsWith(")")) {
+            return type.substring(wrapper.length(), type.length() - 1);
+        }
+        return type;
+    }
+
+
+    /**
+     * The entries of a key or index expression list such as
+     * {@code id, toDate(ts), "a,b"}; commas inside parentheses or quotes do
+     * not split. A single tuple {@code (a, b)} is unwrapped first.
+     */
+    static List<String> splitExpressions(String expressions) {
+        if (expressions == null || expressions.isBlank()) {
+            return List.of();
+        }
+        String text = expressions.strip();
+        if (text.startsWith("(") && text.endsWith(")") && closingParen(text, 0) == text.length() - 1) {
+            text = text.substring(1, text.length() - 1);
+        }
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quote != 0) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+            } else if (c == '(' || c == '[') {
+                depth++;
+            } else if (c == ')' || c == ']') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                parts.add(text.substring(start, i).strip());
+                start = i + 1;
+            }
+        }
+        String last = text.substring(start).strip();
+        if (!last.isEmpty()) {
+            parts.add(last);
+        }
+        return parts;
+    }
+
+
+    private static int closingParen(String text, int open) {
+        int depth = 0;
+        for (int i = open; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+
+    /** The column a key expression names, when it is a plain (possibly quoted) identifier. */
+    private static Optional<String> columnName(String expression) {
+        if (expression.length() > 1 && (expression.startsWith("`") && expression.endsWith("`")
+                || expression.startsWith("\"") && expression.endsWith("\""))) {
+            return Optional.of(expression.substring(1, expression.length() - 1));
+        }
+        return expression.matches("[A-Za-z_][A-Za-z0-9_.]*") ? Optional.of(expression) : Optional.empty();
+    }
+
+
+    /** The JDBC type of a ClickHouse type with LowCardinality and Nullable removed. */
+    private static JDBCType mapClickHouseType(String type) {
+        int paren = type.indexOf('(');
+        String base = paren < 0 ? type : type.substring(0, paren);
+        return switch (base) {
+        case "Bool" -> JDBCType.BOOLEAN;
+        case "Int8" -> JDBCType.TINYINT;
+        case "Int16", "UInt8" -> JDBCType.SMALLINT;
+        case "Int32", "UInt16" -> JDBCType.INTEGER;
+        case "Int64", "UInt32" -> JDBCType.BIGINT;
+        case "UInt64", "Int128", "UInt128", "Int256", "UInt256" -> JDBCType.NUMERIC;
+        case "Float32" -> JDBCType.REAL;
+        case "Float64" -> JDBCType.DOUBLE;
+        case "Decimal", "Decimal32", "Decimal64", "Decimal128", "Decimal256" -> JDBCType.DECIMAL;
+        case "String", "Enum8", "Enum16" -> JDBCType.VARCHAR;
+        case "FixedString" -> JDBCType.CHAR;
+        case "Date", "Date32" -> JDBCType.DATE;
+        case "DateTime", "DateTime64" -> paren < 0 || type.indexOf('\'') < 0 ? JDBCType.TIMESTAMP
+                : JDBCType.TIMESTAMP_WITH_TIMEZONE;
+        case "Array" -> JDBCType.ARRAY;
+        case "Tuple", "Nested" -> JDBCType.STRUCT;
+        default -> JDBCType.OTHER;
+        };
+    }
+}
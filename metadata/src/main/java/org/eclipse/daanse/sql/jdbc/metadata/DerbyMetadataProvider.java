@@ -0,0 +1,882 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.RowCallback;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.SequenceReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.SequenceRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
+import org.eclipse.daanse.sql.model.schema.TriggerReference;
+
+/**
+ * The Apache Derby system-catalog reader: {@code SYS.SYSTABLES},
+ * {@code SYSCOLUMNS}, {@code SYSCONSTRAINTS}/{@code SYSKEYS}/{@code SYSFOREIGNKEYS}
+ * and {@code SYSCONGLOMERATES}. Key and index columns are only recorded as
+ * column numbers in the conglomerate descriptor, so those reads take a second
+ * query for the column names of the schemas involved. Derby has no catalogs.
+ */
+public class DerbyMetadataProvider implements MetadataProvider {
+
+    /** {@code VARCHAR(80) NOT NULL}, {@code DECIMAL(10,2)}, {@code CHAR (2) FOR BIT DATA}. */
+    private static final Pattern COLUMN_TYPE = Pattern
+            .compile("^(.+?)\\s*(?:\\((\\d+)(?:,\\s*(\\d+))?\\))?(\\s+FOR BIT DATA)?$");
+
+    /** {@code UNIQUE BTREE (1, 2)}, {@code BTREE (3 DESC, 2)}. */
+    private static final Pattern DESCRIPTOR = Pattern.compile("^(.*?)\\s*\\(([^)]*)\\)\\s*$");
+
+    private static final Pattern VIEW_BODY = Pattern.compile("(?is)^\\s*CREATE\\s+VIEW\\s+.+?\\s+AS\\s+(.+?);?\\s*$");
+
+    private final MetadataStatements statements;
+
+    public DerbyMetadataProvider() {
+        this(MetadataQueryOptions.DEFAULT);
+    }
+
+    public DerbyMetadataProvider(MetadataQueryOptions options) {
+        this.statements = new MetadataStatements(options);
+    }
+
+
+    @Override
+    public MetadataQueryOptions queryOptions() {
+        return statements.options();
+    }
+
+
+    @Override
+    public Optional<List<TableDefinition>> getAllTableDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT s.SCHEMANAME, t.TABLENAME,
+                        CASE t.TABLETYPE WHEN 'T' THEN 'TABLE' WHEN 'S' THEN 'SYSTEM TABLE' WHEN 'V' THEN 'VIEW'
+                                         WHEN 'A' THEN 'SYNONYM' ELSE 'OTHER' END AS TABLE_TYPE
+                FROM SYS.SYSTABLES t
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                WHERE 1 = 1
+                """);
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND s.SCHEMANAME LIKE ?\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND t.TABLENAME LIKE ?\n");
+        }
+        sql.append("ORDER BY TABLE_TYPE, s.SCHEMANAME, t.TABLENAME");
+
+        List<String> typeFilter = types == null ? null : Arrays.asList(types);
+        List<TableDefinition> result = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableType = rs.getString("TABLE_TYPE");
+                    if (typeFilter != null && !typeFilter.contains(tableType)) {
+                        continue;
+                    }
+                    TableReference tableRef = new TableReference(schemaOf(rs.getString("SCHEMANAME")),
+                            rs.getString("TABLENAME"), tableType);
+                    // Derby has no table comments
+                    result.add(new TableDefinitionRecord(tableRef,
+                            new TableMetaDataRecord(Optional.empty(), Optional.empty(), Optional.empty(),
+                                    Optional.empty(), Optional.empty(), Optional.empty())));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
+    @Override
+    public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        List<ColumnDefinition> out = new ArrayList<>();
+        forEachColumnDefinition(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern, out::add);
+        return Optional.of(List.copyOf(out));
+    }
+
+
+    @Override
+    public boolean forEachColumnDefinition(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, RowCallback<ColumnDefinition> callback)
+            throws SQLException {
+        // COLUMNDATATYPE and COLUMNDEFAULT are Java objects; their text is
+        // the type as declared and the default as written.
+        StringBuilder sql = new StringBuilder("""
+                SELECT s.SCHEMANAME, t.TABLENAME, c.COLUMNNAME,
+                        CAST(c.COLUMNDATATYPE AS VARCHAR(32672)) AS COLUMN_TYPE,
+                        CAST(c.COLUMNDEFAULT AS VARCHAR(32672)) AS COLUMN_DEFAULT, c.AUTOINCREMENTINC
+                FROM SYS.SYSCOLUMNS c
+                JOIN SYS.SYSTABLES t ON t.TABLEID = c.REFERENCEID
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                WHERE 1 = 1
+                """);
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND s.SCHEMANAME LIKE ?\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND t.TABLENAME LIKE ?\n");
+        }
+        boolean hasColumnFilter = columnNamePattern != null && !columnNamePattern.isBlank()
+                && !"%".equals(columnNamePattern);
+        if (hasColumnFilter) {
+            sql.append("  AND c.COLUMNNAME LIKE ?\n");
+        }
+        sql.append("ORDER BY s.SCHEMANAME, t.TABLENAME, c.COLUMNNUMBER");
+
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            if (hasColumnFilter) {
+                ps.setString(idx++, columnNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                String currentKey = null;
+                TableReference tableRef = null;
+                while (rs.next()) {
+                    String key = rs.getString("SCHEMANAME") + '.' + rs.getString("TABLENAME");
+                    if (!key.equals(currentKey)) {
+                        currentKey = key;
+                        tableRef = new TableReference(schemaOf(rs.getString("SCHEMANAME")),
+                                rs.getString("TABLENAME"));
+                    }
+                    callback.accept(new ColumnDefinitionRecord(
+                            new ColumnReference(Optional.of(tableRef), rs.getString("COLUMNNAME")),
+                            readDerbyColumnMetaData(rs)));
+                }
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Column metadata as Derby's getColumns reports it: the fixed-width types
+     * carry their display precision (binary precision for REAL and DOUBLE),
+     * character columns twice their length as octet length.
+     */
+    private static ColumnMetaData readDerbyColumnMetaData(ResultSet rs) throws SQLException {
+        String columnType = rs.getString("COLUMN_TYPE");
+        boolean notNull = columnType.endsWith(" NOT NULL");
+        if (notNull) {
+            columnType = columnType.substring(0, columnType.length() - " NOT NULL".length());
+        }
+        Matcher matcher = COLUMN_TYPE.matcher(columnType);
+        String base = columnType;
+        OptionalInt length = OptionalInt.empty();
+        OptionalInt scale = OptionalInt.empty();
+        boolean bitData = false;
+        if (matcher.matches()) {
+            base = matcher.group(1);
+            length = matcher.group(2) == null ? OptionalInt.empty()
+                    : OptionalInt.of(Integer.parseInt(matcher.group(2)));
+            scale = matcher.group(3) == null ? OptionalInt.empty()
+                    : OptionalInt.of(Integer.parseInt(matcher.group(3)));
+            bitData = matcher.group(4) != null;
+        }
+
+        OptionalInt size = length;
+        OptionalInt digits = scale;
+        OptionalInt radix = OptionalInt.empty();
+        OptionalInt octetLength = OptionalInt.empty();
+        String typeName = base;
+        if (bitData) {
+            typeName = "LONG VARCHAR".equals(base) ? "LONG VARCHAR FOR BIT DATA" : base + " () FOR BIT DATA";
+            if (size.isEmpty()) {
+                size = OptionalInt.of(32700);
+            }
+        } else {
+            switch (base) {
+            case "SMALLINT" -> {
+                size = OptionalInt.of(5);
+                digits = OptionalInt.of(0);
+                radix = OptionalInt.of(10);
+            }
+            case "INTEGER" -> {
+                size = OptionalInt.of(10);
+                digits = OptionalInt.of(0);
+                radix = OptionalInt.of(10);
+            }
+            case "BIGINT" -> {
+                size = OptionalInt.of(19);
+                digits = OptionalInt.of(0);
+                radix = OptionalInt.of(10);
+            }
+            case "DECIMAL", "NUMERIC" -> radix = OptionalInt.of(10);
+            case "REAL" -> {
+                size = OptionalInt.of(23);
+                radix = OptionalInt.of(2);
+            }
+            case "DOUBLE" -> {
+                size = OptionalInt.of(52);
+                radix = OptionalInt.of(2);
+            }
+            case "DATE" -> {
+                size = OptionalInt.of(10);
+                digits = OptionalInt.of(0);
+                radix = OptionalInt.of(10);
+            }
+            case "TIME" -> {
+                size = OptionalInt.of(8);
+                digits = OptionalInt.of(0);
+                radix = OptionalInt.of(10);
+            }
+            case "TIMESTAMP" -> {
+                size = OptionalInt.of(29);
+                digits = OptionalInt.of(9);
+                radix = OptionalInt.of(10);
+            }
+            case "BOOLEAN" -> size = OptionalInt.of(1);
+            case "LONG VARCHAR" -> size = OptionalInt.of(32700);
+            case "XML" -> size = OptionalInt.of(Integer.MAX_VALUE);
+            case "CHAR", "VARCHAR" -> octetLength = OptionalInt.of(2 * length.orElse(0));
+            default -> {
+                // CLOB and BLOB keep their declared length; user-defined types have none
+            }
+            }
+        }
+
+        String columnDefault = rs.getString("COLUMN_DEFAULT");
+        boolean autoIncrement = rs.getObject("AUTOINCREMENTINC") != null;
+        boolean generated = columnDefault != null && columnDefault.startsWith("GENERATED ALWAYS AS");
+        return new ColumnMetaDataRecord(mapDerbyType(base, bitData), typeName, size, digits, radix,
+                notNull ? ColumnMetaData.Nullability.NO_NULLS : ColumnMetaData.Nullability.NULLABLE, octetLength,
+                Optional.empty(), Optional.ofNullable(columnDefault),
+                autoIncrement ? ColumnMetaData.AutoIncrement.YES : ColumnMetaData.AutoIncrement.NO,
+                generated ? ColumnMetaData.GeneratedColumn.YES : ColumnMetaData.GeneratedColumn.NO);
+    }
+
+
+    @Override
+    public Optional<List<PrimaryKey>> getAllPrimaryKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String schemaName = resolveSchema(schema, connection);
+        List<PrimaryKey> result = new ArrayList<>();
+        for (KeyConstraint key : readKeyConstraints(connection, "P", schemaName, null)) {
+            result.add(new PrimaryKeyRecord(key.table(), key.columns(), Optional.of(key.name())));
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
+    @Override
+    public List<UniqueConstraint> getAllUniqueConstraints(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return readUniqueConstraints(connection, schema, null);
+    }
+
+
+    @Override
+    public List<UniqueConstraint> getUniqueConstraints(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        return readUniqueConstraints(connection, schema, tableName);
+    }
+
+
+    private List<UniqueConstraint> readUniqueConstraints(Connection connection, String schema, String tableName)
+            throws SQLException {
+        String schemaName = resolveSchema(schema, connection);
+        List<UniqueConstraint> result = new ArrayList<>();
+        for (KeyConstraint key : readKeyConstraints(connection, "U", schemaName, tableName)) {
+            result.add(new UniqueConstraintRecord(key.name(), key.table(), key.columns()));
+        }
+        return List.copyOf(result);
+    }
+
+
+    /** The primary key ({@code P}) or unique ({@code U}) constraints of a schema, with their backing columns. */
+    private List<KeyConstraint> readKeyConstraints(Connection connection, String type, String schemaName,
+            String tableName) throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT s.SCHEMANAME, t.TABLENAME, t.TABLEID, k.CONSTRAINTNAME,
+                        CAST(g.DESCRIPTOR AS VARCHAR(32672)) AS DESCRIPTOR
+                FROM SYS.SYSCONSTRAINTS k
+                JOIN SYS.SYSKEYS y ON y.CONSTRAINTID = k.CONSTRAINTID
+                JOIN SYS.SYSCONGLOMERATES g ON g.CONGLOMERATEID = y.CONGLOMERATEID
+                JOIN SYS.SYSTABLES t ON t.TABLEID = k.TABLEID
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                WHERE k.TYPE = ? AND s.SCHEMANAME = ?
+                """);
+        if (tableName != null) {
+            sql.append("  AND t.TABLENAME = ?\n");
+        }
+        sql.append("ORDER BY t.TABLENAME, k.CONSTRAINTNAME");
+
+        record Row(String tableId, TableReference table, String name, String descriptor) {
+        }
+        List<Row> rows = new ArrayList<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, type);
+            ps.setString(2, schemaName);
+            if (tableName != null) {
+                ps.setString(3, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(new Row(rs.getString("TABLEID"),
+                            new TableReference(schemaOf(rs.getString("SCHEMANAME")), rs.getString("TABLENAME")),
+                            rs.getString("CONSTRAINTNAME"), rs.getString("DESCRIPTOR")));
+                }
+            }
+        }
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Map<Integer, String>> columnNames = readColumnNames(connection, List.of(schemaName), tableName);
+        List<KeyConstraint> keys = new ArrayList<>();
+        for (Row row : rows) {
+            Map<Integer, String> names = columnNames.getOrDefault(row.tableId(), Map.of());
+            List<ColumnReference> columns = new ArrayList<>();
+            for (KeyColumn keyColumn : parseDescriptor(row.descriptor()).columns()) {
+                columns.add(new ColumnReference(Optional.of(row.table()), names.get(keyColumn.position())));
+            }
+            keys.add(new KeyConstraint(row.table(), row.name(), List.copyOf(columns)));
+        }
+        return keys;
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getAllImportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readForeignKeys(connection, "fs", resolveSchema(schema, connection)));
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getAllExportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readForeignKeys(connection, "ps", resolveSchema(schema, connection)));
+    }
+
+
+    /**
+     * The foreign keys whose referencing ({@code fs}) or referenced
+     * ({@code ps}) table is in the schema. Both sides' columns come from
+     * their backing conglomerates, paired by position.
+     */
+    private List<ImportedKey> readForeignKeys(Connection connection, String schemaAlias, String schemaName)
+            throws SQLException {
+        String sql = """
+                SELECT fs.SCHEMANAME AS FK_SCHEMA, ft.TABLENAME AS FK_TABLE, ft.TABLEID AS FK_TABLEID,
+                        fk.CONSTRAINTNAME AS FK_NAME, CAST(fg.DESCRIPTOR AS VARCHAR(32672)) AS FK_DESCRIPTOR,
+                        ps.SCHEMANAME AS PK_SCHEMA, pt.TABLENAME AS PK_TABLE, pt.TABLEID AS PK_TABLEID,
+                        pk.CONSTRAINTNAME AS PK_NAME, CAST(pg.DESCRIPTOR AS VARCHAR(32672)) AS PK_DESCRIPTOR,
+                        f.UPDATERULE, f.DELETERULE
+                FROM SYS.SYSFOREIGNKEYS f
+                JOIN SYS.SYSCONSTRAINTS fk ON fk.CONSTRAINTID = f.CONSTRAINTID
+                JOIN SYS.SYSCONGLOMERATES fg ON fg.CONGLOMERATEID = f.CONGLOMERATEID
+                JOIN SYS.SYSTABLES ft ON ft.TABLEID = fk.TABLEID
+                JOIN SYS.SYSSCHEMAS fs ON fs.SCHEMAID = ft.SCHEMAID
+                JOIN SYS.SYSCONSTRAINTS pk ON pk.CONSTRAINTID = f.KEYCONSTRAINTID
+                JOIN SYS.SYSKEYS pkk ON pkk.CONSTRAINTID = pk.CONSTRAINTID
+                JOIN SYS.SYSCONGLOMERATES pg ON pg.CONGLOMERATEID = pkk.CONGLOMERATEID
+                JOIN SYS.SYSTABLES pt ON pt.TABLEID = pk.TABLEID
+                JOIN SYS.SYSSCHEMAS ps ON ps.SCHEMAID = pt.SCHEMAID
+                WHERE %s.SCHEMANAME = ?
+                ORDER BY fs.SCHEMANAME, ft.TABLENAME, fk.CONSTRAINTNAME
+                """.formatted(schemaAlias);
+
+        record Row(String fkTableId, TableReference fkTable, String fkName, String fkDescriptor, String pkTableId,
+                TableReference pkTable, String pkName, String pkDescriptor, String updateRule, String deleteRule) {
+        }
+        List<Row> rows = new ArrayList<>();
+        Set<String> schemaNames = new LinkedHashSet<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String fkSchema = rs.getString("FK_SCHEMA");
+                    String pkSchema = rs.getString("PK_SCHEMA");
+                    schemaNames.add(fkSchema);
+                    schemaNames.add(pkSchema);
+                    rows.add(new Row(rs.getString("FK_TABLEID"),
+                            new TableReference(schemaOf(fkSchema), rs.getString("FK_TABLE")),
+                            rs.getString("FK_NAME"), rs.getString("FK_DESCRIPTOR"), rs.getString("PK_TABLEID"),
+                            new TableReference(schemaOf(pkSchema), rs.getString("PK_TABLE")),
+                            rs.getString("PK_NAME"), rs.getString("PK_DESCRIPTOR"), rs.getString("UPDATERULE"),
+                            rs.getString("DELETERULE")));
+                }
+            }
+        }
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Map<Integer, String>> columnNames = readColumnNames(connection, schemaNames, null);
+        List<ImportedKey> keys = new ArrayList<>();
+        for (Row row : rows) {
+            List<KeyColumn> fkColumns = parseDescriptor(row.fkDescriptor()).columns();
+            List<KeyColumn> pkColumns = parseDescriptor(row.pkDescriptor()).columns();
+            Map<Integer, String> fkNames = columnNames.getOrDefault(row.fkTableId(), Map.of());
+            Map<Integer, String> pkNames = columnNames.getOrDefault(row.pkTableId(), Map.of());
+            for (int i = 0; i < Math.min(fkColumns.size(), pkColumns.size()); i++) {
+                keys.add(new ImportedKeyRecord(
+                        new ColumnReference(Optional.of(row.pkTable()), pkNames.get(pkColumns.get(i).position())),
+                        new ColumnReference(Optional.of(row.fkTable()), fkNames.get(fkColumns.get(i).position())),
+                        row.fkName(), i + 1, mapReferentialAction(row.updateRule()),
+                        mapReferentialAction(row.deleteRule()), Optional.of(row.pkName()),
+                        ImportedKey.Deferrability.NOT_DEFERRABLE));
+            }
+        }
+        return List.copyOf(keys);
+    }
+
+
+    @Override
+    public List<CheckConstraint> getAllCheckConstraints(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return readCheckConstraints(connection, schema, null);
+    }
+
+
+    @Override
+    public List<CheckConstraint> getCheckConstraints(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        return readCheckConstraints(connection, schema, tableName);
+    }
+
+
+    private List<CheckConstraint> readCheckConstraints(Connection connection, String schema, String tableName)
+            throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT s.SCHEMANAME, t.TABLENAME, k.CONSTRAINTNAME, c.CHECKDEFINITION
+                FROM SYS.SYSCHECKS c
+                JOIN SYS.SYSCONSTRAINTS k ON k.CONSTRAINTID = c.CONSTRAINTID
+                JOIN SYS.SYSTABLES t ON t.TABLEID = k.TABLEID
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                WHERE s.SCHEMANAME = ?
+                """);
+        if (tableName != null) {
+            sql.append("  AND t.TABLENAME = ?\n");
+        }
+        sql.append("ORDER BY t.TABLENAME, k.CONSTRAINTNAME");
+
+        String schemaName = resolveSchema(schema, connection);
+        List<CheckConstraint> constraints = new ArrayList<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, schemaName);
+            if (tableName != null) {
+                ps.setString(2, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference tableRef = new TableReference(schemaOf(rs.getString("SCHEMANAME")),
+                            rs.getString("TABLENAME"));
+                    constraints.add(new CheckConstraintRecord(rs.getString("CONSTRAINTNAME"), tableRef,
+                            rs.getString("CHECKDEFINITION")));
+                }
+            }
+        }
+        return List.copyOf(constraints);
+    }
+
+
+    @Override
+    public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readIndexInfo(connection, schema, null));
+    }
+
+
+    @Override
+    public Optional<List<IndexInfo>> getIndexInfo(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        return Optional.of(readIndexInfo(connection, schema, tableName));
+    }
+
+
+    private List<IndexInfo> readIndexInfo(Connection connection, String schema, String tableName)
+            throws SQLException {
+        // Every index conglomerate, the ones backing key constraints (named
+        // SQL...) included, as getIndexInfo lists them.
+        StringBuilder sql = new StringBuilder("""
+                SELECT s.SCHEMANAME, t.TABLENAME, t.TABLEID, g.CONGLOMERATENAME,
+                        CAST(g.DESCRIPTOR AS VARCHAR(32672)) AS DESCRIPTOR
+                FROM SYS.SYSCONGLOMERATES g
+                JOIN SYS.SYSTABLES t ON t.TABLEID = g.TABLEID
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                WHERE g.ISINDEX = TRUE AND s.SCHEMANAME = ?
+                """);
+        if (tableName != null) {
+            sql.append("  AND t.TABLENAME = ?\n");
+        }
+        sql.append("ORDER BY t.TABLENAME, g.CONGLOMERATENAME");
+
+        String schemaName = resolveSchema(schema, connection);
+        record Row(String tableId, String tableName, String indexName, String descriptor) {
+        }
+        List<Row> rows = new ArrayList<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, schemaName);
+            if (tableName != null) {
+                ps.setString(2, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(new Row(rs.getString("TABLEID"), rs.getString("TABLENAME"),
+                            rs.getString("CONGLOMERATENAME"), rs.getString("DESCRIPTOR")));
+                }
+            }
+        }
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Map<Integer, String>> columnNames = readColumnNames(connection, List.of(schemaName), tableName);
+        Map<String, TableReference> tableRefs = new LinkedHashMap<>();
+        Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
+        Optional<SchemaReference> oSchema = schemaOf(schemaName);
+        for (Row row : rows) {
+            TableReference tableRef = tableRefs.computeIfAbsent(row.tableName(), k -> new TableReference(oSchema, k));
+            Map<Integer, String> names = columnNames.getOrDefault(row.tableId(), Map.of());
+            IndexDescriptor descriptor = parseDescriptor(row.descriptor());
+            int ordinal = 0;
+            for (KeyColumn keyColumn : descriptor.columns()) {
+                Optional<ColumnReference> colRef = Optional.ofNullable(names.get(keyColumn.position()))
+                        .map(cn -> new ColumnReference(Optional.of(tableRef), cn));
+                tableIndexes.computeIfAbsent(row.tableName(), k -> new ArrayList<>())
+                        .add(new IndexInfoItemRecord(Optional.of(row.indexName()),
+                                IndexInfoItem.IndexType.TABLE_INDEX_OTHER, colRef, ++ordinal,
+                                Optional.of(keyColumn.ascending()), 0L, 0L, Optional.empty(), descriptor.unique()));
+            }
+        }
+        List<IndexInfo> result = new ArrayList<>();
+        for (Map.Entry<String, List<IndexInfoItem>> entry : tableIndexes.entrySet()) {
+            result.add(new IndexInfoRecord(tableRefs.get(entry.getKey()), List.copyOf(entry.getValue())));
+        }
+        return List.copyOf(result);
+    }
+
+
+    /** Column number to column name, per table id, for the tables of the given schemas. */
+    private Map<String, Map<Integer, String>> readColumnNames(Connection connection, Collection<String> schemaNames,
+            String tableName) throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT c.REFERENCEID, c.COLUMNNUMBER, c.COLUMNNAME
+                FROM SYS.SYSCOLUMNS c
+                JOIN SYS.SYSTABLES t ON t.TABLEID = c.REFERENCEID
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                """);
+        sql.append("WHERE s.SCHEMANAME IN (").append(MetadataStatements.placeholders(schemaNames.size()))
+                .append(")\n");
+        if (tableName != null) {
+            sql.append("  AND t.TABLENAME = ?\n");
+        }
+
+        Map<String, Map<Integer, String>> columnNames = new HashMap<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            int idx = 1;
+            for (String schemaName : schemaNames) {
+                ps.setString(idx++, schemaName);
+            }
+            if (tableName != null) {
+                ps.setString(idx, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    columnNames.computeIfAbsent(rs.getString("REFERENCEID"), k -> new HashMap<>())
+                            .put(rs.getInt("COLUMNNUMBER"), rs.getString("COLUMNNAME"));
+                }
+            }
+        }
+        return columnNames;
+    }
+
+
+    @Override
+    public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT s.SCHEMANAME, t.TABLENAME, v.VIEWDEFINITION
+                FROM SYS.SYSVIEWS v
+                JOIN SYS.SYSTABLES t ON t.TABLEID = v.TABLEID
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                WHERE s.SCHEMANAME = ?
+                ORDER BY t.TABLENAME
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<ViewDefinition> views = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String fullDefinition = rs.getString("VIEWDEFINITION");
+                    TableReference viewRef = new TableReference(schemaOf(rs.getString("SCHEMANAME")),
+                            rs.getString("TABLENAME"), "VIEW");
+                    views.add(new ViewDefinitionRecord(viewRef, viewBody(fullDefinition),
+                            Optional.ofNullable(fullDefinition)));
+                }
+            }
+        }
+        return List.copyOf(views);
+    }
+
+
+    @Override
+    public List<Sequence> getAllSequences(Connection connection, String catalog, String schema) throws SQLException {
+        // The sequences behind identity columns live in SYS.
+        String sql = """
+                SELECT s.SCHEMANAME, q.SEQUENCENAME, CAST(q.SEQUENCEDATATYPE AS VARCHAR(128)) AS DATA_TYPE,
+                        q.STARTVALUE, q.INCREMENT, q.MINIMUMVALUE, q.MAXIMUMVALUE, q.CYCLEOPTION
+                FROM SYS.SYSSEQUENCES q
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = q.SCHEMAID
+                WHERE s.SCHEMANAME = ?
+                ORDER BY q.SEQUENCENAME
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<Sequence> sequences = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String dataType = rs.getString("DATA_TYPE");
+                    if (dataType != null && dataType.endsWith(" NOT NULL")) {
+                        dataType = dataType.substring(0, dataType.length() - " NOT NULL".length());
+                    }
+                    // Derby sequences preallocate internally; there is no cache setting
+                    sequences.add(new SequenceRecord(
+                            new SequenceReference(schemaOf(rs.getString("SCHEMANAME")), rs.getString("SEQUENCENAME")),
+                            rs.getLong("STARTVALUE"), rs.getLong("INCREMENT"),
+                            Optional.of(rs.getLong("MINIMUMVALUE")), Optional.of(rs.getLong("MAXIMUMVALUE")),
+                            "Y".equals(rs.getString("CYCLEOPTION")), Optional.empty(), Optional.ofNullable(dataType)));
+                }
+            }
+        }
+        return List.copyOf(sequences);
+    }
+
+
+    @Override
+    public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
+        return readTriggers(connection, schema, null);
+    }
+
+
+    @Override
+    public List<Trigger> getTriggers(Connection connection, String catalog, String schema, String tableName)
+            throws SQLException {
+        return readTriggers(connection, schema, tableName);
+    }
+
+
+    private List<Trigger> readTriggers(Connection connection, String schema, String tableName) throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT s.SCHEMANAME, t.TABLENAME, g.TRIGGERNAME, g.EVENT, g.FIRINGTIME, g.TYPE, g.TRIGGERDEFINITION
+                FROM SYS.SYSTRIGGERS g
+                JOIN SYS.SYSTABLES t ON t.TABLEID = g.TABLEID
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                WHERE s.SCHEMANAME = ?
+                """);
+        if (tableName != null) {
+            sql.append("  AND t.TABLENAME = ?\n");
+        }
+        sql.append("ORDER BY t.TABLENAME, g.TRIGGERNAME");
+
+        String schemaName = resolveSchema(schema, connection);
+        List<Trigger> triggers = new ArrayList<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, schemaName);
+            if (tableName != null) {
+                ps.setString(2, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference tableRef = new TableReference(schemaOf(rs.getString("SCHEMANAME")),
+                            rs.getString("TABLENAME"));
+                    TriggerTiming timing = "B".equals(rs.getString("FIRINGTIME")) ? TriggerTiming.BEFORE
+                            : TriggerTiming.AFTER;
+                    TriggerEvent event = switch (rs.getString("EVENT")) {
+                    case "U" -> TriggerEvent.UPDATE;
+                    case "D" -> TriggerEvent.DELETE;
+                    default -> TriggerEvent.INSERT;
+                    };
+                    String orientation = "R".equals(rs.getString("TYPE")) ? "ROW" : "STATEMENT";
+                    triggers.add(new TriggerRecord(new TriggerReference(tableRef, rs.getString("TRIGGERNAME")),
+                            timing, event, Optional.ofNullable(rs.getString("TRIGGERDEFINITION")), Optional.empty(),
+                            Optional.of(orientation)));
+                }
+            }
+        }
+        return List.copyOf(triggers);
+    }
+
+
+    private String resolveSchema(String schema, Connection connection) throws SQLException {
+        if (schema != null) {
+            return schema;
+        }
+        // Derby default schema is the user name, APP without one
+        return connection.getSchema() != null ? connection.getSchema() : "APP";
+    }
+
+
+    private static Optional<SchemaReference> schemaOf(String schemaName) {
+        return Optional.of(new SchemaReference(Optional.empty(), schemaName));
+    }
+
+
+    /** The key columns of a conglomerate descriptor such as {@code UNIQUE BTREE (2 DESC, 1)}. */
+    private static IndexDescriptor parseDescriptor(String descriptor) {
+        if (descriptor == null) {
+            return new IndexDescriptor(false, List.of());
+        }
+        Matcher matcher = DESCRIPTOR.matcher(descriptor);
+        if (!matcher.matches()) {
+            return new IndexDescriptor(false, List.of());
+        }
+        // UNIQUE WITH DUPLICATE NULLS (a unique constraint on nullable
+        // columns) is reported non-unique, as getIndexInfo does
+        String kind = matcher.group(1);
+        boolean unique = kind.startsWith("UNIQUE ") && !kind.contains("WITH DUPLICATE NULLS");
+        List<KeyColumn> columns = new ArrayList<>();
+        for (String part : matcher.group(2).split(",")) {
+            String item = part.strip();
+            if (item.isEmpty()) {
+                continue;
+            }
+            boolean descending = item.endsWith(" DESC");
+            String number = descending ? item.substring(0, item.length() - " DESC".length()).strip() : item;
+            columns.add(new KeyColumn(Integer.parseInt(number), !descending));
+        }
+        return new IndexDescriptor(unique, List.copyOf(columns));
+    }
+
+
+    /** The query of a {@code CREATE VIEW} statement. */
+    private static Optional<String> viewBody(String createView) {
+        if (createView == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = VIEW_BODY.matcher(createView);
+        return matcher.matches() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+
+
+    /** {@code R} (the default) is NO ACTION, {@code S} RESTRICT. */
+    private static ImportedKey.ReferentialAction mapReferentialAction(String rule) {
+        if (rule == null) {
+            return ImportedKey.ReferentialAction.NO_ACTION;
+        }
+        return switch (rule) {
+        case "S" -> ImportedKey.ReferentialAction.RESTRICT;
+        case "C" -> ImportedKey.ReferentialAction.CASCADE;
+        case "U" -> ImportedKey.ReferentialAction.SET_NULL;
+        default -> ImportedKey.ReferentialAction.NO_ACTION;
+        };
+    }
+
+
+    /** The JDBC type the Derby driver reports for a declared type name. */
+    private static JDBCType mapDerbyType(String base, boolean bitData) {
+        if (bitData) {
+            return switch (base) {
+            case "CHAR" -> JDBCType.BINARY;
+            case "VARCHAR" -> JDBCType.VARBINARY;
+            default -> JDBCType.LONGVARBINARY;
+            };
+        }
+        return switch (base) {
+        case "BOOLEAN" -> JDBCType.BOOLEAN;
+        case "SMALLINT" -> JDBCType.SMALLINT;
+        case "INTEGER" -> JDBCType.INTEGER;
+        case "BIGINT" -> JDBCType.BIGINT;
+        case "REAL" -> JDBCType.REAL;
+        case "DOUBLE" -> JDBCType.DOUBLE;
+        case "DECIMAL" -> JDBCType.DECIMAL;
+        case "NUMERIC" -> JDBCType.NUMERIC;
+        case "CHAR" -> JDBCType.CHAR;
+        case "VARCHAR" -> JDBCType.VARCHAR;
+        case "LONG VARCHAR" -> JDBCType.LONGVARCHAR;
+        case "CLOB" -> JDBCType.CLOB;
+        case "BLOB" -> JDBCType.BLOB;
+        case "DATE" -> JDBCType.DATE;
+        case "TIME" -> JDBCType.TIME;
+        case "TIMESTAMP" -> JDBCType.TIMESTAMP;
+        case "XML" -> JDBCType.SQLXML;
+        // user-defined types
+        default -> JDBCType.JAVA_OBJECT;
+        };
+    }
+
+
+    private record KeyConstraint(TableReference table, String name, List<ColumnReference> columns) {
+    }
+
+
+    private record KeyColumn(int position, boolean ascending) {
+    }
+
+
+    private record IndexDescriptor(boolean unique, List<KeyColumn> columns) {
+    }
+}
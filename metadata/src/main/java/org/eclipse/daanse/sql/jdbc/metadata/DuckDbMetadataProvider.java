@@ -0,0 +1,686 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.RowCallback;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.SequenceReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.SequenceRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * The DuckDB catalog-function reader: {@code duckdb_tables()},
+ * {@code duckdb_columns()}, {@code duckdb_constraints()},
+ * {@code duckdb_indexes()}, {@code duckdb_views()} and
+ * {@code duckdb_sequences()}, one query per object kind. The catalog is the
+ * attached database; schema-scoped reads without one use
+ * {@code current_database()}.
+ */
+public class DuckDbMetadataProvider implements MetadataProvider {
+
+    private static final Pattern VIEW_BODY = Pattern
+            .compile("(?is)^\\s*CREATE\\s+(?:OR\\s+REPLACE\\s+)?(?:TEMP(?:ORARY)?\\s+)?VIEW\\s+.+?\\s+AS\\s+(.+?);?\\s*$");
+
+    private final MetadataStatements statements;
+
+    public DuckDbMetadataProvider() {
+        this(MetadataQueryOptions.DEFAULT);
+    }
+
+    public DuckDbMetadataProvider(MetadataQueryOptions options) {
+        this.statements = new MetadataStatements(options);
+    }
+
+
+    @Override
+    public MetadataQueryOptions queryOptions() {
+        return statements.options();
+    }
+
+
+    @Override
+    public Optional<List<TableDefinition>> getAllTableDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        // Table types as the driver's getTables reports them (information_schema).
+        StringBuilder sql = new StringBuilder("""
+                SELECT database_name, schema_name, table_name, table_type, comment
+                FROM (
+                    SELECT database_name, schema_name, table_name,
+                            CASE WHEN temporary THEN 'LOCAL TEMPORARY' ELSE 'BASE TABLE' END AS table_type, comment
+                    FROM duckdb_tables()
+                    WHERE NOT internal
+                    UNION ALL
+                    SELECT database_name, schema_name, view_name, 'VIEW', comment
+                    FROM duckdb_views()
+                    WHERE NOT internal
+                ) t
+                WHERE 1 = 1
+                """);
+        boolean hasCatalogFilter = catalog != null;
+        if (hasCatalogFilter) {
+            sql.append("  AND database_name = ?\n");
+        }
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND schema_name LIKE ?\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND table_name LIKE ?\n");
+        }
+        sql.append("ORDER BY table_type, database_name, schema_name, table_name");
+
+        List<String> typeFilter = types == null ? null : Arrays.asList(types);
+        List<TableDefinition> result = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasCatalogFilter) {
+                ps.setString(idx++, catalog);
+            }
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableType = rs.getString("table_type");
+                    if (typeFilter != null && !typeFilter.contains(tableType)) {
+                        continue;
+                    }
+                    TableReference tableRef = new TableReference(schemaOf(rs), rs.getString("table_name"),
+                            tableType);
+                    result.add(new TableDefinitionRecord(tableRef,
+                            new TableMetaDataRecord(Optional.ofNullable(rs.getString("comment")), Optional.empty(),
+                                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty())));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
+    @Override
+    public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        List<ColumnDefinition> out = new ArrayList<>();
+        forEachColumnDefinition(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern, out::add);
+        return Optional.of(List.copyOf(out));
+    }
+
+
+    @Override
+    public boolean forEachColumnDefinition(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, RowCallback<ColumnDefinition> callback)
+            throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT database_name, schema_name, table_name, column_name, data_type, is_nullable,
+                        column_default, comment, character_maximum_length, numeric_precision,
+                        numeric_precision_radix, numeric_scale
+                FROM duckdb_columns()
+                WHERE NOT internal
+                """);
+        boolean hasCatalogFilter = catalog != null;
+        if (hasCatalogFilter) {
+            sql.append("  AND database_name = ?\n");
+        }
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND schema_name LIKE ?\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND table_name LIKE ?\n");
+        }
+        boolean hasColumnFilter = columnNamePattern != null && !columnNamePattern.isBlank()
+                && !"%".equals(columnNamePattern);
+        if (hasColumnFilter) {
+            sql.append("  AND column_name LIKE ?\n");
+        }
+        sql.append("ORDER BY database_name, schema_name, table_name, column_index");
+
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasCatalogFilter) {
+                ps.setString(idx++, catalog);
+            }
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            if (hasColumnFilter) {
+                ps.setString(idx++, columnNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                String currentKey = null;
+                TableReference tableRef = null;
+                while (rs.next()) {
+                    String key = rs.getString("database_name") + '.' + rs.getString("schema_name") + '.'
+                            + rs.getString("table_name");
+                    if (!key.equals(currentKey)) {
+                        currentKey = key;
+                        tableRef = new TableReference(schemaOf(rs), rs.getString("table_name"));
+                    }
+                    callback.accept(new ColumnDefinitionRecord(
+                            new ColumnReference(Optional.of(tableRef), rs.getString("column_name")),
+                            readDuckDbColumnMetaData(rs)));
+                }
+            }
+        }
+        return true;
+    }
+
+
+    private static ColumnMetaData readDuckDbColumnMetaData(ResultSet rs) throws SQLException {
+        String dataType = rs.getString("data_type");
+        int precision = rs.getInt("numeric_precision");
+        OptionalInt size = rs.wasNull() ? OptionalInt.empty() : OptionalInt.of(precision);
+        int maxLength = rs.getInt("character_maximum_length");
+        if (size.isEmpty() && !rs.wasNull()) {
+            size = OptionalInt.of(maxLength);
+        }
+        int scale = rs.getInt("numeric_scale");
+        OptionalInt digits = rs.wasNull() ? OptionalInt.empty() : OptionalInt.of(scale);
+        int radixValue = rs.getInt("numeric_precision_radix");
+        OptionalInt radix = rs.wasNull() ? OptionalInt.empty() : OptionalInt.of(radixValue);
+
+        // no identity columns: a sequence default is the auto-increment idiom
+        String columnDefault = rs.getString("column_default");
+        boolean autoIncrement = columnDefault != null && columnDefault.startsWith("nextval(");
+        return new ColumnMetaDataRecord(mapDuckDbType(dataType), dataType, size, digits, radix,
+                rs.getBoolean("is_nullable") ? ColumnMetaData.Nullability.NULLABLE
+                        : ColumnMetaData.Nullability.NO_NULLS,
+                OptionalInt.empty(), Optional.ofNullable(rs.getString("comment")), Optional.ofNullable(columnDefault),
+                autoIncrement ? ColumnMetaData.AutoIncrement.YES : ColumnMetaData.AutoIncrement.NO,
+                // generated columns surface as their expression in column_default
+                ColumnMetaData.GeneratedColumn.UNKNOWN);
+    }
+
+
+    @Override
+    public Optional<List<PrimaryKey>> getAllPrimaryKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT database_name, schema_name, table_name, constraint_name,
+                        UNNEST(constraint_column_names) AS column_name
+                FROM duckdb_constraints()
+                WHERE constraint_type = 'PRIMARY KEY'
+                  AND database_name = COALESCE(?, current_database()) AND schema_name = ?
+                ORDER BY table_name
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        Map<String, List<ColumnReference>> columns = new LinkedHashMap<>();
+        Map<String, String> names = new LinkedHashMap<>();
+        Map<String, TableReference> tableRefs = new LinkedHashMap<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableName = rs.getString("table_name");
+                    Optional<SchemaReference> oSchema = schemaOf(rs);
+                    TableReference tableRef = tableRefs.computeIfAbsent(tableName,
+                            k -> new TableReference(oSchema, k));
+                    names.putIfAbsent(tableName, rs.getString("constraint_name"));
+                    columns.computeIfAbsent(tableName, k -> new ArrayList<>())
+                            .add(new ColumnReference(Optional.of(tableRef), rs.getString("column_name")));
+                }
+            }
+        }
+        List<PrimaryKey> result = new ArrayList<>();
+        for (Map.Entry<String, List<ColumnReference>> entry : columns.entrySet()) {
+            result.add(new PrimaryKeyRecord(tableRefs.get(entry.getKey()), List.copyOf(entry.getValue()),
+                    Optional.ofNullable(names.get(entry.getKey()))));
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getAllImportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readForeignKeys(connection, catalog, schema));
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getAllExportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // A foreign key references a table of its own schema, so the keys
+        // exported from a schema are the ones imported into it.
+        return Optional.of(readForeignKeys(connection, catalog, schema));
+    }
+
+
+    private List<ImportedKey> readForeignKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // The zipped UNNESTs pair each column with its referenced column; the
+        // referenced key's name comes from its own constraint row.
+        String sql = """
+                SELECT fk.database_name, fk.schema_name, fk.table_name, fk.constraint_name, fk.referenced_table,
+                        UNNEST(fk.constraint_column_names) AS fk_column,
+                        UNNEST(fk.referenced_column_names) AS pk_column,
+                        generate_subscripts(fk.constraint_column_names, 1) AS key_seq,
+                        (SELECT MIN(pk.constraint_name)
+                         FROM duckdb_constraints() pk
+                         WHERE pk.database_name = fk.database_name AND pk.schema_name = fk.schema_name
+                           AND pk.table_name = fk.referenced_table
+                           AND pk.constraint_type IN ('PRIMARY KEY', 'UNIQUE')
+                           AND pk.constraint_column_names = fk.referenced_column_names) AS pk_name
+                FROM duckdb_constraints() fk
+                WHERE fk.constraint_type = 'FOREIGN KEY'
+                  AND fk.database_name = COALESCE(?, current_database()) AND fk.schema_name = ?
+                ORDER BY fk.table_name, fk.constraint_name, key_seq
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<ImportedKey> keys = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Optional<SchemaReference> oSchema = schemaOf(rs);
+                    TableReference fkTableRef = new TableReference(oSchema, rs.getString("table_name"));
+                    TableReference pkTableRef = new TableReference(oSchema, rs.getString("referenced_table"));
+                    // DuckDB only enforces NO ACTION on update and delete
+                    keys.add(new ImportedKeyRecord(
+                            new ColumnReference(Optional.of(pkTableRef), rs.getString("pk_column")),
+                            new ColumnReference(Optional.of(fkTableRef), rs.getString("fk_column")),
+                            rs.getString("constraint_name"), rs.getInt("key_seq"),
+                            ImportedKey.ReferentialAction.NO_ACTION, ImportedKey.ReferentialAction.NO_ACTION,
+                            Optional.ofNullable(rs.getString("pk_name")), ImportedKey.Deferrability.NOT_DEFERRABLE));
+                }
+            }
+        }
+        return List.copyOf(keys);
+    }
+
+
+    @Override
+    public List<CheckConstraint> getAllCheckConstraints(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return readCheckConstraints(connection, catalog, schema, null);
+    }
+
+
+    @Override
+    public List<CheckConstraint> getCheckConstraints(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        return readCheckConstraints(connection, catalog, schema, tableName);
+    }
+
+
+    private List<CheckConstraint> readCheckConstraints(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT database_name, schema_name, table_name, constraint_name, expression
+                FROM duckdb_constraints()
+                WHERE constraint_type = 'CHECK'
+                  AND database_name = COALESCE(?, current_database()) AND schema_name = ?
+                """);
+        if (tableName != null) {
+            sql.append("  AND table_name = ?\n");
+        }
+        sql.append("ORDER BY table_name, constraint_name");
+
+        String schemaName = resolveSchema(schema, connection);
+        List<CheckConstraint> constraints = new ArrayList<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            if (tableName != null) {
+                ps.setString(3, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference tableRef = new TableReference(schemaOf(rs), rs.getString("table_name"));
+                    constraints.add(new CheckConstraintRecord(rs.getString("constraint_name"), tableRef,
+                            rs.getString("expression")));
+                }
+            }
+        }
+        return List.copyOf(constraints);
+    }
+
+
+    @Override
+    public List<UniqueConstraint> getAllUniqueConstraints(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return readUniqueConstraints(connection, catalog, schema, null);
+    }
+
+
+    @Override
+    public List<UniqueConstraint> getUniqueConstraints(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        return readUniqueConstraints(connection, catalog, schema, tableName);
+    }
+
+
+    private List<UniqueConstraint> readUniqueConstraints(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT database_name, schema_name, table_name, constraint_name,
+                        UNNEST(constraint_column_names) AS column_name
+                FROM duckdb_constraints()
+                WHERE constraint_type = 'UNIQUE'
+                  AND database_name = COALESCE(?, current_database()) AND schema_name = ?
+                """);
+        if (tableName != null) {
+            sql.append("  AND table_name = ?\n");
+        }
+        sql.append("ORDER BY table_name, constraint_name");
+
+        String schemaName = resolveSchema(schema, connection);
+        Map<String, TableReference> tableRefs = new LinkedHashMap<>();
+        Map<String, List<ColumnReference>> columns = new LinkedHashMap<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            if (tableName != null) {
+                ps.setString(3, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String constraintName = rs.getString("constraint_name");
+                    TableReference tableRef = new TableReference(schemaOf(rs), rs.getString("table_name"));
+                    tableRefs.putIfAbsent(constraintName, tableRef);
+                    columns.computeIfAbsent(constraintName, k -> new ArrayList<>())
+                            .add(new ColumnReference(Optional.of(tableRef), rs.getString("column_name")));
+                }
+            }
+        }
+        List<UniqueConstraint> result = new ArrayList<>();
+        for (Map.Entry<String, List<ColumnReference>> entry : columns.entrySet()) {
+            result.add(new UniqueConstraintRecord(entry.getKey(), tableRefs.get(entry.getKey()),
+                    List.copyOf(entry.getValue())));
+        }
+        return List.copyOf(result);
+    }
+
+
+    @Override
+    public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readIndexInfo(connection, catalog, schema, null));
+    }
+
+
+    @Override
+    public Optional<List<IndexInfo>> getIndexInfo(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        return Optional.of(readIndexInfo(connection, catalog, schema, tableName));
+    }
+
+
+    private List<IndexInfo> readIndexInfo(Connection connection, String catalog, String schema, String tableName)
+            throws SQLException {
+        // Only CREATE INDEX indexes are listed; the ART indexes behind key
+        // constraints are not. An expression that is a plain column name
+        // becomes the item's column.
+        StringBuilder sql = new StringBuilder("""
+                SELECT database_name, schema_name, table_name, index_name, is_unique, expressions
+                FROM duckdb_indexes()
+                WHERE database_name = COALESCE(?, current_database()) AND schema_name = ?
+                """);
+        if (tableName != null) {
+            sql.append("  AND table_name = ?\n");
+        }
+        sql.append("ORDER BY table_name, index_name");
+
+        String schemaName = resolveSchema(schema, connection);
+        Map<String, TableReference> tableRefs = new LinkedHashMap<>();
+        Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            if (tableName != null) {
+                ps.setString(3, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("table_name");
+                    Optional<SchemaReference> oSchema = schemaOf(rs);
+                    TableReference tableRef = tableRefs.computeIfAbsent(table, k -> new TableReference(oSchema, k));
+                    String indexName = rs.getString("index_name");
+                    boolean unique = rs.getBoolean("is_unique");
+                    int ordinal = 0;
+                    for (String expression : splitExpressions(rs.getString("expressions"))) {
+                        Optional<ColumnReference> colRef = columnName(expression)
+                                .map(cn -> new ColumnReference(Optional.of(tableRef), cn));
+                        tableIndexes.computeIfAbsent(table, k -> new ArrayList<>())
+                                .add(new IndexInfoItemRecord(Optional.of(indexName),
+                                        IndexInfoItem.IndexType.TABLE_INDEX_OTHER, colRef, ++ordinal,
+                                        Optional.empty(), 0L, 0L, Optional.empty(), unique));
+                    }
+                }
+            }
+        }
+        List<IndexInfo> result = new ArrayList<>();
+        for (Map.Entry<String, List<IndexInfoItem>> entry : tableIndexes.entrySet()) {
+            result.add(new IndexInfoRecord(tableRefs.get(entry.getKey()), List.copyOf(entry.getValue())));
+        }
+        return List.copyOf(result);
+    }
+
+
+    @Override
+    public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT database_name, schema_name, view_name, sql
+                FROM duckdb_views()
+                WHERE NOT internal AND database_name = COALESCE(?, current_database()) AND schema_name = ?
+                ORDER BY view_name
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<ViewDefinition> views = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String fullDefinition = rs.getString("sql");
+                    TableReference viewRef = new TableReference(schemaOf(rs), rs.getString("view_name"), "VIEW");
+                    views.add(new ViewDefinitionRecord(viewRef, viewBody(fullDefinition),
+                            Optional.ofNullable(fullDefinition)));
+                }
+            }
+        }
+        return List.copyOf(views);
+    }
+
+
+    @Override
+    public List<Sequence> getAllSequences(Connection connection, String catalog, String schema) throws SQLException {
+        String sql = """
+                SELECT database_name, schema_name, sequence_name, start_value, increment_by, min_value,
+                        max_value, cycle
+                FROM duckdb_sequences()
+                WHERE database_name = COALESCE(?, current_database()) AND schema_name = ?
+                ORDER BY sequence_name
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<Sequence> sequences = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    // sequences are BIGINT and have no cache
+                    sequences.add(new SequenceRecord(
+                            new SequenceReference(schemaOf(rs), rs.getString("sequence_name")),
+                            rs.getLong("start_value"), rs.getLong("increment_by"),
+                            Optional.of(rs.getLong("min_value")), Optional.of(rs.getLong("max_value")),
+                            rs.getBoolean("cycle"), Optional.empty(), Optional.of("BIGINT")));
+                }
+            }
+        }
+        return List.copyOf(sequences);
+    }
+
+
+    private String resolveSchema(String schema, Connection connection) throws SQLException {
+        if (schema != null) {
+            return schema;
+        }
+        // DuckDB default schema is main
+        return connection.getSchema() != null ? connection.getSchema() : "main";
+    }
+
+
+    private static Optional<SchemaReference> schemaOf(ResultSet rs) throws SQLException {
+        Optional<CatalogReference> oCatalog = Optional.ofNullable(rs.getString("database_name"))
+                .map(CatalogReference::new);
+        return Optional.of(new SchemaReference(oCatalog, rs.getString("schema_name")));
+    }
+
+
+    /** The column an index expression names, when it is a plain (possibly quoted) identifier. */
+    private static Optional<String> columnName(String expression) {
+        if (expression == null) {
+            return Optional.empty();
+        }
+        if (expression.length() > 1 && expression.startsWith("\"") && expression.endsWith("\"")) {
+            return Optional.of(expression.substring(1, expression.length() - 1).replace("\"\"", "\""));
+        }
+        return expression.matches("[A-Za-z_][A-Za-z0-9_$]*") ? Optional.of(expression) : Optional.empty();
+    }
+
+
+    /**
+     * The entries of an index's {@code expressions} text, e.g.
+     * {@code [a, (lower(d)), "b c"]}; commas inside parentheses or quotes do
+     * not split.
+     */
+    private static List<String> splitExpressions(String expressions) {
+        if (expressions == null) {
+            return List.of();
+        }
+        String text = expressions.strip();
+        if (text.startsWith("[") && text.endsWith("]")) {
+            text = text.substring(1, text.length() - 1);
+        }
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                parts.add(text.substring(start, i).strip());
+                start = i + 1;
+            }
+        }
+        String last = text.substring(start).strip();
+        if (!last.isEmpty()) {
+            parts.add(last);
+        }
+        return parts;
+    }
+
+
+    /** The query of a {@code CREATE VIEW} statement. */
+    private static Optional<String> viewBody(String createView) {
+        if (createView == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = VIEW_BODY.matcher(createView);
+        return matcher.matches() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+
+
+    /** The JDBC type the DuckDB driver reports for a {@code data_type}. */
+    private static JDBCType mapDuckDbType(String dataType) {
+        if (dataType == null) {
+            return JDBCType.OTHER;
+        }
+        if (dataType.endsWith("]")) {
+            return JDBCType.ARRAY;
+        }
+        int paren = dataType.indexOf('(');
+        String base = paren < 0 ? dataType : dataType.substring(0, paren);
+        return switch (base) {
+        case "BOOLEAN" -> JDBCType.BOOLEAN;
+        case "TINYINT" -> JDBCType.TINYINT;
+        case "SMALLINT" -> JDBCType.SMALLINT;
+        case "INTEGER" -> JDBCType.INTEGER;
+        case "BIGINT" -> JDBCType.BIGINT;
+        case "FLOAT" -> JDBCType.FLOAT;
+        case "DOUBLE" -> JDBCType.DOUBLE;
+        case "DECIMAL" -> JDBCType.DECIMAL;
+        case "VARCHAR" -> JDBCType.VARCHAR;
+        case "BLOB" -> JDBCType.BLOB;
+        case "DATE" -> JDBCType.DATE;
+        case "TIME" -> JDBCType.TIME;
+        case "TIME WITH TIME ZONE" -> JDBCType.TIME_WITH_TIMEZONE;
+        case "TIMESTAMP", "TIMESTAMP_S", "TIMESTAMP_MS", "TIMESTAMP_NS" -> JDBCType.TIMESTAMP;
+        case "TIMESTAMP WITH TIME ZONE" -> JDBCType.TIMESTAMP_WITH_TIMEZONE;
+        case "STRUCT" -> JDBCType.STRUCT;
+        default -> JDBCType.OTHER;
+        };
+    }
+}
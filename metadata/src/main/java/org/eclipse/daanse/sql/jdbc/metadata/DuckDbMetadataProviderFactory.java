@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.util.Locale;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataProviderFactory;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ServiceScope;
+
+/** The DuckDB {@link MetadataProviderFactory} (product-name substring match). */
+@Component(service = MetadataProviderFactory.class, scope = ServiceScope.SINGLETON)
+public class DuckDbMetadataProviderFactory implements MetadataProviderFactory {
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        if (databaseProductName == null) {
+            return false;
+        }
+        String lower = databaseProductName.toLowerCase(Locale.ROOT);
+        return lower.contains("duckdb");
+    }
+
+    @Override
+    public MetadataProvider createProvider() {
+        return new DuckDbMetadataProvider();
+    }
+
+    @Override
+    public MetadataProvider createProvider(MetadataQueryOptions options) {
+        return new DuckDbMetadataProvider(options);
+    }
+}
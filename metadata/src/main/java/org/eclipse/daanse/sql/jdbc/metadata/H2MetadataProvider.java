@@ -19,16 +19,22 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.RowCallback;
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.model.schema.CatalogReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
 import org.eclipse.daanse.sql.model.schema.ColumnReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Function;
 import org.eclipse.daanse.sql.jdbc.api.schema.FunctionColumn;
@@ -41,6 +47,7 @@ import org.eclipse.daanse.sql.jdbc.api.schema.ProcedureReference;
 import org.eclipse.daanse.sql.model.schema.SchemaReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
 import org.eclipse.daanse.sql.jdbc.api.schema.SequenceReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
 import org.eclipse.daanse.sql.model.schema.TableReference;
 import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
 import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
@@ -49,6 +56,8 @@ import org.eclipse.daanse.sql.model.schema.TriggerReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
 import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionColumnRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
@@ -58,6 +67,8 @@ import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ProcedureColumnRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ProcedureRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.SequenceRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableMetaDataRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
@@ -69,6 +80,22 @@ import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
  */
 public class H2MetadataProvider implements MetadataProvider {
 
+    private final MetadataStatements statements;
+
+    public H2MetadataProvider() {
+        this(MetadataQueryOptions.DEFAULT);
+    }
+
+    public H2MetadataProvider(MetadataQueryOptions options) {
+        this.statements = new MetadataStatements(options);
+    }
+
+
+    @Override
+    public MetadataQueryOptions queryOptions() {
+        return statements.options();
+    }
+
 
     @Override
     public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
@@ -82,7 +109,7 @@ public class H2MetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -107,7 +134,7 @@ public class H2MetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.reuse(connection, sql)) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
             try (ResultSet rs = ps.executeQuery()) {
@@ -131,7 +158,7 @@ public class H2MetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Sequence> sequences = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -174,7 +201,7 @@ public class H2MetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -209,7 +236,7 @@ public class H2MetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.reuse(connection, sql)) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
             try (ResultSet rs = ps.executeQuery()) {
@@ -285,7 +312,7 @@ public class H2MetadataProvider implements MetadataProvider {
         String schemaName = resolveSchema(schema, connection);
         // Group by table+constraint to build composite PKs
         Map<String, PkBuilder> pkMap = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -340,7 +367,7 @@ public class H2MetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<ImportedKey> importedKeys = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -387,7 +414,7 @@ public class H2MetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<ImportedKey> exportedKeys = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -419,7 +446,7 @@ public class H2MetadataProvider implements MetadataProvider {
         // Group index items by table
         Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
         Map<String, TableReference> tableRefs = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -461,6 +488,236 @@ public class H2MetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<List<TableDefinition>> getAllTableDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        // Same rows as H2's getTables: local temporary tables are left out and
+        // a null schema pattern reads every schema, INFORMATION_SCHEMA included.
+        StringBuilder sql = new StringBuilder("""
+                SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, TABLE_TYPE, REMARKS
+                FROM INFORMATION_SCHEMA.TABLES
+                WHERE TABLE_TYPE <> 'LOCAL TEMPORARY'
+                """);
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND TABLE_SCHEMA LIKE ?\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND TABLE_NAME LIKE ?\n");
+        }
+        sql.append("ORDER BY TABLE_TYPE, TABLE_SCHEMA, TABLE_NAME");
+
+        List<String> typeFilter = types == null ? null : Arrays.asList(types);
+        List<TableDefinition> result = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableType = rs.getString("TABLE_TYPE");
+                    if (typeFilter != null && !typeFilter.contains(tableType)) {
+                        continue;
+                    }
+                    TableReference tableRef = new TableReference(schemaOf(rs), rs.getString("TABLE_NAME"),
+                            tableType);
+                    result.add(new TableDefinitionRecord(tableRef,
+                            new TableMetaDataRecord(Optional.ofNullable(rs.getString("REMARKS")), Optional.empty(),
+                                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty())));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
+    @Override
+    public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        List<ColumnDefinition> out = new ArrayList<>();
+        forEachColumnDefinition(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern, out::add);
+        return Optional.of(List.copyOf(out));
+    }
+
+
+    @Override
+    public boolean forEachColumnDefinition(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, RowCallback<ColumnDefinition> callback)
+            throws SQLException {
+        // The type name of arrays and enums is spelled from ELEMENT_TYPES and
+        // ENUM_VALUES, the way getColumns spells it.
+        StringBuilder sql = new StringBuilder("""
+                SELECT c.TABLE_CATALOG, c.TABLE_SCHEMA, c.TABLE_NAME, c.COLUMN_NAME, c.DATA_TYPE,
+                        c.DECLARED_DATA_TYPE, c.CHARACTER_MAXIMUM_LENGTH, c.NUMERIC_PRECISION,
+                        c.NUMERIC_PRECISION_RADIX, c.NUMERIC_SCALE, c.DATETIME_PRECISION, c.INTERVAL_TYPE,
+                        c.INTERVAL_PRECISION, c.MAXIMUM_CARDINALITY, c.IS_NULLABLE, c.COLUMN_DEFAULT,
+                        c.IS_IDENTITY, c.IS_GENERATED, c.REMARKS,
+                        e.DATA_TYPE AS ELEMENT_DATA_TYPE,
+                        (SELECT LISTAGG('''' || REPLACE(v.VALUE_NAME, '''', '''''') || '''', ', ')
+                                WITHIN GROUP (ORDER BY v.VALUE_ORDINAL)
+                         FROM INFORMATION_SCHEMA.ENUM_VALUES v
+                         WHERE v.OBJECT_SCHEMA = c.TABLE_SCHEMA AND v.OBJECT_NAME = c.TABLE_NAME
+                           AND v.OBJECT_TYPE = 'TABLE' AND v.ENUM_IDENTIFIER = c.DTD_IDENTIFIER) AS ENUM_VALUES,
+                        (SELECT MAX(CHAR_LENGTH(v.VALUE_NAME))
+                         FROM INFORMATION_SCHEMA.ENUM_VALUES v
+                         WHERE v.OBJECT_SCHEMA = c.TABLE_SCHEMA AND v.OBJECT_NAME = c.TABLE_NAME
+                           AND v.OBJECT_TYPE = 'TABLE' AND v.ENUM_IDENTIFIER = c.DTD_IDENTIFIER) AS ENUM_LENGTH
+                FROM INFORMATION_SCHEMA.COLUMNS c
+                JOIN INFORMATION_SCHEMA.TABLES t ON t.TABLE_SCHEMA = c.TABLE_SCHEMA AND t.TABLE_NAME = c.TABLE_NAME
+                LEFT JOIN INFORMATION_SCHEMA.ELEMENT_TYPES e ON e.OBJECT_SCHEMA = c.TABLE_SCHEMA
+                        AND e.OBJECT_NAME = c.TABLE_NAME AND e.OBJECT_TYPE = 'TABLE'
+                        AND e.COLLECTION_TYPE_IDENTIFIER = c.DTD_IDENTIFIER
+                WHERE t.TABLE_TYPE <> 'LOCAL TEMPORARY'
+                """);
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND c.TABLE_SCHEMA LIKE ?\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND c.TABLE_NAME LIKE ?\n");
+        }
+        boolean hasColumnFilter = columnNamePattern != null && !columnNamePattern.isBlank()
+                && !"%".equals(columnNamePattern);
+        if (hasColumnFilter) {
+            sql.append("  AND c.COLUMN_NAME LIKE ?\n");
+        }
+        sql.append("ORDER BY c.TABLE_SCHEMA, c.TABLE_NAME, c.ORDINAL_POSITION");
+
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            if (hasColumnFilter) {
+                ps.setString(idx++, columnNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                String currentSchema = null;
+                String currentTable = null;
+                TableReference tableRef = null;
+                while (rs.next()) {
+                    String schemaName = rs.getString("TABLE_SCHEMA");
+                    String tableName = rs.getString("TABLE_NAME");
+                    if (!schemaName.equals(currentSchema) || !tableName.equals(currentTable)) {
+                        currentSchema = schemaName;
+                        currentTable = tableName;
+                        tableRef = new TableReference(schemaOf(rs), tableName);
+                    }
+                    callback.accept(new ColumnDefinitionRecord(
+                            new ColumnReference(Optional.of(tableRef), rs.getString("COLUMN_NAME")),
+                            readH2ColumnMetaData(rs)));
+                }
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Column metadata as H2's getColumns reports it: the size is the
+     * precision of the type (bits for the binary numerics, the display width
+     * for datetimes), the octet length repeats it and the decimal digits are
+     * the scale, 0 when the type has none.
+     */
+    private static ColumnMetaData readH2ColumnMetaData(ResultSet rs) throws SQLException {
+        String dataType = rs.getString("DATA_TYPE");
+        String declaredType = rs.getString("DECLARED_DATA_TYPE");
+        // only NUMERIC keeps its declared spelling (DECIMAL); FLOAT(n) is named REAL or DOUBLE PRECISION
+        String typeName = "NUMERIC".equals(dataType) && declaredType != null ? declaredType : dataType;
+        int scale = 0;
+        Long precision = null;
+        switch (dataType) {
+        case "ARRAY" -> {
+            typeName = rs.getString("ELEMENT_DATA_TYPE") + " ARRAY";
+            precision = getLong(rs, "MAXIMUM_CARDINALITY");
+        }
+        case "ENUM" -> {
+            typeName = "ENUM(" + rs.getString("ENUM_VALUES") + ")";
+            precision = getLong(rs, "ENUM_LENGTH");
+        }
+        case "BOOLEAN" -> precision = 1L;
+        case "UUID" -> precision = 16L;
+        case "DATE" -> precision = 10L;
+        case "TIME", "TIME WITH TIME ZONE", "TIMESTAMP", "TIMESTAMP WITH TIME ZONE" -> {
+            scale = rs.getInt("DATETIME_PRECISION");
+            long width = switch (dataType) {
+            case "TIME" -> 8;
+            case "TIME WITH TIME ZONE" -> 14;
+            case "TIMESTAMP" -> 19;
+            default -> 25;
+            };
+            precision = scale > 0 ? width + 1 + scale : width;
+        }
+        case "INTERVAL" -> {
+            typeName = "INTERVAL " + rs.getString("INTERVAL_TYPE");
+            precision = getLong(rs, "INTERVAL_PRECISION");
+            scale = rs.getInt("DATETIME_PRECISION");
+        }
+        default -> {
+            precision = getLong(rs, "NUMERIC_PRECISION");
+            if (precision == null) {
+                precision = getLong(rs, "CHARACTER_MAXIMUM_LENGTH");
+            }
+            scale = rs.getInt("NUMERIC_SCALE");
+        }
+        }
+        OptionalInt size = precision == null ? OptionalInt.empty()
+                : OptionalInt.of((int) Math.min(precision, Integer.MAX_VALUE));
+        int radixValue = rs.getInt("NUMERIC_PRECISION_RADIX");
+        OptionalInt radix = rs.wasNull() ? OptionalInt.empty() : OptionalInt.of(radixValue);
+
+        boolean generated = "ALWAYS".equals(rs.getString("IS_GENERATED"));
+        return new ColumnMetaDataRecord(mapH2ColumnType(dataType, declaredType), typeName, size,
+                OptionalInt.of(scale), radix,
+                "YES".equals(rs.getString("IS_NULLABLE")) ? ColumnMetaData.Nullability.NULLABLE
+                        : ColumnMetaData.Nullability.NO_NULLS,
+                size, Optional.ofNullable(rs.getString("REMARKS")),
+                Optional.ofNullable(rs.getString("COLUMN_DEFAULT")),
+                "YES".equals(rs.getString("IS_IDENTITY")) ? ColumnMetaData.AutoIncrement.YES
+                        : ColumnMetaData.AutoIncrement.NO,
+                generated ? ColumnMetaData.GeneratedColumn.YES : ColumnMetaData.GeneratedColumn.NO);
+    }
+
+
+    /** The JDBC type H2 reports for a column; differs from {@link #mapH2DataType} for a few names. */
+    private static JDBCType mapH2ColumnType(String dataType, String declaredType) {
+        return switch (dataType) {
+        case "CHARACTER" -> JDBCType.CHAR;
+        case "NUMERIC" -> "DECIMAL".equals(declaredType) ? JDBCType.DECIMAL : JDBCType.NUMERIC;
+        case "REAL", "DOUBLE PRECISION" -> "FLOAT".equals(declaredType) ? JDBCType.FLOAT
+                : "REAL".equals(dataType) ? JDBCType.REAL : JDBCType.DOUBLE;
+        case "DECFLOAT" -> JDBCType.NUMERIC;
+        case "UUID" -> JDBCType.BINARY;
+        case "ARRAY" -> JDBCType.ARRAY;
+        default -> mapH2DataType(dataType);
+        };
+    }
+
+
+    private static Optional<SchemaReference> schemaOf(ResultSet rs) throws SQLException {
+        Optional<CatalogReference> oCatalog = Optional.ofNullable(rs.getString("TABLE_CATALOG"))
+                .map(CatalogReference::new);
+        return Optional.of(new SchemaReference(oCatalog, rs.getString("TABLE_SCHEMA")));
+    }
+
+
+    private static Long getLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+
     @Override
     public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
             throws SQLException {
@@ -472,7 +729,7 @@ public class H2MetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<ViewDefinition> views = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -503,7 +760,7 @@ public class H2MetadataProvider implements MetadataProvider {
                 ORDER BY ROUTINE_NAME
                 """;
         List<Procedure> procedures = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -538,7 +795,7 @@ public class H2MetadataProvider implements MetadataProvider {
                 ORDER BY ROUTINE_NAME
                 """;
         List<Function> functions = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -571,7 +828,7 @@ public class H2MetadataProvider implements MetadataProvider {
                 ORDER BY SPECIFIC_NAME, ORDINAL_POSITION
                 """;
         Map<String, List<ProcedureColumn>> result = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -614,7 +871,7 @@ public class H2MetadataProvider implements MetadataProvider {
                 ORDER BY SPECIFIC_NAME, ORDINAL_POSITION
                 """;
         Map<String, List<FunctionColumn>> result = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -766,7 +1023,7 @@ public class H2MetadataProvider implements MetadataProvider {
         String schemaName = resolveSchema(schema, connection);
         // Group by constraint name to collect all columns
         Map<String, UcBuilder> ucMap = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.forTable(connection, sql, tableName)) {
             ps.setString(1, schemaName);
             if (tableName != null) {
                 ps.setString(2, tableName);
@@ -791,6 +1048,54 @@ public class H2MetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<ChangeMarker> getChangeMarker(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // H2 keeps no DDL timestamp (LAST_MODIFICATION also moves on DML), so
+        // the stamp is the table's column, constraint and index signature.
+        String sql = """
+                SELECT t.TABLE_NAME, t.TABLE_TYPE,
+                       COALESCE((SELECT LISTAGG(c.COLUMN_NAME || ':' || c.DATA_TYPE || ':'
+                                        || COALESCE(CAST(c.CHARACTER_MAXIMUM_LENGTH AS VARCHAR), '') || ':'
+                                        || COALESCE(CAST(c.NUMERIC_PRECISION AS VARCHAR), '') || ':'
+                                        || COALESCE(CAST(c.NUMERIC_SCALE AS VARCHAR), '') || ':'
+                                        || c.IS_NULLABLE || ':' || COALESCE(c.COLUMN_DEFAULT, '') || ':'
+                                        || COALESCE(c.REMARKS, ''), ',') WITHIN GROUP (ORDER BY c.ORDINAL_POSITION)
+                                 FROM INFORMATION_SCHEMA.COLUMNS c
+                                 WHERE c.TABLE_SCHEMA = t.TABLE_SCHEMA AND c.TABLE_NAME = t.TABLE_NAME), '')
+                       || '/' || COALESCE((SELECT LISTAGG(k.CONSTRAINT_NAME || ':' || k.CONSTRAINT_TYPE, ',')
+                                                  WITHIN GROUP (ORDER BY k.CONSTRAINT_NAME)
+                                           FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS k
+                                           WHERE k.TABLE_SCHEMA = t.TABLE_SCHEMA AND k.TABLE_NAME = t.TABLE_NAME), '')
+                       || '/' || COALESCE((SELECT LISTAGG(i.INDEX_NAME, ',') WITHIN GROUP (ORDER BY i.INDEX_NAME)
+                                           FROM INFORMATION_SCHEMA.INDEXES i
+                                           WHERE i.TABLE_SCHEMA = t.TABLE_SCHEMA AND i.TABLE_NAME = t.TABLE_NAME), '')
+                       || '/' || COALESCE(t.REMARKS, '')
+                       || '/' || COALESCE((SELECT v.VIEW_DEFINITION FROM INFORMATION_SCHEMA.VIEWS v
+                                           WHERE v.TABLE_SCHEMA = t.TABLE_SCHEMA AND v.TABLE_NAME = t.TABLE_NAME), '')
+                       AS STAMP
+                FROM INFORMATION_SCHEMA.TABLES t
+                WHERE t.TABLE_SCHEMA = ?
+                UNION ALL
+                SELECT NULL, NULL,
+                       COALESCE((SELECT LISTAGG(s.SEQUENCE_NAME || ':' || s.START_VALUE || ':' || s.INCREMENT || ':'
+                                        || s.MINIMUM_VALUE || ':' || s.MAXIMUM_VALUE || ':' || s.CYCLE_OPTION, ',')
+                                        WITHIN GROUP (ORDER BY s.SEQUENCE_NAME)
+                                 FROM INFORMATION_SCHEMA.SEQUENCES s WHERE s.SEQUENCE_SCHEMA = ?), '')
+                       || '/' || COALESCE((SELECT LISTAGG(r.SPECIFIC_NAME, ',') WITHIN GROUP (ORDER BY r.SPECIFIC_NAME)
+                                           FROM INFORMATION_SCHEMA.ROUTINES r WHERE r.ROUTINE_SCHEMA = ?), '')
+                       || '/' || COALESCE((SELECT LISTAGG(g.TRIGGER_NAME || ':' || g.EVENT_OBJECT_TABLE || ':'
+                                                  || g.EVENT_MANIPULATION || ':' || g.ACTION_TIMING, ',')
+                                                  WITHIN GROUP (ORDER BY g.TRIGGER_NAME)
+                                           FROM INFORMATION_SCHEMA.TRIGGERS g WHERE g.TRIGGER_SCHEMA = ?), '')
+                       || '/' || COALESCE((SELECT LISTAGG(d.DOMAIN_NAME, ',') WITHIN GROUP (ORDER BY d.DOMAIN_NAME)
+                                           FROM INFORMATION_SCHEMA.DOMAINS d WHERE d.DOMAIN_SCHEMA = ?), '')
+                """;
+        return Optional.of(
+                ChangeMarkers.read(statements, connection, resolveSchema(schema, connection), sql, 5));
+    }
+
+
     private String resolveSchema(String schema, Connection connection) throws SQLException {
         if (schema != null) {
             return schema;
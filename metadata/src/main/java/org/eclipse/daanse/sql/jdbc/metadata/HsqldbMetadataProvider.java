@@ -0,0 +1,627 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.RowCallback;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.SequenceReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.SequenceRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
+import org.eclipse.daanse.sql.model.schema.TriggerReference;
+
+/**
+ * The HSQLDB {@code INFORMATION_SCHEMA} reader. The {@code SYSTEM_*} tables
+ * behind HSQLDB's own {@code DatabaseMetaData} have the JDBC result-set shape,
+ * so tables, columns, keys and indexes are one schema-wide query each; checks,
+ * unique constraints, views, sequences and triggers come from the standard
+ * views.
+ */
+public class HsqldbMetadataProvider implements MetadataProvider {
+
+    private final MetadataStatements statements;
+
+    public HsqldbMetadataProvider() {
+        this(MetadataQueryOptions.DEFAULT);
+    }
+
+    public HsqldbMetadataProvider(MetadataQueryOptions options) {
+        this.statements = new MetadataStatements(options);
+    }
+
+
+    @Override
+    public MetadataQueryOptions queryOptions() {
+        return statements.options();
+    }
+
+
+    @Override
+    public Optional<List<TableDefinition>> getAllTableDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT TABLE_CAT, TABLE_SCHEM, TABLE_NAME, TABLE_TYPE, REMARKS
+                FROM INFORMATION_SCHEMA.SYSTEM_TABLES
+                WHERE 1 = 1
+                """);
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND TABLE_SCHEM LIKE ?\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND TABLE_NAME LIKE ?\n");
+        }
+        sql.append("ORDER BY TABLE_TYPE, TABLE_SCHEM, TABLE_NAME");
+
+        List<String> typeFilter = types == null ? null : Arrays.asList(types);
+        List<TableDefinition> result = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableType = rs.getString("TABLE_TYPE");
+                    if (typeFilter != null && !typeFilter.contains(tableType)) {
+                        continue;
+                    }
+                    TableReference tableRef = new TableReference(schemaOf(rs, "TABLE_CAT", "TABLE_SCHEM"),
+                            rs.getString("TABLE_NAME"), tableType);
+                    result.add(new TableDefinitionRecord(tableRef,
+                            new TableMetaDataRecord(Optional.ofNullable(rs.getString("REMARKS")), Optional.empty(),
+                                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty())));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
+    @Override
+    public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        List<ColumnDefinition> out = new ArrayList<>();
+        forEachColumnDefinition(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern, out::add);
+        return Optional.of(List.copyOf(out));
+    }
+
+
+    @Override
+    public boolean forEachColumnDefinition(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, RowCallback<ColumnDefinition> callback)
+            throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT TABLE_CAT, TABLE_SCHEM, TABLE_NAME, COLUMN_NAME, DATA_TYPE, TYPE_NAME, COLUMN_SIZE,
+                        DECIMAL_DIGITS, NUM_PREC_RADIX, NULLABLE, REMARKS, COLUMN_DEF, CHAR_OCTET_LENGTH,
+                        IS_AUTOINCREMENT, IS_GENERATEDCOLUMN
+                FROM INFORMATION_SCHEMA.SYSTEM_COLUMNS
+                WHERE 1 = 1
+                """);
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND TABLE_SCHEM LIKE ?\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND TABLE_NAME LIKE ?\n");
+        }
+        boolean hasColumnFilter = columnNamePattern != null && !columnNamePattern.isBlank()
+                && !"%".equals(columnNamePattern);
+        if (hasColumnFilter) {
+            sql.append("  AND COLUMN_NAME LIKE ?\n");
+        }
+        sql.append("ORDER BY TABLE_SCHEM, TABLE_NAME, ORDINAL_POSITION");
+
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            if (hasColumnFilter) {
+                ps.setString(idx++, columnNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                String currentKey = null;
+                TableReference tableRef = null;
+                while (rs.next()) {
+                    String key = rs.getString("TABLE_SCHEM") + '.' + rs.getString("TABLE_NAME");
+                    if (!key.equals(currentKey)) {
+                        currentKey = key;
+                        tableRef = new TableReference(schemaOf(rs, "TABLE_CAT", "TABLE_SCHEM"),
+                                rs.getString("TABLE_NAME"));
+                    }
+                    callback.accept(new ColumnDefinitionRecord(
+                            new ColumnReference(Optional.of(tableRef), rs.getString("COLUMN_NAME")),
+                            readColumnMetaData(rs)));
+                }
+            }
+        }
+        return true;
+    }
+
+
+    private static ColumnMetaData readColumnMetaData(ResultSet rs) throws SQLException {
+        int nullable = rs.getInt("NULLABLE");
+        return new ColumnMetaDataRecord(jdbcType(rs.getInt("DATA_TYPE")), rs.getString("TYPE_NAME"),
+                optInt(rs, "COLUMN_SIZE"), optInt(rs, "DECIMAL_DIGITS"), optInt(rs, "NUM_PREC_RADIX"),
+                ColumnMetaData.Nullability.of(nullable), optInt(rs, "CHAR_OCTET_LENGTH"),
+                Optional.ofNullable(rs.getString("REMARKS")), Optional.ofNullable(rs.getString("COLUMN_DEF")),
+                ColumnMetaData.AutoIncrement.ofString(rs.getString("IS_AUTOINCREMENT")),
+                ColumnMetaData.GeneratedColumn.ofString(rs.getString("IS_GENERATEDCOLUMN")));
+    }
+
+
+    @Override
+    public Optional<List<PrimaryKey>> getAllPrimaryKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT TABLE_CAT, TABLE_SCHEM, TABLE_NAME, COLUMN_NAME, PK_NAME
+                FROM INFORMATION_SCHEMA.SYSTEM_PRIMARYKEYS
+                WHERE TABLE_SCHEM = ?
+                ORDER BY TABLE_NAME, KEY_SEQ
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        Map<String, TableReference> tableRefs = new LinkedHashMap<>();
+        Map<String, List<ColumnReference>> columns = new LinkedHashMap<>();
+        Map<String, String> names = new LinkedHashMap<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableName = rs.getString("TABLE_NAME");
+                    Optional<SchemaReference> oSchema = schemaOf(rs, "TABLE_CAT", "TABLE_SCHEM");
+                    TableReference tableRef = tableRefs.computeIfAbsent(tableName,
+                            k -> new TableReference(oSchema, k));
+                    names.putIfAbsent(tableName, rs.getString("PK_NAME"));
+                    columns.computeIfAbsent(tableName, k -> new ArrayList<>())
+                            .add(new ColumnReference(Optional.of(tableRef), rs.getString("COLUMN_NAME")));
+                }
+            }
+        }
+        List<PrimaryKey> result = new ArrayList<>();
+        for (Map.Entry<String, List<ColumnReference>> entry : columns.entrySet()) {
+            result.add(new PrimaryKeyRecord(tableRefs.get(entry.getKey()), List.copyOf(entry.getValue()),
+                    Optional.ofNullable(names.get(entry.getKey()))));
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getAllImportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readCrossReference(connection, "FKTABLE_SCHEM", resolveSchema(schema, connection)));
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getAllExportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readCrossReference(connection, "PKTABLE_SCHEM", resolveSchema(schema, connection)));
+    }
+
+
+    private List<ImportedKey> readCrossReference(Connection connection, String schemaColumn, String schemaName)
+            throws SQLException {
+        String sql = """
+                SELECT PKTABLE_CAT, PKTABLE_SCHEM, PKTABLE_NAME, PKCOLUMN_NAME,
+                        FKTABLE_CAT, FKTABLE_SCHEM, FKTABLE_NAME, FKCOLUMN_NAME,
+                        KEY_SEQ, UPDATE_RULE, DELETE_RULE, FK_NAME, PK_NAME, DEFERRABILITY
+                FROM INFORMATION_SCHEMA.SYSTEM_CROSSREFERENCE
+                WHERE %s = ?
+                ORDER BY FKTABLE_SCHEM, FKTABLE_NAME, FK_NAME, KEY_SEQ
+                """.formatted(schemaColumn);
+        List<ImportedKey> keys = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference pkTableRef = new TableReference(schemaOf(rs, "PKTABLE_CAT", "PKTABLE_SCHEM"),
+                            rs.getString("PKTABLE_NAME"));
+                    TableReference fkTableRef = new TableReference(schemaOf(rs, "FKTABLE_CAT", "FKTABLE_SCHEM"),
+                            rs.getString("FKTABLE_NAME"));
+                    keys.add(new ImportedKeyRecord(
+                            new ColumnReference(Optional.of(pkTableRef), rs.getString("PKCOLUMN_NAME")),
+                            new ColumnReference(Optional.of(fkTableRef), rs.getString("FKCOLUMN_NAME")),
+                            rs.getString("FK_NAME"), rs.getInt("KEY_SEQ"),
+                            ImportedKey.ReferentialAction.of(rs.getInt("UPDATE_RULE")),
+                            ImportedKey.ReferentialAction.of(rs.getInt("DELETE_RULE")),
+                            Optional.ofNullable(rs.getString("PK_NAME")),
+                            ImportedKey.Deferrability.of(rs.getInt("DEFERRABILITY"))));
+                }
+            }
+        }
+        return List.copyOf(keys);
+    }
+
+
+    @Override
+    public List<CheckConstraint> getAllCheckConstraints(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return readCheckConstraints(connection, schema, null);
+    }
+
+
+    @Override
+    public List<CheckConstraint> getCheckConstraints(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        return readCheckConstraints(connection, schema, tableName);
+    }
+
+
+    private List<CheckConstraint> readCheckConstraints(Connection connection, String schema, String tableName)
+            throws SQLException {
+        // NOT NULL columns are stored as SYS_CT_ check constraints; they are
+        // column nullability, not checks.
+        StringBuilder sql = new StringBuilder("""
+                SELECT tc.TABLE_CATALOG, tc.TABLE_SCHEMA, tc.TABLE_NAME, tc.CONSTRAINT_NAME, cc.CHECK_CLAUSE
+                FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc
+                JOIN INFORMATION_SCHEMA.CHECK_CONSTRAINTS cc
+                  ON cc.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA AND cc.CONSTRAINT_NAME = tc.CONSTRAINT_NAME
+                WHERE tc.CONSTRAINT_TYPE = 'CHECK' AND tc.TABLE_SCHEMA = ?
+                  AND NOT (tc.CONSTRAINT_NAME LIKE 'SYS\\_CT\\_%' ESCAPE '\\' AND cc.CHECK_CLAUSE LIKE '% IS NOT NULL')
+                """);
+        if (tableName != null) {
+            sql.append("  AND tc.TABLE_NAME = ?\n");
+        }
+        sql.append("ORDER BY tc.TABLE_NAME, tc.CONSTRAINT_NAME");
+
+        String schemaName = resolveSchema(schema, connection);
+        List<CheckConstraint> constraints = new ArrayList<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, schemaName);
+            if (tableName != null) {
+                ps.setString(2, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference tableRef = new TableReference(schemaOf(rs, "TABLE_CATALOG", "TABLE_SCHEMA"),
+                            rs.getString("TABLE_NAME"));
+                    constraints.add(new CheckConstraintRecord(rs.getString("CONSTRAINT_NAME"), tableRef,
+                            rs.getString("CHECK_CLAUSE")));
+                }
+            }
+        }
+        return List.copyOf(constraints);
+    }
+
+
+    @Override
+    public List<UniqueConstraint> getAllUniqueConstraints(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return readUniqueConstraints(connection, schema, null);
+    }
+
+
+    @Override
+    public List<UniqueConstraint> getUniqueConstraints(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        return readUniqueConstraints(connection, schema, tableName);
+    }
+
+
+    private List<UniqueConstraint> readUniqueConstraints(Connection connection, String schema, String tableName)
+            throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT tc.TABLE_CATALOG, tc.TABLE_SCHEMA, tc.TABLE_NAME, tc.CONSTRAINT_NAME, kcu.COLUMN_NAME
+                FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc
+                JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE kcu
+                  ON kcu.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA AND kcu.CONSTRAINT_NAME = tc.CONSTRAINT_NAME
+                WHERE tc.CONSTRAINT_TYPE = 'UNIQUE' AND tc.TABLE_SCHEMA = ?
+                """);
+        if (tableName != null) {
+            sql.append("  AND tc.TABLE_NAME = ?\n");
+        }
+        sql.append("ORDER BY tc.TABLE_NAME, tc.CONSTRAINT_NAME, kcu.ORDINAL_POSITION");
+
+        String schemaName = resolveSchema(schema, connection);
+        Map<String, TableReference> tableRefs = new LinkedHashMap<>();
+        Map<String, List<ColumnReference>> columns = new LinkedHashMap<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, schemaName);
+            if (tableName != null) {
+                ps.setString(2, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String constraintName = rs.getString("CONSTRAINT_NAME");
+                    TableReference tableRef = new TableReference(schemaOf(rs, "TABLE_CATALOG", "TABLE_SCHEMA"),
+                            rs.getString("TABLE_NAME"));
+                    tableRefs.putIfAbsent(constraintName, tableRef);
+                    columns.computeIfAbsent(constraintName, k -> new ArrayList<>())
+                            .add(new ColumnReference(Optional.of(tableRef), rs.getString("COLUMN_NAME")));
+                }
+            }
+        }
+        List<UniqueConstraint> result = new ArrayList<>();
+        for (Map.Entry<String, List<ColumnReference>> entry : columns.entrySet()) {
+            result.add(new UniqueConstraintRecord(entry.getKey(), tableRefs.get(entry.getKey()),
+                    List.copyOf(entry.getValue())));
+        }
+        return List.copyOf(result);
+    }
+
+
+    @Override
+    public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readIndexInfo(connection, schema, null));
+    }
+
+
+    @Override
+    public Optional<List<IndexInfo>> getIndexInfo(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        return Optional.of(readIndexInfo(connection, schema, tableName));
+    }
+
+
+    private List<IndexInfo> readIndexInfo(Connection connection, String schema, String tableName)
+            throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT TABLE_CAT, TABLE_SCHEM, TABLE_NAME, NON_UNIQUE, INDEX_NAME, TYPE, ORDINAL_POSITION,
+                        COLUMN_NAME, ASC_OR_DESC, CARDINALITY, PAGES, FILTER_CONDITION
+                FROM INFORMATION_SCHEMA.SYSTEM_INDEXINFO
+                WHERE TABLE_SCHEM = ?
+                """);
+        if (tableName != null) {
+            sql.append("  AND TABLE_NAME = ?\n");
+        }
+        sql.append("ORDER BY TABLE_NAME, NON_UNIQUE, INDEX_NAME, ORDINAL_POSITION");
+
+        String schemaName = resolveSchema(schema, connection);
+        Map<String, TableReference> tableRefs = new LinkedHashMap<>();
+        Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, schemaName);
+            if (tableName != null) {
+                ps.setString(2, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("TABLE_NAME");
+                    Optional<SchemaReference> oSchema = schemaOf(rs, "TABLE_CAT", "TABLE_SCHEM");
+                    TableReference tableRef = tableRefs.computeIfAbsent(table, k -> new TableReference(oSchema, k));
+                    Optional<ColumnReference> colRef = Optional.ofNullable(rs.getString("COLUMN_NAME"))
+                            .map(cn -> new ColumnReference(Optional.of(tableRef), cn));
+                    String ascOrDesc = rs.getString("ASC_OR_DESC");
+                    tableIndexes.computeIfAbsent(table, k -> new ArrayList<>())
+                            .add(new IndexInfoItemRecord(Optional.ofNullable(rs.getString("INDEX_NAME")),
+                                    IndexInfoItem.IndexType.of(rs.getInt("TYPE")), colRef,
+                                    rs.getInt("ORDINAL_POSITION"),
+                                    ascOrDesc == null ? Optional.empty() : Optional.of("A".equals(ascOrDesc)),
+                                    rs.getLong("CARDINALITY"), rs.getLong("PAGES"),
+                                    Optional.ofNullable(rs.getString("FILTER_CONDITION")),
+                                    !rs.getBoolean("NON_UNIQUE")));
+                }
+            }
+        }
+        List<IndexInfo> result = new ArrayList<>();
+        for (Map.Entry<String, List<IndexInfoItem>> entry : tableIndexes.entrySet()) {
+            result.add(new IndexInfoRecord(tableRefs.get(entry.getKey()), List.copyOf(entry.getValue())));
+        }
+        return List.copyOf(result);
+    }
+
+
+    @Override
+    public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, VIEW_DEFINITION
+                FROM INFORMATION_SCHEMA.VIEWS
+                WHERE TABLE_SCHEMA = ?
+                ORDER BY TABLE_NAME
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<ViewDefinition> views = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference viewRef = new TableReference(schemaOf(rs, "TABLE_CATALOG", "TABLE_SCHEMA"),
+                            rs.getString("TABLE_NAME"), "VIEW");
+                    // VIEW_DEFINITION is the normalized query, not the CREATE VIEW statement
+                    views.add(new ViewDefinitionRecord(viewRef, Optional.ofNullable(rs.getString("VIEW_DEFINITION")),
+                            Optional.empty()));
+                }
+            }
+        }
+        return List.copyOf(views);
+    }
+
+
+    @Override
+    public List<Sequence> getAllSequences(Connection connection, String catalog, String schema) throws SQLException {
+        String sql = """
+                SELECT SEQUENCE_CATALOG, SEQUENCE_SCHEMA, SEQUENCE_NAME, DATA_TYPE, START_WITH, INCREMENT,
+                        MINIMUM_VALUE, MAXIMUM_VALUE, CYCLE_OPTION
+                FROM INFORMATION_SCHEMA.SEQUENCES
+                WHERE SEQUENCE_SCHEMA = ?
+                ORDER BY SEQUENCE_NAME
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<Sequence> sequences = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    // the limits are character data; HSQLDB sequences have no cache
+                    sequences.add(new SequenceRecord(
+                            new SequenceReference(schemaOf(rs, "SEQUENCE_CATALOG", "SEQUENCE_SCHEMA"),
+                                    rs.getString("SEQUENCE_NAME")),
+                            rs.getLong("START_WITH"), rs.getLong("INCREMENT"),
+                            Optional.ofNullable(rs.getString("MINIMUM_VALUE")).map(Long::valueOf),
+                            Optional.ofNullable(rs.getString("MAXIMUM_VALUE")).map(Long::valueOf),
+                            "YES".equals(rs.getString("CYCLE_OPTION")), Optional.empty(),
+                            Optional.ofNullable(rs.getString("DATA_TYPE"))));
+                }
+            }
+        }
+        return List.copyOf(sequences);
+    }
+
+
+    @Override
+    public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
+        return readTriggers(connection, schema, null);
+    }
+
+
+    @Override
+    public List<Trigger> getTriggers(Connection connection, String catalog, String schema, String tableName)
+            throws SQLException {
+        return readTriggers(connection, schema, tableName);
+    }
+
+
+    private List<Trigger> readTriggers(Connection connection, String schema, String tableName) throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT EVENT_OBJECT_CATALOG, EVENT_OBJECT_SCHEMA, EVENT_OBJECT_TABLE, TRIGGER_NAME,
+                        ACTION_TIMING, EVENT_MANIPULATION, ACTION_STATEMENT, ACTION_ORIENTATION
+                FROM INFORMATION_SCHEMA.TRIGGERS
+                WHERE TRIGGER_SCHEMA = ?
+                """);
+        if (tableName != null) {
+            sql.append("  AND EVENT_OBJECT_TABLE = ?\n");
+        }
+        sql.append("ORDER BY EVENT_OBJECT_TABLE, TRIGGER_NAME");
+
+        String schemaName = resolveSchema(schema, connection);
+        List<Trigger> triggers = new ArrayList<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, schemaName);
+            if (tableName != null) {
+                ps.setString(2, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference tableRef = new TableReference(
+                            schemaOf(rs, "EVENT_OBJECT_CATALOG", "EVENT_OBJECT_SCHEMA"),
+                            rs.getString("EVENT_OBJECT_TABLE"));
+                    triggers.add(new TriggerRecord(new TriggerReference(tableRef, rs.getString("TRIGGER_NAME")),
+                            mapTriggerTiming(rs.getString("ACTION_TIMING")),
+                            mapTriggerEvent(rs.getString("EVENT_MANIPULATION")),
+                            Optional.ofNullable(rs.getString("ACTION_STATEMENT")), Optional.empty(),
+                            Optional.ofNullable(rs.getString("ACTION_ORIENTATION"))));
+                }
+            }
+        }
+        return List.copyOf(triggers);
+    }
+
+
+    private String resolveSchema(String schema, Connection connection) throws SQLException {
+        if (schema != null) {
+            return schema;
+        }
+        // HSQLDB default schema is PUBLIC
+        return connection.getSchema() != null ? connection.getSchema() : "PUBLIC";
+    }
+
+
+    private static Optional<SchemaReference> schemaOf(ResultSet rs, String catalogColumn, String schemaColumn)
+            throws SQLException {
+        Optional<CatalogReference> oCatalog = Optional.ofNullable(rs.getString(catalogColumn))
+                .map(CatalogReference::new);
+        return Optional.of(new SchemaReference(oCatalog, rs.getString(schemaColumn)));
+    }
+
+
+    private static OptionalInt optInt(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? OptionalInt.empty() : OptionalInt.of(value);
+    }
+
+
+    private static JDBCType jdbcType(int dataType) {
+        try {
+            return JDBCType.valueOf(dataType);
+        } catch (IllegalArgumentException e) {
+            return JDBCType.OTHER;
+        }
+    }
+
+
+    private static TriggerTiming mapTriggerTiming(String timing) {
+        if (timing == null) {
+            return TriggerTiming.AFTER;
+        }
+        return switch (timing) {
+        case "BEFORE" -> TriggerTiming.BEFORE;
+        case "INSTEAD OF" -> TriggerTiming.INSTEAD_OF;
+        default -> TriggerTiming.AFTER;
+        };
+    }
+
+
+    private static TriggerEvent mapTriggerEvent(String event) {
+        if (event == null) {
+            return TriggerEvent.INSERT;
+        }
+        return switch (event) {
+        case "UPDATE" -> TriggerEvent.UPDATE;
+        case "DELETE" -> TriggerEvent.DELETE;
+        default -> TriggerEvent.INSERT;
+        };
+    }
+}
@@ -25,10 +25,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.RowCallback;
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.model.schema.CatalogReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
 import org.eclipse.daanse.sql.model.schema.ColumnReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Function;
 import org.eclipse.daanse.sql.jdbc.api.schema.FunctionColumn;
@@ -43,6 +47,7 @@ import org.eclipse.daanse.sql.jdbc.api.schema.ProcedureReference;
 import org.eclipse.daanse.sql.model.schema.SchemaReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
 import org.eclipse.daanse.sql.jdbc.api.schema.SequenceReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
 import org.eclipse.daanse.sql.model.schema.TableReference;
 import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
 import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
@@ -77,6 +82,22 @@ public class MariaDbMetadataProvider implements MetadataProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MariaDbMetadataProvider.class);
 
+    private final MetadataStatements statements;
+
+    public MariaDbMetadataProvider() {
+        this(MetadataQueryOptions.DEFAULT);
+    }
+
+    public MariaDbMetadataProvider(MetadataQueryOptions options) {
+        this.statements = new MetadataStatements(options);
+    }
+
+
+    @Override
+    public MetadataQueryOptions queryOptions() {
+        return statements.options();
+    }
+
 
     @Override
     public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
@@ -88,7 +109,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -111,7 +132,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.reuse(connection, sql)) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
             try (ResultSet rs = ps.executeQuery()) {
@@ -135,7 +156,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<String> sequenceNames = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(listSql)) {
+        try (PreparedStatement ps = statements.prepare(connection, listSql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -164,7 +185,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
         String quotedName = "`" + name.replace("`", "``") + "`";
         String sql = "SELECT start_value, minimum_value, maximum_value, increment, cycle_option, cache_size " + "FROM "
                 + quotedSchema + "." + quotedName;
-        try (PreparedStatement ps = connection.prepareStatement(sql); ResultSet rs = ps.executeQuery()) {
+        try (PreparedStatement ps = statements.prepare(connection, sql); ResultSet rs = ps.executeQuery()) {
             if (!rs.next()) {
                 return null;
             }
@@ -208,7 +229,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
         String schemaName = resolveSchema(schema, connection);
         List<Partition> partitions = new ArrayList<>();
         Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -271,7 +292,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -303,7 +324,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.reuse(connection, sql)) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
             try (ResultSet rs = ps.executeQuery()) {
@@ -365,7 +386,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         Map<String, PkBuilder> pkMap = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -404,7 +425,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<ImportedKey> importedKeys = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -434,7 +455,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<ImportedKey> exportedKeys = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -457,7 +478,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
         String schemaName = resolveSchema(schema, connection);
         Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
         Map<String, TableReference> tableRefs = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -498,6 +519,33 @@ public class MariaDbMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<List<TableDefinition>> getAllTableDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        return Optional.of(MySqlInformationSchema.readTableDefinitions(statements, connection, catalog,
+                schemaPattern, tableNamePattern, types));
+    }
+
+
+    @Override
+    public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        List<ColumnDefinition> out = new ArrayList<>();
+        forEachColumnDefinition(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern, out::add);
+        return Optional.of(List.copyOf(out));
+    }
+
+
+    @Override
+    public boolean forEachColumnDefinition(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, RowCallback<ColumnDefinition> callback)
+            throws SQLException {
+        MySqlInformationSchema.forEachColumnDefinition(statements, connection, catalog, schemaPattern,
+                tableNamePattern, columnNamePattern, callback, MariaDbMetadataProvider::mapMariaDbJdbcType, true);
+        return true;
+    }
+
+
     @Override
     public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
             throws SQLException {
@@ -507,7 +555,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<ViewDefinition> views = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -537,7 +585,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 ORDER BY ROUTINE_NAME
                 """;
         List<Procedure> procedures = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -573,7 +621,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 ORDER BY ROUTINE_NAME
                 """;
         List<Function> functions = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -603,7 +651,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
         String quotedSchema = "`" + schemaName.replace("`", "``") + "`";
         String quotedName = "`" + name.replace("`", "``") + "`";
         String sql = "SHOW CREATE " + kind + " " + quotedSchema + "." + quotedName;
-        try (PreparedStatement ps = connection.prepareStatement(sql); ResultSet rs = ps.executeQuery()) {
+        try (PreparedStatement ps = statements.prepare(connection, sql); ResultSet rs = ps.executeQuery()) {
             if (rs.next()) {
                 String col = "Create " + kind.charAt(0) + kind.substring(1).toLowerCase();
                 String def = rs.getString(col);
@@ -626,7 +674,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 ORDER BY SPECIFIC_NAME, ORDINAL_POSITION
                 """;
         Map<String, List<ProcedureColumn>> result = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -667,7 +715,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 ORDER BY SPECIFIC_NAME, ORDINAL_POSITION
                 """;
         Map<String, List<FunctionColumn>> result = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -795,7 +843,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
             String tableName) throws SQLException {
         String schemaName = resolveSchema(schema, connection);
         Map<String, UcBuilder> ucMap = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.forTable(connection, sql, tableName)) {
             ps.setString(1, schemaName);
             if (tableName != null) {
                 ps.setString(2, tableName);
@@ -820,6 +868,15 @@ public class MariaDbMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<ChangeMarker> getChangeMarker(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // The schema is the database; a catalog alone names it as well.
+        String database = resolveSchema(schema != null ? schema : catalog, connection);
+        return Optional.of(MySqlInformationSchema.readChangeMarker(statements, connection, database));
+    }
+
+
     private String resolveSchema(String schema, Connection connection) throws SQLException {
         if (schema != null) {
             return schema;
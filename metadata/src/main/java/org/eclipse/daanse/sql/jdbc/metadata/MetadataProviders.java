@@ -20,6 +20,7 @@ import java.util.Optional;
 
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProviderFactory;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
 
 /**
  * Static resolver over the engine {@link MetadataProviderFactory} implementations for
@@ -35,20 +36,37 @@ public final class MetadataProviders {
         new PostgreSqlMetadataProviderFactory(),
         new MicrosoftSqlServerMetadataProviderFactory(),
         new OracleMetadataProviderFactory(),
-        new H2MetadataProviderFactory());
+        new H2MetadataProviderFactory(),
+        new DuckDbMetadataProviderFactory(),
+        new SqliteMetadataProviderFactory(),
+        new ClickHouseMetadataProviderFactory(),
+        new DerbyMetadataProviderFactory(),
+        new HsqldbMetadataProviderFactory());
 
     private MetadataProviders() {
     }
 
     public static Optional<MetadataProvider> forProductName(String databaseProductName) {
+        return forProductName(databaseProductName, MetadataQueryOptions.DEFAULT);
+    }
+
+    /** Like {@link #forProductName(String)}, with the provider's statements tuned by {@code options}. */
+    public static Optional<MetadataProvider> forProductName(String databaseProductName,
+            MetadataQueryOptions options) {
         return FACTORIES.stream()
             .filter(f -> f.supports(databaseProductName))
             .findFirst()
-            .map(MetadataProviderFactory::createProvider);
+            .map(f -> f.createProvider(options));
     }
 
     /** Resolves via {@code connection.getMetaData().getDatabaseProductName()}. */
     public static Optional<MetadataProvider> forConnection(Connection connection) throws SQLException {
         return forProductName(connection.getMetaData().getDatabaseProductName());
     }
+
+    /** Resolves via {@code connection.getMetaData().getDatabaseProductName()}. */
+    public static Optional<MetadataProvider> forConnection(Connection connection, MetadataQueryOptions options)
+            throws SQLException {
+        return forProductName(connection.getMetaData().getDatabaseProductName(), options);
+    }
 }
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+
+/**
+ * The one place the providers prepare their catalog queries. Every statement
+ * gets the {@link MetadataQueryOptions}; statements of the per-table reads
+ * come from {@link #reuse} and, when {@link MetadataQueryOptions#reuseStatements()}
+ * is set, stay prepared on their connection: closing them only clears the
+ * parameters. A cached statement found closed, with its connection, drops
+ * what was cached for that connection.
+ * <p>
+ * The cache holds neither the connections nor the statements strongly: a
+ * prepared statement references its connection, so a strong value would keep
+ * a weak key alive. The driver keeps its open statements reachable from the
+ * connection, which keeps the cached statement alive exactly as long as its
+ * connection; a driver that does not just gets it prepared again. Only the
+ * cache lookup runs under the lock; statements are prepared outside it, so
+ * sections loading in parallel do not wait on each other's round trips.
+ * <p>
+ * With {@link MetadataQueryOptions#readOnly()} an auto-commit connection is
+ * marked read-only while statements of this instance are open on it and
+ * restored when the last one is closed. A JDBC connection is used by one
+ * thread at a time, which the per-connection count relies on.
+ */
+final class MetadataStatements {
+
+    /** Runs when a handed-out statement is closed. */
+    @FunctionalInterface
+    private interface Release {
+        void run() throws SQLException;
+    }
+
+    /** Statements open on a connection and whether its read-only flag is ours to restore. */
+    private static final class ReadOnlyScope {
+        private int open;
+        private boolean restore;
+    }
+
+    private final MetadataQueryOptions options;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Connection, Map<String, WeakReference<PreparedStatement>>> cached = new WeakHashMap<>();
+    private final Set<PreparedStatement> inUse = new HashSet<>();
+    private final Map<Connection, ReadOnlyScope> readOnlyScopes = new ConcurrentHashMap<>();
+
+    MetadataStatements(MetadataQueryOptions options) {
+        this.options = Objects.requireNonNull(options, "options");
+    }
+
+    MetadataQueryOptions options() {
+        return options;
+    }
+
+    /** A new statement with the options applied; the caller closes it. */
+    PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+        return own(connection, open(connection, sql));
+    }
+
+    /**
+     * Like {@link #prepare}, for a query that runs once per table: the
+     * statement is closed as usual, but with statement reuse enabled the
+     * next call with the same connection and SQL gets it back prepared.
+     */
+    PreparedStatement reuse(Connection connection, String sql) throws SQLException {
+        if (!options.reuseStatements()) {
+            return prepare(connection, sql);
+        }
+        PreparedStatement ps;
+        boolean nested;
+        lock.lock();
+        try {
+            Map<String, WeakReference<PreparedStatement>> statements = cached.get(connection);
+            ps = statements == null ? null : live(statements.get(sql));
+            nested = ps != null && !inUse.add(ps);
+        } finally {
+            lock.unlock();
+        }
+        if (nested) {
+            // a nested read of the same query gets a statement of its own
+            return prepare(connection, sql);
+        }
+        if (ps != null && ps.isClosed()) {
+            lock.lock();
+            try {
+                inUse.remove(ps);
+                cached.remove(connection);
+            } finally {
+                lock.unlock();
+            }
+            ps = null;
+        }
+        if (ps == null) {
+            PreparedStatement prepared = open(connection, sql);
+            boolean added = false;
+            lock.lock();
+            try {
+                Map<String, WeakReference<PreparedStatement>> statements = cached.computeIfAbsent(connection,
+                        c -> new HashMap<>());
+                if (live(statements.get(sql)) == null) {
+                    statements.put(sql, new WeakReference<>(prepared));
+                    inUse.add(prepared);
+                    added = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!added) {
+                // cached by a concurrent call meanwhile; this one stays private
+                return own(connection, prepared);
+            }
+            ps = prepared;
+        }
+        PreparedStatement leased = ps;
+        enterReadOnly(connection);
+        return lease(connection, leased, () -> {
+            try {
+                release(leased);
+            } finally {
+                exitReadOnly(connection);
+            }
+        });
+    }
+
+    /**
+     * For reads shared by the schema-wide and the per-table method: only the
+     * per-table call ({@code tableName} set) reuses its statement.
+     */
+    PreparedStatement forTable(Connection connection, String sql, String tableName) throws SQLException {
+        return tableName == null ? prepare(connection, sql) : reuse(connection, sql);
+    }
+
+    /** {@code count} comma-separated {@code ?} markers for an IN list. */
+    static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * {@code values} split into lists of at most {@code size}, for engines
+     * that cap IN lists (Oracle: 1000 entries) or bind parameters (SQL
+     * Server: 2100).
+     */
+    static <T> List<List<T>> chunks(List<T> values, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += size) {
+            chunks.add(values.subList(from, Math.min(from + size, values.size())));
+        }
+        return chunks;
+    }
+
+    /** A statement prepared with the fetch size, timeout and row limit applied. */
+    private PreparedStatement open(Connection connection, String sql) throws SQLException {
+        PreparedStatement ps = connection.prepareStatement(sql);
+        try {
+            if (options.fetchSize() > 0) {
+                ps.setFetchSize(options.fetchSize());
+            }
+            if (options.queryTimeoutSeconds() > 0) {
+                ps.setQueryTimeout(options.queryTimeoutSeconds());
+            }
+            if (options.maxRows() > 0) {
+                ps.setMaxRows(options.maxRows());
+            }
+        } catch (SQLException e) {
+            ps.close();
+            throw e;
+        }
+        return ps;
+    }
+
+    /** {@code ps} handed out for the caller to close, inside the read-only scope when that is enabled. */
+    private PreparedStatement own(Connection connection, PreparedStatement ps) {
+        if (!options.readOnly()) {
+            return ps;
+        }
+        enterReadOnly(connection);
+        return lease(connection, ps, () -> {
+            try {
+                ps.close();
+            } finally {
+                exitReadOnly(connection);
+            }
+        });
+    }
+
+    /**
+     * The caller's view of a statement whose close this class handles. It
+     * hides the statement: {@code getConnection()} answers the caller's
+     * connection, {@code unwrap} only to the lease and its result sets'
+     * {@code getStatement()} return the lease. After {@code close()} the lease
+     * is dead and {@code onClose} has run, e.g. giving the statement back to
+     * the cache.
+     */
+    private PreparedStatement lease(Connection connection, PreparedStatement ps, Release onClose) {
+        boolean[] closed = new boolean[1];
+        PreparedStatement[] lease = new PreparedStatement[1];
+        lease[0] = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (name) {
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        default -> "lease of " + ps;
+                        };
+                    }
+                    if ("isClosed".equals(name)) {
+                        return closed[0] || ps.isClosed();
+                    }
+                    if ("close".equals(name)) {
+                        if (!closed[0]) {
+                            closed[0] = true;
+                            onClose.run();
+                        }
+                        return null;
+                    }
+                    if (closed[0]) {
+                        throw new SQLException("Statement is closed");
+                    }
+                    switch (name) {
+                    case "getConnection":
+                        return connection;
+                    case "isWrapperFor":
+                        return ((Class<?>) args[0]).isInstance(proxy);
+                    case "unwrap":
+                        if (((Class<?>) args[0]).isInstance(proxy)) {
+                            return proxy;
+                        }
+                        throw new SQLException("Not a wrapper for " + args[0]);
+                    default:
+                        Object result = invoke(ps, method, args);
+                        return result instanceof ResultSet rs ? withStatement(rs, lease[0]) : result;
+                    }
+                });
+        return lease[0];
+    }
+
+    /** {@code rs} with {@link ResultSet#getStatement()} answering {@code statement}. */
+    private static ResultSet withStatement(ResultSet rs, PreparedStatement statement) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> {
+                    if ("getStatement".equals(method.getName())) {
+                        return statement;
+                    }
+                    if (method.getDeclaringClass() == Object.class && "equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    return invoke(rs, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void release(PreparedStatement ps) throws SQLException {
+        try {
+            if (!ps.isClosed()) {
+                ps.clearParameters();
+            }
+        } finally {
+            lock.lock();
+            try {
+                inUse.remove(ps);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static PreparedStatement live(WeakReference<PreparedStatement> ref) {
+        return ref == null ? null : ref.get();
+    }
+
+    /**
+     * Marks an auto-commit {@code connection} read-only for the first open
+     * statement. The flag is a hint: a driver refusing it leaves the read as
+     * it was. A connection in a transaction is left alone, since the driver
+     * may refuse to switch back inside it.
+     */
+    private void enterReadOnly(Connection connection) {
+        if (!options.readOnly()) {
+            return;
+        }
+        ReadOnlyScope scope = readOnlyScopes.computeIfAbsent(connection, c -> new ReadOnlyScope());
+        if (scope.open++ == 0) {
+            try {
+                if (connection.getAutoCommit() && !connection.isReadOnly()) {
+                    connection.setReadOnly(true);
+                    scope.restore = true;
+                }
+            } catch (SQLException e) {
+                // only a hint
+            }
+        }
+    }
+
+    /** Restores the read-only flag once the last statement on {@code connection} is closed. */
+    private void exitReadOnly(Connection connection) throws SQLException {
+        if (!options.readOnly()) {
+            return;
+        }
+        ReadOnlyScope scope = readOnlyScopes.get(connection);
+        if (scope == null || --scope.open > 0) {
+            return;
+        }
+        readOnlyScopes.remove(connection);
+        if (scope.restore && !connection.isClosed()) {
+            connection.setReadOnly(false);
+        }
+    }
+}
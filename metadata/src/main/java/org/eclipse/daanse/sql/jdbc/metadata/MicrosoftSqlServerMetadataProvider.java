@@ -21,16 +21,25 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.RowCallback;
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.Definition;
+import org.eclipse.daanse.sql.jdbc.api.schema.DefinitionKey;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
 import org.eclipse.daanse.sql.model.schema.ColumnReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Function;
 import org.eclipse.daanse.sql.jdbc.api.schema.FunctionColumn;
@@ -46,6 +55,7 @@ import org.eclipse.daanse.sql.jdbc.api.schema.PseudoColumn;
 import org.eclipse.daanse.sql.model.schema.SchemaReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
 import org.eclipse.daanse.sql.jdbc.api.schema.SequenceReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
 import org.eclipse.daanse.sql.jdbc.api.schema.TablePrivilege;
 import org.eclipse.daanse.sql.model.schema.TableReference;
 import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
@@ -57,6 +67,8 @@ import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
 import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedTypeReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
 import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ColumnPrivilegeRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionColumnRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionRecord;
@@ -69,6 +81,8 @@ import org.eclipse.daanse.sql.jdbc.record.schema.ProcedureColumnRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ProcedureRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.PseudoColumnRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.SequenceRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableMetaDataRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.TablePrivilegeRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
@@ -82,19 +96,45 @@ import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
  */
 public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
 
+    /** Table names per IN list; SQL Server accepts at most 2100 bound parameters. */
+    private static final int MAX_TABLES_PER_QUERY = 2000;
+
+    private final MetadataStatements statements;
+
+    public MicrosoftSqlServerMetadataProvider() {
+        this(MetadataQueryOptions.DEFAULT);
+    }
+
+    public MicrosoftSqlServerMetadataProvider(MetadataQueryOptions options) {
+        this.statements = new MetadataStatements(options);
+    }
+
+
+    @Override
+    public MetadataQueryOptions queryOptions() {
+        return statements.options();
+    }
+
 
     @Override
     public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
+        return getAllTriggers(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema, boolean definitions)
+            throws SQLException {
         String sql = """
                 SELECT t.name AS trigger_name, OBJECT_SCHEMA_NAME(t.parent_id) AS schema_name,
-                        OBJECT_NAME(t.parent_id) AS table_name, t.is_instead_of_trigger, m.definition
+                        OBJECT_NAME(t.parent_id) AS table_name, t.is_instead_of_trigger, %s AS definition
                 FROM sys.triggers t JOIN sys.sql_modules m ON m.object_id = t.object_id
                 WHERE t.parent_id > 0 AND OBJECT_SCHEMA_NAME(t.parent_id) = ?
                 ORDER BY OBJECT_NAME(t.parent_id), t.name
-                """;
+                """.formatted(moduleDefinition(definitions));
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -119,7 +159,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.reuse(connection, sql)) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
             try (ResultSet rs = ps.executeQuery()) {
@@ -145,7 +185,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Sequence> sequences = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -204,7 +244,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
         String schemaName = resolveSchema(schema, connection);
         List<Partition> partitions = new ArrayList<>();
         Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -240,7 +280,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -271,7 +311,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.reuse(connection, sql)) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
             try (ResultSet rs = ps.executeQuery()) {
@@ -323,6 +363,95 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public List<Trigger> getTriggersForTables(Connection connection, String catalog, String schema,
+            List<String> tableNames) throws SQLException {
+        String sql = """
+                SELECT t.name AS trigger_name, OBJECT_SCHEMA_NAME(t.parent_id) AS schema_name,
+                        OBJECT_NAME(t.parent_id) AS table_name, t.is_instead_of_trigger, m.definition
+                FROM sys.triggers t JOIN sys.sql_modules m ON m.object_id = t.object_id
+                WHERE t.parent_id > 0 AND OBJECT_SCHEMA_NAME(t.parent_id) = ?
+                    AND OBJECT_NAME(t.parent_id) IN (%s)
+                ORDER BY OBJECT_NAME(t.parent_id), t.name
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<Trigger> triggers = new ArrayList<>();
+        for (List<String> chunk : MetadataStatements.chunks(tableNames, MAX_TABLES_PER_QUERY)) {
+            try (PreparedStatement ps = statements.prepare(connection,
+                    sql.formatted(MetadataStatements.placeholders(chunk.size())))) {
+                bindTables(ps, schemaName, chunk);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        triggers.add(readTrigger(rs, schemaName));
+                    }
+                }
+            }
+        }
+        return List.copyOf(triggers);
+    }
+
+
+    @Override
+    public List<CheckConstraint> getCheckConstraintsForTables(Connection connection, String catalog, String schema,
+            List<String> tableNames) throws SQLException {
+        String sql = """
+                SELECT cc.name AS constraint_name, OBJECT_NAME(cc.parent_object_id) AS table_name, cc.definition
+                FROM sys.check_constraints cc
+                WHERE OBJECT_SCHEMA_NAME(cc.parent_object_id) = ?
+                    AND OBJECT_NAME(cc.parent_object_id) IN (%s)
+                ORDER BY OBJECT_NAME(cc.parent_object_id), cc.name
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<CheckConstraint> constraints = new ArrayList<>();
+        for (List<String> chunk : MetadataStatements.chunks(tableNames, MAX_TABLES_PER_QUERY)) {
+            try (PreparedStatement ps = statements.prepare(connection,
+                    sql.formatted(MetadataStatements.placeholders(chunk.size())))) {
+                bindTables(ps, schemaName, chunk);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        String constraintName = rs.getString("constraint_name");
+                        String tableName = rs.getString("table_name");
+                        String definition = rs.getString("definition");
+
+                        Optional<SchemaReference> oSchema = Optional
+                                .of(new SchemaReference(Optional.empty(), schemaName));
+                        TableReference tableRef = new TableReference(oSchema, tableName);
+
+                        constraints.add(new CheckConstraintRecord(constraintName, tableRef, definition));
+                    }
+                }
+            }
+        }
+        return List.copyOf(constraints);
+    }
+
+
+    @Override
+    public List<UniqueConstraint> getUniqueConstraintsForTables(Connection connection, String catalog,
+            String schema, List<String> tableNames) throws SQLException {
+        String sql = """
+                SELECT i.name AS constraint_name, OBJECT_NAME(i.object_id) AS table_name,
+                        c.name AS column_name, ic.key_ordinal
+                FROM sys.indexes i
+                JOIN sys.index_columns ic ON ic.object_id = i.object_id AND ic.index_id = i.index_id
+                JOIN sys.columns c ON c.object_id = ic.object_id AND c.column_id = ic.column_id
+                WHERE i.is_unique_constraint = 1 AND OBJECT_SCHEMA_NAME(i.object_id) = ?
+                    AND OBJECT_NAME(i.object_id) IN (%s)
+                ORDER BY OBJECT_NAME(i.object_id), i.name, ic.key_ordinal
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<UniqueConstraint> constraints = new ArrayList<>();
+        for (List<String> chunk : MetadataStatements.chunks(tableNames, MAX_TABLES_PER_QUERY)) {
+            try (PreparedStatement ps = statements.prepare(connection,
+                    sql.formatted(MetadataStatements.placeholders(chunk.size())))) {
+                bindTables(ps, schemaName, chunk);
+                constraints.addAll(readUniqueConstraints(ps, schemaName));
+            }
+        }
+        return List.copyOf(constraints);
+    }
+
+
     @Override
     public Optional<List<PrimaryKey>> getAllPrimaryKeys(Connection connection, String catalog, String schema)
             throws SQLException {
@@ -337,7 +466,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         Map<String, PkBuilder> pkMap = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -362,38 +491,37 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
     @Override
     public Optional<List<ImportedKey>> getAllImportedKeys(Connection connection, String catalog, String schema)
             throws SQLException {
-        String sql = """
-                SELECT fk.name AS fk_name, OBJECT_NAME(fk.parent_object_id) AS fk_table,
-                        fk_col.name AS fk_column, OBJECT_NAME(fk.referenced_object_id) AS pk_table,
-                        pk_col.name AS pk_column, fkc.constraint_column_id AS key_seq,
-                        fk.delete_referential_action_desc AS delete_rule,
-                        fk.update_referential_action_desc AS update_rule
-                FROM sys.foreign_keys fk
-                JOIN sys.foreign_key_columns fkc ON fkc.constraint_object_id = fk.object_id
-                JOIN sys.columns fk_col ON fk_col.object_id = fkc.parent_object_id AND fk_col.column_id = fkc.parent_column_id
-                JOIN sys.columns pk_col ON pk_col.object_id = fkc.referenced_object_id AND pk_col.column_id = fkc.referenced_column_id
-                WHERE OBJECT_SCHEMA_NAME(fk.parent_object_id) = ?
-                ORDER BY OBJECT_NAME(fk.parent_object_id), fk.name, fkc.constraint_column_id
-                """;
-        String schemaName = resolveSchema(schema, connection);
-        List<ImportedKey> importedKeys = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    importedKeys.add(readImportedKey(rs, schemaName));
-                }
-            }
-        }
-        return Optional.of(List.copyOf(importedKeys));
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), true, null));
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getImportedKeysForTables(Connection connection, String catalog,
+            String schema, List<String> tableNames) throws SQLException {
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), true, tableNames));
     }
 
 
     @Override
     public Optional<List<ImportedKey>> getAllExportedKeys(Connection connection, String catalog, String schema)
             throws SQLException {
-        // Symmetric to getAllImportedKeys: filter by the schema of the REFERENCED
-        // table.
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), false, null));
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getExportedKeysForTables(Connection connection, String catalog,
+            String schema, List<String> tableNames) throws SQLException {
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), false, tableNames));
+    }
+
+
+    /**
+     * Foreign keys whose parent ({@code imported}) or referenced table lives in
+     * the schema, restricted to {@code tableNames} on that side when set.
+     */
+    private List<ImportedKey> readForeignKeys(Connection connection, String schemaName, boolean imported,
+            List<String> tableNames) throws SQLException {
         String sql = """
                 SELECT fk.name AS fk_name, OBJECT_NAME(fk.parent_object_id) AS fk_table,
                         fk_col.name AS fk_column, OBJECT_NAME(fk.referenced_object_id) AS pk_table,
@@ -404,26 +532,42 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 JOIN sys.foreign_key_columns fkc ON fkc.constraint_object_id = fk.object_id
                 JOIN sys.columns fk_col ON fk_col.object_id = fkc.parent_object_id AND fk_col.column_id = fkc.parent_column_id
                 JOIN sys.columns pk_col ON pk_col.object_id = fkc.referenced_object_id AND pk_col.column_id = fkc.referenced_column_id
-                WHERE OBJECT_SCHEMA_NAME(fk.referenced_object_id) = ?
-                ORDER BY OBJECT_NAME(fk.referenced_object_id), fk.name, fkc.constraint_column_id
+                WHERE OBJECT_SCHEMA_NAME(%1$s) = ?%2$s
+                ORDER BY OBJECT_NAME(%1$s), fk.name, fkc.constraint_column_id
                 """;
-        String schemaName = resolveSchema(schema, connection);
-        List<ImportedKey> exportedKeys = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    exportedKeys.add(readImportedKey(rs, schemaName));
+        String side = imported ? "fk.parent_object_id" : "fk.referenced_object_id";
+        List<ImportedKey> keys = new ArrayList<>();
+        for (List<String> chunk : tableChunks(tableNames)) {
+            try (PreparedStatement ps = statements.prepare(connection,
+                    sql.formatted(side, tableFilter("OBJECT_NAME(" + side + ")", chunk)))) {
+                bindTables(ps, schemaName, chunk);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        keys.add(readImportedKey(rs, schemaName));
+                    }
                 }
             }
         }
-        return Optional.of(List.copyOf(exportedKeys));
+        return List.copyOf(keys);
     }
 
 
     @Override
     public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
             throws SQLException {
+        return Optional.of(readIndexInfo(connection, resolveSchema(schema, connection), null));
+    }
+
+
+    @Override
+    public Optional<List<IndexInfo>> getIndexInfoForTables(Connection connection, String catalog, String schema,
+            List<String> tableNames) throws SQLException {
+        return Optional.of(readIndexInfo(connection, resolveSchema(schema, connection), tableNames));
+    }
+
+
+    private List<IndexInfo> readIndexInfo(Connection connection, String schemaName, List<String> tableNames)
+            throws SQLException {
         String sql = """
                 SELECT i.name AS index_name, i.type_desc AS index_type, i.is_unique,
                         OBJECT_NAME(i.object_id) AS table_name, c.name AS column_name,
@@ -432,39 +576,41 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 JOIN sys.index_columns ic ON ic.object_id = i.object_id AND ic.index_id = i.index_id
                 JOIN sys.columns c ON c.object_id = ic.object_id AND c.column_id = ic.column_id
                 WHERE OBJECT_SCHEMA_NAME(i.object_id) = ? AND i.type > 0
-                    AND i.is_primary_key = 0 AND i.is_unique_constraint = 0
+                    AND i.is_primary_key = 0 AND i.is_unique_constraint = 0%s
                 ORDER BY OBJECT_NAME(i.object_id), i.name, ic.key_ordinal
                 """;
-        String schemaName = resolveSchema(schema, connection);
         Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
         Map<String, TableReference> tableRefs = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    String tableName = rs.getString("table_name");
-                    String indexName = rs.getString("index_name");
-                    String indexType = rs.getString("index_type");
-                    boolean isUnique = rs.getBoolean("is_unique");
-                    String columnName = rs.getString("column_name");
-                    int ordinalPosition = rs.getInt("key_ordinal");
-                    boolean isDescending = rs.getBoolean("is_descending_key");
-
-                    IndexInfoItem.IndexType mappedType = mapMssqlIndexType(indexType);
-
-                    TableReference tableRef = tableRefs.computeIfAbsent(tableName, k -> {
-                        Optional<SchemaReference> oSchema = Optional
-                                .of(new SchemaReference(Optional.empty(), schemaName));
-                        return new TableReference(oSchema, k);
-                    });
-
-                    Optional<ColumnReference> colRef = Optional.ofNullable(columnName)
-                            .map(cn -> new ColumnReference(Optional.of(tableRef), cn));
-
-                    IndexInfoItem item = new IndexInfoItemRecord(Optional.ofNullable(indexName), mappedType, colRef,
-                            ordinalPosition, Optional.of(!isDescending), 0L, 0L, Optional.empty(), isUnique);
-
-                    tableIndexes.computeIfAbsent(tableName, k -> new ArrayList<>()).add(item);
+        for (List<String> chunk : tableChunks(tableNames)) {
+            try (PreparedStatement ps = statements.prepare(connection,
+                    sql.formatted(tableFilter("OBJECT_NAME(i.object_id)", chunk)))) {
+                bindTables(ps, schemaName, chunk);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        String tableName = rs.getString("table_name");
+                        String indexName = rs.getString("index_name");
+                        String indexType = rs.getString("index_type");
+                        boolean isUnique = rs.getBoolean("is_unique");
+                        String columnName = rs.getString("column_name");
+                        int ordinalPosition = rs.getInt("key_ordinal");
+                        boolean isDescending = rs.getBoolean("is_descending_key");
+
+                        IndexInfoItem.IndexType mappedType = mapMssqlIndexType(indexType);
+
+                        TableReference tableRef = tableRefs.computeIfAbsent(tableName, k -> {
+                            Optional<SchemaReference> oSchema = Optional
+                                    .of(new SchemaReference(Optional.empty(), schemaName));
+                            return new TableReference(oSchema, k);
+                        });
+
+                        Optional<ColumnReference> colRef = Optional.ofNullable(columnName)
+                                .map(cn -> new ColumnReference(Optional.of(tableRef), cn));
+
+                        IndexInfoItem item = new IndexInfoItemRecord(Optional.ofNullable(indexName), mappedType, colRef,
+                                ordinalPosition, Optional.of(!isDescending), 0L, 0L, Optional.empty(), isUnique);
+
+                        tableIndexes.computeIfAbsent(tableName, k -> new ArrayList<>()).add(item);
+                    }
                 }
             }
         }
@@ -472,21 +618,28 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
         for (Map.Entry<String, List<IndexInfoItem>> entry : tableIndexes.entrySet()) {
             result.add(new IndexInfoRecord(tableRefs.get(entry.getKey()), List.copyOf(entry.getValue())));
         }
-        return Optional.of(List.copyOf(result));
+        return List.copyOf(result);
     }
 
 
     @Override
     public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
             throws SQLException {
+        return getAllViewDefinitions(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema,
+            boolean definitions) throws SQLException {
         String sql = """
-                SELECT v.name AS view_name, m.definition
+                SELECT v.name AS view_name, %s AS definition
                 FROM sys.views v JOIN sys.sql_modules m ON m.object_id = v.object_id
                 WHERE OBJECT_SCHEMA_NAME(v.object_id) = ? ORDER BY v.name
-                """;
+                """.formatted(moduleDefinition(definitions));
         String schemaName = resolveSchema(schema, connection);
         List<ViewDefinition> views = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -507,19 +660,26 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
 
     @Override
     public List<Procedure> getAllProcedures(Connection connection, String catalog, String schema) throws SQLException {
+        return getAllProcedures(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<Procedure> getAllProcedures(Connection connection, String catalog, String schema, boolean definitions)
+            throws SQLException {
         String schemaName = resolveSchema(schema, connection);
         Map<String, List<ProcedureColumn>> paramMap = loadMssqlProcedureColumns(connection, schemaName);
 
         String sql = """
                 SELECT p.name AS routine_name, OBJECT_SCHEMA_NAME(p.object_id) AS schema_name,
-                        m.definition AS body, p.modify_date
+                        %s AS body, p.modify_date
                 FROM sys.procedures p
                 LEFT JOIN sys.sql_modules m ON m.object_id = p.object_id
                 WHERE OBJECT_SCHEMA_NAME(p.object_id) = ?
                 ORDER BY p.name
-                """;
+                """.formatted(moduleDefinition(definitions));
         List<Procedure> procedures = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -546,18 +706,25 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
 
     @Override
     public List<Function> getAllFunctions(Connection connection, String catalog, String schema) throws SQLException {
+        return getAllFunctions(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<Function> getAllFunctions(Connection connection, String catalog, String schema, boolean definitions)
+            throws SQLException {
         String schemaName = resolveSchema(schema, connection);
         Map<String, List<FunctionColumn>> paramMap = loadMssqlFunctionColumns(connection, schemaName);
 
         String sql = """
-                SELECT o.name AS routine_name, o.type_desc, m.definition AS body, o.modify_date
+                SELECT o.name AS routine_name, o.type_desc, %s AS body, o.modify_date
                 FROM sys.objects o
                 LEFT JOIN sys.sql_modules m ON m.object_id = o.object_id
                 WHERE o.type IN ('FN', 'IF', 'TF') AND OBJECT_SCHEMA_NAME(o.object_id) = ?
                 ORDER BY o.name
-                """;
+                """.formatted(moduleDefinition(definitions));
         List<Function> functions = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -586,6 +753,59 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Map<DefinitionKey, Definition> getDefinitionsForObjects(Connection connection, String catalog,
+            String schema, DefinitionKey.Kind kind, List<String> names) throws SQLException {
+        // sys.sql_modules.definition is the CREATE statement as stored, used as
+        // both body and full definition like the getAll* reads do.
+        String sql = switch (kind) {
+        case VIEW -> """
+                SELECT v.name AS name, NULL AS qualifier, m.definition
+                FROM sys.views v JOIN sys.sql_modules m ON m.object_id = v.object_id
+                WHERE OBJECT_SCHEMA_NAME(v.object_id) = ? AND v.name IN (%s)
+                """;
+        case PROCEDURE -> """
+                SELECT p.name AS name, p.name AS qualifier, m.definition
+                FROM sys.procedures p JOIN sys.sql_modules m ON m.object_id = p.object_id
+                WHERE OBJECT_SCHEMA_NAME(p.object_id) = ? AND p.name IN (%s)
+                """;
+        case FUNCTION -> """
+                SELECT o.name AS name, o.name AS qualifier, m.definition
+                FROM sys.objects o JOIN sys.sql_modules m ON m.object_id = o.object_id
+                WHERE o.type IN ('FN', 'IF', 'TF') AND OBJECT_SCHEMA_NAME(o.object_id) = ? AND o.name IN (%s)
+                """;
+        case TRIGGER -> """
+                SELECT t.name AS name, OBJECT_NAME(t.parent_id) AS qualifier, m.definition
+                FROM sys.triggers t JOIN sys.sql_modules m ON m.object_id = t.object_id
+                WHERE t.parent_id > 0 AND OBJECT_SCHEMA_NAME(t.parent_id) = ? AND t.name IN (%s)
+                """;
+        // Indexed views are reported as views; there are no materialized views.
+        case MATERIALIZED_VIEW -> null;
+        };
+        if (sql == null) {
+            return Map.of();
+        }
+        String schemaName = resolveSchema(schema, connection);
+        Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
+        Map<DefinitionKey, Definition> definitions = new LinkedHashMap<>();
+        for (List<String> chunk : MetadataStatements.chunks(names, MAX_TABLES_PER_QUERY)) {
+            try (PreparedStatement ps = statements.prepare(connection,
+                    sql.formatted(MetadataStatements.placeholders(chunk.size())))) {
+                bindTables(ps, schemaName, chunk);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        Optional<String> definition = Optional.ofNullable(rs.getString("definition"));
+                        definitions.put(
+                                new DefinitionKey(kind, oSchema, rs.getString("name"), rs.getString("qualifier")),
+                                new Definition(definition, definition));
+                    }
+                }
+            }
+        }
+        return definitions;
+    }
+
+
     private Map<String, List<ProcedureColumn>> loadMssqlProcedureColumns(Connection connection, String schemaName)
             throws SQLException {
         String sql = """
@@ -598,7 +818,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 ORDER BY OBJECT_NAME(p.object_id), p.parameter_id
                 """;
         Map<String, List<ProcedureColumn>> result = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -647,7 +867,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 ORDER BY OBJECT_NAME(p.object_id), p.parameter_id
                 """;
         Map<String, List<FunctionColumn>> result = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -682,6 +902,186 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<List<TableDefinition>> getAllTableDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        // One sys.objects read in place of sp_tables; a null schema pattern
+        // reads every schema, as JDBC does. Remarks are MS_Description.
+        StringBuilder sql = new StringBuilder("""
+                SELECT s.name AS schema_name, o.name AS table_name, o.type,
+                        CAST(ep.value AS NVARCHAR(4000)) AS remarks
+                FROM sys.objects o
+                JOIN sys.schemas s ON s.schema_id = o.schema_id
+                LEFT JOIN sys.extended_properties ep ON ep.class = 1 AND ep.major_id = o.object_id
+                        AND ep.minor_id = 0 AND ep.name = 'MS_Description'
+                WHERE o.type IN ('U', 'V')
+                """);
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND s.name LIKE ? ESCAPE '\\'\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND o.name LIKE ? ESCAPE '\\'\n");
+        }
+        sql.append("ORDER BY s.name, o.name");
+
+        List<String> typeFilter = types == null ? null : Arrays.asList(types);
+        List<TableDefinition> result = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableType = "V".equals(rs.getString("type").trim()) ? "VIEW" : "TABLE";
+                    if (typeFilter != null && !typeFilter.contains(tableType)) {
+                        continue;
+                    }
+                    Optional<SchemaReference> oSchema = Optional
+                            .of(new SchemaReference(Optional.empty(), rs.getString("schema_name")));
+                    TableReference tableRef = new TableReference(oSchema, rs.getString("table_name"), tableType);
+                    result.add(new TableDefinitionRecord(tableRef,
+                            new TableMetaDataRecord(Optional.ofNullable(rs.getString("remarks")), Optional.empty(),
+                                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty())));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
+    @Override
+    public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        List<ColumnDefinition> out = new ArrayList<>();
+        forEachColumnDefinition(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern, out::add);
+        return Optional.of(List.copyOf(out));
+    }
+
+
+    @Override
+    public boolean forEachColumnDefinition(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, RowCallback<ColumnDefinition> callback)
+            throws SQLException {
+        // sys.columns with type, default constraint and MS_Description in one
+        // read, instead of one sp_columns call per table pattern. Alias types
+        // report their own name but the size and JDBC type of their base type.
+        StringBuilder sql = new StringBuilder("""
+                SELECT s.name AS schema_name, o.name AS table_name, c.name AS column_name,
+                        t.name AS type_name, COALESCE(bt.name, t.name) AS base_type,
+                        c.max_length, c.precision, c.scale, c.is_nullable, c.is_identity, c.is_computed,
+                        dc.definition AS column_default, CAST(ep.value AS NVARCHAR(4000)) AS remarks
+                FROM sys.columns c
+                JOIN sys.objects o ON o.object_id = c.object_id
+                JOIN sys.schemas s ON s.schema_id = o.schema_id
+                JOIN sys.types t ON t.user_type_id = c.user_type_id
+                LEFT JOIN sys.types bt ON bt.user_type_id = c.system_type_id
+                LEFT JOIN sys.default_constraints dc ON dc.object_id = c.default_object_id
+                LEFT JOIN sys.extended_properties ep ON ep.class = 1 AND ep.major_id = c.object_id
+                        AND ep.minor_id = c.column_id AND ep.name = 'MS_Description'
+                WHERE o.type IN ('U', 'V')
+                """);
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND s.name LIKE ? ESCAPE '\\'\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND o.name LIKE ? ESCAPE '\\'\n");
+        }
+        boolean hasColumnFilter = columnNamePattern != null && !columnNamePattern.isBlank()
+                && !"%".equals(columnNamePattern);
+        if (hasColumnFilter) {
+            sql.append("  AND c.name LIKE ? ESCAPE '\\'\n");
+        }
+        sql.append("ORDER BY s.name, o.name, c.column_id");
+
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            if (hasColumnFilter) {
+                ps.setString(idx++, columnNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                String currentSchema = null;
+                String currentTable = null;
+                TableReference tableRef = null;
+                while (rs.next()) {
+                    String schemaName = rs.getString("schema_name");
+                    String tableName = rs.getString("table_name");
+                    if (!schemaName.equals(currentSchema) || !tableName.equals(currentTable)) {
+                        currentSchema = schemaName;
+                        currentTable = tableName;
+                        tableRef = new TableReference(
+                                Optional.of(new SchemaReference(Optional.empty(), schemaName)), tableName);
+                    }
+                    callback.accept(new ColumnDefinitionRecord(
+                            new ColumnReference(Optional.of(tableRef), rs.getString("column_name")),
+                            readMssqlColumnMetaData(rs)));
+                }
+            }
+        }
+        return true;
+    }
+
+
+    private static ColumnMetaData readMssqlColumnMetaData(ResultSet rs) throws SQLException {
+        String baseType = rs.getString("base_type").toLowerCase();
+        int maxLength = rs.getInt("max_length");
+        int precision = rs.getInt("precision");
+        int scale = rs.getInt("scale");
+        JDBCType jdbcType = mapMssqlJdbcType(baseType);
+
+        OptionalInt size;
+        OptionalInt digits = OptionalInt.empty();
+        OptionalInt radix = OptionalInt.empty();
+        OptionalInt octetLength = OptionalInt.empty();
+        switch (baseType) {
+        case "char", "varchar", "binary", "varbinary" -> {
+            // max_length is -1 for the (max) types
+            size = OptionalInt.of(maxLength < 0 ? Integer.MAX_VALUE : maxLength);
+            octetLength = size;
+        }
+        case "nchar", "nvarchar" -> {
+            size = OptionalInt.of(maxLength < 0 ? Integer.MAX_VALUE / 2 : maxLength / 2);
+            octetLength = OptionalInt.of(maxLength < 0 ? Integer.MAX_VALUE : maxLength);
+        }
+        case "time", "datetime2", "datetimeoffset", "datetime", "smalldatetime", "date" -> {
+            size = OptionalInt.of(precision);
+            digits = OptionalInt.of(scale);
+        }
+        default -> {
+            size = precision > 0 ? OptionalInt.of(precision) : OptionalInt.of(maxLength);
+            if (precision > 0) {
+                digits = OptionalInt.of(scale);
+                radix = OptionalInt.of(10);
+            }
+        }
+        }
+
+        String columnDefault = rs.getString("column_default");
+        return new ColumnMetaDataRecord(jdbcType, rs.getString("type_name"), size, digits, radix,
+                rs.getBoolean("is_nullable") ? ColumnMetaData.Nullability.NULLABLE
+                        : ColumnMetaData.Nullability.NO_NULLS,
+                octetLength, Optional.ofNullable(rs.getString("remarks")), Optional.ofNullable(columnDefault),
+                rs.getBoolean("is_identity") ? ColumnMetaData.AutoIncrement.YES : ColumnMetaData.AutoIncrement.NO,
+                rs.getBoolean("is_computed") ? ColumnMetaData.GeneratedColumn.YES
+                        : ColumnMetaData.GeneratedColumn.NO);
+    }
+
+
     private static JDBCType mapMssqlJdbcType(String dataType) {
         if (dataType == null) {
             return JDBCType.OTHER;
@@ -758,22 +1158,28 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
     private List<UniqueConstraint> readUniqueConstraints(Connection connection, String sql, String schema,
             String tableName) throws SQLException {
         String schemaName = resolveSchema(schema, connection);
-        Map<String, UcBuilder> ucMap = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.forTable(connection, sql, tableName)) {
             ps.setString(1, schemaName);
             if (tableName != null) {
                 ps.setString(2, tableName);
             }
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    String constraintName = rs.getString("constraint_name");
-                    String table = rs.getString("table_name");
-                    String columnName = rs.getString("column_name");
+            return readUniqueConstraints(ps, schemaName);
+        }
+    }
 
-                    String key = table + "." + constraintName;
-                    ucMap.computeIfAbsent(key, k -> new UcBuilder(table, constraintName, schemaName))
-                            .addColumn(columnName);
-                }
+
+    private List<UniqueConstraint> readUniqueConstraints(PreparedStatement ps, String schemaName)
+            throws SQLException {
+        Map<String, UcBuilder> ucMap = new LinkedHashMap<>();
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                String constraintName = rs.getString("constraint_name");
+                String table = rs.getString("table_name");
+                String columnName = rs.getString("column_name");
+
+                String key = table + "." + constraintName;
+                ucMap.computeIfAbsent(key, k -> new UcBuilder(table, constraintName, schemaName))
+                        .addColumn(columnName);
             }
         }
         List<UniqueConstraint> result = new ArrayList<>();
@@ -784,6 +1190,72 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
     }
 
 
+    /** The sql_modules text column, or NULL when only identities are read. */
+    private static String moduleDefinition(boolean definitions) {
+        return definitions ? "m.definition" : "NULL";
+    }
+
+
+    /**
+     * Binds the schema to the first marker and {@code tableNames}, when set, to
+     * the following ones.
+     */
+    private static void bindTables(PreparedStatement ps, String schemaName, List<String> tableNames)
+            throws SQLException {
+        ps.setString(1, schemaName);
+        for (int i = 0; tableNames != null && i < tableNames.size(); i++) {
+            ps.setString(i + 2, tableNames.get(i));
+        }
+    }
+
+
+    /** {@code tableNames} in IN-list sized chunks; one null chunk for a schema-wide read. */
+    private static List<List<String>> tableChunks(List<String> tableNames) {
+        return tableNames == null ? Collections.singletonList(null)
+                : MetadataStatements.chunks(tableNames, MAX_TABLES_PER_QUERY);
+    }
+
+
+    /** {@code AND expression IN (?, ...)} for {@code tableNames}, or nothing for a schema-wide read. */
+    private static String tableFilter(String expression, List<String> tableNames) {
+        return tableNames == null ? ""
+                : " AND " + expression + " IN (" + MetadataStatements.placeholders(tableNames.size()) + ")";
+    }
+
+
+    @Override
+    public Optional<ChangeMarker> getChangeMarker(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // modify_date of the table plus that of its child objects (constraints,
+        // defaults, triggers); the index count covers CREATE/DROP INDEX.
+        String sql = """
+                SELECT o.name AS TABLE_NAME,
+                       CASE o.type WHEN 'V' THEN 'VIEW' ELSE 'TABLE' END AS TABLE_TYPE,
+                       CONVERT(varchar(30), o.modify_date, 126)
+                       + '/' + ISNULL((SELECT CONVERT(varchar(30), MAX(ch.modify_date), 126) + ':'
+                                              + CAST(COUNT(*) AS varchar(12))
+                                       FROM sys.objects ch WHERE ch.parent_object_id = o.object_id), '')
+                       + '/' + (SELECT CAST(COUNT(*) AS varchar(12))
+                                FROM sys.indexes i WHERE i.object_id = o.object_id) AS STAMP
+                FROM sys.objects o
+                JOIN sys.schemas s ON s.schema_id = o.schema_id
+                WHERE s.name = ? AND o.type IN ('U', 'V')
+                UNION ALL
+                SELECT NULL, NULL,
+                       ISNULL(CONVERT(varchar(30), MAX(x.modify_date), 126), '') + ':'
+                       + CAST(COUNT(*) AS varchar(12)) + '/'
+                       + (SELECT CAST(COUNT(*) AS varchar(12))
+                          FROM sys.types t JOIN sys.schemas ts ON ts.schema_id = t.schema_id
+                          WHERE ts.name = ? AND t.is_user_defined = 1)
+                FROM sys.objects x
+                JOIN sys.schemas xs ON xs.schema_id = x.schema_id
+                WHERE xs.name = ? AND x.type IN ('P', 'PC', 'FN', 'IF', 'TF', 'FS', 'FT', 'SO', 'TR')
+                """;
+        return Optional.of(
+                ChangeMarkers.read(statements, connection, resolveSchema(schema, connection), sql, 3));
+    }
+
+
     private String resolveSchema(String schema, Connection connection) throws SQLException {
         if (schema != null) {
             return schema;
@@ -831,7 +1303,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 ORDER BY t.name
                 """;
         List<UserDefinedType> types = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -879,7 +1351,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
 
         String schemaName = resolveSchema(schemaPattern, connection);
         List<TablePrivilege> result = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
             ps.setString(1, schemaName);
             if (hasTableFilter) {
                 ps.setString(2, tableNamePattern);
@@ -933,7 +1405,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
 
         String schemaName = resolveSchema(schema, connection);
         List<ColumnPrivilege> result = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+        try (PreparedStatement ps = statements.reuse(connection, sql.toString())) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
             if (hasColumnFilter) {
@@ -995,7 +1467,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
 
         String schemaName = resolveSchema(schemaPattern, connection);
         List<PseudoColumn> result = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
             int idx = 1;
             ps.setString(idx++, schemaName);
             if (hasTableFilter) {
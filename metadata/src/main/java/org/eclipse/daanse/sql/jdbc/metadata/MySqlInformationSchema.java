@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Function;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.RowCallback;
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableMetaDataRecord;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * information_schema reads shared by {@link MySqlMetadataProvider} and
+ * {@link MariaDbMetadataProvider}, whose catalogs agree on these views.
+ */
+final class MySqlInformationSchema {
+
+    // CREATE_TIME does not move on instant ALTERs, so column, index and
+    // constraint checksums are folded into the stamp.
+    private static final String CHANGE_MARKER_SQL = """
+            SELECT t.TABLE_NAME, t.TABLE_TYPE,
+                   CONCAT_WS('/', COALESCE(CAST(t.CREATE_TIME AS CHAR), ''), t.TABLE_COMMENT,
+                             COALESCE(c.CHECKSUM, ''), COALESCE(s.CHECKSUM, ''), COALESCE(k.CHECKSUM, ''),
+                             COALESCE(MD5(v.VIEW_DEFINITION), '')) AS STAMP
+            FROM information_schema.TABLES t
+            LEFT JOIN (SELECT TABLE_NAME, CONCAT(SUM(CRC32(CONCAT_WS(':', ORDINAL_POSITION, COLUMN_NAME,
+                              COLUMN_TYPE, IS_NULLABLE, COALESCE(COLUMN_DEFAULT, ''), EXTRA, COLUMN_COMMENT))),
+                              ':', COUNT(*)) AS CHECKSUM
+                       FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ?
+                       GROUP BY TABLE_NAME) c ON c.TABLE_NAME = t.TABLE_NAME
+            LEFT JOIN (SELECT TABLE_NAME, CONCAT(SUM(CRC32(CONCAT_WS(':', INDEX_NAME, SEQ_IN_INDEX,
+                              COALESCE(COLUMN_NAME, ''), NON_UNIQUE))), ':', COUNT(*)) AS CHECKSUM
+                       FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ?
+                       GROUP BY TABLE_NAME) s ON s.TABLE_NAME = t.TABLE_NAME
+            LEFT JOIN (SELECT TABLE_NAME, CONCAT(SUM(CRC32(CONCAT_WS(':', CONSTRAINT_NAME, CONSTRAINT_TYPE))),
+                              ':', COUNT(*)) AS CHECKSUM
+                       FROM information_schema.TABLE_CONSTRAINTS WHERE TABLE_SCHEMA = ?
+                       GROUP BY TABLE_NAME) k ON k.TABLE_NAME = t.TABLE_NAME
+            LEFT JOIN information_schema.VIEWS v
+              ON v.TABLE_SCHEMA = t.TABLE_SCHEMA AND v.TABLE_NAME = t.TABLE_NAME
+            WHERE t.TABLE_SCHEMA = ?
+            UNION ALL
+            SELECT NULL, NULL,
+                   CONCAT_WS('/',
+                       (SELECT CONCAT(COALESCE(CAST(MAX(LAST_ALTERED) AS CHAR), ''), ':', COUNT(*))
+                        FROM information_schema.ROUTINES WHERE ROUTINE_SCHEMA = ?),
+                       (SELECT CONCAT(COALESCE(SUM(CRC32(CONCAT_WS(':', TRIGGER_NAME, EVENT_OBJECT_TABLE,
+                               ACTION_TIMING, EVENT_MANIPULATION, CREATED))), 0), ':', COUNT(*))
+                        FROM information_schema.TRIGGERS WHERE TRIGGER_SCHEMA = ?))
+            """;
+
+    /** Number of markers in {@link #CHANGE_MARKER_SQL}, each bound to the database. */
+    private static final int CHANGE_MARKER_PARAMETERS = 6;
+
+    private MySqlInformationSchema() {
+    }
+
+    static ChangeMarker readChangeMarker(MetadataStatements statements, Connection connection, String database)
+            throws SQLException {
+        return ChangeMarkers.read(statements, connection, database, CHANGE_MARKER_SQL, CHANGE_MARKER_PARAMETERS);
+    }
+
+
+    /** {@link MetadataProvider#getAllTableDefinitions} over information_schema.TABLES. */
+    static List<TableDefinition> readTableDefinitions(MetadataStatements statements, Connection connection,
+            String catalog, String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        // The database is the catalog (or, with databaseTerm=SCHEMA, the
+        // schema pattern); with neither every database is read, as JDBC does.
+        StringBuilder sql = new StringBuilder("""
+                SELECT TABLE_SCHEMA, TABLE_NAME, TABLE_TYPE, TABLE_COMMENT
+                FROM information_schema.TABLES
+                WHERE 1 = 1
+                """);
+        String databaseFilter = appendDatabaseFilter(sql, "TABLE_SCHEMA", catalog, schemaPattern);
+        String tableFilter = appendNameFilter(sql, "TABLE_NAME", tableNamePattern);
+        sql.append("ORDER BY TABLE_SCHEMA, TABLE_NAME");
+
+        List<String> typeFilter = types == null ? null : Arrays.asList(types);
+        List<TableDefinition> result = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (databaseFilter != null) {
+                ps.setString(idx++, databaseFilter);
+            }
+            if (tableFilter != null) {
+                ps.setString(idx++, tableFilter);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String schemaName = rs.getString("TABLE_SCHEMA");
+                    String tableType = mapTableType(rs.getString("TABLE_TYPE"), schemaName);
+                    if (typeFilter != null && !typeFilter.contains(tableType)) {
+                        continue;
+                    }
+                    Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
+                    TableReference tableRef = new TableReference(oSchema, rs.getString("TABLE_NAME"), tableType);
+                    result.add(new TableDefinitionRecord(tableRef,
+                            new TableMetaDataRecord(Optional.ofNullable(rs.getString("TABLE_COMMENT")),
+                                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                                    Optional.empty())));
+                }
+            }
+        }
+        return List.copyOf(result);
+    }
+
+
+    /**
+     * {@link MetadataProvider#forEachColumnDefinition} over
+     * information_schema.COLUMNS.
+     *
+     * @param jdbcTypes          maps {@code DATA_TYPE} to its JDBC type
+     * @param expressionDefaults true where {@code COLUMN_DEFAULT} holds an SQL
+     *                           expression, so that the literal {@code NULL}
+     *                           means no default (MariaDB 10.2.7+)
+     */
+    static void forEachColumnDefinition(MetadataStatements statements, Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern,
+            RowCallback<ColumnDefinition> callback, Function<String, JDBCType> jdbcTypes,
+            boolean expressionDefaults) throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT TABLE_SCHEMA, TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_TYPE,
+                        CHARACTER_MAXIMUM_LENGTH, CHARACTER_OCTET_LENGTH, NUMERIC_PRECISION, NUMERIC_SCALE,
+                        DATETIME_PRECISION, IS_NULLABLE, COLUMN_DEFAULT, EXTRA, COLUMN_COMMENT
+                FROM information_schema.COLUMNS
+                WHERE 1 = 1
+                """);
+        String databaseFilter = appendDatabaseFilter(sql, "TABLE_SCHEMA", catalog, schemaPattern);
+        String tableFilter = appendNameFilter(sql, "TABLE_NAME", tableNamePattern);
+        String columnFilter = appendNameFilter(sql, "COLUMN_NAME", columnNamePattern);
+        sql.append("ORDER BY TABLE_SCHEMA, TABLE_NAME, ORDINAL_POSITION");
+
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (databaseFilter != null) {
+                ps.setString(idx++, databaseFilter);
+            }
+            if (tableFilter != null) {
+                ps.setString(idx++, tableFilter);
+            }
+            if (columnFilter != null) {
+                ps.setString(idx++, columnFilter);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                String currentSchema = null;
+                String currentTable = null;
+                TableReference tableRef = null;
+                while (rs.next()) {
+                    String schemaName = rs.getString("TABLE_SCHEMA");
+                    String tableName = rs.getString("TABLE_NAME");
+                    if (!schemaName.equals(currentSchema) || !tableName.equals(currentTable)) {
+                        currentSchema = schemaName;
+                        currentTable = tableName;
+                        tableRef = new TableReference(
+                                Optional.of(new SchemaReference(Optional.empty(), schemaName)), tableName);
+                    }
+                    callback.accept(new ColumnDefinitionRecord(
+                            new ColumnReference(Optional.of(tableRef), rs.getString("COLUMN_NAME")),
+                            readColumnMetaData(rs, jdbcTypes, expressionDefaults)));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Appends the database restriction of a bulk read: a schema pattern wins
+     * over an exact catalog.
+     *
+     * @return the value to bind, {@code null} when every database is read
+     */
+    static String appendDatabaseFilter(StringBuilder sql, String column, String catalog, String schemaPattern) {
+        if (schemaPattern != null && !"%".equals(schemaPattern)) {
+            return appendNameFilter(sql, column, schemaPattern);
+        }
+        if (catalog != null) {
+            sql.append("  AND ").append(column).append(" = ?\n");
+            return catalog;
+        }
+        return null;
+    }
+
+
+    /**
+     * Appends the restriction for a JDBC name pattern: {@code =} when it has
+     * no wildcard, so the server can open just the named table's metadata,
+     * {@code LIKE} otherwise. A null, blank or {@code %} pattern appends
+     * nothing.
+     *
+     * @return the value to bind, {@code null} when nothing was appended
+     */
+    static String appendNameFilter(StringBuilder sql, String column, String pattern) {
+        if (pattern == null || pattern.isBlank() || "%".equals(pattern)) {
+            return null;
+        }
+        String literal = literal(pattern);
+        sql.append("  AND ").append(column).append(literal != null ? " = ?\n" : " LIKE ?\n");
+        return literal != null ? literal : pattern;
+    }
+
+
+    /** {@code pattern} with its {@code \\} escapes removed, or null when it has an unescaped wildcard. */
+    private static String literal(String pattern) {
+        StringBuilder literal = new StringBuilder(pattern.length());
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\' && i + 1 < pattern.length()) {
+                literal.append(pattern.charAt(++i));
+            } else if (c == '%' || c == '_') {
+                return null;
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.toString();
+    }
+
+
+    /**
+     * Column metadata of the current information_schema.COLUMNS row. The model
+     * has no slot for the expression of a generated column, so
+     * GENERATION_EXPRESSION is not read; {@code EXTRA} gives the generated flag
+     * as Connector/J's {@code IS_GENERATEDCOLUMN} does.
+     */
+    private static ColumnMetaData readColumnMetaData(ResultSet rs,
+            Function<String, JDBCType> jdbcTypes, boolean expressionDefaults) throws SQLException {
+        String dataType = rs.getString("DATA_TYPE");
+        String columnType = rs.getString("COLUMN_TYPE");
+        String typeName = dataType.toUpperCase();
+        if (columnType != null && columnType.contains("unsigned")) {
+            typeName += " UNSIGNED";
+        }
+
+        OptionalInt size = OptionalInt.empty();
+        OptionalInt digits = OptionalInt.empty();
+        OptionalInt radix = OptionalInt.empty();
+        long charLength = rs.getLong("CHARACTER_MAXIMUM_LENGTH");
+        boolean isCharacter = !rs.wasNull();
+        int precision = rs.getInt("NUMERIC_PRECISION");
+        boolean isNumeric = !rs.wasNull();
+        int datetimePrecision = rs.getInt("DATETIME_PRECISION");
+        boolean isDatetime = !rs.wasNull();
+        if (isCharacter) {
+            size = OptionalInt.of((int) Math.min(charLength, Integer.MAX_VALUE));
+        } else if (isNumeric) {
+            size = OptionalInt.of(precision);
+            int scale = rs.getInt("NUMERIC_SCALE");
+            digits = rs.wasNull() ? OptionalInt.empty() : OptionalInt.of(scale);
+            radix = OptionalInt.of(10);
+        } else if (isDatetime) {
+            // display width: yyyy-mm-dd, hh:mm:ss and both, plus the fraction
+            int width = switch (typeName) {
+            case "DATE" -> 10;
+            case "TIME" -> 8;
+            case "YEAR" -> 4;
+            default -> 19;
+            };
+            size = OptionalInt.of(datetimePrecision > 0 ? width + 1 + datetimePrecision : width);
+            digits = OptionalInt.of(datetimePrecision);
+        }
+        long octetLength = rs.getLong("CHARACTER_OCTET_LENGTH");
+        OptionalInt charOctetLength = rs.wasNull() ? OptionalInt.empty()
+                : OptionalInt.of((int) Math.min(octetLength, Integer.MAX_VALUE));
+
+        String extra = rs.getString("EXTRA") == null ? "" : rs.getString("EXTRA").toUpperCase();
+        // DEFAULT_GENERATED marks an expression default, not a generated column
+        boolean generated = extra.contains("VIRTUAL GENERATED") || extra.contains("STORED GENERATED")
+                || extra.contains("PERSISTENT GENERATED");
+        String defaultValue = rs.getString("COLUMN_DEFAULT");
+        Optional<String> columnDefault = expressionDefaults && "NULL".equals(defaultValue) ? Optional.empty()
+                : Optional.ofNullable(defaultValue);
+        return new ColumnMetaDataRecord(jdbcTypes.apply(dataType), typeName, size, digits, radix,
+                "YES".equals(rs.getString("IS_NULLABLE")) ? ColumnMetaData.Nullability.NULLABLE
+                        : ColumnMetaData.Nullability.NO_NULLS,
+                charOctetLength, Optional.ofNullable(rs.getString("COLUMN_COMMENT")), columnDefault,
+                extra.contains("AUTO_INCREMENT") ? ColumnMetaData.AutoIncrement.YES : ColumnMetaData.AutoIncrement.NO,
+                generated ? ColumnMetaData.GeneratedColumn.YES : ColumnMetaData.GeneratedColumn.NO);
+    }
+
+
+    private static String mapTableType(String tableType, String schemaName) {
+        boolean system = "information_schema".equalsIgnoreCase(schemaName) || "mysql".equalsIgnoreCase(schemaName)
+                || "performance_schema".equalsIgnoreCase(schemaName) || "sys".equalsIgnoreCase(schemaName);
+        return switch (tableType) {
+        case "BASE TABLE" -> system ? "SYSTEM TABLE" : "TABLE";
+        case "VIEW" -> system ? "SYSTEM VIEW" : "VIEW";
+        case "TEMPORARY" -> "LOCAL TEMPORARY";
+        default -> tableType;
+        };
+    }
+}
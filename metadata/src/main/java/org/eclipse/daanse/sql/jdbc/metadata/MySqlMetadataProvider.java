@@ -25,9 +25,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.RowCallback;
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
 import org.eclipse.daanse.sql.model.schema.ColumnReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Function;
 import org.eclipse.daanse.sql.jdbc.api.schema.FunctionColumn;
@@ -41,6 +45,7 @@ import org.eclipse.daanse.sql.jdbc.api.schema.ProcedureColumn;
 import org.eclipse.daanse.sql.jdbc.api.schema.ProcedureReference;
 import org.eclipse.daanse.sql.model.schema.SchemaReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
 import org.eclipse.daanse.sql.model.schema.TableReference;
 import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
 import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
@@ -74,6 +79,22 @@ public class MySqlMetadataProvider implements MetadataProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MySqlMetadataProvider.class);
 
+    private final MetadataStatements statements;
+
+    public MySqlMetadataProvider() {
+        this(MetadataQueryOptions.DEFAULT);
+    }
+
+    public MySqlMetadataProvider(MetadataQueryOptions options) {
+        this.statements = new MetadataStatements(options);
+    }
+
+
+    @Override
+    public MetadataQueryOptions queryOptions() {
+        return statements.options();
+    }
+
 
     @Override
     public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
@@ -85,7 +106,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -108,7 +129,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.reuse(connection, sql)) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
             try (ResultSet rs = ps.executeQuery()) {
@@ -148,7 +169,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
         String schemaName = resolveSchema(schema, connection);
         List<Partition> partitions = new ArrayList<>();
         Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -211,7 +232,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -246,7 +267,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.reuse(connection, sql)) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
             try (ResultSet rs = ps.executeQuery()) {
@@ -311,7 +332,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         Map<String, PkBuilder> pkMap = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -350,7 +371,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<ImportedKey> importedKeys = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -381,7 +402,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<ImportedKey> exportedKeys = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -405,7 +426,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
         // Group by TABLE_NAME then by INDEX_NAME
         Map<String, Map<String, List<IndexInfoItem>>> tableIndexMap = new LinkedHashMap<>();
         Map<String, TableReference> tableRefs = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -451,6 +472,33 @@ public class MySqlMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<List<TableDefinition>> getAllTableDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        return Optional.of(MySqlInformationSchema.readTableDefinitions(statements, connection, catalog,
+                schemaPattern, tableNamePattern, types));
+    }
+
+
+    @Override
+    public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        List<ColumnDefinition> out = new ArrayList<>();
+        forEachColumnDefinition(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern, out::add);
+        return Optional.of(List.copyOf(out));
+    }
+
+
+    @Override
+    public boolean forEachColumnDefinition(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, RowCallback<ColumnDefinition> callback)
+            throws SQLException {
+        MySqlInformationSchema.forEachColumnDefinition(statements, connection, catalog, schemaPattern,
+                tableNamePattern, columnNamePattern, callback, MySqlMetadataProvider::mapMySqlJdbcType, false);
+        return true;
+    }
+
+
     @Override
     public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
             throws SQLException {
@@ -460,7 +508,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<ViewDefinition> views = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -490,7 +538,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 ORDER BY ROUTINE_NAME
                 """;
         List<Procedure> procedures = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -526,7 +574,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 ORDER BY ROUTINE_NAME
                 """;
         List<Function> functions = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -554,7 +602,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
         String quotedSchema = "`" + schemaName.replace("`", "``") + "`";
         String quotedName = "`" + name.replace("`", "``") + "`";
         String sql = "SHOW CREATE " + kind + " " + quotedSchema + "." + quotedName;
-        try (PreparedStatement ps = connection.prepareStatement(sql); ResultSet rs = ps.executeQuery()) {
+        try (PreparedStatement ps = statements.prepare(connection, sql); ResultSet rs = ps.executeQuery()) {
             if (rs.next()) {
                 String col = "Create " + kind.charAt(0) + kind.substring(1).toLowerCase();
                 String def = rs.getString(col);
@@ -577,7 +625,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 ORDER BY SPECIFIC_NAME, ORDINAL_POSITION
                 """;
         Map<String, List<ProcedureColumn>> result = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -618,7 +666,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 ORDER BY SPECIFIC_NAME, ORDINAL_POSITION
                 """;
         Map<String, List<FunctionColumn>> result = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -744,7 +792,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
             String tableName) throws SQLException {
         String schemaName = resolveSchema(schema, connection);
         Map<String, UcBuilder> ucMap = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.forTable(connection, sql, tableName)) {
             ps.setString(1, schemaName);
             if (tableName != null) {
                 ps.setString(2, tableName);
@@ -769,6 +817,15 @@ public class MySqlMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<ChangeMarker> getChangeMarker(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // The schema is the database; a catalog alone names it as well.
+        String database = resolveSchema(schema != null ? schema : catalog, connection);
+        return Optional.of(MySqlInformationSchema.readChangeMarker(statements, connection, database));
+    }
+
+
     private String resolveSchema(String schema, Connection connection) throws SQLException {
         if (schema != null) {
             return schema;
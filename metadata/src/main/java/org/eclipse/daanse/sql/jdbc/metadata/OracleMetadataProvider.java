@@ -21,17 +21,23 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.RowCallback;
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
 import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
 import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.Definition;
+import org.eclipse.daanse.sql.jdbc.api.schema.DefinitionKey;
 import org.eclipse.daanse.sql.model.schema.ColumnReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Function;
 import org.eclipse.daanse.sql.jdbc.api.schema.FunctionColumn;
@@ -90,16 +96,44 @@ public class OracleMetadataProvider implements MetadataProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OracleMetadataProvider.class);
 
+    /** Oracle rejects IN lists with more than 1000 entries (ORA-01795). */
+    private static final int MAX_IN_LIST = 1000;
+
+    private final MetadataStatements statements;
+
+    public OracleMetadataProvider() {
+        this(MetadataQueryOptions.DEFAULT);
+    }
+
+    public OracleMetadataProvider(MetadataQueryOptions options) {
+        this.statements = new MetadataStatements(options);
+    }
+
+
+    @Override
+    public MetadataQueryOptions queryOptions() {
+        return statements.options();
+    }
+
 
     @Override
     public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
+        return getAllTriggers(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema, boolean definitions)
+            throws SQLException {
+        // TRIGGER_BODY is a LONG, streamed per row; leave it out when only the
+        // identities are wanted.
         String sql = """
-                SELECT TRIGGER_NAME, TABLE_NAME, TRIGGER_TYPE, TRIGGERING_EVENT, TRIGGER_BODY
+                SELECT TRIGGER_NAME, TABLE_NAME, TRIGGER_TYPE, TRIGGERING_EVENT, %s AS TRIGGER_BODY
                 FROM ALL_TRIGGERS WHERE OWNER = ? ORDER BY TABLE_NAME, TRIGGER_NAME
-                """;
+                """.formatted(definitions ? "TRIGGER_BODY" : "NULL");
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -121,7 +155,7 @@ public class OracleMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.reuse(connection, sql)) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
             try (ResultSet rs = ps.executeQuery()) {
@@ -142,7 +176,7 @@ public class OracleMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Sequence> sequences = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -211,7 +245,7 @@ public class OracleMetadataProvider implements MetadataProvider {
         List<Partition> partitions = new ArrayList<>();
         Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
 
-        try (PreparedStatement ps = connection.prepareStatement(partitionSql)) {
+        try (PreparedStatement ps = statements.prepare(connection, partitionSql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -239,7 +273,7 @@ public class OracleMetadataProvider implements MetadataProvider {
             return List.of();
         }
 
-        try (PreparedStatement ps = connection.prepareStatement(subPartitionSql)) {
+        try (PreparedStatement ps = statements.prepare(connection, subPartitionSql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -295,7 +329,15 @@ public class OracleMetadataProvider implements MetadataProvider {
     public List<CheckConstraint> getCheckConstraints(Connection connection, String catalog, String schema,
             String tableName) throws SQLException {
         String schemaName = resolveSchema(schema, connection);
-        return readCheckConstraints(connection, schemaName, tableName);
+        return readCheckConstraints(connection, schemaName, List.of(tableName));
+    }
+
+
+    @Override
+    public List<CheckConstraint> getCheckConstraintsForTables(Connection connection, String catalog, String schema,
+            List<String> tableNames) throws SQLException {
+        String schemaName = resolveSchema(schema, connection);
+        return readCheckConstraints(connection, schemaName, tableNames);
     }
 
 
@@ -327,6 +369,54 @@ public class OracleMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public List<Trigger> getTriggersForTables(Connection connection, String catalog, String schema,
+            List<String> tableNames) throws SQLException {
+        String sql = """
+                SELECT TRIGGER_NAME, TABLE_NAME, TRIGGER_TYPE, TRIGGERING_EVENT, TRIGGER_BODY
+                FROM ALL_TRIGGERS WHERE OWNER = ? AND TABLE_NAME IN (%s)
+                ORDER BY TABLE_NAME, TRIGGER_NAME
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<Trigger> triggers = new ArrayList<>();
+        for (List<String> chunk : MetadataStatements.chunks(tableNames, MAX_IN_LIST)) {
+            try (PreparedStatement ps = statements.prepare(connection,
+                    sql.formatted(MetadataStatements.placeholders(chunk.size())))) {
+                bindTables(ps, schemaName, chunk);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        triggers.add(readTrigger(rs, schemaName));
+                    }
+                }
+            }
+        }
+        return List.copyOf(triggers);
+    }
+
+
+    @Override
+    public List<UniqueConstraint> getUniqueConstraintsForTables(Connection connection, String catalog,
+            String schema, List<String> tableNames) throws SQLException {
+        String sql = """
+                SELECT c.CONSTRAINT_NAME, c.TABLE_NAME, cc.COLUMN_NAME, cc.POSITION
+                FROM ALL_CONSTRAINTS c
+                JOIN ALL_CONS_COLUMNS cc ON c.OWNER = cc.OWNER AND c.CONSTRAINT_NAME = cc.CONSTRAINT_NAME
+                WHERE c.OWNER = ? AND c.CONSTRAINT_TYPE = 'U' AND c.TABLE_NAME IN (%s)
+                ORDER BY c.TABLE_NAME, c.CONSTRAINT_NAME, cc.POSITION
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<UniqueConstraint> constraints = new ArrayList<>();
+        for (List<String> chunk : MetadataStatements.chunks(tableNames, MAX_IN_LIST)) {
+            try (PreparedStatement ps = statements.prepare(connection,
+                    sql.formatted(MetadataStatements.placeholders(chunk.size())))) {
+                bindTables(ps, schemaName, chunk);
+                constraints.addAll(readUniqueConstraints(ps, schemaName));
+            }
+        }
+        return List.copyOf(constraints);
+    }
+
+
     @Override
     public Optional<List<PrimaryKey>> getAllPrimaryKeys(Connection connection, String catalog, String schema)
             throws SQLException {
@@ -339,7 +429,7 @@ public class OracleMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         Map<String, PkBuilder> pkMap = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -364,38 +454,37 @@ public class OracleMetadataProvider implements MetadataProvider {
     @Override
     public Optional<List<ImportedKey>> getAllImportedKeys(Connection connection, String catalog, String schema)
             throws SQLException {
-        String sql = """
-                SELECT fk.CONSTRAINT_NAME AS FK_NAME, fk.TABLE_NAME AS FK_TABLE,
-                        fk_col.COLUMN_NAME AS FK_COLUMN, pk.TABLE_NAME AS PK_TABLE,
-                        pk_col.COLUMN_NAME AS PK_COLUMN, fk_col.POSITION AS KEY_SEQ,
-                        fk.DELETE_RULE, pk.CONSTRAINT_NAME AS PK_NAME
-                FROM ALL_CONSTRAINTS fk
-                JOIN ALL_CONS_COLUMNS fk_col ON fk.OWNER = fk_col.OWNER AND fk.CONSTRAINT_NAME = fk_col.CONSTRAINT_NAME
-                JOIN ALL_CONSTRAINTS pk ON fk.R_OWNER = pk.OWNER AND fk.R_CONSTRAINT_NAME = pk.CONSTRAINT_NAME
-                JOIN ALL_CONS_COLUMNS pk_col ON pk.OWNER = pk_col.OWNER AND pk.CONSTRAINT_NAME = pk_col.CONSTRAINT_NAME
-                    AND fk_col.POSITION = pk_col.POSITION
-                WHERE fk.OWNER = ? AND fk.CONSTRAINT_TYPE = 'R'
-                ORDER BY fk.TABLE_NAME, fk.CONSTRAINT_NAME, fk_col.POSITION
-                """;
-        String schemaName = resolveSchema(schema, connection);
-        List<ImportedKey> importedKeys = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    importedKeys.add(readImportedKey(rs, schemaName));
-                }
-            }
-        }
-        return Optional.of(List.copyOf(importedKeys));
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), true, null));
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getImportedKeysForTables(Connection connection, String catalog,
+            String schema, List<String> tableNames) throws SQLException {
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), true, tableNames));
     }
 
 
     @Override
     public Optional<List<ImportedKey>> getAllExportedKeys(Connection connection, String catalog, String schema)
             throws SQLException {
-        // Symmetric to getAllImportedKeys: FK entries whose referenced (R_OWNER) side
-        // is the given schema.
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), false, null));
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getExportedKeysForTables(Connection connection, String catalog,
+            String schema, List<String> tableNames) throws SQLException {
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), false, tableNames));
+    }
+
+
+    /**
+     * Foreign keys declared in the schema ({@code imported}) or referencing it
+     * (R_OWNER side), restricted to {@code tableNames} on that side when set.
+     */
+    private List<ImportedKey> readForeignKeys(Connection connection, String schemaName, boolean imported,
+            List<String> tableNames) throws SQLException {
         String sql = """
                 SELECT fk.CONSTRAINT_NAME AS FK_NAME, fk.TABLE_NAME AS FK_TABLE,
                         fk_col.COLUMN_NAME AS FK_COLUMN, pk.TABLE_NAME AS PK_TABLE,
@@ -406,66 +495,85 @@ public class OracleMetadataProvider implements MetadataProvider {
                 JOIN ALL_CONSTRAINTS pk ON fk.R_OWNER = pk.OWNER AND fk.R_CONSTRAINT_NAME = pk.CONSTRAINT_NAME
                 JOIN ALL_CONS_COLUMNS pk_col ON pk.OWNER = pk_col.OWNER AND pk.CONSTRAINT_NAME = pk_col.CONSTRAINT_NAME
                     AND fk_col.POSITION = pk_col.POSITION
-                WHERE fk.R_OWNER = ? AND fk.CONSTRAINT_TYPE = 'R'
-                ORDER BY pk.TABLE_NAME, fk.CONSTRAINT_NAME, fk_col.POSITION
+                WHERE %s = ? AND fk.CONSTRAINT_TYPE = 'R'%s
+                ORDER BY %s, fk.CONSTRAINT_NAME, fk_col.POSITION
                 """;
-        String schemaName = resolveSchema(schema, connection);
-        List<ImportedKey> exportedKeys = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    exportedKeys.add(readImportedKey(rs, schemaName));
+        String owner = imported ? "fk.OWNER" : "fk.R_OWNER";
+        String table = imported ? "fk.TABLE_NAME" : "pk.TABLE_NAME";
+        List<ImportedKey> keys = new ArrayList<>();
+        for (List<String> chunk : tableChunks(tableNames)) {
+            try (PreparedStatement ps = statements.prepare(connection,
+                    sql.formatted(owner, tableFilter(table, chunk), table))) {
+                bindTables(ps, schemaName, chunk);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        keys.add(readImportedKey(rs, schemaName));
+                    }
                 }
             }
         }
-        return Optional.of(List.copyOf(exportedKeys));
+        return List.copyOf(keys);
     }
 
 
     @Override
     public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
             throws SQLException {
+        return Optional.of(readIndexInfo(connection, resolveSchema(schema, connection), null));
+    }
+
+
+    @Override
+    public Optional<List<IndexInfo>> getIndexInfoForTables(Connection connection, String catalog, String schema,
+            List<String> tableNames) throws SQLException {
+        return Optional.of(readIndexInfo(connection, resolveSchema(schema, connection), tableNames));
+    }
+
+
+    private List<IndexInfo> readIndexInfo(Connection connection, String schemaName, List<String> tableNames)
+            throws SQLException {
         String sql = """
                 SELECT i.INDEX_NAME, i.INDEX_TYPE, i.TABLE_NAME, i.UNIQUENESS,
                         ic.COLUMN_NAME, ic.COLUMN_POSITION, ic.DESCEND
                 FROM ALL_INDEXES i
                 JOIN ALL_IND_COLUMNS ic ON i.OWNER = ic.INDEX_OWNER AND i.INDEX_NAME = ic.INDEX_NAME
-                WHERE i.TABLE_OWNER = ? ORDER BY i.TABLE_NAME, i.INDEX_NAME, ic.COLUMN_POSITION
+                WHERE i.TABLE_OWNER = ?%s ORDER BY i.TABLE_NAME, i.INDEX_NAME, ic.COLUMN_POSITION
                 """;
-        String schemaName = resolveSchema(schema, connection);
         Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
         Map<String, TableReference> tableRefs = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    String tableName = rs.getString("TABLE_NAME");
-                    String indexName = rs.getString("INDEX_NAME");
-                    String indexType = rs.getString("INDEX_TYPE");
-                    String uniqueness = rs.getString("UNIQUENESS");
-                    String columnName = rs.getString("COLUMN_NAME");
-                    int columnPosition = rs.getInt("COLUMN_POSITION");
-                    String descend = rs.getString("DESCEND");
-
-                    IndexInfoItem.IndexType mappedType = mapOracleIndexType(indexType);
-                    boolean isUnique = "UNIQUE".equalsIgnoreCase(uniqueness);
-                    Optional<Boolean> ascending = descend != null ? Optional.of("ASC".equalsIgnoreCase(descend))
-                            : Optional.empty();
-
-                    TableReference tableRef = tableRefs.computeIfAbsent(tableName, k -> {
-                        Optional<SchemaReference> oSchema = Optional
-                                .of(new SchemaReference(Optional.empty(), schemaName));
-                        return new TableReference(oSchema, k);
-                    });
-
-                    Optional<ColumnReference> colRef = Optional.ofNullable(columnName)
-                            .map(cn -> new ColumnReference(Optional.of(tableRef), cn));
-
-                    IndexInfoItem item = new IndexInfoItemRecord(Optional.ofNullable(indexName), mappedType, colRef,
-                            columnPosition, ascending, 0L, 0L, Optional.empty(), isUnique);
-
-                    tableIndexes.computeIfAbsent(tableName, k -> new ArrayList<>()).add(item);
+        for (List<String> chunk : tableChunks(tableNames)) {
+            try (PreparedStatement ps = statements.prepare(connection,
+                    sql.formatted(tableFilter("i.TABLE_NAME", chunk)))) {
+                bindTables(ps, schemaName, chunk);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        String tableName = rs.getString("TABLE_NAME");
+                        String indexName = rs.getString("INDEX_NAME");
+                        String indexType = rs.getString("INDEX_TYPE");
+                        String uniqueness = rs.getString("UNIQUENESS");
+                        String columnName = rs.getString("COLUMN_NAME");
+                        int columnPosition = rs.getInt("COLUMN_POSITION");
+                        String descend = rs.getString("DESCEND");
+
+                        IndexInfoItem.IndexType mappedType = mapOracleIndexType(indexType);
+                        boolean isUnique = "UNIQUE".equalsIgnoreCase(uniqueness);
+                        Optional<Boolean> ascending = descend != null ? Optional.of("ASC".equalsIgnoreCase(descend))
+                                : Optional.empty();
+
+                        TableReference tableRef = tableRefs.computeIfAbsent(tableName, k -> {
+                            Optional<SchemaReference> oSchema = Optional
+                                    .of(new SchemaReference(Optional.empty(), schemaName));
+                            return new TableReference(oSchema, k);
+                        });
+
+                        Optional<ColumnReference> colRef = Optional.ofNullable(columnName)
+                                .map(cn -> new ColumnReference(Optional.of(tableRef), cn));
+
+                        IndexInfoItem item = new IndexInfoItemRecord(Optional.ofNullable(indexName), mappedType, colRef,
+                                columnPosition, ascending, 0L, 0L, Optional.empty(), isUnique);
+
+                        tableIndexes.computeIfAbsent(tableName, k -> new ArrayList<>()).add(item);
+                    }
                 }
             }
         }
@@ -473,69 +581,74 @@ public class OracleMetadataProvider implements MetadataProvider {
         for (Map.Entry<String, List<IndexInfoItem>> entry : tableIndexes.entrySet()) {
             result.add(new IndexInfoRecord(tableRefs.get(entry.getKey()), List.copyOf(entry.getValue())));
         }
-        return Optional.of(List.copyOf(result));
+        return List.copyOf(result);
     }
 
 
     @Override
     public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
             throws SQLException {
+        return getAllViewDefinitions(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema,
+            boolean definitions) throws SQLException {
         String schemaName = resolveSchema(schema, connection);
-        List<ViewDefinition> views = new ArrayList<>();
+        if (!definitions) {
+            return readViews(connection, schemaName, "NULL", null);
+        }
+        return readViews(connection, schemaName, null);
+    }
+
 
+    /** Views of the schema, or the {@code names} views, with their query text. */
+    private List<ViewDefinition> readViews(Connection connection, String schemaName, List<String> names) {
         // Try TEXT_VC first (available in Oracle 12.2+)
         try {
-            String sql = """
-                    SELECT VIEW_NAME, TEXT_VC FROM ALL_VIEWS WHERE OWNER = ? ORDER BY VIEW_NAME
-                    """;
-            try (PreparedStatement ps = connection.prepareStatement(sql)) {
-                ps.setString(1, schemaName);
-                try (ResultSet rs = ps.executeQuery()) {
-                    while (rs.next()) {
-                        String viewName = rs.getString("VIEW_NAME");
-                        String viewBody = rs.getString("TEXT_VC");
-
-                        Optional<SchemaReference> oSchema = Optional
-                                .of(new SchemaReference(Optional.empty(), schemaName));
-                        TableReference viewRef = new TableReference(oSchema, viewName, "VIEW");
-
-                        views.add(new ViewDefinitionRecord(viewRef, Optional.ofNullable(viewBody), Optional.empty()));
-                    }
-                }
-            }
-            return List.copyOf(views);
+            return readViews(connection, schemaName, "TEXT_VC", names);
         } catch (SQLException e) {
             LOGGER.debug("TEXT_VC column not available, falling back to TEXT column", e);
         }
 
         // Fall back to TEXT column (LONG type, may have issues)
         try {
-            String sqlFallback = """
-                    SELECT VIEW_NAME, TEXT FROM ALL_VIEWS WHERE OWNER = ? ORDER BY VIEW_NAME
-                    """;
-            try (PreparedStatement ps = connection.prepareStatement(sqlFallback)) {
-                ps.setString(1, schemaName);
+            return readViews(connection, schemaName, "TEXT", names);
+        } catch (SQLException e) {
+            LOGGER.debug("Could not read view definitions from ALL_VIEWS", e);
+            return List.of();
+        }
+    }
+
+
+    private List<ViewDefinition> readViews(Connection connection, String schemaName, String textColumn,
+            List<String> names) throws SQLException {
+        String sql = """
+                SELECT VIEW_NAME, %s AS VIEW_BODY FROM ALL_VIEWS WHERE OWNER = ?%s ORDER BY VIEW_NAME
+                """;
+        Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
+        List<ViewDefinition> views = new ArrayList<>();
+        for (List<String> chunk : tableChunks(names)) {
+            try (PreparedStatement ps = statements.prepare(connection,
+                    sql.formatted(textColumn, tableFilter("VIEW_NAME", chunk)))) {
+                bindTables(ps, schemaName, chunk);
                 try (ResultSet rs = ps.executeQuery()) {
                     while (rs.next()) {
                         String viewName = rs.getString("VIEW_NAME");
                         String viewBody;
                         try {
-                            viewBody = rs.getString("TEXT");
+                            viewBody = rs.getString("VIEW_BODY");
                         } catch (SQLException ex) {
-                            LOGGER.debug("Could not read TEXT column for view {}", viewName, ex);
+                            LOGGER.debug("Could not read {} column for view {}", textColumn, viewName, ex);
                             viewBody = null;
                         }
-
-                        Optional<SchemaReference> oSchema = Optional
-                                .of(new SchemaReference(Optional.empty(), schemaName));
                         TableReference viewRef = new TableReference(oSchema, viewName, "VIEW");
 
                         views.add(new ViewDefinitionRecord(viewRef, Optional.ofNullable(viewBody), Optional.empty()));
                     }
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.debug("Could not read view definitions from ALL_VIEWS", e);
         }
         return List.copyOf(views);
     }
@@ -544,20 +657,28 @@ public class OracleMetadataProvider implements MetadataProvider {
     @Override
     public List<MaterializedView> getAllMaterializedViews(Connection connection, String catalog, String schema)
             throws SQLException {
+        return getAllMaterializedViews(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<MaterializedView> getAllMaterializedViews(Connection connection, String catalog, String schema,
+            boolean definitions) throws SQLException {
         // ALL_MVIEWS drives the list. Oracle also exposes REFRESH_MODE
         // ('DEMAND','COMMIT','NEVER')
         // and REFRESH_METHOD ('COMPLETE','FAST','FORCE','NEVER'); we report
         // REFRESH_METHOD since
         // that is what users normally think of when saying "refresh mode".
+        // QUERY is a LONG; it is only read with the definitions.
         String sql = """
-                SELECT MVIEW_NAME, QUERY, REFRESH_METHOD, LAST_REFRESH_DATE
+                SELECT MVIEW_NAME, %s AS QUERY, REFRESH_METHOD, LAST_REFRESH_DATE
                 FROM ALL_MVIEWS
                 WHERE OWNER = ?
                 ORDER BY MVIEW_NAME
-                """;
+                """.formatted(definitions ? "QUERY" : "NULL");
         String schemaName = resolveSchema(schema, connection);
         List<MaterializedView> result = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -588,9 +709,19 @@ public class OracleMetadataProvider implements MetadataProvider {
 
     @Override
     public List<Procedure> getAllProcedures(Connection connection, String catalog, String schema) throws SQLException {
+        return getAllProcedures(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<Procedure> getAllProcedures(Connection connection, String catalog, String schema, boolean definitions)
+            throws SQLException {
         String schemaName = resolveSchema(schema, connection);
         Map<String, List<ProcedureColumn>> paramMap = loadOracleProcedureColumns(connection, schemaName);
-        Map<String, String> sourceMap = loadOracleSources(connection, schemaName, "PROCEDURE");
+        // ALL_SOURCE and one DBMS_METADATA call per object make up most of the
+        // read; both are skipped when only the identities are wanted.
+        Map<String, String> sourceMap = definitions ? loadOracleSources(connection, schemaName, "PROCEDURE", null)
+                : Map.of();
         Map<String, Instant> lastDdlMap = loadOracleLastDdlTimes(connection, schemaName, "PROCEDURE");
 
         String sql = """
@@ -600,7 +731,7 @@ public class OracleMetadataProvider implements MetadataProvider {
                 ORDER BY OBJECT_NAME
                 """;
         List<Procedure> procedures = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -609,7 +740,9 @@ public class OracleMetadataProvider implements MetadataProvider {
                     Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
                     List<ProcedureColumn> cols = paramMap.getOrDefault(objectName, List.of());
                     Optional<String> body = Optional.ofNullable(sourceMap.get(objectName));
-                    Optional<String> fullDef = getMetadataDdl(connection, "PROCEDURE", schemaName, objectName);
+                    Optional<String> fullDef = definitions
+                            ? getMetadataDdl(connection, "PROCEDURE", schemaName, objectName)
+                            : Optional.empty();
                     Optional<Instant> lastMod = Optional.ofNullable(lastDdlMap.get(objectName));
 
                     procedures.add(new ProcedureRecord(new ProcedureReference(oSchema, objectName),
@@ -623,9 +756,19 @@ public class OracleMetadataProvider implements MetadataProvider {
 
     @Override
     public List<Function> getAllFunctions(Connection connection, String catalog, String schema) throws SQLException {
+        return getAllFunctions(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<Function> getAllFunctions(Connection connection, String catalog, String schema, boolean definitions)
+            throws SQLException {
         String schemaName = resolveSchema(schema, connection);
         Map<String, List<FunctionColumn>> paramMap = loadOracleFunctionColumns(connection, schemaName);
-        Map<String, String> sourceMap = loadOracleSources(connection, schemaName, "FUNCTION");
+        // ALL_SOURCE and one DBMS_METADATA call per object make up most of the
+        // read; both are skipped when only the identities are wanted.
+        Map<String, String> sourceMap = definitions ? loadOracleSources(connection, schemaName, "FUNCTION", null)
+                : Map.of();
         Map<String, Instant> lastDdlMap = loadOracleLastDdlTimes(connection, schemaName, "FUNCTION");
 
         String sql = """
@@ -635,7 +778,7 @@ public class OracleMetadataProvider implements MetadataProvider {
                 ORDER BY OBJECT_NAME
                 """;
         List<Function> functions = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -644,7 +787,9 @@ public class OracleMetadataProvider implements MetadataProvider {
                     Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
                     List<FunctionColumn> cols = paramMap.getOrDefault(objectName, List.of());
                     Optional<String> body = Optional.ofNullable(sourceMap.get(objectName));
-                    Optional<String> fullDef = getMetadataDdl(connection, "FUNCTION", schemaName, objectName);
+                    Optional<String> fullDef = definitions
+                            ? getMetadataDdl(connection, "FUNCTION", schemaName, objectName)
+                            : Optional.empty();
                     Optional<Instant> lastMod = Optional.ofNullable(lastDdlMap.get(objectName));
 
                     functions.add(new FunctionRecord(new FunctionReference(oSchema, objectName),
@@ -656,6 +801,76 @@ public class OracleMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Map<DefinitionKey, Definition> getDefinitionsForObjects(Connection connection, String catalog,
+            String schema, DefinitionKey.Kind kind, List<String> names) throws SQLException {
+        String schemaName = resolveSchema(schema, connection);
+        Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
+        Map<DefinitionKey, Definition> definitions = new LinkedHashMap<>();
+        switch (kind) {
+        case VIEW -> {
+            for (ViewDefinition view : readViews(connection, schemaName, names)) {
+                definitions.put(DefinitionKey.of(view), Definition.of(view));
+            }
+        }
+        case MATERIALIZED_VIEW -> {
+            try {
+                readDefinitions(connection, """
+                        SELECT MVIEW_NAME AS NAME, NULL AS QUALIFIER, QUERY AS BODY
+                        FROM ALL_MVIEWS WHERE OWNER = ?%s
+                        """, "MVIEW_NAME", schemaName, names, kind, oSchema, definitions);
+            } catch (SQLException e) {
+                LOGGER.debug("Could not read materialized views from ALL_MVIEWS: {}", e.getMessage());
+            }
+        }
+        case TRIGGER -> readDefinitions(connection, """
+                SELECT TRIGGER_NAME AS NAME, TABLE_NAME AS QUALIFIER, TRIGGER_BODY AS BODY
+                FROM ALL_TRIGGERS WHERE OWNER = ?%s
+                """, "TRIGGER_NAME", schemaName, names, kind, oSchema, definitions);
+        case PROCEDURE, FUNCTION -> {
+            // Routines are keyed by name: Oracle has no overloads outside packages.
+            String type = kind == DefinitionKey.Kind.PROCEDURE ? "PROCEDURE" : "FUNCTION";
+            Map<String, String> sources = loadOracleSources(connection, schemaName, type, names);
+            for (String name : names) {
+                Optional<String> body = Optional.ofNullable(sources.get(name));
+                Optional<String> fullDef = getMetadataDdl(connection, type, schemaName, name);
+                if (body.isPresent() || fullDef.isPresent()) {
+                    definitions.put(new DefinitionKey(kind, oSchema, name, name), new Definition(body, fullDef));
+                }
+            }
+        }
+        }
+        return definitions;
+    }
+
+
+    /** Reads {@code NAME, QUALIFIER, BODY} rows of the {@code names} objects into {@code definitions}. */
+    private void readDefinitions(Connection connection, String sql, String nameColumn, String schemaName,
+            List<String> names, DefinitionKey.Kind kind, Optional<SchemaReference> oSchema,
+            Map<DefinitionKey, Definition> definitions) throws SQLException {
+        for (List<String> chunk : tableChunks(names)) {
+            try (PreparedStatement ps = statements.prepare(connection,
+                    sql.formatted(tableFilter(nameColumn, chunk)))) {
+                bindTables(ps, schemaName, chunk);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        String name = rs.getString("NAME");
+                        String body;
+                        try {
+                            body = rs.getString("BODY");
+                        } catch (SQLException e) {
+                            LOGGER.debug("Could not read the body of {} {}", kind, name, e);
+                            body = null;
+                        }
+                        definitions.put(new DefinitionKey(kind, oSchema, name, rs.getString("QUALIFIER")),
+                                new Definition(Optional.ofNullable(body), Optional.empty()));
+                    }
+                }
+            }
+        }
+    }
+
+
     private Map<String, Instant> loadOracleLastDdlTimes(Connection connection, String schemaName, String objectType) {
         // ALL_OBJECTS.LAST_DDL_TIME is the canonical source for "when was this PL/SQL
         // object
@@ -666,7 +881,7 @@ public class OracleMetadataProvider implements MetadataProvider {
                 WHERE OWNER = ? AND OBJECT_TYPE = ?
                 """;
         Map<String, Instant> result = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             ps.setString(2, objectType);
             try (ResultSet rs = ps.executeQuery()) {
@@ -686,23 +901,33 @@ public class OracleMetadataProvider implements MetadataProvider {
     }
 
 
-    private Map<String, String> loadOracleSources(Connection connection, String schemaName, String type) {
+    /** Source of the schema's objects of {@code type}, or of the {@code names} ones. */
+    private Map<String, String> loadOracleSources(Connection connection, String schemaName, String type,
+            List<String> names) {
         // Aggregate source lines per object from ALL_SOURCE.
         String sql = """
                 SELECT NAME, TEXT
                 FROM ALL_SOURCE
-                WHERE OWNER = ? AND TYPE = ?
+                WHERE OWNER = ? AND TYPE = ?%s
                 ORDER BY NAME, LINE
                 """;
         Map<String, StringBuilder> byName = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
-            ps.setString(2, type);
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    String name = rs.getString("NAME");
-                    String text = rs.getString("TEXT");
-                    byName.computeIfAbsent(name, k -> new StringBuilder()).append(text == null ? "" : text);
+        try {
+            for (List<String> chunk : tableChunks(names)) {
+                try (PreparedStatement ps = statements.prepare(connection,
+                        sql.formatted(tableFilter("NAME", chunk)))) {
+                    ps.setString(1, schemaName);
+                    ps.setString(2, type);
+                    for (int i = 0; chunk != null && i < chunk.size(); i++) {
+                        ps.setString(i + 3, chunk.get(i));
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            String name = rs.getString("NAME");
+                            String text = rs.getString("TEXT");
+                            byName.computeIfAbsent(name, k -> new StringBuilder()).append(text == null ? "" : text);
+                        }
+                    }
                 }
             }
         } catch (SQLException e) {
@@ -719,7 +944,7 @@ public class OracleMetadataProvider implements MetadataProvider {
             String objectName) {
         // DBMS_METADATA.GET_DDL returns a CLOB with the full CREATE statement.
         String sql = "SELECT DBMS_METADATA.GET_DDL(?, ?, ?) FROM DUAL";
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, objectType);
             ps.setString(2, objectName);
             ps.setString(3, schemaName);
@@ -747,7 +972,7 @@ public class OracleMetadataProvider implements MetadataProvider {
                 ORDER BY a.OBJECT_NAME, a.POSITION
                 """;
         Map<String, List<ProcedureColumn>> result = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -789,7 +1014,7 @@ public class OracleMetadataProvider implements MetadataProvider {
                 ORDER BY a.OBJECT_NAME, a.POSITION
                 """;
         Map<String, List<FunctionColumn>> result = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -927,55 +1152,54 @@ public class OracleMetadataProvider implements MetadataProvider {
     }
 
 
-    private List<CheckConstraint> readCheckConstraints(Connection connection, String schemaName, String tableName)
-            throws SQLException {
+    /** Check constraints of the schema, or of {@code tableNames} when set. */
+    private List<CheckConstraint> readCheckConstraints(Connection connection, String schemaName,
+            List<String> tableNames) throws SQLException {
         // Try with SEARCH_CONDITION_VC first (available in Oracle 12.1+)
         try {
-            return readCheckConstraintsWithVc(connection, schemaName, tableName);
+            return readCheckConstraints(connection, schemaName, tableNames, "SEARCH_CONDITION_VC");
         } catch (SQLException e) {
             LOGGER.debug("SEARCH_CONDITION_VC not available, falling back to SEARCH_CONDITION", e);
         }
 
         // Fall back to SEARCH_CONDITION (LONG type)
-        return readCheckConstraintsWithLong(connection, schemaName, tableName);
+        return readCheckConstraints(connection, schemaName, tableNames, "SEARCH_CONDITION");
     }
 
 
-    private List<CheckConstraint> readCheckConstraintsWithVc(Connection connection, String schemaName, String tableName)
-            throws SQLException {
-        String sql;
-        if (tableName != null) {
-            sql = """
-                    SELECT c.CONSTRAINT_NAME, c.TABLE_NAME, c.SEARCH_CONDITION_VC
-                    FROM ALL_CONSTRAINTS c WHERE c.OWNER = ? AND c.CONSTRAINT_TYPE = 'C'
-                    AND c.GENERATED != 'GENERATED NAME' AND c.TABLE_NAME = ?
-                    ORDER BY c.CONSTRAINT_NAME
-                    """;
-        } else {
-            sql = """
-                    SELECT c.CONSTRAINT_NAME, c.TABLE_NAME, c.SEARCH_CONDITION_VC
-                    FROM ALL_CONSTRAINTS c WHERE c.OWNER = ? AND c.CONSTRAINT_TYPE = 'C'
-                    AND c.GENERATED != 'GENERATED NAME'
-                    ORDER BY c.TABLE_NAME, c.CONSTRAINT_NAME
-                    """;
-        }
+    private List<CheckConstraint> readCheckConstraints(Connection connection, String schemaName,
+            List<String> tableNames, String conditionColumn) throws SQLException {
+        String sql = """
+                SELECT c.CONSTRAINT_NAME, c.TABLE_NAME, c.%s
+                FROM ALL_CONSTRAINTS c WHERE c.OWNER = ? AND c.CONSTRAINT_TYPE = 'C'
+                AND c.GENERATED != 'GENERATED NAME'%s
+                ORDER BY c.TABLE_NAME, c.CONSTRAINT_NAME
+                """;
+        String tableName = tableNames != null && tableNames.size() == 1 ? tableNames.get(0) : null;
         List<CheckConstraint> constraints = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
-            if (tableName != null) {
-                ps.setString(2, tableName);
-            }
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    String constraintName = rs.getString("CONSTRAINT_NAME");
-                    String table = rs.getString("TABLE_NAME");
-                    String checkClause = rs.getString("SEARCH_CONDITION_VC");
+        for (List<String> chunk : tableChunks(tableNames)) {
+            String chunkSql = sql.formatted(conditionColumn, tableFilter("c.TABLE_NAME", chunk));
+            try (PreparedStatement ps = statements.forTable(connection, chunkSql, tableName)) {
+                bindTables(ps, schemaName, chunk);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        String constraintName = rs.getString("CONSTRAINT_NAME");
+                        String table = rs.getString("TABLE_NAME");
+                        String checkClause;
+                        try {
+                            checkClause = rs.getString(conditionColumn);
+                        } catch (SQLException e) {
+                            LOGGER.debug("Could not read {} for constraint {}", conditionColumn, constraintName, e);
+                            checkClause = null;
+                        }
 
-                    Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-                    TableReference tableRef = new TableReference(oSchema, table);
+                        Optional<SchemaReference> oSchema = Optional
+                                .of(new SchemaReference(Optional.empty(), schemaName));
+                        TableReference tableRef = new TableReference(oSchema, table);
 
-                    constraints.add(new CheckConstraintRecord(constraintName, tableRef,
-                            checkClause != null ? checkClause : ""));
+                        constraints.add(new CheckConstraintRecord(constraintName, tableRef,
+                                checkClause != null ? checkClause : ""));
+                    }
                 }
             }
         }
@@ -983,73 +1207,31 @@ public class OracleMetadataProvider implements MetadataProvider {
     }
 
 
-    private List<CheckConstraint> readCheckConstraintsWithLong(Connection connection, String schemaName,
+    private List<UniqueConstraint> readUniqueConstraints(Connection connection, String sql, String schema,
             String tableName) throws SQLException {
-        String sql;
-        if (tableName != null) {
-            sql = """
-                    SELECT c.CONSTRAINT_NAME, c.TABLE_NAME, c.SEARCH_CONDITION
-                    FROM ALL_CONSTRAINTS c WHERE c.OWNER = ? AND c.CONSTRAINT_TYPE = 'C'
-                    AND c.GENERATED != 'GENERATED NAME' AND c.TABLE_NAME = ?
-                    ORDER BY c.CONSTRAINT_NAME
-                    """;
-        } else {
-            sql = """
-                    SELECT c.CONSTRAINT_NAME, c.TABLE_NAME, c.SEARCH_CONDITION
-                    FROM ALL_CONSTRAINTS c WHERE c.OWNER = ? AND c.CONSTRAINT_TYPE = 'C'
-                    AND c.GENERATED != 'GENERATED NAME'
-                    ORDER BY c.TABLE_NAME, c.CONSTRAINT_NAME
-                    """;
-        }
-        List<CheckConstraint> constraints = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        String schemaName = resolveSchema(schema, connection);
+        try (PreparedStatement ps = statements.forTable(connection, sql, tableName)) {
             ps.setString(1, schemaName);
             if (tableName != null) {
                 ps.setString(2, tableName);
             }
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    String constraintName = rs.getString("CONSTRAINT_NAME");
-                    String table = rs.getString("TABLE_NAME");
-                    String checkClause;
-                    try {
-                        checkClause = rs.getString("SEARCH_CONDITION");
-                    } catch (SQLException e) {
-                        LOGGER.debug("Could not read SEARCH_CONDITION for constraint {}", constraintName, e);
-                        checkClause = null;
-                    }
-
-                    Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-                    TableReference tableRef = new TableReference(oSchema, table);
-
-                    constraints.add(new CheckConstraintRecord(constraintName, tableRef,
-                            checkClause != null ? checkClause : ""));
-                }
-            }
+            return readUniqueConstraints(ps, schemaName);
         }
-        return List.copyOf(constraints);
     }
 
 
-    private List<UniqueConstraint> readUniqueConstraints(Connection connection, String sql, String schema,
-            String tableName) throws SQLException {
-        String schemaName = resolveSchema(schema, connection);
+    private List<UniqueConstraint> readUniqueConstraints(PreparedStatement ps, String schemaName)
+            throws SQLException {
         Map<String, UcBuilder> ucMap = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
-            if (tableName != null) {
-                ps.setString(2, tableName);
-            }
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    String constraintName = rs.getString("CONSTRAINT_NAME");
-                    String table = rs.getString("TABLE_NAME");
-                    String columnName = rs.getString("COLUMN_NAME");
-
-                    String key = table + "." + constraintName;
-                    ucMap.computeIfAbsent(key, k -> new UcBuilder(table, constraintName, schemaName))
-                            .addColumn(columnName);
-                }
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                String constraintName = rs.getString("CONSTRAINT_NAME");
+                String table = rs.getString("TABLE_NAME");
+                String columnName = rs.getString("COLUMN_NAME");
+
+                String key = table + "." + constraintName;
+                ucMap.computeIfAbsent(key, k -> new UcBuilder(table, constraintName, schemaName))
+                        .addColumn(columnName);
             }
         }
         List<UniqueConstraint> result = new ArrayList<>();
@@ -1060,6 +1242,53 @@ public class OracleMetadataProvider implements MetadataProvider {
     }
 
 
+    /**
+     * Binds the owner to the first marker and {@code tableNames}, when set, to
+     * the following ones.
+     */
+    private static void bindTables(PreparedStatement ps, String schemaName, List<String> tableNames)
+            throws SQLException {
+        ps.setString(1, schemaName);
+        for (int i = 0; tableNames != null && i < tableNames.size(); i++) {
+            ps.setString(i + 2, tableNames.get(i));
+        }
+    }
+
+
+    /** {@code tableNames} in IN-list sized chunks; one null chunk for a schema-wide read. */
+    private static List<List<String>> tableChunks(List<String> tableNames) {
+        return tableNames == null ? Collections.singletonList(null)
+                : MetadataStatements.chunks(tableNames, MAX_IN_LIST);
+    }
+
+
+    /** {@code AND column IN (?, ...)} for {@code tableNames}, or nothing for a schema-wide read. */
+    private static String tableFilter(String column, List<String> tableNames) {
+        return tableNames == null ? ""
+                : " AND " + column + " IN (" + MetadataStatements.placeholders(tableNames.size()) + ")";
+    }
+
+
+    @Override
+    public Optional<ChangeMarker> getChangeMarker(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // LAST_DDL_TIME moves on ALTER/GRANT/index and constraint DDL against the object.
+        String sql = """
+                SELECT o.OBJECT_NAME AS TABLE_NAME, o.OBJECT_TYPE AS TABLE_TYPE,
+                       TO_CHAR(o.LAST_DDL_TIME, 'YYYYMMDDHH24MISS') AS STAMP
+                FROM ALL_OBJECTS o
+                WHERE o.OWNER = ? AND o.OBJECT_TYPE IN ('TABLE', 'VIEW', 'MATERIALIZED VIEW')
+                UNION ALL
+                SELECT NULL, NULL, TO_CHAR(MAX(x.LAST_DDL_TIME), 'YYYYMMDDHH24MISS') || ':' || COUNT(*)
+                FROM ALL_OBJECTS x
+                WHERE x.OWNER = ? AND x.OBJECT_TYPE IN ('SEQUENCE', 'PROCEDURE', 'FUNCTION', 'PACKAGE',
+                                                        'PACKAGE BODY', 'TYPE', 'TYPE BODY', 'TRIGGER')
+                """;
+        return Optional.of(
+                ChangeMarkers.read(statements, connection, resolveSchema(schema, connection), sql, 2));
+    }
+
+
     private String resolveSchema(String schema, Connection connection) throws SQLException {
         if (schema != null) {
             return schema;
@@ -1150,7 +1379,7 @@ public class OracleMetadataProvider implements MetadataProvider {
                 ORDER BY TYPE_NAME
                 """;
         List<UserDefinedType> types = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -1203,7 +1432,7 @@ public class OracleMetadataProvider implements MetadataProvider {
 
         String schemaName = resolveSchema(schemaPattern, connection);
         List<TablePrivilege> result = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
             ps.setString(1, schemaName);
             if (hasTableFilter) {
                 ps.setString(2, tableNamePattern);
@@ -1249,7 +1478,7 @@ public class OracleMetadataProvider implements MetadataProvider {
 
         String schemaName = resolveSchema(schema, connection);
         List<ColumnPrivilege> result = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+        try (PreparedStatement ps = statements.reuse(connection, sql.toString())) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
             if (hasColumnFilter) {
@@ -1306,7 +1535,7 @@ public class OracleMetadataProvider implements MetadataProvider {
 
         String schemaName = resolveSchema(schemaPattern, connection);
         List<PseudoColumn> result = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
             int idx = 1;
             ps.setString(idx++, schemaName);
             if (hasTableFilter) {
@@ -1409,6 +1638,15 @@ public class OracleMetadataProvider implements MetadataProvider {
     public Optional<List<org.eclipse.daanse.sql.model.schema.ColumnDefinition>> getAllColumnDefinitions(
             Connection connection, String catalog, String schemaPattern, String tableNamePattern,
             String columnNamePattern) throws SQLException {
+        List<org.eclipse.daanse.sql.model.schema.ColumnDefinition> out = new ArrayList<>();
+        forEachColumnDefinition(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern, out::add);
+        return Optional.of(List.copyOf(out));
+    }
+
+    @Override
+    public boolean forEachColumnDefinition(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern,
+            RowCallback<org.eclipse.daanse.sql.model.schema.ColumnDefinition> callback) throws SQLException {
         String sql = """
                 SELECT OWNER, TABLE_NAME, COLUMN_NAME, DATA_TYPE, DATA_LENGTH, DATA_PRECISION,
                         DATA_SCALE, NULLABLE, DATA_DEFAULT, COLUMN_ID
@@ -1417,8 +1655,7 @@ public class OracleMetadataProvider implements MetadataProvider {
                 ORDER BY OWNER, TABLE_NAME, COLUMN_ID
                 """;
         String schemaName = resolveSchema(schemaPattern, connection);
-        List<org.eclipse.daanse.sql.model.schema.ColumnDefinition> out = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -1462,11 +1699,11 @@ public class OracleMetadataProvider implements MetadataProvider {
                             org.eclipse.daanse.sql.model.schema.ColumnMetaData.AutoIncrement.UNKNOWN,
                             org.eclipse.daanse.sql.model.schema.ColumnMetaData.GeneratedColumn.UNKNOWN);
 
-                    out.add(new org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord(colRef, meta));
+                    callback.accept(new org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord(colRef, meta));
                 }
             }
         }
-        return Optional.of(List.copyOf(out));
+        return true;
     }
 
 
@@ -17,6 +17,7 @@ import java.util.Locale;
 
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProviderFactory;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ServiceScope;
 
@@ -37,4 +38,9 @@ public class OracleMetadataProviderFactory implements MetadataProviderFactory {
     public MetadataProvider createProvider() {
         return new OracleMetadataProvider();
     }
+
+    @Override
+    public MetadataProvider createProvider(MetadataQueryOptions options) {
+        return new OracleMetadataProvider(options);
+    }
 }
@@ -19,15 +19,24 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.RowCallback;
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.Definition;
+import org.eclipse.daanse.sql.jdbc.api.schema.DefinitionKey;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
 import org.eclipse.daanse.sql.model.schema.ColumnReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Function;
 import org.eclipse.daanse.sql.jdbc.api.schema.FunctionReference;
@@ -41,6 +50,7 @@ import org.eclipse.daanse.sql.jdbc.api.schema.ProcedureReference;
 import org.eclipse.daanse.sql.model.schema.SchemaReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
 import org.eclipse.daanse.sql.jdbc.api.schema.SequenceReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
 import org.eclipse.daanse.sql.jdbc.api.schema.TablePrivilege;
 import org.eclipse.daanse.sql.model.schema.TableReference;
 import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
@@ -52,6 +62,8 @@ import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
 import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedTypeReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
 import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ColumnPrivilegeRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
@@ -62,6 +74,8 @@ import org.eclipse.daanse.sql.jdbc.record.schema.PartitionRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ProcedureRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.SequenceRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableMetaDataRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.TablePrivilegeRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
@@ -75,13 +89,38 @@ import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
  */
 public class PostgreSqlMetadataProvider implements MetadataProvider {
 
+    private final MetadataStatements statements;
+
+    public PostgreSqlMetadataProvider() {
+        this(MetadataQueryOptions.DEFAULT);
+    }
+
+    public PostgreSqlMetadataProvider(MetadataQueryOptions options) {
+        this.statements = new MetadataStatements(options);
+    }
+
+
+    @Override
+    public MetadataQueryOptions queryOptions() {
+        return statements.options();
+    }
+
 
     @Override
     public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
+        return getAllTriggers(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema, boolean definitions)
+            throws SQLException {
+        // CASE evaluates only the taken branch, so without definitions neither
+        // pg_get_triggerdef nor the function source is read.
         String sql = """
-                SELECT t.tgname AS trigger_name, c.relname AS table_name, n.nspname AS schema_name,
-                        pg_get_triggerdef(t.oid) AS definition,
-                        p.prosrc AS proc_body
+                SELECT t.tgname AS trigger_name, c.relname AS table_name, n.nspname AS schema_name, t.tgtype,
+                        CASE WHEN ? THEN pg_get_triggerdef(t.oid) END AS definition,
+                        CASE WHEN ? THEN p.prosrc END AS proc_body
                 FROM pg_trigger t
                 JOIN pg_class c ON c.oid = t.tgrelid
                 JOIN pg_namespace n ON n.oid = c.relnamespace
@@ -91,8 +130,10 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setBoolean(1, definitions);
+            ps.setBoolean(2, definitions);
+            ps.setString(3, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     triggers.add(readTrigger(rs, schemaName));
@@ -107,7 +148,7 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     public List<Trigger> getTriggers(Connection connection, String catalog, String schema, String tableName)
             throws SQLException {
         String sql = """
-                SELECT t.tgname AS trigger_name, c.relname AS table_name, n.nspname AS schema_name,
+                SELECT t.tgname AS trigger_name, c.relname AS table_name, n.nspname AS schema_name, t.tgtype,
                         pg_get_triggerdef(t.oid) AS definition,
                         p.prosrc AS proc_body
                 FROM pg_trigger t
@@ -119,7 +160,7 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.reuse(connection, sql)) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
             try (ResultSet rs = ps.executeQuery()) {
@@ -134,16 +175,29 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
 
     @Override
     public List<Sequence> getAllSequences(Connection connection, String catalog, String schema) throws SQLException {
-        String sql = """
+        // pg_sequence (PostgreSQL 10+) instead of information_schema.sequences,
+        // which runs a privilege check per sequence; older servers keep the
+        // view, which has no cache size.
+        String sql = connection.getMetaData().getDatabaseMajorVersion() >= 10 ? """
+                SELECT c.relname AS sequence_name, s.seqstart AS start_value, s.seqincrement AS increment,
+                        s.seqmin AS minimum_value, s.seqmax AS maximum_value,
+                        CASE WHEN s.seqcycle THEN 'YES' ELSE 'NO' END AS cycle_option,
+                        s.seqcache AS cache_size, format_type(s.seqtypid, NULL) AS data_type
+                FROM pg_sequence s
+                JOIN pg_class c ON c.oid = s.seqrelid
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE n.nspname = ?
+                ORDER BY c.relname
+                """ : """
                 SELECT sequence_name, start_value, increment, minimum_value, maximum_value,
-                        cycle_option, data_type
+                        cycle_option, NULL AS cache_size, data_type
                 FROM information_schema.sequences
                 WHERE sequence_schema = ?
                 ORDER BY sequence_name
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Sequence> sequences = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -156,12 +210,14 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                     Optional<Long> oMaxValue = rs.wasNull() ? Optional.empty() : Optional.of(maxValue);
                     String cycleOption = rs.getString("cycle_option");
                     boolean cycle = "YES".equalsIgnoreCase(cycleOption);
+                    long cacheSize = rs.getLong("cache_size");
+                    Optional<Long> oCacheSize = rs.wasNull() ? Optional.empty() : Optional.of(cacheSize);
                     String dataType = rs.getString("data_type");
 
                     Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
 
                     sequences.add(new SequenceRecord(new SequenceReference(oSchema, name), startValue, increment,
-                            oMinValue, oMaxValue, cycle, Optional.empty(), Optional.ofNullable(dataType)));
+                            oMinValue, oMaxValue, cycle, oCacheSize, Optional.ofNullable(dataType)));
                 }
             }
         }
@@ -197,7 +253,7 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
         String schemaName = resolveSchema(schema, connection);
         List<Partition> partitions = new ArrayList<>();
         Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -269,7 +325,7 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -301,7 +357,7 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.reuse(connection, sql)) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
             try (ResultSet rs = ps.executeQuery()) {
@@ -352,6 +408,89 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public List<Trigger> getTriggersForTables(Connection connection, String catalog, String schema,
+            List<String> tableNames) throws SQLException {
+        String sql = """
+                SELECT t.tgname AS trigger_name, c.relname AS table_name, n.nspname AS schema_name, t.tgtype,
+                        pg_get_triggerdef(t.oid) AS definition,
+                        p.prosrc AS proc_body
+                FROM pg_trigger t
+                JOIN pg_class c ON c.oid = t.tgrelid
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                LEFT JOIN pg_proc p ON p.oid = t.tgfoid
+                WHERE NOT t.tgisinternal AND n.nspname = ? AND c.relname = ANY(?)
+                ORDER BY c.relname, t.tgname
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<Trigger> triggers = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schemaName);
+            ps.setArray(2, connection.createArrayOf("text", tableNames.toArray()));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    triggers.add(readTrigger(rs, schemaName));
+                }
+            }
+        }
+        return List.copyOf(triggers);
+    }
+
+
+    @Override
+    public List<CheckConstraint> getCheckConstraintsForTables(Connection connection, String catalog, String schema,
+            List<String> tableNames) throws SQLException {
+        String sql = """
+                SELECT con.conname, c.relname, pg_get_constraintdef(con.oid) AS check_clause
+                FROM pg_constraint con
+                JOIN pg_class c ON c.oid = con.conrelid
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE con.contype = 'c' AND n.nspname = ? AND c.relname = ANY(?)
+                ORDER BY c.relname, con.conname
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        List<CheckConstraint> constraints = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schemaName);
+            ps.setArray(2, connection.createArrayOf("text", tableNames.toArray()));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String constraintName = rs.getString("conname");
+                    String tableName = rs.getString("relname");
+                    String checkClause = rs.getString("check_clause");
+
+                    Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
+                    TableReference tableRef = new TableReference(oSchema, tableName);
+
+                    constraints.add(new CheckConstraintRecord(constraintName, tableRef, checkClause));
+                }
+            }
+        }
+        return List.copyOf(constraints);
+    }
+
+
+    @Override
+    public List<UniqueConstraint> getUniqueConstraintsForTables(Connection connection, String catalog,
+            String schema, List<String> tableNames) throws SQLException {
+        String sql = """
+                SELECT con.conname, c.relname, a.attname, array_position(con.conkey, a.attnum) AS ordinal
+                FROM pg_constraint con
+                JOIN pg_class c ON c.oid = con.conrelid
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = ANY(con.conkey)
+                WHERE con.contype = 'u' AND n.nspname = ? AND c.relname = ANY(?)
+                ORDER BY c.relname, con.conname, ordinal
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schemaName);
+            ps.setArray(2, connection.createArrayOf("text", tableNames.toArray()));
+            return readUniqueConstraints(ps, schemaName);
+        }
+    }
+
+
     @Override
     public Optional<List<PrimaryKey>> getAllPrimaryKeys(Connection connection, String catalog, String schema)
             throws SQLException {
@@ -366,7 +505,7 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         Map<String, PkBuilder> pkMap = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -391,39 +530,38 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     @Override
     public Optional<List<ImportedKey>> getAllImportedKeys(Connection connection, String catalog, String schema)
             throws SQLException {
-        String sql = """
-                SELECT con.conname AS fk_name, fk_class.relname AS fk_table, fk_att.attname AS fk_column,
-                        pk_class.relname AS pk_table, pk_att.attname AS pk_column,
-                        cols.ord AS key_seq, con.confdeltype AS delete_rule, con.confupdtype AS update_rule
-                FROM pg_constraint con
-                JOIN pg_class fk_class ON fk_class.oid = con.conrelid
-                JOIN pg_namespace n ON n.oid = fk_class.relnamespace
-                JOIN pg_class pk_class ON pk_class.oid = con.confrelid
-                JOIN LATERAL unnest(con.conkey, con.confkey) WITH ORDINALITY AS cols(fk_attnum, pk_attnum, ord) ON TRUE
-                JOIN pg_attribute fk_att ON fk_att.attrelid = con.conrelid AND fk_att.attnum = cols.fk_attnum
-                JOIN pg_attribute pk_att ON pk_att.attrelid = con.confrelid AND pk_att.attnum = cols.pk_attnum
-                WHERE con.contype = 'f' AND n.nspname = ?
-                ORDER BY fk_class.relname, con.conname, cols.ord
-                """;
-        String schemaName = resolveSchema(schema, connection);
-        List<ImportedKey> importedKeys = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    importedKeys.add(readImportedKey(rs, schemaName));
-                }
-            }
-        }
-        return Optional.of(List.copyOf(importedKeys));
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), true, null));
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getImportedKeysForTables(Connection connection, String catalog,
+            String schema, List<String> tableNames) throws SQLException {
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), true, tableNames));
     }
 
 
     @Override
     public Optional<List<ImportedKey>> getAllExportedKeys(Connection connection, String catalog, String schema)
             throws SQLException {
-        // Symmetric to getAllImportedKeys: filter by the namespace of the REFERENCED
-        // (PK-side) table.
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), false, null));
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getExportedKeysForTables(Connection connection, String catalog,
+            String schema, List<String> tableNames) throws SQLException {
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), false, tableNames));
+    }
+
+
+    /**
+     * Foreign keys whose FK-side ({@code imported}) or referenced PK-side table
+     * lives in the schema, restricted to {@code tableNames} on that side when
+     * set.
+     */
+    private List<ImportedKey> readForeignKeys(Connection connection, String schemaName, boolean imported,
+            List<String> tableNames) throws SQLException {
         String sql = """
                 SELECT con.conname AS fk_name, fk_class.relname AS fk_table, fk_att.attname AS fk_column,
                         pk_class.relname AS pk_table, pk_att.attname AS pk_column,
@@ -431,30 +569,44 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 FROM pg_constraint con
                 JOIN pg_class fk_class ON fk_class.oid = con.conrelid
                 JOIN pg_class pk_class ON pk_class.oid = con.confrelid
-                JOIN pg_namespace pk_n ON pk_n.oid = pk_class.relnamespace
+                JOIN pg_namespace n ON n.oid = %1$s.relnamespace
                 JOIN LATERAL unnest(con.conkey, con.confkey) WITH ORDINALITY AS cols(fk_attnum, pk_attnum, ord) ON TRUE
                 JOIN pg_attribute fk_att ON fk_att.attrelid = con.conrelid AND fk_att.attnum = cols.fk_attnum
                 JOIN pg_attribute pk_att ON pk_att.attrelid = con.confrelid AND pk_att.attnum = cols.pk_attnum
-                WHERE con.contype = 'f' AND pk_n.nspname = ?
-                ORDER BY pk_class.relname, con.conname, cols.ord
+                WHERE con.contype = 'f' AND n.nspname = ?%2$s
+                ORDER BY %1$s.relname, con.conname, cols.ord
                 """;
-        String schemaName = resolveSchema(schema, connection);
-        List<ImportedKey> exportedKeys = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
+        String side = imported ? "fk_class" : "pk_class";
+        List<ImportedKey> keys = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection,
+                sql.formatted(side, tableNames == null ? "" : " AND " + side + ".relname = ANY(?)"))) {
+            bindTables(ps, schemaName, tableNames);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    exportedKeys.add(readImportedKey(rs, schemaName));
+                    keys.add(readImportedKey(rs, schemaName));
                 }
             }
         }
-        return Optional.of(List.copyOf(exportedKeys));
+        return List.copyOf(keys);
     }
 
 
     @Override
     public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
             throws SQLException {
+        return Optional.of(readIndexInfo(connection, resolveSchema(schema, connection), null));
+    }
+
+
+    @Override
+    public Optional<List<IndexInfo>> getIndexInfoForTables(Connection connection, String catalog, String schema,
+            List<String> tableNames) throws SQLException {
+        return Optional.of(readIndexInfo(connection, resolveSchema(schema, connection), tableNames));
+    }
+
+
+    private List<IndexInfo> readIndexInfo(Connection connection, String schemaName, List<String> tableNames)
+            throws SQLException {
         String sql = """
                 SELECT c.relname AS table_name, i_class.relname AS index_name,
                         a.attname AS column_name, array_position(ix.indkey, a.attnum) AS ordinal,
@@ -466,14 +618,14 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 JOIN pg_namespace n ON n.oid = c.relnamespace
                 JOIN pg_am am ON am.oid = i_class.relam
                 JOIN pg_attribute a ON a.attrelid = c.oid AND a.attnum = ANY(ix.indkey)
-                WHERE n.nspname = ? AND NOT ix.indisprimary
+                WHERE n.nspname = ? AND NOT ix.indisprimary%s
                 ORDER BY c.relname, i_class.relname, ordinal
                 """;
-        String schemaName = resolveSchema(schema, connection);
         Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
         Map<String, TableReference> tableRefs = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
+        try (PreparedStatement ps = statements.prepare(connection,
+                sql.formatted(tableNames == null ? "" : " AND c.relname = ANY(?)"))) {
+            bindTables(ps, schemaName, tableNames);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("table_name");
@@ -505,7 +657,7 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
         for (Map.Entry<String, List<IndexInfoItem>> entry : tableIndexes.entrySet()) {
             result.add(new IndexInfoRecord(tableRefs.get(entry.getKey()), List.copyOf(entry.getValue())));
         }
-        return Optional.of(List.copyOf(result));
+        return List.copyOf(result);
     }
 
 
@@ -520,11 +672,261 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     }
 
 
+    /** Binds the schema to the first marker and {@code tableNames}, when set, as a text array to the second. */
+    private static void bindTables(PreparedStatement ps, String schemaName, List<String> tableNames)
+            throws SQLException {
+        ps.setString(1, schemaName);
+        if (tableNames != null) {
+            ps.setArray(2, ps.getConnection().createArrayOf("text", tableNames.toArray()));
+        }
+    }
+
+
+    @Override
+    public Optional<List<TableDefinition>> getAllTableDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        // One pg_class read in place of pgjdbc's getTables; a null schema
+        // pattern reads every schema, as JDBC does.
+        StringBuilder sql = new StringBuilder("""
+                SELECT n.nspname AS schema_name, c.relname AS table_name, c.relkind,
+                        d.description AS remarks
+                FROM pg_class c
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                LEFT JOIN pg_description d ON d.objoid = c.oid AND d.classoid = 'pg_class'::regclass
+                        AND d.objsubid = 0
+                WHERE c.relkind IN ('r', 'p', 'v', 'm', 'f')
+                """);
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND n.nspname LIKE ?\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND c.relname LIKE ?\n");
+        }
+        sql.append("ORDER BY n.nspname, c.relname");
+
+        List<String> typeFilter = types == null ? null : Arrays.asList(types);
+        List<TableDefinition> result = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String schemaName = rs.getString("schema_name");
+                    String tableType = mapPgTableType(rs.getString("relkind"), schemaName);
+                    if (typeFilter != null && !typeFilter.contains(tableType)) {
+                        continue;
+                    }
+                    Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
+                    TableReference tableRef = new TableReference(oSchema, rs.getString("table_name"), tableType);
+                    result.add(new TableDefinitionRecord(tableRef,
+                            new TableMetaDataRecord(Optional.ofNullable(rs.getString("remarks")), Optional.empty(),
+                                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty())));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
+    @Override
+    public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        List<ColumnDefinition> out = new ArrayList<>();
+        forEachColumnDefinition(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern, out::add);
+        return Optional.of(List.copyOf(out));
+    }
+
+
+    @Override
+    public boolean forEachColumnDefinition(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, RowCallback<ColumnDefinition> callback)
+            throws SQLException {
+        // pg_attribute with its default, comment and (base) type in one read;
+        // domains report their own name but the size and JDBC type of their
+        // base type. attidentity is PostgreSQL 10+, attgenerated 12+.
+        int major = connection.getMetaData().getDatabaseMajorVersion();
+        StringBuilder sql = new StringBuilder("""
+                SELECT n.nspname AS schema_name, c.relname AS table_name, a.attname AS column_name,
+                        t.typname AS type_name, COALESCE(bt.typname, t.typname) AS base_type,
+                        CASE WHEN t.typtype = 'd' THEN t.typtypmod ELSE a.atttypmod END AS typmod,
+                        a.attnotnull, pg_get_expr(ad.adbin, ad.adrelid) AS column_default,
+                        d.description AS remarks, %s AS attidentity, %s AS attgenerated
+                FROM pg_attribute a
+                JOIN pg_class c ON c.oid = a.attrelid
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                JOIN pg_type t ON t.oid = a.atttypid
+                LEFT JOIN pg_type bt ON t.typtype = 'd' AND bt.oid = t.typbasetype
+                LEFT JOIN pg_attrdef ad ON ad.adrelid = a.attrelid AND ad.adnum = a.attnum
+                LEFT JOIN pg_description d ON d.objoid = c.oid AND d.classoid = 'pg_class'::regclass
+                        AND d.objsubid = a.attnum
+                WHERE a.attnum > 0 AND NOT a.attisdropped AND c.relkind IN ('r', 'p', 'v', 'm', 'f')
+                """.formatted(major >= 10 ? "a.attidentity" : "''", major >= 12 ? "a.attgenerated" : "''"));
+        boolean hasSchemaFilter = schemaPattern != null && !"%".equals(schemaPattern);
+        if (hasSchemaFilter) {
+            sql.append("  AND n.nspname LIKE ?\n");
+        }
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND c.relname LIKE ?\n");
+        }
+        boolean hasColumnFilter = columnNamePattern != null && !columnNamePattern.isBlank()
+                && !"%".equals(columnNamePattern);
+        if (hasColumnFilter) {
+            sql.append("  AND a.attname LIKE ?\n");
+        }
+        sql.append("ORDER BY n.nspname, c.relname, a.attnum");
+
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            if (hasSchemaFilter) {
+                ps.setString(idx++, schemaPattern);
+            }
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            if (hasColumnFilter) {
+                ps.setString(idx++, columnNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                String currentSchema = null;
+                String currentTable = null;
+                TableReference tableRef = null;
+                while (rs.next()) {
+                    String schemaName = rs.getString("schema_name");
+                    String tableName = rs.getString("table_name");
+                    if (!schemaName.equals(currentSchema) || !tableName.equals(currentTable)) {
+                        currentSchema = schemaName;
+                        currentTable = tableName;
+                        tableRef = new TableReference(
+                                Optional.of(new SchemaReference(Optional.empty(), schemaName)), tableName);
+                    }
+                    callback.accept(new ColumnDefinitionRecord(
+                            new ColumnReference(Optional.of(tableRef), rs.getString("column_name")),
+                            readPgColumnMetaData(rs)));
+                }
+            }
+        }
+        return true;
+    }
+
+
+    private static ColumnMetaData readPgColumnMetaData(ResultSet rs) throws SQLException {
+        String baseType = rs.getString("base_type");
+        int typmod = rs.getInt("typmod");
+        JDBCType jdbcType = mapPgColumnType(baseType);
+
+        OptionalInt size = OptionalInt.empty();
+        OptionalInt digits = OptionalInt.empty();
+        OptionalInt radix = OptionalInt.empty();
+        OptionalInt octetLength = OptionalInt.empty();
+        switch (baseType) {
+        case "int2" -> size = OptionalInt.of(5);
+        case "int4", "oid" -> size = OptionalInt.of(10);
+        case "int8" -> size = OptionalInt.of(19);
+        case "float4" -> size = OptionalInt.of(8);
+        case "float8" -> size = OptionalInt.of(17);
+        case "bool" -> size = OptionalInt.of(1);
+        case "numeric" -> {
+            // typmod = ((precision << 16) | scale) + 4, -1 when unconstrained
+            if (typmod >= 4) {
+                size = OptionalInt.of(((typmod - 4) >> 16) & 0xffff);
+                digits = OptionalInt.of((typmod - 4) & 0xffff);
+            }
+        }
+        case "varchar", "bpchar" -> {
+            if (typmod >= 4) {
+                size = OptionalInt.of(typmod - 4);
+                octetLength = size;
+            }
+        }
+        case "time", "timetz", "timestamp", "timestamptz" -> digits = OptionalInt.of(typmod >= 0 ? typmod : 6);
+        default -> {
+            // no size for text, bytea, arrays and other variable-length types
+        }
+        }
+        if (size.isPresent() && jdbcType != JDBCType.VARCHAR && jdbcType != JDBCType.CHAR) {
+            radix = OptionalInt.of(10);
+        }
+
+        String columnDefault = rs.getString("column_default");
+        String identity = rs.getString("attidentity");
+        String generated = rs.getString("attgenerated");
+        boolean autoIncrement = (identity != null && !identity.isEmpty())
+                || (columnDefault != null && columnDefault.startsWith("nextval("));
+        return new ColumnMetaDataRecord(jdbcType, rs.getString("type_name"), size, digits, radix,
+                rs.getBoolean("attnotnull") ? ColumnMetaData.Nullability.NO_NULLS
+                        : ColumnMetaData.Nullability.NULLABLE,
+                octetLength, Optional.ofNullable(rs.getString("remarks")), Optional.ofNullable(columnDefault),
+                autoIncrement ? ColumnMetaData.AutoIncrement.YES : ColumnMetaData.AutoIncrement.NO,
+                "s".equals(generated) ? ColumnMetaData.GeneratedColumn.YES : ColumnMetaData.GeneratedColumn.NO);
+    }
+
+
+    private static JDBCType mapPgColumnType(String typname) {
+        if (typname == null) {
+            return JDBCType.OTHER;
+        }
+        if (typname.startsWith("_")) {
+            return JDBCType.ARRAY;
+        }
+        return switch (typname) {
+        case "int2" -> JDBCType.SMALLINT;
+        case "int4" -> JDBCType.INTEGER;
+        case "int8", "oid" -> JDBCType.BIGINT;
+        case "numeric" -> JDBCType.NUMERIC;
+        case "float4" -> JDBCType.REAL;
+        case "float8", "money" -> JDBCType.DOUBLE;
+        case "bool" -> JDBCType.BIT;
+        case "bpchar", "char" -> JDBCType.CHAR;
+        case "varchar", "text", "name" -> JDBCType.VARCHAR;
+        case "date" -> JDBCType.DATE;
+        case "time", "timetz" -> JDBCType.TIME;
+        case "timestamp", "timestamptz" -> JDBCType.TIMESTAMP;
+        case "bytea" -> JDBCType.BINARY;
+        case "xml" -> JDBCType.SQLXML;
+        default -> JDBCType.OTHER;
+        };
+    }
+
+
+    /** The {@code TABLE_TYPE} pgjdbc reports for a {@code pg_class.relkind}. */
+    private static String mapPgTableType(String relkind, String schemaName) {
+        boolean system = "pg_catalog".equals(schemaName) || "information_schema".equals(schemaName);
+        boolean temporary = schemaName.startsWith("pg_temp_");
+        return switch (relkind) {
+        case "r" -> system ? "SYSTEM TABLE" : temporary ? "TEMPORARY TABLE" : "TABLE";
+        case "v" -> system ? "SYSTEM VIEW" : temporary ? "TEMPORARY VIEW" : "VIEW";
+        case "m" -> "MATERIALIZED VIEW";
+        case "p" -> "PARTITIONED TABLE";
+        case "f" -> "FOREIGN TABLE";
+        default -> "TABLE";
+        };
+    }
+
+
     @Override
     public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
             throws SQLException {
+        return getAllViewDefinitions(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema,
+            boolean definitions) throws SQLException {
+        // pg_get_viewdef deparses the rule tree of every view and dominates the
+        // read; the CASE skips it when only the identities are wanted.
         String sql = """
-                SELECT c.relname, pg_get_viewdef(c.oid, true) AS view_body
+                SELECT c.relname, CASE WHEN ? THEN pg_get_viewdef(c.oid, true) END AS view_body
                 FROM pg_class c
                 JOIN pg_namespace n ON n.oid = c.relnamespace
                 WHERE c.relkind = 'v' AND n.nspname = ?
@@ -532,8 +934,9 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<ViewDefinition> views = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setBoolean(1, definitions);
+            ps.setString(2, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String viewName = rs.getString("relname");
@@ -553,12 +956,19 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     @Override
     public List<MaterializedView> getAllMaterializedViews(Connection connection, String catalog, String schema)
             throws SQLException {
+        return getAllMaterializedViews(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<MaterializedView> getAllMaterializedViews(Connection connection, String catalog, String schema,
+            boolean definitions) throws SQLException {
         // pg_class.relkind = 'm' identifies materialized views. pg_get_viewdef works on
         // matview OIDs just as it does on view OIDs. PostgreSQL has no explicit refresh
         // mode (always manual REFRESH MATERIALIZED VIEW) and does not track last
         // refresh.
         String sql = """
-                SELECT c.relname, pg_get_viewdef(c.oid, true) AS view_body
+                SELECT c.relname, CASE WHEN ? THEN pg_get_viewdef(c.oid, true) END AS view_body
                 FROM pg_class c
                 JOIN pg_namespace n ON n.oid = c.relnamespace
                 WHERE c.relkind = 'm' AND n.nspname = ?
@@ -566,8 +976,9 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<MaterializedView> mviews = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setBoolean(1, definitions);
+            ps.setString(2, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String name = rs.getString("relname");
@@ -587,10 +998,17 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
 
     @Override
     public List<Procedure> getAllProcedures(Connection connection, String catalog, String schema) throws SQLException {
+        return getAllProcedures(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<Procedure> getAllProcedures(Connection connection, String catalog, String schema, boolean definitions)
+            throws SQLException {
         String sql = """
                 SELECT p.proname AS routine_name, p.oid::text AS specific_name,
-                        d.description AS remarks, p.prosrc AS body,
-                        pg_get_functiondef(p.oid) AS full_def
+                        d.description AS remarks, CASE WHEN ? THEN p.prosrc END AS body,
+                        CASE WHEN ? THEN pg_get_functiondef(p.oid) END AS full_def
                 FROM pg_proc p
                 JOIN pg_namespace n ON n.oid = p.pronamespace
                 LEFT JOIN pg_description d ON d.objoid = p.oid AND d.classoid = 'pg_proc'::regclass
@@ -599,8 +1017,10 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Procedure> procedures = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setBoolean(1, definitions);
+            ps.setBoolean(2, definitions);
+            ps.setString(3, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String routineName = rs.getString("routine_name");
@@ -629,10 +1049,17 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
 
     @Override
     public List<Function> getAllFunctions(Connection connection, String catalog, String schema) throws SQLException {
+        return getAllFunctions(connection, catalog, schema, true);
+    }
+
+
+    @Override
+    public List<Function> getAllFunctions(Connection connection, String catalog, String schema, boolean definitions)
+            throws SQLException {
         String sql = """
                 SELECT p.proname AS routine_name, p.oid::text AS specific_name,
-                        d.description AS remarks, p.prosrc AS body,
-                        pg_get_functiondef(p.oid) AS full_def,
+                        d.description AS remarks, CASE WHEN ? THEN p.prosrc END AS body,
+                        CASE WHEN ? THEN pg_get_functiondef(p.oid) END AS full_def,
                         CASE WHEN p.proretset THEN 'TABLE' ELSE 'SCALAR' END AS return_type
                 FROM pg_proc p
                 JOIN pg_namespace n ON n.oid = p.pronamespace
@@ -642,8 +1069,10 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<Function> functions = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            ps.setString(1, schemaName);
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setBoolean(1, definitions);
+            ps.setBoolean(2, definitions);
+            ps.setString(3, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String routineName = rs.getString("routine_name");
@@ -674,6 +1103,71 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Map<DefinitionKey, Definition> getDefinitionsForObjects(Connection connection, String catalog,
+            String schema, DefinitionKey.Kind kind, List<String> names) throws SQLException {
+        String sql = switch (kind) {
+        case VIEW, MATERIALIZED_VIEW -> """
+                SELECT c.relname AS name, NULL AS qualifier,
+                        pg_get_viewdef(c.oid, true) AS body, NULL AS full_def
+                FROM pg_class c
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE c.relkind = ? AND n.nspname = ? AND c.relname = ANY(?)
+                """;
+        case PROCEDURE, FUNCTION -> """
+                SELECT p.proname AS name, p.oid::text AS qualifier,
+                        p.prosrc AS body, pg_get_functiondef(p.oid) AS full_def
+                FROM pg_proc p
+                JOIN pg_namespace n ON n.oid = p.pronamespace
+                WHERE p.prokind = ? AND n.nspname = ? AND p.proname = ANY(?)
+                """;
+        case TRIGGER -> """
+                SELECT t.tgname AS name, c.relname AS qualifier,
+                        p.prosrc AS body, pg_get_triggerdef(t.oid) AS full_def
+                FROM pg_trigger t
+                JOIN pg_class c ON c.oid = t.tgrelid
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                LEFT JOIN pg_proc p ON p.oid = t.tgfoid
+                WHERE NOT t.tgisinternal AND n.nspname = ? AND t.tgname = ANY(?)
+                """;
+        };
+        // relkind / prokind of the object; triggers have none.
+        String objectKind = switch (kind) {
+        case VIEW -> "v";
+        case MATERIALIZED_VIEW -> "m";
+        case PROCEDURE -> "p";
+        case FUNCTION -> "f";
+        case TRIGGER -> null;
+        };
+        String schemaName = resolveSchema(schema, connection);
+        Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
+        Map<DefinitionKey, Definition> definitions = new LinkedHashMap<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            int index = 1;
+            if (objectKind != null) {
+                ps.setString(index++, objectKind);
+            }
+            ps.setString(index++, schemaName);
+            ps.setArray(index, connection.createArrayOf("text", names.toArray()));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    definitions.put(
+                            new DefinitionKey(kind, oSchema, rs.getString("name"), rs.getString("qualifier")),
+                            new Definition(Optional.ofNullable(rs.getString("body")),
+                                    Optional.ofNullable(rs.getString("full_def"))));
+                }
+            }
+        } catch (SQLException e) {
+            // prokind requires PostgreSQL 11+
+            if (e.getMessage() != null && e.getMessage().contains("prokind")) {
+                return Map.of();
+            }
+            throw e;
+        }
+        return definitions;
+    }
+
+
     @Override
     public List<UserDefinedType> getAllUserDefinedTypes(Connection connection, String catalog, String schema)
             throws SQLException {
@@ -696,7 +1190,7 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 """;
         String schemaName = resolveSchema(schema, connection);
         List<UserDefinedType> types = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -742,27 +1236,20 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
         Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
         TableReference tableRef = new TableReference(oSchema, tableName);
 
-        TriggerTiming timing = parseTriggerTiming(definition);
-        TriggerEvent event = parseTriggerEvent(definition);
-        Optional<String> orientation = parseTriggerOrientation(definition);
+        // pg_trigger.tgtype bits (pg_trigger.h): 1 ROW, 2 BEFORE, 4 INSERT,
+        // 8 DELETE, 16 UPDATE, 64 INSTEAD; read even when the definition is not.
+        int type = rs.getInt("tgtype");
+        TriggerTiming timing = (type & 64) != 0 ? TriggerTiming.INSTEAD_OF
+                : (type & 2) != 0 ? TriggerTiming.BEFORE : TriggerTiming.AFTER;
+        TriggerEvent event = (type & 8) != 0 ? TriggerEvent.DELETE
+                : (type & 16) != 0 ? TriggerEvent.UPDATE : TriggerEvent.INSERT;
+        Optional<String> orientation = Optional.of((type & 1) != 0 ? "ROW" : "STATEMENT");
 
         return new TriggerRecord(new TriggerReference(tableRef, triggerName), timing, event,
                 Optional.ofNullable(procBody), Optional.ofNullable(definition), orientation);
     }
 
 
-    private static Optional<String> parseTriggerOrientation(String definition) {
-        if (definition == null)
-            return Optional.empty();
-        String upper = definition.toUpperCase();
-        if (upper.contains("FOR EACH ROW"))
-            return Optional.of("ROW");
-        if (upper.contains("FOR EACH STATEMENT"))
-            return Optional.of("STATEMENT");
-        return Optional.empty();
-    }
-
-
     private ImportedKey readImportedKey(ResultSet rs, String schemaName) throws SQLException {
         String fkName = rs.getString("fk_name");
         String fkTable = rs.getString("fk_table");
@@ -791,22 +1278,28 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     private List<UniqueConstraint> readUniqueConstraints(Connection connection, String sql, String schema,
             String tableName) throws SQLException {
         String schemaName = resolveSchema(schema, connection);
-        Map<String, UcBuilder> ucMap = new LinkedHashMap<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = statements.forTable(connection, sql, tableName)) {
             ps.setString(1, schemaName);
             if (tableName != null) {
                 ps.setString(2, tableName);
             }
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    String constraintName = rs.getString("conname");
-                    String table = rs.getString("relname");
-                    String columnName = rs.getString("attname");
+            return readUniqueConstraints(ps, schemaName);
+        }
+    }
 
-                    String key = table + "." + constraintName;
-                    ucMap.computeIfAbsent(key, k -> new UcBuilder(table, constraintName, schemaName))
-                            .addColumn(columnName);
-                }
+
+    private List<UniqueConstraint> readUniqueConstraints(PreparedStatement ps, String schemaName)
+            throws SQLException {
+        Map<String, UcBuilder> ucMap = new LinkedHashMap<>();
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                String constraintName = rs.getString("conname");
+                String table = rs.getString("relname");
+                String columnName = rs.getString("attname");
+
+                String key = table + "." + constraintName;
+                ucMap.computeIfAbsent(key, k -> new UcBuilder(table, constraintName, schemaName))
+                        .addColumn(columnName);
             }
         }
         List<UniqueConstraint> result = new ArrayList<>();
@@ -817,6 +1310,50 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<ChangeMarker> getChangeMarker(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // Every catalog row rewritten by DDL gets a new xmin; max(xmin) plus the
+        // row count over a table's attributes, constraints and indexes moves on
+        // any ALTER, CREATE or DROP touching it.
+        String sql = """
+                SELECT c.relname AS TABLE_NAME,
+                       CASE c.relkind WHEN 'v' THEN 'VIEW' WHEN 'm' THEN 'MATERIALIZED VIEW'
+                                      WHEN 'f' THEN 'FOREIGN TABLE' ELSE 'TABLE' END AS TABLE_TYPE,
+                       c.xmin::text
+                       || '/' || COALESCE((SELECT max(a.xmin::text::bigint)::text || ':' || count(*)
+                                           FROM pg_attribute a WHERE a.attrelid = c.oid AND a.attnum > 0), '')
+                       || '/' || COALESCE((SELECT max(k.xmin::text::bigint)::text || ':' || count(*)
+                                           FROM pg_constraint k WHERE k.conrelid = c.oid), '')
+                       || '/' || COALESCE((SELECT max(i.xmin::text::bigint)::text || ':' || count(*)
+                                           FROM pg_index i WHERE i.indrelid = c.oid), '')
+                       || '/' || COALESCE((SELECT max(d.xmin::text::bigint)::text || ':' || count(*)
+                                           FROM pg_description d
+                                           WHERE d.objoid = c.oid AND d.classoid = 'pg_class'::regclass), '')
+                       AS STAMP
+                FROM pg_class c
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE n.nspname = ? AND c.relkind IN ('r', 'p', 'v', 'm', 'f')
+                UNION ALL
+                SELECT NULL, NULL,
+                       COALESCE((SELECT max(p.xmin::text::bigint)::text || ':' || count(*)
+                                 FROM pg_proc p WHERE p.pronamespace = n.oid), '')
+                       || '/' || COALESCE((SELECT max(q.xmin::text::bigint)::text || ':' || count(*)
+                                           FROM pg_sequence q JOIN pg_class s ON s.oid = q.seqrelid
+                                           WHERE s.relnamespace = n.oid), '')
+                       || '/' || COALESCE((SELECT max(t.xmin::text::bigint)::text || ':' || count(*)
+                                           FROM pg_type t WHERE t.typnamespace = n.oid), '')
+                       || '/' || COALESCE((SELECT max(g.xmin::text::bigint)::text || ':' || count(*)
+                                           FROM pg_trigger g JOIN pg_class r ON r.oid = g.tgrelid
+                                           WHERE r.relnamespace = n.oid AND NOT g.tgisinternal), '')
+                FROM pg_namespace n
+                WHERE n.nspname = ?
+                """;
+        return Optional.of(
+                ChangeMarkers.read(statements, connection, resolveSchema(schema, connection), sql, 2));
+    }
+
+
     private String resolveSchema(String schema, Connection connection) throws SQLException {
         if (schema != null) {
             return schema;
@@ -825,36 +1362,6 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     }
 
 
-    private static TriggerTiming parseTriggerTiming(String definition) {
-        if (definition == null) {
-            return TriggerTiming.AFTER;
-        }
-        String upper = definition.toUpperCase();
-        if (upper.contains("INSTEAD OF")) {
-            return TriggerTiming.INSTEAD_OF;
-        }
-        if (upper.contains("BEFORE")) {
-            return TriggerTiming.BEFORE;
-        }
-        return TriggerTiming.AFTER;
-    }
-
-
-    private static TriggerEvent parseTriggerEvent(String definition) {
-        if (definition == null) {
-            return TriggerEvent.INSERT;
-        }
-        String upper = definition.toUpperCase();
-        if (upper.contains("DELETE")) {
-            return TriggerEvent.DELETE;
-        }
-        if (upper.contains("UPDATE")) {
-            return TriggerEvent.UPDATE;
-        }
-        return TriggerEvent.INSERT;
-    }
-
-
     private static ImportedKey.ReferentialAction mapPgReferentialAction(String action) {
         if (action == null) {
             return ImportedKey.ReferentialAction.NO_ACTION;
@@ -873,24 +1380,36 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     @Override
     public Optional<List<TablePrivilege>> getAllTablePrivileges(Connection connection, String catalog,
             String schemaPattern, String tableNamePattern) throws SQLException {
-        // information_schema.table_privileges already expands role memberships and
-        // PUBLIC grants through the pg_catalog views, so it reports more than
-        // JDBC's getTablePrivileges alone.
+        // relacl exploded directly: information_schema.table_privileges checks
+        // role membership per ACL entry and does not scale to many relations.
+        // Its visibility rule is kept (grantor or grantee a role of the current
+        // user, or grantee PUBLIC), with membership tested once per role.
+        // A NULL relacl means the owner's default privileges; grantee 0 is PUBLIC.
         StringBuilder sql = new StringBuilder("""
-                SELECT table_schema, table_name, grantor, grantee, privilege_type, is_grantable
-                FROM information_schema.table_privileges
-                WHERE table_schema = ?
+                WITH member_of AS (SELECT oid FROM pg_roles WHERE pg_has_role(oid, 'USAGE'))
+                SELECT c.relname AS table_name, pg_get_userbyid(a.grantor) AS grantor,
+                        CASE WHEN a.grantee = 0 THEN 'PUBLIC' ELSE pg_get_userbyid(a.grantee) END AS grantee,
+                        a.privilege_type,
+                        CASE WHEN a.is_grantable OR a.grantee = c.relowner THEN 'YES' ELSE 'NO' END AS is_grantable
+                FROM pg_class c
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                CROSS JOIN LATERAL aclexplode(COALESCE(c.relacl, acldefault('r', c.relowner))) a
+                WHERE c.relkind IN ('r', 'v', 'f', 'p') AND n.nspname = ?
+                  AND a.privilege_type IN ('INSERT', 'SELECT', 'UPDATE', 'DELETE', 'TRUNCATE', 'REFERENCES',
+                        'TRIGGER')
+                  AND (a.grantee = 0 OR a.grantor IN (SELECT oid FROM member_of)
+                        OR a.grantee IN (SELECT oid FROM member_of))
                 """);
         boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
                 && !"%".equals(tableNamePattern);
         if (hasTableFilter) {
-            sql.append("  AND table_name LIKE ?\n");
+            sql.append("  AND c.relname LIKE ?\n");
         }
         sql.append("ORDER BY table_name, privilege_type, grantee");
 
         String schemaName = resolveSchema(schemaPattern, connection);
         List<TablePrivilege> result = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
             ps.setString(1, schemaName);
             if (hasTableFilter) {
                 ps.setString(2, tableNamePattern);
@@ -918,25 +1437,51 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     @Override
     public Optional<List<ColumnPrivilege>> getColumnPrivileges(Connection connection, String catalog, String schema,
             String tableName, String columnNamePattern) throws SQLException {
+        // Column grants (attacl) plus the table grants that apply to every
+        // column, as information_schema.column_privileges reports them and with
+        // its visibility rule, but with role membership tested once per role.
         StringBuilder sql = new StringBuilder("""
-                SELECT column_name, grantor, grantee, privilege_type, is_grantable
-                FROM information_schema.column_privileges
-                WHERE table_schema = ? AND table_name = ?
+                WITH member_of AS (SELECT oid FROM pg_roles WHERE pg_has_role(oid, 'USAGE'))
+                SELECT p.column_name, pg_get_userbyid(p.grantor) AS grantor,
+                        CASE WHEN p.grantee = 0 THEN 'PUBLIC' ELSE pg_get_userbyid(p.grantee) END AS grantee,
+                        p.privilege_type,
+                        CASE WHEN p.is_grantable OR p.grantee = p.relowner THEN 'YES' ELSE 'NO' END AS is_grantable
+                FROM (
+                    SELECT a.attname AS column_name, c.relowner, x.grantor, x.grantee, x.privilege_type,
+                            x.is_grantable
+                    FROM pg_class c
+                    JOIN pg_namespace n ON n.oid = c.relnamespace
+                    JOIN pg_attribute a ON a.attrelid = c.oid AND a.attnum > 0 AND NOT a.attisdropped
+                    CROSS JOIN LATERAL aclexplode(a.attacl) x
+                    WHERE n.nspname = ? AND c.relname = ?
+                    UNION
+                    SELECT a.attname, c.relowner, x.grantor, x.grantee, x.privilege_type, x.is_grantable
+                    FROM pg_class c
+                    JOIN pg_namespace n ON n.oid = c.relnamespace
+                    JOIN pg_attribute a ON a.attrelid = c.oid AND a.attnum > 0 AND NOT a.attisdropped
+                    CROSS JOIN LATERAL aclexplode(COALESCE(c.relacl, acldefault('r', c.relowner))) x
+                    WHERE n.nspname = ? AND c.relname = ?
+                      AND x.privilege_type IN ('INSERT', 'SELECT', 'UPDATE', 'REFERENCES')
+                ) p
+                WHERE (p.grantee = 0 OR p.grantor IN (SELECT oid FROM member_of)
+                        OR p.grantee IN (SELECT oid FROM member_of))
                 """);
         boolean hasColumnFilter = columnNamePattern != null && !columnNamePattern.isBlank()
                 && !"%".equals(columnNamePattern);
         if (hasColumnFilter) {
-            sql.append("  AND column_name LIKE ?\n");
+            sql.append("  AND p.column_name LIKE ?\n");
         }
         sql.append("ORDER BY column_name, privilege_type, grantee");
 
         String schemaName = resolveSchema(schema, connection);
         List<ColumnPrivilege> result = new ArrayList<>();
-        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+        try (PreparedStatement ps = statements.reuse(connection, sql.toString())) {
             ps.setString(1, schemaName);
             ps.setString(2, tableName);
+            ps.setString(3, schemaName);
+            ps.setString(4, tableName);
             if (hasColumnFilter) {
-                ps.setString(3, columnNamePattern);
+                ps.setString(5, columnNamePattern);
             }
             try (ResultSet rs = ps.executeQuery()) {
                 Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
@@ -0,0 +1,661 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.RowCallback;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
+import org.eclipse.daanse.sql.model.schema.TriggerReference;
+
+/**
+ * The SQLite reader: {@code sqlite_schema} joined with the
+ * {@code pragma_table_xinfo}, {@code pragma_index_list},
+ * {@code pragma_index_xinfo} and {@code pragma_foreign_key_list}
+ * table-valued functions, so each object kind is one query over the whole
+ * file instead of one {@code PRAGMA} per table.
+ * <p>
+ * The schema is the attached database name ({@code main}, {@code temp} or an
+ * {@code ATTACH} alias). Like the driver, references carry no schema unless
+ * one was asked for.
+ */
+public class SqliteMetadataProvider implements MetadataProvider {
+
+    private static final Pattern PRIMARY_KEY_NAME = Pattern.compile(
+            "(?is)\\bCONSTRAINT\\s+(\"(?:[^\"]|\"\")+\"|`[^`]+`|\\[[^\\]]+\\]|\\w+)\\s+PRIMARY\\s+KEY\\b");
+
+    private static final Pattern VIEW_BODY = Pattern.compile(
+            "(?is)^\\s*CREATE\\s+(?:TEMP(?:ORARY)?\\s+)?VIEW\\s+.+?\\s+AS\\s+(.+?);?\\s*$");
+
+    private static final Pattern TRIGGER_HEAD = Pattern.compile(
+            "(?is)^\\s*CREATE\\s+(?:TEMP(?:ORARY)?\\s+)?TRIGGER\\s+.+?\\s+(BEFORE\\s+|AFTER\\s+|INSTEAD\\s+OF\\s+)?"
+                    + "(DELETE|INSERT|UPDATE)\\b");
+
+    private static final Pattern TRIGGER_BODY = Pattern.compile("(?is)\\bBEGIN\\b(.*)\\bEND\\s*;?\\s*$");
+
+    private final MetadataStatements statements;
+
+    public SqliteMetadataProvider() {
+        this(MetadataQueryOptions.DEFAULT);
+    }
+
+    public SqliteMetadataProvider(MetadataQueryOptions options) {
+        this.statements = new MetadataStatements(options);
+    }
+
+
+    @Override
+    public MetadataQueryOptions queryOptions() {
+        return statements.options();
+    }
+
+
+    @Override
+    public Optional<List<TableDefinition>> getAllTableDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        String schema = schemaOrNull(schemaPattern);
+        StringBuilder sql = new StringBuilder("""
+                SELECT m.name AS table_name,
+                        CASE WHEN m.name LIKE 'sqlite\\_%%' ESCAPE '\\' THEN 'SYSTEM TABLE'
+                             WHEN m.type = 'view' THEN 'VIEW' ELSE 'TABLE' END AS table_type
+                FROM %s m
+                WHERE m.type IN ('table', 'view')
+                """.formatted(schemaTable(schema)));
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND m.name LIKE ? ESCAPE '\\'\n");
+        }
+        sql.append("ORDER BY table_type, m.name");
+
+        List<String> typeFilter = types == null ? null : Arrays.asList(types);
+        Optional<SchemaReference> oSchema = schemaRef(schema);
+        List<TableDefinition> result = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            if (hasTableFilter) {
+                ps.setString(1, tableNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableType = rs.getString("table_type");
+                    if (typeFilter != null && !typeFilter.contains(tableType)) {
+                        continue;
+                    }
+                    TableReference tableRef = new TableReference(oSchema, rs.getString("table_name"), tableType);
+                    // SQLite has no table comments
+                    result.add(new TableDefinitionRecord(tableRef,
+                            new TableMetaDataRecord(Optional.empty(), Optional.empty(), Optional.empty(),
+                                    Optional.empty(), Optional.empty(), Optional.empty())));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
+    @Override
+    public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        List<ColumnDefinition> out = new ArrayList<>();
+        forEachColumnDefinition(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern, out::add);
+        return Optional.of(List.copyOf(out));
+    }
+
+
+    @Override
+    public boolean forEachColumnDefinition(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, RowCallback<ColumnDefinition> callback)
+            throws SQLException {
+        // table_xinfo also lists generated columns (hidden 2 and 3); hidden 1
+        // are the hidden columns of virtual tables.
+        String schema = schemaOrNull(schemaPattern);
+        StringBuilder sql = new StringBuilder("""
+                SELECT m.name AS table_name, p.name AS column_name, p.type AS declared_type, p."notnull",
+                        p.dflt_value, p.pk, p.hidden,
+                        (SELECT COUNT(*) FROM pragma_table_info(m.name, ?) k WHERE k.pk > 0) AS pk_columns,
+                        upper(m.sql) LIKE '%%AUTOINCREMENT%%' AS autoincrement_table
+                FROM %s m
+                JOIN pragma_table_xinfo(m.name, ?) p
+                WHERE m.type IN ('table', 'view') AND p.hidden <> 1
+                """.formatted(schemaTable(schema)));
+        boolean hasTableFilter = tableNamePattern != null && !tableNamePattern.isBlank()
+                && !"%".equals(tableNamePattern);
+        if (hasTableFilter) {
+            sql.append("  AND m.name LIKE ? ESCAPE '\\'\n");
+        }
+        boolean hasColumnFilter = columnNamePattern != null && !columnNamePattern.isBlank()
+                && !"%".equals(columnNamePattern);
+        if (hasColumnFilter) {
+            sql.append("  AND p.name LIKE ? ESCAPE '\\'\n");
+        }
+        sql.append("ORDER BY m.name, p.cid");
+
+        Optional<SchemaReference> oSchema = schemaRef(schema);
+        String schemaName = resolveSchema(schema);
+        try (PreparedStatement ps = statements.prepare(connection, sql.toString())) {
+            int idx = 1;
+            ps.setString(idx++, schemaName);
+            ps.setString(idx++, schemaName);
+            if (hasTableFilter) {
+                ps.setString(idx++, tableNamePattern);
+            }
+            if (hasColumnFilter) {
+                ps.setString(idx++, columnNamePattern);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                String currentTable = null;
+                TableReference tableRef = null;
+                while (rs.next()) {
+                    String tableName = rs.getString("table_name");
+                    if (!tableName.equals(currentTable)) {
+                        currentTable = tableName;
+                        tableRef = new TableReference(oSchema, tableName);
+                    }
+                    callback.accept(new ColumnDefinitionRecord(
+                            new ColumnReference(Optional.of(tableRef), rs.getString("column_name")),
+                            readSqliteColumnMetaData(rs)));
+                }
+            }
+        }
+        return true;
+    }
+
+
+    private static ColumnMetaData readSqliteColumnMetaData(ResultSet rs) throws SQLException {
+        // The declared type is free text: "VARCHAR(2)", "DECIMAL(10,2)", "" ...
+        String declaredType = rs.getString("declared_type");
+        String typeName = declaredType == null ? "" : declaredType.strip();
+        OptionalInt size = OptionalInt.empty();
+        OptionalInt digits = OptionalInt.empty();
+        int open = typeName.indexOf('(');
+        int close = typeName.lastIndexOf(')');
+        if (open > 0 && close > open) {
+            String[] args = typeName.substring(open + 1, close).split(",");
+            size = parseInt(args[0]);
+            if (args.length > 1) {
+                digits = parseInt(args[1]);
+            }
+            typeName = typeName.substring(0, open).strip();
+        }
+
+        // Only INTEGER PRIMARY KEY AUTOINCREMENT counts, as in the driver.
+        boolean autoIncrement = rs.getInt("pk") == 1 && rs.getInt("pk_columns") == 1
+                && "INTEGER".equalsIgnoreCase(typeName) && rs.getBoolean("autoincrement_table");
+        return new ColumnMetaDataRecord(mapSqliteType(typeName), typeName, size, digits, OptionalInt.of(10),
+                rs.getBoolean("notnull") ? ColumnMetaData.Nullability.NO_NULLS : ColumnMetaData.Nullability.NULLABLE,
+                OptionalInt.empty(), Optional.empty(), Optional.ofNullable(rs.getString("dflt_value")),
+                autoIncrement ? ColumnMetaData.AutoIncrement.YES : ColumnMetaData.AutoIncrement.NO,
+                rs.getInt("hidden") > 1 ? ColumnMetaData.GeneratedColumn.YES : ColumnMetaData.GeneratedColumn.NO);
+    }
+
+
+    @Override
+    public Optional<List<PrimaryKey>> getAllPrimaryKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT m.name AS table_name, m.sql, p.name AS column_name
+                FROM %s m
+                JOIN pragma_table_info(m.name, ?) p
+                WHERE m.type = 'table' AND p.pk > 0
+                ORDER BY m.name, p.pk
+                """.formatted(schemaTable(schema));
+        Optional<SchemaReference> oSchema = schemaRef(schema);
+        Map<String, TableReference> tableRefs = new LinkedHashMap<>();
+        Map<String, List<ColumnReference>> columns = new LinkedHashMap<>();
+        Map<String, Optional<String>> names = new LinkedHashMap<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, resolveSchema(schema));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableName = rs.getString("table_name");
+                    if (!tableRefs.containsKey(tableName)) {
+                        tableRefs.put(tableName, new TableReference(oSchema, tableName));
+                        names.put(tableName, primaryKeyName(rs.getString("sql")));
+                    }
+                    columns.computeIfAbsent(tableName, k -> new ArrayList<>()).add(
+                            new ColumnReference(Optional.of(tableRefs.get(tableName)), rs.getString("column_name")));
+                }
+            }
+        }
+        List<PrimaryKey> result = new ArrayList<>();
+        for (Map.Entry<String, List<ColumnReference>> entry : columns.entrySet()) {
+            result.add(new PrimaryKeyRecord(tableRefs.get(entry.getKey()), List.copyOf(entry.getValue()),
+                    names.get(entry.getKey())));
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getAllImportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readForeignKeys(connection, schema));
+    }
+
+
+    @Override
+    public Optional<List<ImportedKey>> getAllExportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // A foreign key can only reference a table of its own database file, so
+        // the keys exported from a schema are the ones imported into it.
+        return Optional.of(readForeignKeys(connection, schema));
+    }
+
+
+    private List<ImportedKey> readForeignKeys(Connection connection, String schema) throws SQLException {
+        // "to" is NULL when the key references the parent's primary key.
+        String sql = """
+                SELECT m.name AS table_name, f.id, f.seq, f."table" AS pk_table, f."from" AS fk_column,
+                        COALESCE(f."to", (SELECT k.name FROM pragma_table_info(f."table", ?) k
+                                          WHERE k.pk = f.seq + 1)) AS pk_column,
+                        f.on_update, f.on_delete
+                FROM %s m
+                JOIN pragma_foreign_key_list(m.name, ?) f
+                WHERE m.type = 'table'
+                ORDER BY m.name, f.id, f.seq
+                """.formatted(schemaTable(schema));
+        Optional<SchemaReference> oSchema = schemaRef(schema);
+        String schemaName = resolveSchema(schema);
+        List<ImportedKey> keys = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference fkTableRef = new TableReference(oSchema, rs.getString("table_name"));
+                    TableReference pkTableRef = new TableReference(oSchema, rs.getString("pk_table"));
+                    ColumnReference fkColumn = new ColumnReference(Optional.of(fkTableRef), rs.getString("fk_column"));
+                    ColumnReference pkColumn = new ColumnReference(Optional.of(pkTableRef), rs.getString("pk_column"));
+                    // SQLite keeps no constraint names; name it as the JDBC path does
+                    String fkName = "fk_" + fkTableRef.name() + "_" + fkColumn.name() + "_" + pkTableRef.name() + "_"
+                            + pkColumn.name();
+                    keys.add(new ImportedKeyRecord(pkColumn, fkColumn, fkName, rs.getInt("seq") + 1,
+                            mapReferentialAction(rs.getString("on_update")),
+                            mapReferentialAction(rs.getString("on_delete")), Optional.empty(),
+                            ImportedKey.Deferrability.NOT_DEFERRABLE));
+                }
+            }
+        }
+        return List.copyOf(keys);
+    }
+
+
+    @Override
+    public List<UniqueConstraint> getAllUniqueConstraints(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return readUniqueConstraints(connection, schema, null);
+    }
+
+
+    @Override
+    public List<UniqueConstraint> getUniqueConstraints(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        return readUniqueConstraints(connection, schema, tableName);
+    }
+
+
+    private List<UniqueConstraint> readUniqueConstraints(Connection connection, String schema, String tableName)
+            throws SQLException {
+        // UNIQUE constraints are the indexes with origin 'u', named after their
+        // sqlite_autoindex.
+        StringBuilder sql = new StringBuilder("""
+                SELECT m.name AS table_name, il.name AS index_name, ix.name AS column_name
+                FROM %s m
+                JOIN pragma_index_list(m.name, ?) il
+                JOIN pragma_index_xinfo(il.name, ?) ix
+                WHERE m.type = 'table' AND il.origin = 'u' AND ix.key = 1
+                """.formatted(schemaTable(schema)));
+        if (tableName != null) {
+            sql.append("  AND m.name = ?\n");
+        }
+        sql.append("ORDER BY m.name, il.name, ix.seqno");
+
+        Optional<SchemaReference> oSchema = schemaRef(schema);
+        String schemaName = resolveSchema(schema);
+        Map<String, TableReference> tableRefs = new LinkedHashMap<>();
+        Map<String, List<ColumnReference>> columns = new LinkedHashMap<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, schemaName);
+            if (tableName != null) {
+                ps.setString(3, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String indexName = rs.getString("index_name");
+                    String table = rs.getString("table_name");
+                    TableReference tableRef = tableRefs.computeIfAbsent(indexName,
+                            k -> new TableReference(oSchema, table));
+                    columns.computeIfAbsent(indexName, k -> new ArrayList<>())
+                            .add(new ColumnReference(Optional.of(tableRef), rs.getString("column_name")));
+                }
+            }
+        }
+        List<UniqueConstraint> result = new ArrayList<>();
+        for (Map.Entry<String, List<ColumnReference>> entry : columns.entrySet()) {
+            result.add(new UniqueConstraintRecord(entry.getKey(), tableRefs.get(entry.getKey()),
+                    List.copyOf(entry.getValue())));
+        }
+        return List.copyOf(result);
+    }
+
+
+    @Override
+    public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readIndexInfo(connection, schema, null));
+    }
+
+
+    @Override
+    public Optional<List<IndexInfo>> getIndexInfo(Connection connection, String catalog, String schema,
+            String tableName) throws SQLException {
+        return Optional.of(readIndexInfo(connection, schema, tableName));
+    }
+
+
+    private List<IndexInfo> readIndexInfo(Connection connection, String schema, String tableName)
+            throws SQLException {
+        // index_xinfo also lists the trailing rowid (key = 0); an expression
+        // item has cid -2 and no column name.
+        StringBuilder sql = new StringBuilder("""
+                SELECT m.name AS table_name, il.name AS index_name, il."unique", ix.seqno, ix.name AS column_name,
+                        ix."desc"
+                FROM %s m
+                JOIN pragma_index_list(m.name, ?) il
+                JOIN pragma_index_xinfo(il.name, ?) ix
+                WHERE m.type = 'table' AND ix.key = 1
+                """.formatted(schemaTable(schema)));
+        if (tableName != null) {
+            sql.append("  AND m.name = ?\n");
+        }
+        sql.append("ORDER BY m.name, il.name, ix.seqno");
+
+        Optional<SchemaReference> oSchema = schemaRef(schema);
+        String schemaName = resolveSchema(schema);
+        Map<String, TableReference> tableRefs = new LinkedHashMap<>();
+        Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, schemaName);
+            if (tableName != null) {
+                ps.setString(3, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString("table_name");
+                    TableReference tableRef = tableRefs.computeIfAbsent(table, k -> new TableReference(oSchema, k));
+                    Optional<ColumnReference> colRef = Optional.ofNullable(rs.getString("column_name"))
+                            .map(cn -> new ColumnReference(Optional.of(tableRef), cn));
+                    tableIndexes.computeIfAbsent(table, k -> new ArrayList<>())
+                            .add(new IndexInfoItemRecord(Optional.of(rs.getString("index_name")),
+                                    IndexInfoItem.IndexType.TABLE_INDEX_OTHER, colRef, rs.getInt("seqno") + 1,
+                                    Optional.of(!rs.getBoolean("desc")), 0L, 0L, Optional.empty(),
+                                    rs.getBoolean("unique")));
+                }
+            }
+        }
+        List<IndexInfo> result = new ArrayList<>();
+        for (Map.Entry<String, List<IndexInfoItem>> entry : tableIndexes.entrySet()) {
+            result.add(new IndexInfoRecord(tableRefs.get(entry.getKey()), List.copyOf(entry.getValue())));
+        }
+        return List.copyOf(result);
+    }
+
+
+    @Override
+    public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT name, sql
+                FROM %s
+                WHERE type = 'view'
+                ORDER BY name
+                """.formatted(schemaTable(schema));
+        Optional<SchemaReference> oSchema = schemaRef(schema);
+        List<ViewDefinition> views = new ArrayList<>();
+        try (PreparedStatement ps = statements.prepare(connection, sql);
+                ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                String fullDefinition = rs.getString("sql");
+                TableReference viewRef = new TableReference(oSchema, rs.getString("name"), "VIEW");
+                views.add(new ViewDefinitionRecord(viewRef, group(VIEW_BODY, fullDefinition, 1),
+                        Optional.ofNullable(fullDefinition)));
+            }
+        }
+        return List.copyOf(views);
+    }
+
+
+    @Override
+    public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
+        return readTriggers(connection, schema, null);
+    }
+
+
+    @Override
+    public List<Trigger> getTriggers(Connection connection, String catalog, String schema, String tableName)
+            throws SQLException {
+        return readTriggers(connection, schema, tableName);
+    }
+
+
+    private List<Trigger> readTriggers(Connection connection, String schema, String tableName) throws SQLException {
+        StringBuilder sql = new StringBuilder("""
+                SELECT name, tbl_name, sql
+                FROM %s
+                WHERE type = 'trigger'
+                """.formatted(schemaTable(schema)));
+        if (tableName != null) {
+            sql.append("  AND tbl_name = ?\n");
+        }
+        sql.append("ORDER BY tbl_name, name");
+
+        Optional<SchemaReference> oSchema = schemaRef(schema);
+        List<Trigger> triggers = new ArrayList<>();
+        try (PreparedStatement ps = statements.forTable(connection, sql.toString(), tableName)) {
+            if (tableName != null) {
+                ps.setString(1, tableName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String fullDefinition = rs.getString("sql");
+                    TableReference tableRef = new TableReference(oSchema, rs.getString("tbl_name"));
+                    // timing and event only exist in the CREATE TRIGGER text;
+                    // SQLite triggers are always FOR EACH ROW
+                    triggers.add(new TriggerRecord(new TriggerReference(tableRef, rs.getString("name")),
+                            mapTriggerTiming(group(TRIGGER_HEAD, fullDefinition, 1).orElse(null)),
+                            mapTriggerEvent(group(TRIGGER_HEAD, fullDefinition, 2).orElse(null)),
+                            group(TRIGGER_BODY, fullDefinition, 1).map(String::strip),
+                            Optional.ofNullable(fullDefinition), Optional.of("ROW")));
+                }
+            }
+        }
+        return List.copyOf(triggers);
+    }
+
+
+    /** The schema of a JDBC schema pattern; {@code null} and "%" mean the driver's default. */
+    private static String schemaOrNull(String schemaPattern) {
+        return schemaPattern == null || "%".equals(schemaPattern) ? null : schemaPattern;
+    }
+
+
+    private static String resolveSchema(String schema) {
+        // SQLite default schema is main
+        return schema != null ? schema : "main";
+    }
+
+
+    private static Optional<SchemaReference> schemaRef(String schema) {
+        return Optional.ofNullable(schema).map(s -> new SchemaReference(Optional.empty(), s));
+    }
+
+
+    /** The schema's {@code sqlite_schema}; a schema name cannot be a bind parameter. */
+    private static String schemaTable(String schema) {
+        return '"' + resolveSchema(schema).replace("\"", "\"\"") + "\".sqlite_schema";
+    }
+
+
+    private static Optional<String> primaryKeyName(String createTable) {
+        return group(PRIMARY_KEY_NAME, createTable, 1).map(SqliteMetadataProvider::unquote);
+    }
+
+
+    private static String unquote(String identifier) {
+        char first = identifier.charAt(0);
+        if (first == '"' || first == '`' || first == '[') {
+            String inner = identifier.substring(1, identifier.length() - 1);
+            return first == '"' ? inner.replace("\"\"", "\"") : inner;
+        }
+        return identifier;
+    }
+
+
+    private static Optional<String> group(Pattern pattern, String text, int group) {
+        if (text == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? Optional.ofNullable(matcher.group(group)) : Optional.empty();
+    }
+
+
+    private static OptionalInt parseInt(String value) {
+        try {
+            return OptionalInt.of(Integer.parseInt(value.strip()));
+        } catch (NumberFormatException e) {
+            return OptionalInt.empty();
+        }
+    }
+
+
+    /**
+     * The JDBC type of a declared type, by SQLite's column affinity rules
+     * refined by the common type names.
+     */
+    private static JDBCType mapSqliteType(String typeName) {
+        String upper = typeName.toUpperCase(Locale.ROOT);
+        if (upper.contains("INT")) {
+            return switch (upper) {
+            case "BIGINT", "INT8", "UNSIGNED BIG INT" -> JDBCType.BIGINT;
+            case "SMALLINT", "INT2" -> JDBCType.SMALLINT;
+            case "TINYINT" -> JDBCType.TINYINT;
+            default -> JDBCType.INTEGER;
+            };
+        }
+        if (upper.contains("CHAR") || upper.contains("CLOB") || upper.contains("TEXT")) {
+            return switch (upper) {
+            case "CHAR", "CHARACTER", "NCHAR" -> JDBCType.CHAR;
+            case "CLOB" -> JDBCType.CLOB;
+            default -> JDBCType.VARCHAR;
+            };
+        }
+        if (upper.isEmpty() || upper.contains("BLOB")) {
+            return JDBCType.BLOB;
+        }
+        if (upper.contains("REAL") || upper.contains("FLOA") || upper.contains("DOUB")) {
+            return switch (upper) {
+            case "REAL" -> JDBCType.REAL;
+            case "FLOAT" -> JDBCType.FLOAT;
+            default -> JDBCType.DOUBLE;
+            };
+        }
+        return switch (upper) {
+        case "DECIMAL" -> JDBCType.DECIMAL;
+        case "BOOLEAN" -> JDBCType.BOOLEAN;
+        case "DATE" -> JDBCType.DATE;
+        case "TIME" -> JDBCType.TIME;
+        case "DATETIME", "TIMESTAMP" -> JDBCType.TIMESTAMP;
+        default -> JDBCType.NUMERIC;
+        };
+    }
+
+
+    private static ImportedKey.ReferentialAction mapReferentialAction(String action) {
+        if (action == null) {
+            return ImportedKey.ReferentialAction.NO_ACTION;
+        }
+        return switch (action.toUpperCase(Locale.ROOT)) {
+        case "CASCADE" -> ImportedKey.ReferentialAction.CASCADE;
+        case "SET NULL" -> ImportedKey.ReferentialAction.SET_NULL;
+        case "SET DEFAULT" -> ImportedKey.ReferentialAction.SET_DEFAULT;
+        case "RESTRICT" -> ImportedKey.ReferentialAction.RESTRICT;
+        default -> ImportedKey.ReferentialAction.NO_ACTION;
+        };
+    }
+
+
+    private static TriggerTiming mapTriggerTiming(String timing) {
+        if (timing == null) {
+            // SQLite's default
+            return TriggerTiming.BEFORE;
+        }
+        return switch (timing.strip().toUpperCase(Locale.ROOT).replaceAll("\\s+", " ")) {
+        case "AFTER" -> TriggerTiming.AFTER;
+        case "INSTEAD OF" -> TriggerTiming.INSTEAD_OF;
+        default -> TriggerTiming.BEFORE;
+        };
+    }
+
+
+    private static TriggerEvent mapTriggerEvent(String event) {
+        if (event == null) {
+            return TriggerEvent.INSERT;
+        }
+        return switch (event.toUpperCase(Locale.ROOT)) {
+        case "UPDATE" -> TriggerEvent.UPDATE;
+        case "DELETE" -> TriggerEvent.DELETE;
+        default -> TriggerEvent.INSERT;
+        };
+    }
+}
@@ -0,0 +1,273 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*/
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.Partition;
+import org.eclipse.daanse.sql.jdbc.api.schema.PartitionMethod;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Runs the provider against result sets recorded from ClickHouse 24.3 for
+ * this schema:
+ *
+ * <pre>
+ * CREATE TABLE shop.events (
+ *     id UInt64, ts DateTime64(3, 'UTC'), user LowCardinality(String),
+ *     amount Nullable(Decimal(10, 2)), day Date MATERIALIZED toDate(ts),
+ *     INDEX idx_user user TYPE bloom_filter GRANULARITY 4
+ * ) ENGINE = MergeTree PARTITION BY toYYYYMM(ts) PRIMARY KEY (id, toDate(ts))
+ *   ORDER BY (id, toDate(ts), user) COMMENT 'click stream';
+ * CREATE VIEW shop.big AS SELECT id, amount FROM shop.events WHERE amount > 1000;
+ * </pre>
+ */
+class ClickHouseMetadataProviderTest {
+
+    private final Map<String, Recorded> recordings = new LinkedHashMap<>();
+    private final List<Object[]> bindings = new ArrayList<>();
+    private Connection connection;
+    private ClickHouseMetadataProvider provider;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        recordings.put("FROM system.columns", new Recorded(
+                List.of("database", "table", "name", "type", "default_kind", "default_expression", "comment",
+                        "character_octet_length", "numeric_precision", "numeric_precision_radix", "numeric_scale",
+                        "datetime_precision"),
+                row("shop", "events", "id", "UInt64", "", "", "", null, 64, 2, 0, null),
+                row("shop", "events", "ts", "DateTime64(3, 'UTC')", "", "", "", null, null, null, null, 3),
+                row("shop", "events", "user", "LowCardinality(String)", "", "", "", null, null, null, null, null),
+                row("shop", "events", "amount", "Nullable(Decimal(10, 2))", "", "", "net", null, 10, 10, 2, null),
+                row("shop", "events", "day", "Date", "MATERIALIZED", "toDate(ts)", "", null, null, null, null,
+                        null)));
+        recordings.put("FROM system.parts", new Recorded(
+                List.of("database", "table", "partition_id", "partition_value", "row_count", "partition_key"),
+                row("shop", "events", "202401", "202401", 1200L, "toYYYYMM(ts)"),
+                row("shop", "events", "202402", "202402", 800L, "toYYYYMM(ts)")));
+        recordings.put("system.data_skipping_indices", new Recorded(
+                List.of("database", "table", "kind", "index_name", "expr", "granularity"),
+                row("shop", "events", "i", "idx_user", "user", 4L),
+                row("shop", "events", "p", "", "id, toDate(ts)", 0L),
+                row("shop", "events", "s", "", "id, toDate(ts), user", 0L)));
+        recordings.put("engine = 'View' AND", new Recorded(
+                List.of("database", "name", "as_select", "create_table_query"),
+                row("shop", "big", "SELECT id, amount FROM shop.events WHERE amount > 1000",
+                        "CREATE VIEW shop.big (`id` UInt64, `amount` Nullable(Decimal(10, 2))) AS SELECT id, amount "
+                                + "FROM shop.events WHERE amount > 1000")));
+        recordings.put("primary_key != ''", new Recorded(List.of("database", "name", "primary_key"),
+                row("shop", "events", "id, toDate(ts)")));
+        recordings.put("FROM system.tables", new Recorded(List.of("database", "name", "comment", "table_type"),
+                row("shop", "events", "click stream", "TABLE"), row("shop", "big", "", "VIEW")));
+
+        connection = mock(Connection.class);
+        Answer<PreparedStatement> prepare = invocation -> statement(invocation.getArgument(0));
+        when(connection.prepareStatement(anyString())).thenAnswer(prepare);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenAnswer(prepare);
+        provider = new ClickHouseMetadataProvider();
+    }
+
+    @Test
+    void factory_supportsClickHouse() {
+        assertThat(MetadataProviders.forProductName("ClickHouse"))
+                .containsInstanceOf(ClickHouseMetadataProvider.class);
+    }
+
+    @Test
+    void getAllTableDefinitions_readsEngineTypeAndComment() throws SQLException {
+        List<TableDefinition> tables = provider.getAllTableDefinitions(connection, null, "shop", null, null)
+                .orElseThrow();
+        assertThat(tables).extracting(t -> t.table().name()).containsExactly("events", "big");
+        assertThat(tables).extracting(t -> t.table().type()).containsExactly("TABLE", "VIEW");
+        assertThat(tables.get(0).table().schema()).hasValueSatisfying(s -> assertThat(s.name()).isEqualTo("shop"));
+        assertThat(tables.get(0).tableMetaData().remarks()).contains("click stream");
+        assertThat(tables.get(1).tableMetaData().remarks()).isEmpty();
+        assertThat(bindings.get(0)).containsExactly("shop");
+
+        assertThat(provider.getAllTableDefinitions(connection, null, "shop", null, new String[] { "VIEW" })
+                .orElseThrow()).extracting(t -> t.table().name()).containsExactly("big");
+    }
+
+    @Test
+    void getAllColumnDefinitions_unwrapsNullableAndLowCardinality() throws SQLException {
+        List<ColumnDefinition> columns = provider.getAllColumnDefinitions(connection, null, "shop", "events", null)
+                .orElseThrow();
+        assertThat(columns).extracting(c -> c.column().name()).containsExactly("id", "ts", "user", "amount", "day");
+
+        ColumnMetaData id = columns.get(0).columnMetaData();
+        assertThat(id.dataType()).isEqualTo(JDBCType.NUMERIC);
+        assertThat(id.nullability()).isEqualTo(ColumnMetaData.Nullability.NO_NULLS);
+        assertThat(id.columnSize()).hasValue(64);
+
+        ColumnMetaData ts = columns.get(1).columnMetaData();
+        assertThat(ts.dataType()).isEqualTo(JDBCType.TIMESTAMP_WITH_TIMEZONE);
+        assertThat(ts.decimalDigits()).hasValue(3);
+
+        assertThat(columns.get(2).columnMetaData().dataType()).isEqualTo(JDBCType.VARCHAR);
+
+        ColumnMetaData amount = columns.get(3).columnMetaData();
+        assertThat(amount.dataType()).isEqualTo(JDBCType.DECIMAL);
+        assertThat(amount.typeName()).isEqualTo("Nullable(Decimal(10, 2))");
+        assertThat(amount.nullability()).isEqualTo(ColumnMetaData.Nullability.NULLABLE);
+        assertThat(amount.columnSize()).hasValue(10);
+        assertThat(amount.decimalDigits()).hasValue(2);
+        assertThat(amount.remarks()).contains("net");
+
+        ColumnMetaData day = columns.get(4).columnMetaData();
+        assertThat(day.generatedColumn()).isEqualTo(ColumnMetaData.GeneratedColumn.YES);
+        assertThat(day.columnDefault()).contains("toDate(ts)");
+    }
+
+    @Test
+    void getAllPrimaryKeys_keepsPlainKeyColumns() throws SQLException {
+        List<PrimaryKey> keys = provider.getAllPrimaryKeys(connection, null, "shop").orElseThrow();
+        assertThat(keys).singleElement().satisfies(pk -> {
+            assertThat(pk.table().name()).isEqualTo("events");
+            assertThat(pk.columns()).extracting(c -> c.name()).containsExactly("id");
+        });
+    }
+
+    @Test
+    void getAllIndexInfo_listsKeysAndSkippingIndexes() throws SQLException {
+        List<IndexInfo> indexes = provider.getAllIndexInfo(connection, null, "shop").orElseThrow();
+        assertThat(indexes).singleElement().satisfies(info -> {
+            List<IndexInfoItem> items = info.indexInfoItems();
+            assertThat(items)
+                    .filteredOn(i -> i.indexName().orElseThrow().equals(ClickHouseMetadataProvider.PRIMARY_INDEX))
+                    .satisfiesExactly(id -> {
+                        assertThat(id.type()).isEqualTo(IndexInfoItem.IndexType.TABLE_INDEX_CLUSTERED);
+                        assertThat(id.column()).hasValueSatisfying(c -> assertThat(c.name()).isEqualTo("id"));
+                    }, day -> assertThat(day.column()).isEmpty());
+            assertThat(items)
+                    .filteredOn(i -> i.indexName().orElseThrow().equals(ClickHouseMetadataProvider.SORTING_KEY_INDEX))
+                    .extracting(IndexInfoItem::ordinalPosition).containsExactly(1, 2, 3);
+            assertThat(items).filteredOn(i -> i.indexName().orElseThrow().equals("idx_user"))
+                    .singleElement().satisfies(i -> {
+                        assertThat(i.type()).isEqualTo(IndexInfoItem.IndexType.TABLE_INDEX_OTHER);
+                        assertThat(i.pages()).isEqualTo(4);
+                    });
+        });
+    }
+
+    @Test
+    void getAllPartitions_groupsActiveParts() throws SQLException {
+        List<Partition> partitions = provider.getAllPartitions(connection, null, "shop");
+        assertThat(partitions).extracting(Partition::name).containsExactly("202401", "202402");
+        assertThat(partitions).extracting(Partition::ordinalPosition).containsExactly(Optional.of(1),
+                Optional.of(2));
+        assertThat(partitions.get(0).method()).isEqualTo(PartitionMethod.LIST);
+        assertThat(partitions.get(0).expression()).contains("toYYYYMM(ts)");
+        assertThat(partitions.get(0).rowCount()).contains(1200L);
+    }
+
+    @Test
+    void getAllViewDefinitions_readsAsSelect() throws SQLException {
+        List<ViewDefinition> views = provider.getAllViewDefinitions(connection, null, null);
+        assertThat(views).singleElement().satisfies(v -> {
+            assertThat(v.view().name()).isEqualTo("big");
+            assertThat(v.viewBody()).hasValueSatisfying(b -> assertThat(b).startsWith("SELECT id"));
+        });
+        assertThat(bindings.get(0)).containsExactly((Object) null);
+    }
+
+    @Test
+    void splitExpressions_respectsParenthesesAndQuotes() {
+        assertThat(ClickHouseMetadataProvider.splitExpressions("(a, toDate(ts), 'x,y')")).containsExactly("a",
+                "toDate(ts)", "'x,y'");
+        assertThat(ClickHouseMetadataProvider.splitExpressions("tuple(a, b)")).containsExactly("tuple(a, b)");
+        assertThat(ClickHouseMetadataProvider.splitExpressions("")).isEmpty();
+    }
+
+    private PreparedStatement statement(String sql) throws SQLException {
+        Recorded recorded = recordings.entrySet().stream().filter(e -> sql.contains(e.getKey())).findFirst()
+                .map(Map.Entry::getValue).orElseThrow(() -> new AssertionError("no recording for " + sql));
+        Object[] params = new Object[(int) sql.chars().filter(ch -> ch == '?').count()];
+        bindings.add(params);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        doAnswer(inv -> params[(int) inv.getArgument(0) - 1] = inv.getArgument(1)).when(ps)
+                .setString(anyInt(), any());
+        when(ps.executeQuery()).thenAnswer(inv -> recorded.open());
+        return ps;
+    }
+
+    private static Object[] row(Object... values) {
+        return values;
+    }
+
+    /** A result set recorded as column labels and rows. */
+    private record Recorded(List<String> columns, List<Object[]> rows) {
+
+        Recorded(List<String> columns, Object[]... rows) {
+            this(columns, Arrays.asList(rows));
+        }
+
+        ResultSet open() {
+            int[] cursor = { -1 };
+            boolean[] wasNull = { false };
+            Map<String, Integer> index = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                index.put(columns.get(i), i);
+            }
+            return mock(ResultSet.class, (Answer<Object>) inv -> {
+                String method = inv.getMethod().getName();
+                if ("next".equals(method)) {
+                    return ++cursor[0] < rows.size();
+                }
+                if ("wasNull".equals(method)) {
+                    return wasNull[0];
+                }
+                if (!method.startsWith("get") || inv.getArguments().length != 1) {
+                    return null;
+                }
+                Integer column = index.get((String) inv.getArgument(0));
+                if (column == null) {
+                    throw new SQLException("no column " + inv.getArgument(0));
+                }
+                Object value = rows.get(cursor[0])[column];
+                wasNull[0] = value == null;
+                return switch (method) {
+                case "getString" -> value == null ? null : value.toString();
+                case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+                case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+                case "getBoolean" -> value != null && !Integer.valueOf(0).equals(value);
+                default -> value;
+                };
+            });
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*/
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class DerbyMetadataProviderTest {
+
+    private static final String SCHEMA = "APP";
+
+    private static Connection connection;
+    private static DerbyMetadataProvider provider;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        System.setProperty("derby.stream.error.file", "target/derby.log");
+        connection = DriverManager.getConnection("jdbc:derby:memory:metadata;create=true");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE SEQUENCE order_seq AS BIGINT START WITH 100 INCREMENT BY 5 MAXVALUE 100000 CYCLE");
+            stmt.execute("""
+                    CREATE TABLE customer (
+                        id      INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        email   VARCHAR(80) NOT NULL CONSTRAINT uq_email UNIQUE,
+                        country CHAR(2) DEFAULT 'DE'
+                    )
+                    """);
+            stmt.execute("""
+                    CREATE TABLE orders (
+                        order_id    BIGINT NOT NULL,
+                        line_no     INT NOT NULL,
+                        customer_id INT CONSTRAINT fk_cust REFERENCES customer (id) ON DELETE CASCADE,
+                        amount      DECIMAL(10,2) CONSTRAINT ck_amount CHECK (amount >= 0),
+                        total       DECIMAL(12,2) GENERATED ALWAYS AS (amount * 2),
+                        payload     VARCHAR(16) FOR BIT DATA,
+                        CONSTRAINT pk_orders PRIMARY KEY (order_id, line_no)
+                    )
+                    """);
+            stmt.execute("CREATE INDEX idx_orders_amount ON orders (amount DESC, line_no)");
+            stmt.execute("CREATE VIEW big_orders AS SELECT order_id, amount FROM orders WHERE amount > 1000");
+            stmt.execute("""
+                    CREATE TRIGGER orders_audit AFTER UPDATE ON orders
+                    FOR EACH ROW VALUES 1
+                    """);
+        }
+        provider = new DerbyMetadataProvider();
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null && !connection.isClosed()) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void factory_supportsDerby() throws SQLException {
+        String productName = connection.getMetaData().getDatabaseProductName();
+        assertThat(MetadataProviders.forProductName(productName)).containsInstanceOf(DerbyMetadataProvider.class);
+    }
+
+    @Test
+    void getAllTableDefinitions_mapsTableTypes() throws SQLException {
+        List<TableDefinition> tables = provider.getAllTableDefinitions(connection, null, SCHEMA, null, null)
+                .orElseThrow();
+        assertThat(tables).extracting(t -> t.table().name()).containsExactly("CUSTOMER", "ORDERS", "BIG_ORDERS");
+        assertThat(tables).extracting(t -> t.table().type()).containsExactly("TABLE", "TABLE", "VIEW");
+
+        List<TableDefinition> system = provider
+                .getAllTableDefinitions(connection, null, "SYS", "SYSTABLES", new String[] { "SYSTEM TABLE" })
+                .orElseThrow();
+        assertThat(system).singleElement().satisfies(t -> assertThat(t.table().type()).isEqualTo("SYSTEM TABLE"));
+    }
+
+    @Test
+    void getAllColumnDefinitions_parsesDeclaredTypes() throws SQLException {
+        List<ColumnDefinition> columns = provider.getAllColumnDefinitions(connection, null, SCHEMA, "ORDERS", null)
+                .orElseThrow();
+        assertThat(columns).extracting(c -> c.column().name()).containsExactly("ORDER_ID", "LINE_NO",
+                "CUSTOMER_ID", "AMOUNT", "TOTAL", "PAYLOAD");
+
+        ColumnMetaData orderId = columns.get(0).columnMetaData();
+        assertThat(orderId.dataType()).isEqualTo(JDBCType.BIGINT);
+        assertThat(orderId.columnSize()).hasValue(19);
+        assertThat(orderId.nullability()).isEqualTo(ColumnMetaData.Nullability.NO_NULLS);
+
+        ColumnMetaData amount = columns.get(3).columnMetaData();
+        assertThat(amount.dataType()).isEqualTo(JDBCType.DECIMAL);
+        assertThat(amount.typeName()).isEqualTo("DECIMAL");
+        assertThat(amount.columnSize()).hasValue(10);
+        assertThat(amount.decimalDigits()).hasValue(2);
+        assertThat(amount.nullability()).isEqualTo(ColumnMetaData.Nullability.NULLABLE);
+
+        assertThat(columns.get(4).columnMetaData().generatedColumn()).isEqualTo(ColumnMetaData.GeneratedColumn.YES);
+        ColumnMetaData payload = columns.get(5).columnMetaData();
+        assertThat(payload.dataType()).isEqualTo(JDBCType.VARBINARY);
+        assertThat(payload.columnSize()).hasValue(16);
+
+        List<ColumnDefinition> customer = provider
+                .getAllColumnDefinitions(connection, null, SCHEMA, "CUSTOMER", null).orElseThrow();
+        assertThat(customer.get(0).columnMetaData().autoIncrement()).isEqualTo(ColumnMetaData.AutoIncrement.YES);
+        ColumnMetaData country = customer.get(2).columnMetaData();
+        assertThat(country.dataType()).isEqualTo(JDBCType.CHAR);
+        assertThat(country.columnDefault()).contains("'DE'");
+        assertThat(country.charOctetLength()).hasValue(4);
+    }
+
+    @Test
+    void getAllPrimaryKeys_resolvesDescriptorColumns() throws SQLException {
+        List<PrimaryKey> keys = provider.getAllPrimaryKeys(connection, null, SCHEMA).orElseThrow();
+        assertThat(keys).extracting(pk -> pk.table().name()).containsExactly("CUSTOMER", "ORDERS");
+        assertThat(keys.get(1).constraintName()).contains("PK_ORDERS");
+        assertThat(keys.get(1).columns()).extracting(c -> c.name()).containsExactly("ORDER_ID", "LINE_NO");
+    }
+
+    @Test
+    void getAllImportedKeys_pairsBothConglomerates() throws SQLException {
+        List<ImportedKey> keys = provider.getAllImportedKeys(connection, null, SCHEMA).orElseThrow();
+        assertThat(keys).singleElement().satisfies(key -> {
+            assertThat(key.name()).isEqualTo("FK_CUST");
+            assertThat(key.foreignKeyColumn().name()).isEqualTo("CUSTOMER_ID");
+            assertThat(key.primaryKeyColumn().name()).isEqualTo("ID");
+            assertThat(key.primaryKeyColumn().table()).hasValueSatisfying(t -> assertThat(t.name())
+                    .isEqualTo("CUSTOMER"));
+            assertThat(key.deleteRule()).isEqualTo(ImportedKey.ReferentialAction.CASCADE);
+            assertThat(key.updateRule()).isEqualTo(ImportedKey.ReferentialAction.NO_ACTION);
+        });
+        assertThat(provider.getAllExportedKeys(connection, null, SCHEMA).orElseThrow()).hasSize(1);
+    }
+
+    @Test
+    void getCheckAndUniqueConstraints_readSysCatalogs() throws SQLException {
+        List<CheckConstraint> checks = provider.getCheckConstraints(connection, null, SCHEMA, "ORDERS");
+        assertThat(checks).singleElement().satisfies(c -> {
+            assertThat(c.name()).isEqualTo("CK_AMOUNT");
+            assertThat(c.checkClause()).contains("amount >= 0");
+        });
+        assertThat(provider.getCheckConstraints(connection, null, SCHEMA, "CUSTOMER")).isEmpty();
+
+        List<UniqueConstraint> uniques = provider.getAllUniqueConstraints(connection, null, SCHEMA);
+        assertThat(uniques).singleElement().satisfies(u -> {
+            assertThat(u.name()).isEqualTo("UQ_EMAIL");
+            assertThat(u.columns()).extracting(c -> c.name()).containsExactly("EMAIL");
+        });
+    }
+
+    @Test
+    void getIndexInfo_readsConglomerateDescriptors() throws SQLException {
+        List<IndexInfo> indexes = provider.getIndexInfo(connection, null, SCHEMA, "ORDERS").orElseThrow();
+        assertThat(indexes).singleElement().satisfies(info -> {
+            List<IndexInfoItem> amount = info.indexInfoItems().stream()
+                    .filter(i -> i.indexName().orElseThrow().equals("IDX_ORDERS_AMOUNT")).toList();
+            assertThat(amount).extracting(i -> i.column().orElseThrow().name()).containsExactly("AMOUNT", "LINE_NO");
+            assertThat(amount).extracting(i -> i.ascending().orElseThrow()).containsExactly(false, true);
+            assertThat(amount).allSatisfy(i -> assertThat(i.unique()).isFalse());
+            // the primary key and the foreign key are backed by their own conglomerates
+            assertThat(info.indexInfoItems()).extracting(i -> i.indexName().orElseThrow()).hasSize(5);
+        });
+    }
+
+    @Test
+    void getAllViewDefinitions_extractsBody() throws SQLException {
+        List<ViewDefinition> views = provider.getAllViewDefinitions(connection, null, SCHEMA);
+        assertThat(views).singleElement().satisfies(v -> {
+            assertThat(v.view().name()).isEqualTo("BIG_ORDERS");
+            assertThat(v.viewBody()).hasValueSatisfying(b -> assertThat(b).startsWith("SELECT"));
+            assertThat(v.fullDefinition()).hasValueSatisfying(d -> assertThat(d).startsWith("CREATE VIEW"));
+        });
+    }
+
+    @Test
+    void getAllSequencesAndTriggers_readSysCatalogs() throws SQLException {
+        List<Sequence> sequences = provider.getAllSequences(connection, null, SCHEMA);
+        assertThat(sequences).singleElement().satisfies(s -> {
+            assertThat(s.name()).isEqualTo("ORDER_SEQ");
+            assertThat(s.startValue()).isEqualTo(100);
+            assertThat(s.incrementBy()).isEqualTo(5);
+            assertThat(s.maxValue()).contains(100000L);
+            assertThat(s.cycle()).isTrue();
+            assertThat(s.dataType()).contains("BIGINT");
+        });
+
+        List<Trigger> triggers = provider.getTriggers(connection, null, SCHEMA, "ORDERS");
+        assertThat(triggers).singleElement().satisfies(t -> {
+            assertThat(t.name()).isEqualTo("ORDERS_AUDIT");
+            assertThat(t.timing()).isEqualTo(TriggerTiming.AFTER);
+            assertThat(t.event()).isEqualTo(TriggerEvent.UPDATE);
+        });
+    }
+}
@@ -0,0 +1,189 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*/
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class DuckDbMetadataProviderTest {
+
+    private static final String SCHEMA = "main";
+
+    private static Connection connection;
+    private static DuckDbMetadataProvider provider;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:duckdb:");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE SEQUENCE order_seq START 100 INCREMENT BY 5 MAXVALUE 100000 CYCLE");
+            stmt.execute("""
+                    CREATE TABLE customer (
+                        id      INTEGER PRIMARY KEY,
+                        email   VARCHAR NOT NULL UNIQUE,
+                        country VARCHAR(2) DEFAULT 'DE'
+                    )
+                    """);
+            stmt.execute("""
+                    CREATE TABLE orders (
+                        order_id    BIGINT DEFAULT nextval('order_seq'),
+                        line_no     INTEGER,
+                        customer_id INTEGER REFERENCES customer (id),
+                        amount      DECIMAL(10,2) CHECK (amount >= 0),
+                        tags        VARCHAR[],
+                        ts          TIMESTAMP,
+                        PRIMARY KEY (order_id, line_no)
+                    )
+                    """);
+            stmt.execute("COMMENT ON TABLE orders IS 'order lines'");
+            stmt.execute("COMMENT ON COLUMN orders.amount IS 'net amount'");
+            stmt.execute("CREATE INDEX idx_orders_amount_ts ON orders (amount, ts)");
+            stmt.execute("CREATE VIEW big_orders AS SELECT order_id, amount FROM orders WHERE amount > 1000");
+        }
+        provider = new DuckDbMetadataProvider();
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null && !connection.isClosed()) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void factory_supportsDuckDb() throws SQLException {
+        String productName = connection.getMetaData().getDatabaseProductName();
+        assertThat(MetadataProviders.forProductName(productName)).containsInstanceOf(DuckDbMetadataProvider.class);
+    }
+
+    @Test
+    void getAllTableDefinitions_readsTablesViewsAndComments() throws SQLException {
+        List<TableDefinition> tables = provider.getAllTableDefinitions(connection, null, SCHEMA, null, null)
+                .orElseThrow();
+        assertThat(tables).extracting(t -> t.table().name()).containsExactly("customer", "orders", "big_orders");
+        assertThat(tables).extracting(t -> t.table().type()).containsExactly("BASE TABLE", "BASE TABLE", "VIEW");
+        assertThat(tables.get(1).tableMetaData().remarks()).contains("order lines");
+        assertThat(tables.get(0).table().schema()).hasValueSatisfying(s -> assertThat(s.catalog())
+                .hasValueSatisfying(c -> assertThat(c.name()).isEqualTo("memory")));
+
+        List<TableDefinition> views = provider
+                .getAllTableDefinitions(connection, null, SCHEMA, "%", new String[] { "VIEW" }).orElseThrow();
+        assertThat(views).extracting(t -> t.table().name()).containsExactly("big_orders");
+    }
+
+    @Test
+    void getAllColumnDefinitions_mapsTypesDefaultsAndComments() throws SQLException {
+        List<ColumnDefinition> columns = provider.getAllColumnDefinitions(connection, null, SCHEMA, "orders", null)
+                .orElseThrow();
+        assertThat(columns).extracting(c -> c.column().name()).containsExactly("order_id", "line_no",
+                "customer_id", "amount", "tags", "ts");
+
+        ColumnMetaData orderId = columns.get(0).columnMetaData();
+        assertThat(orderId.dataType()).isEqualTo(JDBCType.BIGINT);
+        assertThat(orderId.autoIncrement()).isEqualTo(ColumnMetaData.AutoIncrement.YES);
+        assertThat(orderId.nullability()).isEqualTo(ColumnMetaData.Nullability.NO_NULLS);
+
+        ColumnMetaData amount = columns.get(3).columnMetaData();
+        assertThat(amount.dataType()).isEqualTo(JDBCType.DECIMAL);
+        assertThat(amount.typeName()).isEqualTo("DECIMAL(10,2)");
+        assertThat(amount.columnSize()).hasValue(10);
+        assertThat(amount.decimalDigits()).hasValue(2);
+        assertThat(amount.remarks()).contains("net amount");
+
+        assertThat(columns.get(4).columnMetaData().dataType()).isEqualTo(JDBCType.ARRAY);
+        assertThat(columns.get(5).columnMetaData().dataType()).isEqualTo(JDBCType.TIMESTAMP);
+    }
+
+    @Test
+    void getAllPrimaryKeys_keepsCompositeKeyOrder() throws SQLException {
+        List<PrimaryKey> keys = provider.getAllPrimaryKeys(connection, null, SCHEMA).orElseThrow();
+        assertThat(keys).extracting(pk -> pk.table().name()).containsExactly("customer", "orders");
+        assertThat(keys.get(1).columns()).extracting(c -> c.name()).containsExactly("order_id", "line_no");
+    }
+
+    @Test
+    void getAllImportedKeys_pairsColumnsWithReferencedKey() throws SQLException {
+        List<ImportedKey> keys = provider.getAllImportedKeys(connection, null, SCHEMA).orElseThrow();
+        assertThat(keys).hasSize(1);
+        ImportedKey key = keys.get(0);
+        assertThat(key.foreignKeyColumn().name()).isEqualTo("customer_id");
+        assertThat(key.primaryKeyColumn().name()).isEqualTo("id");
+        assertThat(key.primaryKeyColumn().table()).hasValueSatisfying(t -> assertThat(t.name()).isEqualTo("customer"));
+        assertThat(key.primaryKeyName()).contains("customer_id_pkey");
+        assertThat(key.keySequence()).isEqualTo(1);
+    }
+
+    @Test
+    void getCheckAndUniqueConstraints_readDuckDbConstraints() throws SQLException {
+        List<CheckConstraint> checks = provider.getCheckConstraints(connection, null, SCHEMA, "orders");
+        assertThat(checks).singleElement()
+                .satisfies(c -> assertThat(c.checkClause()).contains("amount").contains(">="));
+        assertThat(provider.getCheckConstraints(connection, null, SCHEMA, "customer")).isEmpty();
+
+        List<UniqueConstraint> uniques = provider.getAllUniqueConstraints(connection, null, SCHEMA);
+        assertThat(uniques).singleElement().satisfies(u -> {
+            assertThat(u.table().name()).isEqualTo("customer");
+            assertThat(u.columns()).extracting(c -> c.name()).containsExactly("email");
+        });
+    }
+
+    @Test
+    void getAllIndexInfo_unnestsIndexExpressions() throws SQLException {
+        List<IndexInfo> indexes = provider.getAllIndexInfo(connection, null, SCHEMA).orElseThrow();
+        assertThat(indexes).singleElement().satisfies(info -> {
+            assertThat(info.tableReference().name()).isEqualTo("orders");
+            assertThat(info.indexInfoItems()).extracting(i -> i.column().orElseThrow().name())
+                    .containsExactly("amount", "ts");
+            assertThat(info.indexInfoItems()).extracting(i -> i.ordinalPosition()).containsExactly(1, 2);
+        });
+    }
+
+    @Test
+    void getAllViewDefinitions_extractsBody() throws SQLException {
+        List<ViewDefinition> views = provider.getAllViewDefinitions(connection, null, SCHEMA);
+        assertThat(views).singleElement().satisfies(v -> {
+            assertThat(v.view().name()).isEqualTo("big_orders");
+            assertThat(v.viewBody()).hasValueSatisfying(b -> assertThat(b).startsWith("SELECT"));
+            assertThat(v.fullDefinition()).hasValueSatisfying(d -> assertThat(d).startsWith("CREATE VIEW"));
+        });
+    }
+
+    @Test
+    void getAllSequences_readsDuckDbSequences() throws SQLException {
+        List<Sequence> sequences = provider.getAllSequences(connection, null, SCHEMA);
+        assertThat(sequences).singleElement().satisfies(s -> {
+            assertThat(s.name()).isEqualTo("order_seq");
+            assertThat(s.startValue()).isEqualTo(100);
+            assertThat(s.incrementBy()).isEqualTo(5);
+            assertThat(s.maxValue()).contains(100000L);
+            assertThat(s.cycle()).isTrue();
+        });
+    }
+}
@@ -17,20 +17,31 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
 import org.eclipse.daanse.sql.model.schema.ColumnReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Function;
 import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
 import org.eclipse.daanse.sql.model.schema.PrimaryKey;
 import org.eclipse.daanse.sql.jdbc.api.schema.Procedure;
 import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
 import org.eclipse.daanse.sql.model.schema.Trigger;
 import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
 import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
@@ -631,6 +642,145 @@ class H2MetadataProviderTest {
         assertThat(udts).isEmpty();
     }
 
+    @Test
+    void getChangeMarker_stampsEveryTableAndView() throws SQLException {
+        ChangeMarker marker = provider.getChangeMarker(connection, null, SCHEMA).orElseThrow();
+        assertThat(marker.schemas()).extracting(SchemaReference::name).containsExactly(SCHEMA);
+        assertThat(marker.tableStamps().keySet()).extracting(TableReference::name).contains("DEPARTMENTS",
+                "EMPLOYEES", "ORDERS", "ORDER_ITEMS", "AUDIT_LOG", "V_EMP_DEPT", "V_ORDER_SUMMARY");
+        assertThat(marker.objectStamps()).containsOnlyKeys(marker.schemas().get(0));
+    }
+
+    @Test
+    void getChangeMarker_stableWithoutDdl() throws SQLException {
+        ChangeMarker first = provider.getChangeMarker(connection, null, SCHEMA).orElseThrow();
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("INSERT INTO DEPARTMENTS (DEPT_ID, DEPT_NAME) VALUES (900, 'Marker')");
+            stmt.execute("DELETE FROM DEPARTMENTS WHERE DEPT_ID = 900");
+        }
+        ChangeMarker second = provider.getChangeMarker(connection, null, SCHEMA).orElseThrow();
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void getChangeMarker_movesOnlyForAlteredTable() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE SCHEMA MARKER_TEST");
+            stmt.execute("CREATE TABLE MARKER_TEST.A (ID INT PRIMARY KEY)");
+            stmt.execute("CREATE TABLE MARKER_TEST.B (ID INT PRIMARY KEY)");
+            ChangeMarker before = provider.getChangeMarker(connection, null, "MARKER_TEST").orElseThrow();
+
+            stmt.execute("ALTER TABLE MARKER_TEST.A ADD COLUMN NAME VARCHAR(20)");
+            stmt.execute("CREATE SEQUENCE MARKER_TEST.S");
+            ChangeMarker after = provider.getChangeMarker(connection, null, "MARKER_TEST").orElseThrow();
+
+            assertThat(stampOf(after, "A")).isNotEqualTo(stampOf(before, "A"));
+            assertThat(stampOf(after, "B")).isEqualTo(stampOf(before, "B"));
+            assertThat(after.objectStamps()).isNotEqualTo(before.objectStamps());
+        } finally {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP SCHEMA IF EXISTS MARKER_TEST CASCADE");
+            }
+        }
+    }
+
+    @Test
+    void getAllTableAndColumnDefinitions_matchJdbc() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE SCHEMA TYPES_TEST");
+            stmt.execute("""
+                    CREATE TABLE TYPES_TEST.ALL_TYPES (
+                        ID INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        NAME VARCHAR(50) DEFAULT 'x' NOT NULL,
+                        CODE CHAR(3),
+                        AMOUNT DECIMAL(10, 2),
+                        NUM NUMERIC,
+                        RATIO REAL,
+                        MEASURE DOUBLE PRECISION,
+                        APPROX FLOAT(10),
+                        DF DECFLOAT,
+                        TI TINYINT,
+                        SI SMALLINT,
+                        BIG BIGINT,
+                        TWICE BIGINT GENERATED ALWAYS AS (ID * 2),
+                        FLAG BOOLEAN,
+                        BIRTH DATE,
+                        AT_TIME TIME,
+                        AT_TIME3 TIME(3) WITH TIME ZONE,
+                        CREATED TIMESTAMP(3),
+                        CREATED_TZ TIMESTAMP WITH TIME ZONE,
+                        SPAN INTERVAL DAY TO SECOND,
+                        UID UUID,
+                        DOC JSON,
+                        RAW VARBINARY(20),
+                        BL BLOB,
+                        CL CLOB,
+                        TAGS INTEGER ARRAY,
+                        STATE ENUM('new', 'done')
+                    )
+                    """);
+            stmt.execute("COMMENT ON TABLE TYPES_TEST.ALL_TYPES IS 'all types'");
+            stmt.execute("COMMENT ON COLUMN TYPES_TEST.ALL_TYPES.NAME IS 'the name'");
+            stmt.execute("CREATE VIEW TYPES_TEST.V_TYPES AS SELECT ID, NAME FROM TYPES_TEST.ALL_TYPES");
+
+            List<String> expectedTables = new ArrayList<>();
+            try (ResultSet rs = connection.getMetaData().getTables(null, "TYPES_TEST", null, null)) {
+                while (rs.next()) {
+                    expectedTables.add(rs.getString("TABLE_CAT") + "." + rs.getString("TABLE_SCHEM") + "."
+                            + rs.getString("TABLE_NAME") + " " + rs.getString("TABLE_TYPE") + " "
+                            + rs.getString("REMARKS"));
+                }
+            }
+            List<String> expectedColumns = new ArrayList<>();
+            try (ResultSet rs = connection.getMetaData().getColumns(null, "TYPES_TEST", null, null)) {
+                while (rs.next()) {
+                    expectedColumns.add(String.join("|", rs.getString("TABLE_CAT"), rs.getString("TABLE_NAME"),
+                            rs.getString("COLUMN_NAME"), JDBCType.valueOf(rs.getInt("DATA_TYPE")).getName(),
+                            rs.getString("TYPE_NAME"), rs.getString("COLUMN_SIZE"), rs.getString("DECIMAL_DIGITS"),
+                            rs.getString("NUM_PREC_RADIX"), rs.getString("NULLABLE"),
+                            rs.getString("CHAR_OCTET_LENGTH"), rs.getString("REMARKS"), rs.getString("COLUMN_DEF"),
+                            rs.getString("IS_AUTOINCREMENT"), rs.getString("IS_GENERATEDCOLUMN")));
+                }
+            }
+
+            List<TableDefinition> tables = provider.getAllTableDefinitions(connection, null, "TYPES_TEST", null, null)
+                    .orElseThrow();
+            List<ColumnDefinition> columns = provider
+                    .getAllColumnDefinitions(connection, null, "TYPES_TEST", null, null).orElseThrow();
+
+            assertThat(tables).extracting(t -> t.table().schema().flatMap(SchemaReference::catalog).orElseThrow()
+                    .name() + "." + t.table().schema().orElseThrow().name() + "." + t.table().name() + " "
+                    + t.table().type() + " " + t.tableMetaData().remarks().orElse(null))
+                    .containsExactlyElementsOf(expectedTables);
+            assertThat(columns).extracting(H2MetadataProviderTest::describe).containsExactlyElementsOf(expectedColumns);
+        } finally {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP SCHEMA IF EXISTS TYPES_TEST CASCADE");
+            }
+        }
+    }
+
+    private static String describe(ColumnDefinition column) {
+        TableReference table = column.column().table().orElseThrow();
+        ColumnMetaData meta = column.columnMetaData();
+        return String.join("|", table.schema().flatMap(SchemaReference::catalog).orElseThrow().name(),
+                table.name(), column.column().name(), meta.dataType().getName(), meta.typeName(),
+                text(meta.columnSize()), text(meta.decimalDigits()), text(meta.numPrecRadix()),
+                String.valueOf(meta.nullability() == ColumnMetaData.Nullability.NULLABLE ? 1 : 0),
+                text(meta.charOctetLength()), meta.remarks().orElse(null), meta.columnDefault().orElse(null),
+                meta.autoIncrement().name(), meta.generatedColumn().name());
+    }
+
+    private static String text(OptionalInt value) {
+        return value.isPresent() ? String.valueOf(value.getAsInt()) : null;
+    }
+
+    private static String stampOf(ChangeMarker marker, String tableName) {
+        return marker.tableStamps().entrySet().stream().filter(e -> tableName.equals(e.getKey().name()))
+                .map(Map.Entry::getValue).findFirst()
+                .orElseThrow(() -> new AssertionError("Table not stamped: " + tableName));
+    }
+
     private static Trigger findTrigger(List<Trigger> triggers, String name) {
         return triggers.stream().filter(t -> name.equals(t.name())).findFirst()
                 .orElseThrow(() -> new AssertionError("Trigger not found: " + name));
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataQueryOptions;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.h2.jdbc.JdbcPreparedStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MetadataStatementsTest {
+
+    private static final String SQL = "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = ?";
+
+    private String url;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        url = "jdbc:h2:mem:stmts_" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1";
+        connection = DriverManager.getConnection(url, "sa", "");
+        try (Statement s = connection.createStatement()) {
+            s.execute("CREATE TABLE T1 (ID INT, CONSTRAINT CK_T1 CHECK (ID > 0))");
+            s.execute("CREATE TABLE T2 (ID INT, CONSTRAINT CK_T2 CHECK (ID < 10))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void options_are_applied_to_every_statement() throws Exception {
+        MetadataStatements statements = new MetadataStatements(
+                MetadataQueryOptions.DEFAULT.withFetchSize(500).withQueryTimeoutSeconds(7).withMaxRows(42)
+                        .withReadOnly(true));
+
+        try (PreparedStatement ps = statements.prepare(connection, SQL)) {
+            assertThat(ps.getFetchSize()).isEqualTo(500);
+            assertThat(ps.getQueryTimeout()).isEqualTo(7);
+            assertThat(ps.getMaxRows()).isEqualTo(42);
+            assertThat(ps.getResultSetType()).isEqualTo(ResultSet.TYPE_FORWARD_ONLY);
+            assertThat(ps.getResultSetConcurrency()).isEqualTo(ResultSet.CONCUR_READ_ONLY);
+        }
+    }
+
+    @Test
+    void reused_statement_survives_close_until_the_connection_closes() throws Exception {
+        MetadataStatements statements = new MetadataStatements(
+                MetadataQueryOptions.DEFAULT.withReuseStatements(true));
+
+        PreparedStatement first;
+        String firstName;
+        try (PreparedStatement ps = statements.reuse(connection, SQL)) {
+            first = ps;
+            firstName = ps.toString();
+            ps.setString(1, "T1");
+            try (ResultSet rs = ps.executeQuery()) {
+                assertThat(rs.next()).isTrue();
+            }
+        }
+        assertThat(first.isClosed()).isTrue();
+        try (PreparedStatement ps = statements.reuse(connection, SQL)) {
+            assertThat(ps.toString()).isEqualTo(firstName);
+            try (PreparedStatement nested = statements.reuse(connection, SQL)) {
+                assertThat(nested.toString()).isNotEqualTo(firstName);
+            }
+        }
+
+        connection.close();
+        connection = DriverManager.getConnection(url, "sa", "");
+        try (PreparedStatement ps = statements.reuse(connection, SQL)) {
+            assertThat(ps.toString()).isNotEqualTo(firstName);
+        }
+    }
+
+    @Test
+    void reused_statement_does_not_leak_through_its_lease() throws Exception {
+        MetadataStatements statements = new MetadataStatements(
+                MetadataQueryOptions.DEFAULT.withReuseStatements(true));
+
+        PreparedStatement lease = statements.reuse(connection, SQL);
+        lease.setString(1, "T1");
+        try (ResultSet rs = lease.executeQuery()) {
+            assertThat(rs.getStatement()).isSameAs(lease);
+        }
+        assertThat(lease.getConnection()).isSameAs(connection);
+        assertThat(lease.unwrap(PreparedStatement.class)).isSameAs(lease);
+        assertThat(lease.isWrapperFor(JdbcPreparedStatement.class)).isFalse();
+        assertThatThrownBy(() -> lease.unwrap(JdbcPreparedStatement.class))
+                .isInstanceOf(SQLException.class);
+
+        lease.close();
+        assertThat(lease.isClosed()).isTrue();
+        assertThatThrownBy(lease::executeQuery).isInstanceOf(SQLException.class);
+        try (PreparedStatement again = statements.reuse(connection, SQL)) {
+            assertThat(again.isClosed()).isFalse();
+        }
+    }
+
+    @Test
+    void read_only_marks_the_connection_while_statements_are_open() throws Exception {
+        List<Boolean> readOnlyCalls = new ArrayList<>();
+        Connection recording = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> switch (method.getName()) {
+                case "setReadOnly" -> {
+                    readOnlyCalls.add((Boolean) args[0]);
+                    yield null;
+                }
+                case "isReadOnly" -> !readOnlyCalls.isEmpty() && readOnlyCalls.get(readOnlyCalls.size() - 1);
+                default -> method.invoke(connection, args);
+                });
+        MetadataStatements statements = new MetadataStatements(
+                MetadataQueryOptions.DEFAULT.withReadOnly(true).withReuseStatements(true));
+
+        try (PreparedStatement outer = statements.prepare(recording, SQL);
+                PreparedStatement inner = statements.reuse(recording, SQL)) {
+            assertThat(recording.isReadOnly()).isTrue();
+        }
+        assertThat(recording.isReadOnly()).isFalse();
+        assertThat(readOnlyCalls).containsExactly(true, false);
+
+        new MetadataStatements(MetadataQueryOptions.DEFAULT).prepare(recording, SQL).close();
+        assertThat(readOnlyCalls).containsExactly(true, false);
+    }
+
+    @Test
+    void without_reuse_every_call_prepares_a_new_statement() throws Exception {
+        MetadataStatements statements = new MetadataStatements(MetadataQueryOptions.DEFAULT);
+
+        PreparedStatement first;
+        try (PreparedStatement ps = statements.reuse(connection, SQL)) {
+            first = ps;
+        }
+        assertThat(first.isClosed()).isTrue();
+    }
+
+    @Test
+    void provider_per_table_reads_reuse_their_statement() throws Exception {
+        H2MetadataProvider provider = new H2MetadataProvider(
+                MetadataQueryOptions.DEFAULT.withFetchSize(100).withReuseStatements(true));
+
+        List<CheckConstraint> t1 = provider.getCheckConstraints(connection, null, "PUBLIC", "T1");
+        List<CheckConstraint> t2 = provider.getCheckConstraints(connection, null, "PUBLIC", "T2");
+
+        assertThat(t1).extracting(CheckConstraint::name).containsExactly("CK_T1");
+        assertThat(t2).extracting(CheckConstraint::name).containsExactly("CK_T2");
+    }
+
+    @Test
+    void negative_settings_are_rejected() {
+        assertThatThrownBy(() -> MetadataQueryOptions.DEFAULT.withFetchSize(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*/
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.MSSQLServerContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+@EnabledIfSystemProperty(named = "integration.docker", matches = "true")
+@TestInstance(Lifecycle.PER_CLASS)
+class MsSqlTableColumnDefinitionsTest {
+
+    @Container
+    @SuppressWarnings("resource")
+    static final MSSQLServerContainer<?> CONTAINER = new MSSQLServerContainer<>(
+            "mcr.microsoft.com/mssql/server:2022-latest").acceptLicense();
+
+    private static final String SCHEMA = "dbo";
+
+    private static Connection connection;
+    private static MicrosoftSqlServerMetadataProvider provider;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        Class.forName("com.microsoft.sqlserver.jdbc.SQLServerDriver");
+        connection = java.sql.DriverManager.getConnection(CONTAINER.getJdbcUrl(), CONTAINER.getUsername(),
+                CONTAINER.getPassword());
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                    CREATE TABLE product (
+                        id       INT IDENTITY(1,1) PRIMARY KEY,
+                        name     NVARCHAR(80) NOT NULL CONSTRAINT df_product_name DEFAULT 'unnamed',
+                        price    DECIMAL(10,2),
+                        price_x2 AS (price * 2)
+                    )
+                    """);
+            stmt.execute("EXEC sp_addextendedproperty 'MS_Description', 'display name', "
+                    + "'SCHEMA', 'dbo', 'TABLE', 'product', 'COLUMN', 'name'");
+            stmt.execute("CREATE VIEW cheap_product AS SELECT id, name FROM product WHERE price < 10");
+        }
+        provider = new MicrosoftSqlServerMetadataProvider();
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        if (connection != null && !connection.isClosed()) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void getAllTableDefinitions_readsTablesAndViews() throws SQLException {
+        List<TableDefinition> tables = provider.getAllTableDefinitions(connection, null, SCHEMA, null, null)
+                .orElseThrow();
+        assertThat(tables).extracting(t -> t.table().name()).containsExactly("cheap_product", "product");
+        assertThat(tables).extracting(t -> t.table().type()).containsExactly("VIEW", "TABLE");
+    }
+
+    @Test
+    void getAllColumnDefinitions_mapsTypesDefaultsIdentityAndComputed() throws SQLException {
+        List<ColumnDefinition> columns = provider.getAllColumnDefinitions(connection, null, SCHEMA, "product", null)
+                .orElseThrow();
+        assertThat(columns).extracting(c -> c.column().name()).containsExactly("id", "name", "price", "price_x2");
+
+        ColumnMetaData id = columns.get(0).columnMetaData();
+        assertThat(id.dataType()).isEqualTo(JDBCType.INTEGER);
+        assertThat(id.autoIncrement()).isEqualTo(ColumnMetaData.AutoIncrement.YES);
+
+        ColumnMetaData name = columns.get(1).columnMetaData();
+        assertThat(name.columnSize()).hasValue(80);
+        assertThat(name.nullability()).isEqualTo(ColumnMetaData.Nullability.NO_NULLS);
+        assertThat(name.columnDefault()).hasValueSatisfying(d -> assertThat(d).contains("unnamed"));
+        assertThat(name.remarks()).contains("display name");
+
+        ColumnMetaData price = columns.get(2).columnMetaData();
+        assertThat(price.columnSize()).hasValue(10);
+        assertThat(price.decimalDigits()).hasValue(2);
+
+        assertThat(columns.get(3).columnMetaData().generatedColumn()).isEqualTo(ColumnMetaData.GeneratedColumn.YES);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*/
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.Definition;
+import org.eclipse.daanse.sql.jdbc.api.schema.DefinitionKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Function;
+import org.eclipse.daanse.sql.jdbc.api.schema.MaterializedView;
+import org.eclipse.daanse.sql.jdbc.api.schema.Procedure;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+@EnabledIfSystemProperty(named = "integration.docker", matches = "true")
+class PgDefinitionsTest {
+
+    private static final String DATABASE = "test";
+    private static final String USER = "postgres";
+    private static final String PASSWORD = "secret";
+    private static final String SCHEMA = "public";
+
+    @SuppressWarnings("resource")
+    private static final GenericContainer<?> POSTGRES = new GenericContainer<>("postgres:15")
+            .withEnv("POSTGRES_PASSWORD", PASSWORD).withEnv("POSTGRES_DB", DATABASE).withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\n", 2)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    private static Connection connection;
+    private static PostgreSqlMetadataProvider provider;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        POSTGRES.start();
+        String jdbcUrl = "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(5432) + "/"
+                + DATABASE;
+        Class.forName("org.postgresql.Driver");
+        connection = DriverManager.getConnection(jdbcUrl, USER, PASSWORD);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE orders (id INT PRIMARY KEY, amount NUMERIC(10,2), touched TIMESTAMP)");
+            stmt.execute("CREATE VIEW big_orders AS SELECT id, amount FROM orders WHERE amount > 100");
+            stmt.execute("CREATE MATERIALIZED VIEW order_total AS SELECT sum(amount) AS total FROM orders");
+            stmt.execute("""
+                    CREATE FUNCTION touch() RETURNS trigger LANGUAGE plpgsql AS $$
+                    BEGIN NEW.touched := now(); RETURN NEW; END $$
+                    """);
+            stmt.execute("CREATE PROCEDURE purge() LANGUAGE sql AS $$ DELETE FROM orders $$");
+            stmt.execute("CREATE TRIGGER trg_touch BEFORE UPDATE ON orders FOR EACH ROW EXECUTE FUNCTION touch()");
+        }
+        provider = new PostgreSqlMetadataProvider();
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null && !connection.isClosed()) {
+            connection.close();
+        }
+        POSTGRES.stop();
+    }
+
+    @Test
+    void identities_leave_the_texts_out() throws SQLException {
+        assertThat(provider.getAllViewDefinitions(connection, null, SCHEMA, false))
+                .map(ViewDefinition::view).isEqualTo(provider.getAllViewDefinitions(connection, null, SCHEMA)
+                        .stream().map(ViewDefinition::view).toList())
+                .isNotEmpty();
+        assertThat(provider.getAllViewDefinitions(connection, null, SCHEMA, false))
+                .allMatch(v -> Definition.of(v).isEmpty());
+        assertThat(provider.getAllMaterializedViews(connection, null, SCHEMA, false)).hasSize(1)
+                .allMatch(v -> Definition.of(v).isEmpty());
+        assertThat(provider.getAllFunctions(connection, null, SCHEMA, false)).isNotEmpty()
+                .allMatch(f -> Definition.of(f).isEmpty());
+        assertThat(provider.getAllProcedures(connection, null, SCHEMA, false)).hasSize(1)
+                .allMatch(p -> Definition.of(p).isEmpty());
+        assertThat(provider.getAllTriggers(connection, null, SCHEMA, false)).hasSize(1)
+                .allMatch(t -> Definition.of(t).isEmpty());
+    }
+
+    @Test
+    void trigger_shape_is_read_without_the_definition() throws SQLException {
+        Trigger full = provider.getAllTriggers(connection, null, SCHEMA).get(0);
+        Trigger identity = provider.getAllTriggers(connection, null, SCHEMA, false).get(0);
+
+        assertThat(identity.reference()).isEqualTo(full.reference());
+        assertThat(identity.timing()).isEqualTo(Trigger.TriggerTiming.BEFORE).isEqualTo(full.timing());
+        assertThat(identity.event()).isEqualTo(Trigger.TriggerEvent.UPDATE).isEqualTo(full.event());
+        assertThat(identity.orientation()).contains("ROW").isEqualTo(full.orientation());
+    }
+
+    @Test
+    void getDefinitions_matches_the_eager_read() throws SQLException {
+        List<DefinitionKey> keys = new ArrayList<>();
+        List<Definition> expected = new ArrayList<>();
+        for (ViewDefinition view : provider.getAllViewDefinitions(connection, null, SCHEMA)) {
+            keys.add(DefinitionKey.of(view));
+            expected.add(Definition.of(view));
+        }
+        for (MaterializedView view : provider.getAllMaterializedViews(connection, null, SCHEMA)) {
+            keys.add(DefinitionKey.of(view));
+            expected.add(Definition.of(view));
+        }
+        for (Function function : provider.getAllFunctions(connection, null, SCHEMA)) {
+            keys.add(DefinitionKey.of(function));
+            expected.add(Definition.of(function));
+        }
+        for (Procedure procedure : provider.getAllProcedures(connection, null, SCHEMA)) {
+            keys.add(DefinitionKey.of(procedure));
+            expected.add(Definition.of(procedure));
+        }
+        for (Trigger trigger : provider.getAllTriggers(connection, null, SCHEMA)) {
+            keys.add(DefinitionKey.of(trigger));
+            expected.add(Definition.of(trigger));
+        }
+
+        Map<DefinitionKey, Definition> definitions = provider.getDefinitions(connection, keys);
+
+        assertThat(definitions.keySet()).containsExactlyElementsOf(keys);
+        assertThat(definitions.values()).containsExactlyElementsOf(expected);
+        assertThat(expected).noneMatch(Definition::isEmpty);
+    }
+}
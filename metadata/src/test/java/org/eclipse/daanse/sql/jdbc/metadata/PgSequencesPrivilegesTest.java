@@ -0,0 +1,109 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*/
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.TablePrivilege;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+@EnabledIfSystemProperty(named = "integration.docker", matches = "true")
+class PgSequencesPrivilegesTest {
+
+    private static final String DATABASE = "test";
+    private static final String USER = "postgres";
+    private static final String PASSWORD = "secret";
+    private static final String SCHEMA = "public";
+
+    @SuppressWarnings("resource")
+    private static final GenericContainer<?> POSTGRES = new GenericContainer<>("postgres:15")
+            .withEnv("POSTGRES_PASSWORD", PASSWORD).withEnv("POSTGRES_DB", DATABASE).withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\n", 2)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    private static Connection connection;
+    private static PostgreSqlMetadataProvider provider;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        POSTGRES.start();
+        String jdbcUrl = "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(5432) + "/"
+                + DATABASE;
+        Class.forName("org.postgresql.Driver");
+        connection = DriverManager.getConnection(jdbcUrl, USER, PASSWORD);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE SEQUENCE order_seq AS integer START WITH 100 INCREMENT BY 5 CACHE 20 CYCLE");
+            stmt.execute("CREATE TABLE account (id INT PRIMARY KEY, owner VARCHAR(40), balance NUMERIC)");
+            stmt.execute("CREATE ROLE auditor");
+            stmt.execute("GRANT SELECT ON account TO auditor WITH GRANT OPTION");
+            stmt.execute("GRANT UPDATE (balance) ON account TO auditor");
+        }
+        provider = new PostgreSqlMetadataProvider();
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null && !connection.isClosed()) {
+            connection.close();
+        }
+        POSTGRES.stop();
+    }
+
+    @Test
+    void getAllSequences_readsPgSequence() throws SQLException {
+        List<Sequence> sequences = provider.getAllSequences(connection, null, SCHEMA);
+        Sequence seq = sequences.stream().filter(s -> "order_seq".equals(s.name())).findFirst().orElseThrow();
+        assertThat(seq.startValue()).isEqualTo(100);
+        assertThat(seq.incrementBy()).isEqualTo(5);
+        assertThat(seq.maxValue()).contains((long) Integer.MAX_VALUE);
+        assertThat(seq.cycle()).isTrue();
+        assertThat(seq.cacheSize()).contains(20L);
+        assertThat(seq.dataType()).contains("integer");
+    }
+
+    @Test
+    void getAllTablePrivileges_explodesRelacl() throws SQLException {
+        List<TablePrivilege> privileges = provider.getAllTablePrivileges(connection, null, SCHEMA, "account")
+                .orElseThrow();
+        assertThat(privileges).anySatisfy(p -> {
+            assertThat(p.grantee()).isEqualTo("auditor");
+            assertThat(p.privilege()).isEqualTo("SELECT");
+            assertThat(p.isGrantable()).contains("YES");
+            assertThat(p.grantor()).contains(USER);
+        });
+        assertThat(privileges).filteredOn(p -> USER.equals(p.grantee())).extracting(TablePrivilege::privilege)
+                .contains("INSERT", "SELECT", "UPDATE", "DELETE", "TRUNCATE", "REFERENCES", "TRIGGER");
+    }
+
+    @Test
+    void getColumnPrivileges_combinesColumnAndTableGrants() throws SQLException {
+        List<ColumnPrivilege> privileges = provider.getColumnPrivileges(connection, null, SCHEMA, "account", null)
+                .orElseThrow();
+        List<ColumnPrivilege> auditor = privileges.stream().filter(p -> "auditor".equals(p.grantee())).toList();
+        assertThat(auditor).filteredOn(p -> "SELECT".equals(p.privilege()))
+                .extracting(p -> p.column().name()).containsExactly("balance", "id", "owner");
+        assertThat(auditor).filteredOn(p -> "UPDATE".equals(p.privilege()))
+                .extracting(p -> p.column().name()).containsExactly("balance");
+    }
+}
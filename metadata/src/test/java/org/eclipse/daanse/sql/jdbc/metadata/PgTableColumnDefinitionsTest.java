@@ -0,0 +1,120 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*/
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+@EnabledIfSystemProperty(named = "integration.docker", matches = "true")
+class PgTableColumnDefinitionsTest {
+
+    private static final String DATABASE = "test";
+    private static final String USER = "postgres";
+    private static final String PASSWORD = "secret";
+    private static final String SCHEMA = "public";
+
+    @SuppressWarnings("resource")
+    private static final GenericContainer<?> POSTGRES = new GenericContainer<>("postgres:15")
+            .withEnv("POSTGRES_PASSWORD", PASSWORD).withEnv("POSTGRES_DB", DATABASE).withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\n", 2)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    private static Connection connection;
+    private static PostgreSqlMetadataProvider provider;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        POSTGRES.start();
+        String jdbcUrl = "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(5432) + "/"
+                + DATABASE;
+        Class.forName("org.postgresql.Driver");
+        connection = DriverManager.getConnection(jdbcUrl, USER, PASSWORD);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                    CREATE TABLE product (
+                        id       BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+                        name     VARCHAR(80) NOT NULL DEFAULT 'unnamed',
+                        price    NUMERIC(10,2),
+                        price_x2 NUMERIC(11,2) GENERATED ALWAYS AS (price * 2) STORED
+                    )
+                    """);
+            stmt.execute("COMMENT ON TABLE product IS 'sellable items'");
+            stmt.execute("COMMENT ON COLUMN product.name IS 'display name'");
+            stmt.execute("CREATE VIEW cheap_product AS SELECT id, name FROM product WHERE price < 10");
+        }
+        provider = new PostgreSqlMetadataProvider();
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null && !connection.isClosed()) {
+            connection.close();
+        }
+        POSTGRES.stop();
+    }
+
+    @Test
+    void getAllTableDefinitions_readsTablesViewsAndRemarks() throws SQLException {
+        List<TableDefinition> tables = provider.getAllTableDefinitions(connection, null, SCHEMA, null, null)
+                .orElseThrow();
+        assertThat(tables).extracting(t -> t.table().name()).containsExactly("cheap_product", "product");
+        assertThat(tables).extracting(t -> t.table().type()).containsExactly("VIEW", "TABLE");
+        assertThat(tables.get(1).tableMetaData().remarks()).contains("sellable items");
+    }
+
+    @Test
+    void getAllTableDefinitions_filtersByType() throws SQLException {
+        List<TableDefinition> tables = provider
+                .getAllTableDefinitions(connection, null, SCHEMA, "%", new String[] { "VIEW" }).orElseThrow();
+        assertThat(tables).extracting(t -> t.table().name()).containsExactly("cheap_product");
+    }
+
+    @Test
+    void getAllColumnDefinitions_mapsTypesDefaultsIdentityAndGenerated() throws SQLException {
+        List<ColumnDefinition> columns = provider.getAllColumnDefinitions(connection, null, SCHEMA, "product", null)
+                .orElseThrow();
+        assertThat(columns).extracting(c -> c.column().name()).containsExactly("id", "name", "price", "price_x2");
+
+        ColumnMetaData id = columns.get(0).columnMetaData();
+        assertThat(id.dataType()).isEqualTo(JDBCType.BIGINT);
+        assertThat(id.autoIncrement()).isEqualTo(ColumnMetaData.AutoIncrement.YES);
+        assertThat(id.nullability()).isEqualTo(ColumnMetaData.Nullability.NO_NULLS);
+
+        ColumnMetaData name = columns.get(1).columnMetaData();
+        assertThat(name.typeName()).isEqualTo("varchar");
+        assertThat(name.columnSize()).hasValue(80);
+        assertThat(name.columnDefault()).hasValueSatisfying(d -> assertThat(d).contains("unnamed"));
+        assertThat(name.remarks()).contains("display name");
+
+        ColumnMetaData price = columns.get(2).columnMetaData();
+        assertThat(price.columnSize()).hasValue(10);
+        assertThat(price.decimalDigits()).hasValue(2);
+        assertThat(price.nullability()).isEqualTo(ColumnMetaData.Nullability.NULLABLE);
+
+        assertThat(columns.get(3).columnMetaData().generatedColumn()).isEqualTo(ColumnMetaData.GeneratedColumn.YES);
+    }
+}
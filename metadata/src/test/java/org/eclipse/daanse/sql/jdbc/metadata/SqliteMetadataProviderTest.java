@@ -0,0 +1,198 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*/
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class SqliteMetadataProviderTest {
+
+    private static Connection connection;
+    private static SqliteMetadataProvider provider;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                    CREATE TABLE customer (
+                        id      INTEGER PRIMARY KEY AUTOINCREMENT,
+                        email   TEXT NOT NULL UNIQUE,
+                        country VARCHAR(2) DEFAULT 'DE'
+                    )
+                    """);
+            stmt.execute("""
+                    CREATE TABLE orders (
+                        order_id    INTEGER,
+                        line_no     INT,
+                        customer_id INTEGER REFERENCES customer ON DELETE CASCADE,
+                        amount      DECIMAL(10,2),
+                        total       AS (amount * 2),
+                        CONSTRAINT pk_orders PRIMARY KEY (order_id, line_no)
+                    )
+                    """);
+            stmt.execute("CREATE INDEX idx_orders_amount ON orders (amount DESC, lower(customer_id))");
+            stmt.execute("CREATE VIEW big_orders AS SELECT order_id, amount FROM orders WHERE amount > 1000");
+            stmt.execute("""
+                    CREATE TRIGGER orders_audit AFTER UPDATE ON orders
+                    BEGIN
+                        SELECT 1;
+                    END
+                    """);
+        }
+        provider = new SqliteMetadataProvider();
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null && !connection.isClosed()) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void factory_supportsSqlite() throws SQLException {
+        String productName = connection.getMetaData().getDatabaseProductName();
+        assertThat(MetadataProviders.forProductName(productName)).containsInstanceOf(SqliteMetadataProvider.class);
+    }
+
+    @Test
+    void getAllTableDefinitions_readsSqliteSchema() throws SQLException {
+        List<TableDefinition> tables = provider.getAllTableDefinitions(connection, null, null, null, null)
+                .orElseThrow();
+        assertThat(tables).extracting(t -> t.table().name()).containsExactly("sqlite_sequence", "customer",
+                "orders", "big_orders");
+        assertThat(tables).extracting(t -> t.table().type()).containsExactly("SYSTEM TABLE", "TABLE", "TABLE",
+                "VIEW");
+        assertThat(tables.get(1).table().schema()).isEmpty();
+
+        List<TableDefinition> views = provider
+                .getAllTableDefinitions(connection, null, null, "%", new String[] { "VIEW" }).orElseThrow();
+        assertThat(views).extracting(t -> t.table().name()).containsExactly("big_orders");
+    }
+
+    @Test
+    void getAllColumnDefinitions_parsesDeclaredTypes() throws SQLException {
+        List<ColumnDefinition> columns = provider.getAllColumnDefinitions(connection, null, null, null, null)
+                .orElseThrow();
+        List<ColumnDefinition> customer = columns.stream()
+                .filter(c -> "customer".equals(c.column().table().orElseThrow().name())).toList();
+        assertThat(customer).extracting(c -> c.column().name()).containsExactly("id", "email", "country");
+
+        ColumnMetaData id = customer.get(0).columnMetaData();
+        assertThat(id.dataType()).isEqualTo(JDBCType.INTEGER);
+        assertThat(id.autoIncrement()).isEqualTo(ColumnMetaData.AutoIncrement.YES);
+
+        assertThat(customer.get(1).columnMetaData().nullability()).isEqualTo(ColumnMetaData.Nullability.NO_NULLS);
+
+        ColumnMetaData country = customer.get(2).columnMetaData();
+        assertThat(country.dataType()).isEqualTo(JDBCType.VARCHAR);
+        assertThat(country.typeName()).isEqualTo("VARCHAR");
+        assertThat(country.columnSize()).hasValue(2);
+        assertThat(country.columnDefault()).contains("'DE'");
+
+        List<ColumnDefinition> orders = provider.getAllColumnDefinitions(connection, null, null, "orders", null)
+                .orElseThrow();
+        assertThat(orders).extracting(c -> c.column().name()).containsExactly("order_id", "line_no",
+                "customer_id", "amount", "total");
+        ColumnMetaData amount = orders.get(3).columnMetaData();
+        assertThat(amount.dataType()).isEqualTo(JDBCType.DECIMAL);
+        assertThat(amount.columnSize()).hasValue(10);
+        assertThat(amount.decimalDigits()).hasValue(2);
+        assertThat(orders.get(0).columnMetaData().autoIncrement()).isEqualTo(ColumnMetaData.AutoIncrement.NO);
+        assertThat(orders.get(4).columnMetaData().generatedColumn()).isEqualTo(ColumnMetaData.GeneratedColumn.YES);
+    }
+
+    @Test
+    void getAllPrimaryKeys_readsNamedCompositeKey() throws SQLException {
+        List<PrimaryKey> keys = provider.getAllPrimaryKeys(connection, null, null).orElseThrow();
+        assertThat(keys).extracting(pk -> pk.table().name()).containsExactly("customer", "orders");
+        assertThat(keys.get(0).constraintName()).isEmpty();
+        assertThat(keys.get(1).constraintName()).contains("pk_orders");
+        assertThat(keys.get(1).columns()).extracting(c -> c.name()).containsExactly("order_id", "line_no");
+    }
+
+    @Test
+    void getAllImportedKeys_resolvesImplicitParentKey() throws SQLException {
+        List<ImportedKey> keys = provider.getAllImportedKeys(connection, null, null).orElseThrow();
+        assertThat(keys).singleElement().satisfies(key -> {
+            assertThat(key.foreignKeyColumn().name()).isEqualTo("customer_id");
+            assertThat(key.primaryKeyColumn().name()).isEqualTo("id");
+            assertThat(key.name()).isEqualTo("fk_orders_customer_id_customer_id");
+            assertThat(key.deleteRule()).isEqualTo(ImportedKey.ReferentialAction.CASCADE);
+            assertThat(key.updateRule()).isEqualTo(ImportedKey.ReferentialAction.NO_ACTION);
+        });
+    }
+
+    @Test
+    void getAllUniqueConstraints_readsAutoIndexes() throws SQLException {
+        List<UniqueConstraint> uniques = provider.getAllUniqueConstraints(connection, null, null);
+        assertThat(uniques).singleElement().satisfies(u -> {
+            assertThat(u.table().name()).isEqualTo("customer");
+            assertThat(u.columns()).extracting(c -> c.name()).containsExactly("email");
+        });
+    }
+
+    @Test
+    void getIndexInfo_listsKeyColumnsAndExpressions() throws SQLException {
+        List<IndexInfo> indexes = provider.getIndexInfo(connection, null, null, "orders").orElseThrow();
+        assertThat(indexes).singleElement().satisfies(info -> {
+            assertThat(info.indexInfoItems()).filteredOn(i -> i.indexName().orElseThrow().equals("idx_orders_amount"))
+                    .satisfiesExactly(amount -> {
+                        assertThat(amount.column()).hasValueSatisfying(c -> assertThat(c.name()).isEqualTo("amount"));
+                        assertThat(amount.ascending()).contains(false);
+                    }, expression -> assertThat(expression.column()).isEmpty());
+            assertThat(info.indexInfoItems()).filteredOn(i -> i.indexName().orElseThrow().startsWith("sqlite_autoindex"))
+                    .allSatisfy(i -> assertThat(i.unique()).isTrue()).hasSize(2);
+        });
+    }
+
+    @Test
+    void getAllViewDefinitions_extractsBody() throws SQLException {
+        List<ViewDefinition> views = provider.getAllViewDefinitions(connection, null, null);
+        assertThat(views).singleElement().satisfies(v -> {
+            assertThat(v.view().name()).isEqualTo("big_orders");
+            assertThat(v.viewBody()).hasValueSatisfying(b -> assertThat(b).startsWith("SELECT"));
+        });
+    }
+
+    @Test
+    void getTriggers_parsesTimingAndEvent() throws SQLException {
+        List<Trigger> triggers = provider.getTriggers(connection, null, null, "orders");
+        assertThat(triggers).singleElement().satisfies(t -> {
+            assertThat(t.name()).isEqualTo("orders_audit");
+            assertThat(t.timing()).isEqualTo(TriggerTiming.AFTER);
+            assertThat(t.event()).isEqualTo(TriggerEvent.UPDATE);
+            assertThat(t.body()).contains("SELECT 1;");
+        });
+        assertThat(provider.getTriggers(connection, null, null, "customer")).isEmpty();
+    }
+}
@@ -0,0 +1,912 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.record.io;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.JDBCType;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
+import org.eclipse.daanse.sql.jdbc.api.meta.DatabaseInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IdentifierInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.TypeInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.Function;
+import org.eclipse.daanse.sql.jdbc.api.schema.FunctionColumn;
+import org.eclipse.daanse.sql.jdbc.api.schema.FunctionReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.MaterializedView;
+import org.eclipse.daanse.sql.jdbc.api.schema.Partition;
+import org.eclipse.daanse.sql.jdbc.api.schema.PartitionMethod;
+import org.eclipse.daanse.sql.jdbc.api.schema.Procedure;
+import org.eclipse.daanse.sql.jdbc.api.schema.ProcedureColumn;
+import org.eclipse.daanse.sql.jdbc.api.schema.ProcedureReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.SequenceReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableMetaData;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
+import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedTypeReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.meta.ChangeMarkerRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.DatabaseInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.IdentifierInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.MetaInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.ReferenceInterner;
+import org.eclipse.daanse.sql.jdbc.record.meta.StructureInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.TypeInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.FunctionColumnRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.FunctionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.MaterializedViewRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PartitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ProcedureColumnRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ProcedureRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.SequenceRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.UserDefinedTypeRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.eclipse.daanse.sql.model.schema.TriggerReference;
+
+/**
+ * Compact binary form of a {@link MetaInfo} snapshot and, optionally, the
+ * {@link ChangeMarker} it was read against. Decoding yields the record types of
+ * this bundle.
+ * <p>
+ * Layout, big-endian:
+ *
+ * <pre>
+ * header   int magic, int version, int flags, int stringCount,
+ *          int stringsOffset, int stringsLength, int bodyOffset, int bodyLength
+ * strings  stringCount x (varint byteLength, UTF-8 bytes)
+ * body     MetaInfo, then the ChangeMarker if flag {@value #FLAG_CHANGE_MARKER} is set
+ * </pre>
+ *
+ * Every name, type name and definition in the body is a varint index into the
+ * shared string table, so a decoded snapshot holds each distinct string once.
+ * Schema and table references are written in full on first use and as a back
+ * reference afterwards, which also lets all rows of a table share one
+ * {@link TableReference} instance. The header carries absolute offsets only, so
+ * a read-only mapped file decodes in place.
+ * <p>
+ * {@link #VERSION} is raised whenever the body layout changes; {@link #decode}
+ * rejects other versions rather than guessing.
+ */
+public final class MetaInfoCodec {
+
+    /** {@code "DSNP"} */
+    public static final int MAGIC = 0x44534E50;
+
+    public static final int VERSION = 1;
+
+    public static final int FLAG_CHANGE_MARKER = 1;
+
+    static final int HEADER_SIZE = 8 * Integer.BYTES;
+
+    /** A decoded snapshot together with the change marker stored with it. */
+    public record StoredSnapshot(MetaInfo metaInfo, Optional<ChangeMarker> changeMarker) {
+    }
+
+    private MetaInfoCodec() {
+    }
+
+    /**
+     * @param metaInfo     the snapshot to encode
+     * @param changeMarker the marker read just before {@code metaInfo}, or null
+     * @return a buffer positioned at 0 whose remaining bytes are the encoding
+     */
+    public static ByteBuffer encode(MetaInfo metaInfo, ChangeMarker changeMarker) {
+        Writer body = new Writer();
+        body.metaInfo(metaInfo);
+        if (changeMarker != null) {
+            body.changeMarker(changeMarker);
+        }
+        Out strings = new Out();
+        for (String s : body.strings.keySet()) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            strings.varInt(bytes.length);
+            strings.bytes(bytes);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + strings.size + body.out.size);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(changeMarker != null ? FLAG_CHANGE_MARKER : 0)
+                .putInt(body.strings.size()).putInt(HEADER_SIZE).putInt(strings.size)
+                .putInt(HEADER_SIZE + strings.size).putInt(body.out.size);
+        buffer.put(strings.buf, 0, strings.size).put(body.out.buf, 0, body.out.size);
+        return buffer.flip();
+    }
+
+    /**
+     * Decodes from the absolute start of {@code buffer}; its position and limit
+     * are left untouched.
+     *
+     * @throws IllegalArgumentException if the buffer is not a snapshot of
+     *                                  {@link #VERSION} or is truncated
+     */
+    public static StoredSnapshot decode(ByteBuffer buffer) {
+        ByteBuffer in = buffer.duplicate().clear();
+        try {
+            if (in.getInt(0) != MAGIC) {
+                throw new IllegalArgumentException("not a MetaInfo snapshot");
+            }
+            int version = in.getInt(4);
+            if (version != VERSION) {
+                throw new IllegalArgumentException(
+                        "unsupported snapshot version " + version + ", expected " + VERSION);
+            }
+            int flags = in.getInt(8);
+            String[] strings = readStrings(in.slice(in.getInt(16), in.getInt(20)), in.getInt(12));
+            Reader reader = new Reader(in.slice(in.getInt(24), in.getInt(28)), strings);
+            MetaInfo metaInfo = reader.metaInfo();
+            ChangeMarker marker = (flags & FLAG_CHANGE_MARKER) != 0 ? reader.changeMarker() : null;
+            return new StoredSnapshot(metaInfo, Optional.ofNullable(marker));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("truncated snapshot", e);
+        }
+    }
+
+    private static String[] readStrings(ByteBuffer in, int count) {
+        String[] strings = new String[count];
+        byte[] scratch = new byte[64];
+        for (int i = 0; i < count; i++) {
+            int length = Reader.varInt(in);
+            if (length > scratch.length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            in.get(scratch, 0, length);
+            strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    /** Growable byte sink with varint helpers. */
+    private static final class Out {
+
+        byte[] buf = new byte[4096];
+        int size;
+
+        void ensure(int extra) {
+            if (size + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(size + extra, buf.length * 2));
+            }
+        }
+
+        void put(int b) {
+            ensure(1);
+            buf[size++] = (byte) b;
+        }
+
+        void bytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buf, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void varInt(int v) {
+            while ((v & ~0x7F) != 0) {
+                put((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            put(v);
+        }
+
+        void varLong(long v) {
+            while ((v & ~0x7FL) != 0) {
+                put((int) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            put((int) v);
+        }
+    }
+
+    private static final class Writer {
+
+        final Out out = new Out();
+        final Map<String, Integer> strings = new LinkedHashMap<>();
+        final Map<SchemaReference, Integer> schemas = new HashMap<>();
+        final Map<TableReference, Integer> tables = new HashMap<>();
+
+        void metaInfo(MetaInfo info) {
+            DatabaseInfo db = info.databaseInfo();
+            string(db.databaseProductName());
+            string(db.databaseProductVersion());
+            zInt(db.databaseMajorVersion());
+            zInt(db.databaseMinorVersion());
+
+            IdentifierInfo id = info.identifierInfo();
+            string(id.quoteString());
+            zInt(id.maxColumnNameLength());
+            bool(id.readOnly());
+            out.varInt(id.supportedResultSetStyles().size());
+            for (List<Integer> style : id.supportedResultSetStyles()) {
+                out.varInt(style.size());
+                style.forEach(this::zInt);
+            }
+
+            list(info.typeInfos(), this::typeInfo);
+            structureInfo(info.structureInfo());
+            list(info.indexInfos(), this::indexInfo);
+        }
+
+        void structureInfo(StructureInfo s) {
+            list(s.catalogs(), c -> string(c.name()));
+            list(s.schemas(), this::schema);
+            list(s.tables(), this::tableDefinition);
+            list(s.columns(), this::columnDefinition);
+            list(s.importedKeys(), this::importedKey);
+            list(s.primaryKeys(), this::primaryKey);
+            list(s.triggers(), this::trigger);
+            list(s.sequences(), this::sequence);
+            list(s.checkConstraints(), this::checkConstraint);
+            list(s.uniqueConstraints(), this::uniqueConstraint);
+            list(s.userDefinedTypes(), this::userDefinedType);
+            list(s.viewDefinitions(), this::viewDefinition);
+            list(s.procedures(), this::procedure);
+            list(s.functions(), this::function);
+            list(s.materializedViews(), this::materializedView);
+            list(s.partitions(), this::partition);
+        }
+
+        void changeMarker(ChangeMarker marker) {
+            list(marker.schemas(), this::schema);
+            out.varInt(marker.tableStamps().size());
+            marker.tableStamps().forEach((table, stamp) -> {
+                table(table);
+                string(stamp);
+            });
+            out.varInt(marker.objectStamps().size());
+            marker.objectStamps().forEach((schema, stamp) -> {
+                schema(schema);
+                string(stamp);
+            });
+        }
+
+        void typeInfo(TypeInfo t) {
+            string(t.typeName());
+            jdbcType(t.dataType());
+            zInt(t.precision());
+            optString(t.literalPrefix());
+            optString(t.literalSuffix());
+            optString(t.createParams());
+            enumName(t.nullable());
+            bool(t.caseSensitive());
+            enumName(t.searchable());
+            bool(t.unsignedAttribute());
+            bool(t.fixedPrecScale());
+            bool(t.autoIncrement());
+            optString(t.localTypeName());
+            zInt(t.minimumScale());
+            zInt(t.maximumScale());
+            zInt(t.numPrecRadix());
+        }
+
+        void indexInfo(IndexInfo index) {
+            table(index.tableReference());
+            list(index.indexInfoItems(), item -> {
+                optString(item.indexName());
+                enumName(item.type());
+                bool(item.column().isPresent());
+                item.column().ifPresent(this::column);
+                zInt(item.ordinalPosition());
+                out.put(item.ascending().map(asc -> asc ? 2 : 1).orElse(0));
+                zLong(item.cardinality());
+                zLong(item.pages());
+                optString(item.filterCondition());
+                bool(item.unique());
+            });
+        }
+
+        void tableDefinition(TableDefinition td) {
+            table(td.table());
+            TableMetaData md = td.tableMetaData();
+            optString(md.remarks());
+            optString(md.typeCatalog());
+            optString(md.typeSchema());
+            optString(md.typeName());
+            optString(md.selfReferencingColumnName());
+            optString(md.refGeneration());
+        }
+
+        void columnDefinition(ColumnDefinition cd) {
+            column(cd.column());
+            ColumnMetaData md = cd.columnMetaData();
+            jdbcType(md.dataType());
+            string(md.typeName());
+            optInt(md.columnSize());
+            optInt(md.decimalDigits());
+            optInt(md.numPrecRadix());
+            enumName(md.nullability());
+            optInt(md.charOctetLength());
+            optString(md.remarks());
+            optString(md.columnDefault());
+            enumName(md.autoIncrement());
+            enumName(md.generatedColumn());
+        }
+
+        void importedKey(ImportedKey fk) {
+            column(fk.primaryKeyColumn());
+            column(fk.foreignKeyColumn());
+            string(fk.name());
+            zInt(fk.keySequence());
+            enumName(fk.updateRule());
+            enumName(fk.deleteRule());
+            optString(fk.primaryKeyName());
+            enumName(fk.deferrability());
+        }
+
+        void primaryKey(PrimaryKey pk) {
+            table(pk.table());
+            list(pk.columns(), this::column);
+            optString(pk.constraintName());
+        }
+
+        void trigger(Trigger t) {
+            table(t.reference().table());
+            string(t.reference().name());
+            enumName(t.timing());
+            enumName(t.event());
+            optString(t.body());
+            optString(t.fullDefinition());
+            optString(t.orientation());
+        }
+
+        void sequence(Sequence s) {
+            optSchema(s.reference().schema());
+            string(s.reference().name());
+            zLong(s.startValue());
+            zLong(s.incrementBy());
+            optLong(s.minValue());
+            optLong(s.maxValue());
+            bool(s.cycle());
+            optLong(s.cacheSize());
+            optString(s.dataType());
+        }
+
+        void checkConstraint(CheckConstraint c) {
+            string(c.name());
+            table(c.table());
+            string(c.checkClause());
+        }
+
+        void uniqueConstraint(UniqueConstraint u) {
+            string(u.name());
+            table(u.table());
+            list(u.columns(), this::column);
+        }
+
+        void userDefinedType(UserDefinedType u) {
+            optSchema(u.reference().schema());
+            string(u.reference().name());
+            string(u.className());
+            jdbcType(u.baseType());
+            optString(u.remarks());
+        }
+
+        void viewDefinition(ViewDefinition v) {
+            table(v.view());
+            optString(v.viewBody());
+            optString(v.fullDefinition());
+        }
+
+        void procedure(Procedure p) {
+            optSchema(p.reference().schema());
+            string(p.reference().name());
+            string(p.reference().specificName());
+            enumName(p.procedureType());
+            optString(p.remarks());
+            list(p.columns(), c -> {
+                string(c.name());
+                enumName(c.columnType());
+                jdbcType(c.dataType());
+                string(c.typeName());
+                optInt(c.precision());
+                optInt(c.scale());
+                optInt(c.radix());
+                enumName(c.nullable());
+                optString(c.remarks());
+                optString(c.columnDefault());
+                zInt(c.ordinalPosition());
+            });
+            optString(p.body());
+            optString(p.fullDefinition());
+            optInstant(p.lastModified());
+        }
+
+        void function(Function f) {
+            optSchema(f.reference().schema());
+            string(f.reference().name());
+            string(f.reference().specificName());
+            enumName(f.functionType());
+            optString(f.remarks());
+            list(f.columns(), c -> {
+                string(c.name());
+                enumName(c.columnType());
+                jdbcType(c.dataType());
+                string(c.typeName());
+                optInt(c.precision());
+                optInt(c.scale());
+                optInt(c.radix());
+                enumName(c.nullable());
+                optString(c.remarks());
+                optInt(c.charOctetLength());
+                zInt(c.ordinalPosition());
+            });
+            optString(f.body());
+            optString(f.fullDefinition());
+            optInstant(f.lastModified());
+        }
+
+        void materializedView(MaterializedView m) {
+            table(m.view());
+            optString(m.viewBody());
+            optString(m.fullDefinition());
+            optString(m.refreshMode());
+            optInstant(m.lastRefresh());
+        }
+
+        void partition(Partition p) {
+            string(p.name());
+            table(p.table());
+            bool(p.ordinalPosition().isPresent());
+            p.ordinalPosition().ifPresent(this::zInt);
+            enumName(p.method());
+            optString(p.expression());
+            optString(p.description());
+            optLong(p.rowCount());
+            optString(p.parentPartitionName());
+            enumName(p.subPartitionMethod().orElse(null));
+            optString(p.subPartitionExpression());
+        }
+
+        void column(ColumnReference c) {
+            optTable(c.table());
+            string(c.name());
+        }
+
+        /** 0 = null, 1 = definition follows, n + 2 = back reference to the n-th. */
+        void table(TableReference t) {
+            if (t == null) {
+                out.varInt(0);
+                return;
+            }
+            Integer seen = tables.get(t);
+            if (seen != null) {
+                out.varInt(seen + 2);
+                return;
+            }
+            out.varInt(1);
+            optSchema(t.schema());
+            string(t.name());
+            string(t.type());
+            tables.put(t, tables.size());
+        }
+
+        /** Same encoding as {@link #table}. */
+        void schema(SchemaReference s) {
+            if (s == null) {
+                out.varInt(0);
+                return;
+            }
+            Integer seen = schemas.get(s);
+            if (seen != null) {
+                out.varInt(seen + 2);
+                return;
+            }
+            out.varInt(1);
+            string(s.catalog().map(CatalogReference::name).orElse(null));
+            string(s.name());
+            schemas.put(s, schemas.size());
+        }
+
+        void optTable(Optional<TableReference> t) {
+            table(t.orElse(null));
+        }
+
+        void optSchema(Optional<SchemaReference> s) {
+            schema(s.orElse(null));
+        }
+
+        /** 0 = null, n + 1 = n-th string of the table. */
+        void string(String s) {
+            if (s == null) {
+                out.varInt(0);
+                return;
+            }
+            Integer index = strings.get(s);
+            if (index == null) {
+                index = strings.size();
+                strings.put(s, index);
+            }
+            out.varInt(index + 1);
+        }
+
+        void optString(Optional<String> s) {
+            string(s.orElse(null));
+        }
+
+        void enumName(Enum<?> e) {
+            string(e == null ? null : e.name());
+        }
+
+        /** 0 = null, otherwise the zigzag vendor type number + 1. */
+        void jdbcType(JDBCType type) {
+            out.varLong(type == null ? 0 : zigZag(type.getVendorTypeNumber()) + 1);
+        }
+
+        void bool(boolean b) {
+            out.put(b ? 1 : 0);
+        }
+
+        void zInt(int v) {
+            out.varInt((v << 1) ^ (v >> 31));
+        }
+
+        void zLong(long v) {
+            out.varLong(zigZag(v));
+        }
+
+        void optInt(OptionalInt v) {
+            bool(v.isPresent());
+            if (v.isPresent()) {
+                zInt(v.getAsInt());
+            }
+        }
+
+        void optLong(Optional<Long> v) {
+            bool(v.isPresent());
+            v.ifPresent(this::zLong);
+        }
+
+        void optInstant(Optional<Instant> v) {
+            bool(v.isPresent());
+            v.ifPresent(i -> {
+                zLong(i.getEpochSecond());
+                out.varInt(i.getNano());
+            });
+        }
+
+        <T> void list(List<T> rows, Consumer<T> row) {
+            out.varInt(rows.size());
+            for (T t : rows) {
+                row.accept(t);
+            }
+        }
+
+        static long zigZag(long v) {
+            return (v << 1) ^ (v >> 63);
+        }
+    }
+
+    private static final class Reader {
+
+        private final ByteBuffer in;
+        private final String[] strings;
+        private final List<SchemaReference> schemas = new ArrayList<>();
+        private final List<TableReference> tables = new ArrayList<>();
+        private final ReferenceInterner interner = new ReferenceInterner();
+
+        Reader(ByteBuffer in, String[] strings) {
+            this.in = in;
+            this.strings = strings;
+        }
+
+        MetaInfo metaInfo() {
+            DatabaseInfoRecord db = new DatabaseInfoRecord(string(), string(), zInt(), zInt());
+
+            String quote = string();
+            int maxColumnNameLength = zInt();
+            boolean readOnly = bool();
+            int styleCount = varInt(in);
+            Set<List<Integer>> styles = new LinkedHashSet<>();
+            for (int i = 0; i < styleCount; i++) {
+                int size = varInt(in);
+                List<Integer> style = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    style.add(zInt());
+                }
+                styles.add(List.copyOf(style));
+            }
+            IdentifierInfoRecord id = new IdentifierInfoRecord(quote, maxColumnNameLength, readOnly,
+                    Collections.unmodifiableSet(styles));
+
+            List<TypeInfo> typeInfos = list(this::typeInfo);
+            StructureInfo structure = structureInfo();
+            List<IndexInfo> indexInfos = list(this::indexInfo);
+            return new MetaInfoRecord(db, structure, id, typeInfos, indexInfos);
+        }
+
+        StructureInfo structureInfo() {
+            return new StructureInfoRecord(list(() -> interner.catalog(new CatalogReference(string()))), list(this::schema),
+                    list(this::tableDefinition), list(this::columnDefinition), list(this::importedKey),
+                    list(this::primaryKey), list(this::trigger), list(this::sequence), list(this::checkConstraint),
+                    list(this::uniqueConstraint), list(this::userDefinedType), list(this::viewDefinition),
+                    list(this::procedure), list(this::function), list(this::materializedView),
+                    list(this::partition));
+        }
+
+        ChangeMarker changeMarker() {
+            List<SchemaReference> markerSchemas = list(this::schema);
+            int tableCount = varInt(in);
+            Map<TableReference, String> tableStamps = new HashMap<>(tableCount * 2);
+            for (int i = 0; i < tableCount; i++) {
+                tableStamps.put(table(), string());
+            }
+            int objectCount = varInt(in);
+            Map<SchemaReference, String> objectStamps = new HashMap<>(objectCount * 2);
+            for (int i = 0; i < objectCount; i++) {
+                objectStamps.put(schema(), string());
+            }
+            return new ChangeMarkerRecord(markerSchemas, tableStamps, objectStamps);
+        }
+
+        TypeInfo typeInfo() {
+            return new TypeInfoRecord(string(), jdbcType(), zInt(), optString(), optString(), optString(),
+                    enumValue(TypeInfo.Nullable.class), bool(), enumValue(TypeInfo.Searchable.class), bool(),
+                    bool(), bool(), optString(), (short) zInt(), (short) zInt(), zInt());
+        }
+
+        IndexInfo indexInfo() {
+            TableReference table = table();
+            List<IndexInfoItem> items = list(() -> {
+                Optional<String> indexName = optString();
+                IndexInfoItem.IndexType type = enumValue(IndexInfoItem.IndexType.class);
+                Optional<ColumnReference> column = bool() ? Optional.of(column()) : Optional.empty();
+                int ordinalPosition = zInt();
+                int ascending = in.get();
+                Optional<Boolean> asc = ascending == 0 ? Optional.empty() : Optional.of(ascending == 2);
+                return new IndexInfoItemRecord(indexName, type, column, ordinalPosition, asc, zLong(), zLong(),
+                        optString(), bool());
+            });
+            return new IndexInfoRecord(table, items);
+        }
+
+        TableDefinition tableDefinition() {
+            return new TableDefinitionRecord(table(), new TableMetaDataRecord(optString(), optString(),
+                    optString(), optString(), optString(), optString()));
+        }
+
+        ColumnDefinition columnDefinition() {
+            ColumnReference column = column();
+            return new ColumnDefinitionRecord(column,
+                    interner.columnMetaData(new ColumnMetaDataRecord(jdbcType(), string(), optInt(), optInt(),
+                            optInt(), enumValue(ColumnMetaData.Nullability.class), optInt(), optString(),
+                            optString(), enumValue(ColumnMetaData.AutoIncrement.class),
+                            enumValue(ColumnMetaData.GeneratedColumn.class))));
+        }
+
+        ImportedKey importedKey() {
+            return new ImportedKeyRecord(column(), column(), string(), zInt(),
+                    enumValue(ImportedKey.ReferentialAction.class), enumValue(ImportedKey.ReferentialAction.class),
+                    optString(), enumValue(ImportedKey.Deferrability.class));
+        }
+
+        PrimaryKey primaryKey() {
+            return new PrimaryKeyRecord(table(), list(this::column), optString());
+        }
+
+        Trigger trigger() {
+            return new TriggerRecord(new TriggerReference(table(), string()),
+                    enumValue(Trigger.TriggerTiming.class), enumValue(Trigger.TriggerEvent.class), optString(),
+                    optString(), optString());
+        }
+
+        Sequence sequence() {
+            return new SequenceRecord(new SequenceReference(optSchema(), string()), zLong(), zLong(), optLong(),
+                    optLong(), bool(), optLong(), optString());
+        }
+
+        CheckConstraint checkConstraint() {
+            return new CheckConstraintRecord(string(), table(), string());
+        }
+
+        UniqueConstraint uniqueConstraint() {
+            return new UniqueConstraintRecord(string(), table(), list(this::column));
+        }
+
+        UserDefinedType userDefinedType() {
+            return new UserDefinedTypeRecord(new UserDefinedTypeReference(optSchema(), string()), string(),
+                    jdbcType(), optString());
+        }
+
+        ViewDefinition viewDefinition() {
+            return new ViewDefinitionRecord(table(), optString(), optString());
+        }
+
+        Procedure procedure() {
+            ProcedureReference reference = new ProcedureReference(optSchema(), string(), string());
+            Procedure.ProcedureType type = enumValue(Procedure.ProcedureType.class);
+            Optional<String> remarks = optString();
+            List<ProcedureColumn> columns = list(() -> new ProcedureColumnRecord(string(),
+                    enumValue(ProcedureColumn.ColumnType.class), jdbcType(), string(), optInt(), optInt(),
+                    optInt(), enumValue(ProcedureColumn.Nullability.class), optString(), optString(), zInt()));
+            return new ProcedureRecord(reference, type, remarks, columns, optString(), optString(), optInstant());
+        }
+
+        Function function() {
+            FunctionReference reference = new FunctionReference(optSchema(), string(), string());
+            Function.FunctionType type = enumValue(Function.FunctionType.class);
+            Optional<String> remarks = optString();
+            List<FunctionColumn> columns = list(() -> new FunctionColumnRecord(string(),
+                    enumValue(FunctionColumn.ColumnType.class), jdbcType(), string(), optInt(), optInt(),
+                    optInt(), enumValue(FunctionColumn.Nullability.class), optString(), optInt(), zInt()));
+            return new FunctionRecord(reference, type, remarks, columns, optString(), optString(), optInstant());
+        }
+
+        MaterializedView materializedView() {
+            return new MaterializedViewRecord(table(), optString(), optString(), optString(), optInstant());
+        }
+
+        Partition partition() {
+            String name = string();
+            TableReference table = table();
+            Optional<Integer> ordinalPosition = bool() ? Optional.of(zInt()) : Optional.empty();
+            return new PartitionRecord(name, table, ordinalPosition, enumValue(PartitionMethod.class),
+                    optString(), optString(), optLong(), optString(),
+                    Optional.ofNullable(enumValue(PartitionMethod.class)), optString());
+        }
+
+        ColumnReference column() {
+            return interner.column(new ColumnReference(Optional.ofNullable(table()), string()));
+        }
+
+        TableReference table() {
+            int tag = varInt(in);
+            if (tag == 0) {
+                return null;
+            }
+            if (tag > 1) {
+                return tables.get(tag - 2);
+            }
+            TableReference t = interner.table(new TableReference(optSchema(), string(), string()));
+            tables.add(t);
+            return t;
+        }
+
+        SchemaReference schema() {
+            int tag = varInt(in);
+            if (tag == 0) {
+                return null;
+            }
+            if (tag > 1) {
+                return schemas.get(tag - 2);
+            }
+            String catalog = string();
+            SchemaReference s = interner.schema(new SchemaReference(
+                    catalog == null ? Optional.empty() : Optional.of(new CatalogReference(catalog)), string()));
+            schemas.add(s);
+            return s;
+        }
+
+        Optional<SchemaReference> optSchema() {
+            return Optional.ofNullable(schema());
+        }
+
+        String string() {
+            int index = varInt(in);
+            return index == 0 ? null : strings[index - 1];
+        }
+
+        Optional<String> optString() {
+            return Optional.ofNullable(string());
+        }
+
+        <E extends Enum<E>> E enumValue(Class<E> type) {
+            String name = string();
+            return name == null ? null : Enum.valueOf(type, name);
+        }
+
+        JDBCType jdbcType() {
+            long v = varLong();
+            return v == 0 ? null : JDBCType.valueOf((int) unZigZag(v - 1));
+        }
+
+        boolean bool() {
+            return in.get() != 0;
+        }
+
+        int zInt() {
+            int v = varInt(in);
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        long zLong() {
+            return unZigZag(varLong());
+        }
+
+        OptionalInt optInt() {
+            return bool() ? OptionalInt.of(zInt()) : OptionalInt.empty();
+        }
+
+        Optional<Long> optLong() {
+            return bool() ? Optional.of(zLong()) : Optional.empty();
+        }
+
+        Optional<Instant> optInstant() {
+            if (!bool()) {
+                return Optional.empty();
+            }
+            long seconds = zLong();
+            return Optional.of(Instant.ofEpochSecond(seconds, varInt(in)));
+        }
+
+        <T> List<T> list(Supplier<T> row) {
+            int size = varInt(in);
+            List<T> rows = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                rows.add(row.get());
+            }
+            return Collections.unmodifiableList(rows);
+        }
+
+        long varLong() {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = in.get();
+                v |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return v;
+                }
+            }
+            throw new IllegalArgumentException("malformed varint");
+        }
+
+        static int varInt(ByteBuffer in) {
+            int v = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = in.get();
+                v |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return v;
+                }
+            }
+            throw new IllegalArgumentException("malformed varint");
+        }
+
+        static long unZigZag(long v) {
+            return (v >>> 1) ^ -(v & 1);
+        }
+    }
+}
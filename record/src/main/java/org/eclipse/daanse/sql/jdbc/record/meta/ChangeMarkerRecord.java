@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.record.meta;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.ChangeMarker;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+public record ChangeMarkerRecord(List<SchemaReference> schemas, Map<TableReference, String> tableStamps,
+        Map<SchemaReference, String> objectStamps) implements ChangeMarker {
+
+    public ChangeMarkerRecord {
+        schemas = List.copyOf(schemas);
+        tableStamps = Map.copyOf(tableStamps);
+        objectStamps = Map.copyOf(objectStamps);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.record.meta;
+
+import static org.eclipse.daanse.sql.jdbc.record.meta.Dictionary.NONE;
+import static org.eclipse.daanse.sql.jdbc.record.meta.Dictionary.constant;
+import static org.eclipse.daanse.sql.jdbc.record.meta.Dictionary.optional;
+import static org.eclipse.daanse.sql.jdbc.record.meta.Dictionary.ordinal;
+import static org.eclipse.daanse.sql.jdbc.record.meta.Dictionary.value;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * Index infos of a snapshot as struct-of-arrays, the counterpart of
+ * {@link ColumnarStructureInfo} for {@code MetaInfo.indexInfos()}.
+ * <p>
+ * The items of all indexes are stored back to back, one array slot per field,
+ * with each index keeping the offset of its first item. Index names, filter
+ * conditions and column names are dictionary codes, tables are codes into a
+ * dictionary of table reference {@code Optional}s and {@code ascending} is a
+ * byte ({@code -1} unknown). {@code get} builds an {@link IndexInfoRecord}
+ * whose items are materialized on access.
+ */
+public final class ColumnarIndexInfos extends AbstractList<IndexInfo> implements RandomAccess {
+
+    private static final IndexInfoItem.IndexType[] INDEX_TYPES = IndexInfoItem.IndexType.values();
+
+    private final List<Optional<TableReference>> tableDictionary;
+    private final List<String> stringDictionary;
+
+    private final int[] indexTable;
+    private final int[] firstItem;
+
+    private final int[] indexName;
+    private final byte[] type;
+    private final int[] columnTable;
+    private final int[] columnName;
+    private final int[] ordinalPosition;
+    private final byte[] ascending;
+    private final long[] cardinality;
+    private final long[] pages;
+    private final int[] filterCondition;
+    private final boolean[] unique;
+
+    private ColumnarIndexInfos(List<IndexInfo> indexInfos) {
+        int indexes = indexInfos.size();
+        int items = indexInfos.stream().mapToInt(info -> info.indexInfoItems().size()).sum();
+        indexTable = new int[indexes];
+        firstItem = new int[indexes + 1];
+        indexName = new int[items];
+        type = new byte[items];
+        columnTable = new int[items];
+        columnName = new int[items];
+        ordinalPosition = new int[items];
+        ascending = new byte[items];
+        cardinality = new long[items];
+        pages = new long[items];
+        filterCondition = new int[items];
+        unique = new boolean[items];
+
+        Dictionary<Optional<TableReference>> tables = new Dictionary<>();
+        Dictionary<String> strings = new Dictionary<>();
+        int item = 0;
+        for (int i = 0; i < indexes; i++) {
+            IndexInfo info = indexInfos.get(i);
+            indexTable[i] = tables.code(Optional.ofNullable(info.tableReference()));
+            firstItem[i] = item;
+            for (IndexInfoItem source : info.indexInfoItems()) {
+                indexName[item] = strings.optionalCode(source.indexName());
+                type[item] = ordinal(source.type());
+                Optional<ColumnReference> column = source.column();
+                columnTable[item] = column.isPresent() ? tables.code(column.get().table()) : NONE;
+                columnName[item] = column.isPresent() ? strings.code(column.get().name()) : NONE;
+                ordinalPosition[item] = source.ordinalPosition();
+                ascending[item] = source.ascending().map(asc -> asc ? (byte) 1 : (byte) 0).orElse((byte) NONE);
+                cardinality[item] = source.cardinality();
+                pages[item] = source.pages();
+                filterCondition[item] = strings.optionalCode(source.filterCondition());
+                unique[item] = source.unique();
+                item++;
+            }
+        }
+        firstItem[indexes] = item;
+        tableDictionary = tables.values();
+        stringDictionary = strings.values();
+    }
+
+    /** {@code indexInfos} in columnar form; returned as is when it already is. */
+    public static ColumnarIndexInfos of(List<IndexInfo> indexInfos) {
+        return indexInfos instanceof ColumnarIndexInfos columnar ? columnar : new ColumnarIndexInfos(indexInfos);
+    }
+
+    /** Number of index items over all indexes. */
+    public int itemCount() {
+        return firstItem[indexTable.length];
+    }
+
+    @Override
+    public IndexInfo get(int index) {
+        Objects.checkIndex(index, indexTable.length);
+        int from = firstItem[index];
+        int to = firstItem[index + 1];
+        return new IndexInfoRecord(tableDictionary.get(indexTable[index]).orElse(null), new Items(from, to));
+    }
+
+    @Override
+    public int size() {
+        return indexTable.length;
+    }
+
+    private IndexInfoItem item(int i) {
+        Optional<ColumnReference> column = columnTable[i] == NONE ? Optional.empty()
+                : Optional.of(new ColumnReference(tableDictionary.get(columnTable[i]),
+                        value(stringDictionary, columnName[i])));
+        Optional<Boolean> asc = ascending[i] == NONE ? Optional.empty() : Optional.of(ascending[i] == 1);
+        return new IndexInfoItemRecord(optional(stringDictionary, indexName[i]), constant(INDEX_TYPES, type[i]),
+                column, ordinalPosition[i], asc, cardinality[i], pages[i],
+                optional(stringDictionary, filterCondition[i]), unique[i]);
+    }
+
+    private final class Items extends AbstractList<IndexInfoItem> implements RandomAccess {
+
+        private final int from;
+        private final int to;
+
+        Items(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public IndexInfoItem get(int index) {
+            Objects.checkIndex(index, to - from);
+            return item(from + index);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
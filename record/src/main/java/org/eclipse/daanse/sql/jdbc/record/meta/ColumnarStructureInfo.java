@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.record.meta;
+
+import static org.eclipse.daanse.sql.jdbc.record.meta.Dictionary.constant;
+import static org.eclipse.daanse.sql.jdbc.record.meta.Dictionary.optional;
+import static org.eclipse.daanse.sql.jdbc.record.meta.Dictionary.ordinal;
+import static org.eclipse.daanse.sql.jdbc.record.meta.Dictionary.packed;
+import static org.eclipse.daanse.sql.jdbc.record.meta.Dictionary.unpacked;
+import static org.eclipse.daanse.sql.jdbc.record.meta.Dictionary.value;
+
+import java.sql.JDBCType;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.Function;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.MaterializedView;
+import org.eclipse.daanse.sql.jdbc.api.schema.Partition;
+import org.eclipse.daanse.sql.jdbc.api.schema.Procedure;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+
+/**
+ * {@link StructureInfo} keeping its columns as struct-of-arrays instead of one
+ * {@link ColumnDefinitionRecord} per column.
+ * <p>
+ * Every column field is one array slot: sizes in {@code int[]}s with
+ * {@link Integer#MIN_VALUE} for an empty {@code OptionalInt}, enums as ordinal
+ * bytes, and names, type names, remarks and defaults as codes into one string
+ * dictionary; table references are codes into a dictionary of their
+ * {@code Optional}s. {@link #columns()} is a random-access view that builds a
+ * {@link ColumnDefinitionRecord} on each {@code get}, so callers see equal
+ * values and nothing per column is retained besides the arrays. The other
+ * sections are kept as given.
+ */
+public final class ColumnarStructureInfo implements StructureInfo {
+
+    private static final JDBCType[] DATA_TYPES = JDBCType.values();
+    private static final ColumnMetaData.Nullability[] NULLABILITIES = ColumnMetaData.Nullability.values();
+    private static final ColumnMetaData.AutoIncrement[] AUTO_INCREMENTS = ColumnMetaData.AutoIncrement.values();
+    private static final ColumnMetaData.GeneratedColumn[] GENERATED_COLUMNS =
+            ColumnMetaData.GeneratedColumn.values();
+
+    private final StructureInfo sections;
+    private final List<Optional<TableReference>> tableDictionary;
+    private final List<String> stringDictionary;
+
+    private final int[] table;
+    private final int[] name;
+    private final byte[] dataType;
+    private final int[] typeName;
+    private final int[] columnSize;
+    private final int[] decimalDigits;
+    private final int[] numPrecRadix;
+    private final byte[] nullability;
+    private final int[] charOctetLength;
+    private final int[] remarks;
+    private final int[] columnDefault;
+    private final byte[] autoIncrement;
+    private final byte[] generatedColumn;
+
+    private final List<ColumnDefinition> columns = new Columns();
+
+    private ColumnarStructureInfo(StructureInfo structure) {
+        List<ColumnDefinition> source = structure.columns();
+        int size = source.size();
+        table = new int[size];
+        name = new int[size];
+        dataType = new byte[size];
+        typeName = new int[size];
+        columnSize = new int[size];
+        decimalDigits = new int[size];
+        numPrecRadix = new int[size];
+        nullability = new byte[size];
+        charOctetLength = new int[size];
+        remarks = new int[size];
+        columnDefault = new int[size];
+        autoIncrement = new byte[size];
+        generatedColumn = new byte[size];
+
+        Dictionary<Optional<TableReference>> tables = new Dictionary<>();
+        Dictionary<String> strings = new Dictionary<>();
+        for (int i = 0; i < size; i++) {
+            ColumnDefinition column = source.get(i);
+            ColumnMetaData metaData = column.columnMetaData();
+            table[i] = tables.code(column.column().table());
+            name[i] = strings.code(column.column().name());
+            dataType[i] = ordinal(metaData.dataType());
+            typeName[i] = strings.code(metaData.typeName());
+            columnSize[i] = packed(metaData.columnSize());
+            decimalDigits[i] = packed(metaData.decimalDigits());
+            numPrecRadix[i] = packed(metaData.numPrecRadix());
+            nullability[i] = ordinal(metaData.nullability());
+            charOctetLength[i] = packed(metaData.charOctetLength());
+            remarks[i] = strings.optionalCode(metaData.remarks());
+            columnDefault[i] = strings.optionalCode(metaData.columnDefault());
+            autoIncrement[i] = ordinal(metaData.autoIncrement());
+            generatedColumn[i] = ordinal(metaData.generatedColumn());
+        }
+        tableDictionary = tables.values();
+        stringDictionary = strings.values();
+        sections = new StructureInfoRecord(structure.catalogs(), structure.schemas(), structure.tables(), List.of(),
+                structure.importedKeys(), structure.primaryKeys(), structure.triggers(), structure.sequences(),
+                structure.checkConstraints(), structure.uniqueConstraints(), structure.userDefinedTypes(),
+                structure.viewDefinitions(), structure.procedures(), structure.functions(),
+                structure.materializedViews(), structure.partitions());
+    }
+
+    /** {@code structure} in columnar form; returned as is when it already is. */
+    public static ColumnarStructureInfo of(StructureInfo structure) {
+        return structure instanceof ColumnarStructureInfo columnar ? columnar
+                : new ColumnarStructureInfo(structure);
+    }
+
+    @Override
+    public List<CatalogReference> catalogs() {
+        return sections.catalogs();
+    }
+
+    @Override
+    public List<SchemaReference> schemas() {
+        return sections.schemas();
+    }
+
+    @Override
+    public List<TableDefinition> tables() {
+        return sections.tables();
+    }
+
+    @Override
+    public List<ColumnDefinition> columns() {
+        return columns;
+    }
+
+    @Override
+    public List<ImportedKey> importedKeys() {
+        return sections.importedKeys();
+    }
+
+    @Override
+    public List<PrimaryKey> primaryKeys() {
+        return sections.primaryKeys();
+    }
+
+    @Override
+    public List<Trigger> triggers() {
+        return sections.triggers();
+    }
+
+    @Override
+    public List<Sequence> sequences() {
+        return sections.sequences();
+    }
+
+    @Override
+    public List<CheckConstraint> checkConstraints() {
+        return sections.checkConstraints();
+    }
+
+    @Override
+    public List<UniqueConstraint> uniqueConstraints() {
+        return sections.uniqueConstraints();
+    }
+
+    @Override
+    public List<UserDefinedType> userDefinedTypes() {
+        return sections.userDefinedTypes();
+    }
+
+    @Override
+    public List<ViewDefinition> viewDefinitions() {
+        return sections.viewDefinitions();
+    }
+
+    @Override
+    public List<Procedure> procedures() {
+        return sections.procedures();
+    }
+
+    @Override
+    public List<Function> functions() {
+        return sections.functions();
+    }
+
+    @Override
+    public List<MaterializedView> materializedViews() {
+        return sections.materializedViews();
+    }
+
+    @Override
+    public List<Partition> partitions() {
+        return sections.partitions();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof ColumnarStructureInfo other && sections.equals(other.sections)
+                && columns.equals(other.columns);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sections, columns);
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarStructureInfo[columns=" + columns.size() + ", tables=" + tables().size() + "]";
+    }
+
+    private ColumnDefinition column(int i) {
+        ColumnReference column = new ColumnReference(value(tableDictionary, table[i]),
+                value(stringDictionary, name[i]));
+        ColumnMetaData metaData = new ColumnMetaDataRecord(constant(DATA_TYPES, dataType[i]),
+                value(stringDictionary, typeName[i]), unpacked(columnSize[i]), unpacked(decimalDigits[i]),
+                unpacked(numPrecRadix[i]), constant(NULLABILITIES, nullability[i]), unpacked(charOctetLength[i]),
+                optional(stringDictionary, remarks[i]), optional(stringDictionary, columnDefault[i]),
+                constant(AUTO_INCREMENTS, autoIncrement[i]), constant(GENERATED_COLUMNS, generatedColumn[i]));
+        return new ColumnDefinitionRecord(column, metaData);
+    }
+
+    private final class Columns extends AbstractList<ColumnDefinition> implements RandomAccess {
+
+        @Override
+        public ColumnDefinition get(int index) {
+            Objects.checkIndex(index, table.length);
+            return column(index);
+        }
+
+        @Override
+        public int size() {
+            return table.length;
+        }
+    }
+}
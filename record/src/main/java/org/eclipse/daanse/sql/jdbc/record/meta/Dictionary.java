@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.record.meta;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Dictionary encoding for the columnar snapshot forms: each distinct value is
+ * stored once and rows keep its int code. Null has code {@link #NONE}.
+ */
+final class Dictionary<T> {
+
+    static final int NONE = -1;
+
+    /** Marks an empty {@link OptionalInt}; a present {@link Integer#MIN_VALUE} reads back as empty. */
+    static final int ABSENT = Integer.MIN_VALUE;
+
+    private final Map<T, Integer> codes = new HashMap<>();
+    private final List<T> values = new ArrayList<>();
+
+    int code(T value) {
+        if (value == null) {
+            return NONE;
+        }
+        return codes.computeIfAbsent(value, v -> {
+            values.add(v);
+            return values.size() - 1;
+        });
+    }
+
+    int optionalCode(Optional<T> value) {
+        return code(value.orElse(null));
+    }
+
+    /** The distinct values in code order. */
+    List<T> values() {
+        return List.copyOf(values);
+    }
+
+    static <T> T value(List<T> values, int code) {
+        return code == NONE ? null : values.get(code);
+    }
+
+    static <T> Optional<T> optional(List<T> values, int code) {
+        return code == NONE ? Optional.empty() : Optional.of(values.get(code));
+    }
+
+    static int packed(OptionalInt value) {
+        return value.isPresent() ? value.getAsInt() : ABSENT;
+    }
+
+    static OptionalInt unpacked(int value) {
+        return value == ABSENT ? OptionalInt.empty() : OptionalInt.of(value);
+    }
+
+    static byte ordinal(Enum<?> value) {
+        return value == null ? NONE : (byte) value.ordinal();
+    }
+
+    static <E extends Enum<E>> E constant(E[] constants, byte ordinal) {
+        return ordinal == NONE ? null : constants[ordinal];
+    }
+}
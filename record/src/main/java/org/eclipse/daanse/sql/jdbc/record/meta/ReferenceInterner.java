@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.record.meta;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.MaterializedView;
+import org.eclipse.daanse.sql.jdbc.api.schema.Partition;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.MaterializedViewRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PartitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.eclipse.daanse.sql.model.schema.TriggerReference;
+
+/**
+ * Canonical instances for the references and column metadata of one snapshot.
+ * <p>
+ * Readers create a fresh {@link TableReference} (with its own schema and
+ * catalog {@link Optional}s) for every row they map, so a wide table carries
+ * one equal copy per column, per key column and per index column. Within one
+ * interner every equal catalog, schema, table and column reference resolves to
+ * a single instance whose nested references are themselves canonical, and
+ * equal {@link ColumnMetaData} values share one {@link ColumnMetaDataRecord}.
+ * <p>
+ * An interner is meant to live for the assembly of one snapshot and is not
+ * thread-safe; the pools are dropped with it.
+ */
+public final class ReferenceInterner {
+
+    private final Map<CatalogReference, Optional<CatalogReference>> catalogs = new HashMap<>();
+    private final Map<SchemaReference, Optional<SchemaReference>> schemas = new HashMap<>();
+    private final Map<TableReference, Optional<TableReference>> tables = new HashMap<>();
+    private final Map<ColumnReference, ColumnReference> columns = new HashMap<>();
+    private final Map<ColumnMetaDataRecord, ColumnMetaDataRecord> columnMetaData = new HashMap<>();
+
+    public CatalogReference catalog(CatalogReference catalog) {
+        return catalog == null ? null : catalogOf(Optional.of(catalog)).get();
+    }
+
+    public SchemaReference schema(SchemaReference schema) {
+        return schema == null ? null : schemaOf(Optional.of(schema)).get();
+    }
+
+    public TableReference table(TableReference table) {
+        return table == null ? null : tableOf(Optional.of(table)).get();
+    }
+
+    public ColumnReference column(ColumnReference column) {
+        if (column == null) {
+            return null;
+        }
+        return columns.computeIfAbsent(column, c -> new ColumnReference(tableOf(c.table()), c.name()));
+    }
+
+    /**
+     * The pooled instance equal to {@code metaData}; metadata that is not a
+     * {@link ColumnMetaDataRecord} is copied into one first.
+     */
+    public ColumnMetaData columnMetaData(ColumnMetaData metaData) {
+        if (metaData == null) {
+            return null;
+        }
+        ColumnMetaDataRecord value = metaData instanceof ColumnMetaDataRecord r ? r
+                : new ColumnMetaDataRecord(metaData.dataType(), metaData.typeName(), metaData.columnSize(),
+                        metaData.decimalDigits(), metaData.numPrecRadix(), metaData.nullability(),
+                        metaData.charOctetLength(), metaData.remarks(), metaData.columnDefault(),
+                        metaData.autoIncrement(), metaData.generatedColumn());
+        return columnMetaData.computeIfAbsent(value, v -> v);
+    }
+
+    /**
+     * Rebuilds the table-bound sections of {@code structure} on canonical
+     * references. Sequences, user-defined types and routines are per-schema
+     * objects and are kept as read.
+     */
+    public StructureInfo structure(StructureInfo structure) {
+        return new StructureInfoRecord(
+                map(structure.catalogs(), this::catalog),
+                map(structure.schemas(), this::schema),
+                map(structure.tables(), this::tableDefinition),
+                map(structure.columns(), this::columnDefinition),
+                map(structure.importedKeys(), this::importedKey),
+                map(structure.primaryKeys(), this::primaryKey),
+                map(structure.triggers(), this::trigger),
+                structure.sequences(),
+                map(structure.checkConstraints(), this::checkConstraint),
+                map(structure.uniqueConstraints(), this::uniqueConstraint),
+                structure.userDefinedTypes(),
+                map(structure.viewDefinitions(), this::viewDefinition),
+                structure.procedures(),
+                structure.functions(),
+                map(structure.materializedViews(), this::materializedView),
+                map(structure.partitions(), this::partition));
+    }
+
+    /**
+     * Rebuilds {@code columns} on canonical references and metadata, so a
+     * reader can drop its own copies before the rest of the snapshot is read.
+     * Columns already canonical in this interner are kept as they are.
+     */
+    public List<ColumnDefinition> columnDefinitions(List<ColumnDefinition> columns) {
+        return map(columns, this::columnDefinition);
+    }
+
+    /** Rebuilds {@code indexInfos} on canonical table and column references. */
+    public List<IndexInfo> indexInfos(List<IndexInfo> indexInfos) {
+        return map(indexInfos, this::indexInfo);
+    }
+
+    private Optional<CatalogReference> catalogOf(Optional<CatalogReference> catalog) {
+        return catalog.isEmpty() ? catalog : catalogs.computeIfAbsent(catalog.get(), Optional::of);
+    }
+
+    private Optional<SchemaReference> schemaOf(Optional<SchemaReference> schema) {
+        return schema.isEmpty() ? schema
+                : schemas.computeIfAbsent(schema.get(),
+                        s -> Optional.of(new SchemaReference(catalogOf(s.catalog()), s.name())));
+    }
+
+    private Optional<TableReference> tableOf(Optional<TableReference> table) {
+        return table.isEmpty() ? table
+                : tables.computeIfAbsent(table.get(),
+                        t -> Optional.of(new TableReference(schemaOf(t.schema()), t.name(), t.type())));
+    }
+
+    private TableDefinition tableDefinition(TableDefinition table) {
+        return new TableDefinitionRecord(table(table.table()), table.tableMetaData());
+    }
+
+    private ColumnDefinition columnDefinition(ColumnDefinition column) {
+        ColumnReference reference = column(column.column());
+        ColumnMetaData metaData = columnMetaData(column.columnMetaData());
+        if (reference == column.column() && metaData == column.columnMetaData()) {
+            return column;
+        }
+        return new ColumnDefinitionRecord(reference, metaData);
+    }
+
+    private ImportedKey importedKey(ImportedKey key) {
+        return new ImportedKeyRecord(column(key.primaryKeyColumn()), column(key.foreignKeyColumn()), key.name(),
+                key.keySequence(), key.updateRule(), key.deleteRule(), key.primaryKeyName(), key.deferrability());
+    }
+
+    private PrimaryKey primaryKey(PrimaryKey key) {
+        return new PrimaryKeyRecord(table(key.table()), map(key.columns(), this::column), key.constraintName());
+    }
+
+    private Trigger trigger(Trigger trigger) {
+        TriggerReference reference = trigger.reference();
+        return new TriggerRecord(new TriggerReference(table(reference.table()), reference.name()), trigger.timing(),
+                trigger.event(), trigger.body(), trigger.fullDefinition(), trigger.orientation());
+    }
+
+    private CheckConstraint checkConstraint(CheckConstraint check) {
+        return new CheckConstraintRecord(check.name(), table(check.table()), check.checkClause());
+    }
+
+    private UniqueConstraint uniqueConstraint(UniqueConstraint unique) {
+        return new UniqueConstraintRecord(unique.name(), table(unique.table()), map(unique.columns(), this::column));
+    }
+
+    private ViewDefinition viewDefinition(ViewDefinition view) {
+        return new ViewDefinitionRecord(table(view.view()), view.viewBody(), view.fullDefinition());
+    }
+
+    private MaterializedView materializedView(MaterializedView view) {
+        return new MaterializedViewRecord(table(view.view()), view.viewBody(), view.fullDefinition(),
+                view.refreshMode(), view.lastRefresh());
+    }
+
+    private Partition partition(Partition partition) {
+        return new PartitionRecord(partition.name(), table(partition.table()), partition.ordinalPosition(),
+                partition.method(), partition.expression(), partition.description(), partition.rowCount(),
+                partition.parentPartitionName(), partition.subPartitionMethod(), partition.subPartitionExpression());
+    }
+
+    private IndexInfo indexInfo(IndexInfo info) {
+        return new IndexInfoRecord(table(info.tableReference()), map(info.indexInfoItems(), this::indexInfoItem));
+    }
+
+    private IndexInfoItem indexInfoItem(IndexInfoItem item) {
+        return new IndexInfoItemRecord(item.indexName(), item.type(), item.column().map(this::column),
+                item.ordinalPosition(), item.ascending(), item.cardinality(), item.pages(), item.filterCondition(),
+                item.unique());
+    }
+
+    private static <T> List<T> map(List<? extends T> values, UnaryOperator<T> canonical) {
+        return values.stream().map(canonical).toList();
+    }
+}